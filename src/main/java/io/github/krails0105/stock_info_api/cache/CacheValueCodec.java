@@ -0,0 +1,17 @@
+package io.github.krails0105.stock_info_api.cache;
+
+import java.io.IOException;
+
+/**
+ * 디스크 캐시 값 직렬화 코덱.
+ *
+ * @param <T> 캐시 값 타입
+ */
+public interface CacheValueCodec<T> {
+
+  /** 값을 바이트 배열로 직렬화. */
+  byte[] encode(T value) throws IOException;
+
+  /** 바이트 배열에서 값을 복원. */
+  T decode(byte[] bytes) throws IOException;
+}
@@ -0,0 +1,155 @@
+package io.github.krails0105.stock_info_api.cache;
+
+import io.github.krails0105.stock_info_api.dto.response.ChartResponse;
+import io.github.krails0105.stock_info_api.dto.response.ChartResponse.ChartDataPoint;
+import io.github.krails0105.stock_info_api.dto.response.ChartResponse.ChartMeta;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 차트 응답 바이너리 코덱.
+ *
+ * <p>가격은 직전 데이터 포인트 대비 차이를, 고가/저가는 같은 포인트의 가격 대비 차이를, 거래량은 값 그대로 가변 길이 정수(varint)로 기록하여
+ * 일봉 기준 포인트당 10여 바이트로 저장한다.
+ */
+public class ChartResponseCodec implements CacheValueCodec<ChartResponse> {
+
+  private static final int VERSION = 2;
+
+  @Override
+  public byte[] encode(ChartResponse value) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+
+    out.writeByte(VERSION);
+    writeNullableString(out, value.getStockCode());
+    writeNullableString(out, value.getStockName());
+    writeNullableString(out, value.getRange());
+
+    List<ChartDataPoint> dataPoints =
+        value.getDataPoints() != null ? value.getDataPoints() : List.of();
+    writeVarLong(out, dataPoints.size());
+    long previousPrice = 0;
+    for (ChartDataPoint point : dataPoints) {
+      writeNullableString(out, point.getDate());
+      writeVarLong(out, zigZag(point.getPrice() - previousPrice));
+      writeVarLong(out, zigZag(point.getHigh() - point.getPrice()));
+      writeVarLong(out, zigZag(point.getLow() - point.getPrice()));
+      writeVarLong(out, point.getVolume());
+      previousPrice = point.getPrice();
+    }
+
+    ChartMeta meta = value.getMeta();
+    out.writeBoolean(meta != null);
+    if (meta != null) {
+      out.writeBoolean(meta.getAsOf() != null);
+      if (meta.getAsOf() != null) {
+        out.writeLong(meta.getAsOf().toInstant().toEpochMilli());
+        out.writeInt(meta.getAsOf().getOffset().getTotalSeconds());
+      }
+      writeNullableString(out, meta.getSource());
+    }
+
+    out.flush();
+    return bytes.toByteArray();
+  }
+
+  @Override
+  public ChartResponse decode(byte[] bytes) throws IOException {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+
+    int version = in.readUnsignedByte();
+    if (version != VERSION) {
+      throw new IOException("Unsupported chart cache version: " + version);
+    }
+    String stockCode = readNullableString(in);
+    String stockName = readNullableString(in);
+    String range = readNullableString(in);
+
+    int size = (int) readVarLong(in);
+    List<ChartDataPoint> dataPoints = new ArrayList<>(size);
+    long price = 0;
+    for (int i = 0; i < size; i++) {
+      String date = readNullableString(in);
+      price += unZigZag(readVarLong(in));
+      long high = price + unZigZag(readVarLong(in));
+      long low = price + unZigZag(readVarLong(in));
+      long volume = readVarLong(in);
+      dataPoints.add(
+          ChartDataPoint.builder()
+              .date(date)
+              .price(price)
+              .high(high)
+              .low(low)
+              .volume(volume)
+              .build());
+    }
+
+    ChartMeta meta = null;
+    if (in.readBoolean()) {
+      OffsetDateTime asOf = null;
+      if (in.readBoolean()) {
+        Instant instant = Instant.ofEpochMilli(in.readLong());
+        asOf = OffsetDateTime.ofInstant(instant, ZoneOffset.ofTotalSeconds(in.readInt()));
+      }
+      meta = ChartMeta.builder().asOf(asOf).source(readNullableString(in)).build();
+    }
+
+    return ChartResponse.builder()
+        .stockCode(stockCode)
+        .stockName(stockName)
+        .range(range)
+        .dataPoints(dataPoints)
+        .meta(meta)
+        .build();
+  }
+
+  private static void writeNullableString(DataOutput out, String value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeUTF(value);
+    }
+  }
+
+  private static String readNullableString(DataInput in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+
+  private static void writeVarLong(DataOutput out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  private static long readVarLong(DataInput in) throws IOException {
+    long result = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = in.readUnsignedByte();
+      result |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new IOException("Malformed varint");
+  }
+
+  private static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+}
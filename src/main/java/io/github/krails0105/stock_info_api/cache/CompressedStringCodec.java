@@ -0,0 +1,38 @@
+package io.github.krails0105.stock_info_api.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 문자열 코덱 (UTF-8 + Deflate).
+ *
+ * <p>KRX CSV 스냅샷처럼 반복이 많은 텍스트를 디스크에 작게 저장한다.
+ */
+public class CompressedStringCodec implements CacheValueCodec<String> {
+
+  @Override
+  public byte[] encode(String value) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try (OutputStream out = new DeflaterOutputStream(bytes, deflater)) {
+      out.write(value.getBytes(StandardCharsets.UTF_8));
+    } finally {
+      deflater.end();
+    }
+    return bytes.toByteArray();
+  }
+
+  @Override
+  public String decode(byte[] bytes) throws IOException {
+    try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,376 @@
+package io.github.krails0105.stock_info_api.cache;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 추가 전용(append-only) 로컬 파일 캐시 저장소.
+ *
+ * <p>레코드 형식: {@code [keyLen:int][key][writtenAt:long][valueLen:int][value][crc:int]}.
+ * valueLen이 -1이면 삭제 표시(tombstone)다.
+ *
+ * <p>키별 최신 레코드의 파일 오프셋을 메모리 인덱스로 유지하므로 조회는 위치 지정 읽기 한 번으로 끝난다. 시작 시 파일을 순차 스캔하여 인덱스를
+ * 복구하고, 기록 도중 끊긴 꼬리 레코드는 잘라낸다. 죽은 레코드 비율이 임계치를 넘으면 살아있는 레코드만 새 파일로 옮겨 압축한다.
+ */
+@Slf4j
+public class DiskCacheStore implements Closeable {
+
+  private static final int TOMBSTONE = -1;
+  private static final int MAX_KEY_BYTES = 64 * 1024;
+  private static final int MAX_VALUE_BYTES = 64 * 1024 * 1024;
+
+  /** 이 크기 미만이면 압축하지 않음 */
+  private static final long MIN_COMPACTION_BYTES = 1024 * 1024;
+
+  private final Path file;
+  private final Duration ttl;
+  private final double compactionRatio;
+  private final Clock clock;
+
+  private final Map<String, Location> index = new ConcurrentHashMap<>();
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final LongAdder reads = new LongAdder();
+  private final LongAdder writes = new LongAdder();
+
+  private FileChannel channel;
+  private long fileSize;
+  private long liveBytes;
+
+  DiskCacheStore(Path file, Duration ttl, double compactionRatio, Clock clock) throws IOException {
+    this.file = file;
+    this.ttl = ttl;
+    this.compactionRatio = compactionRatio;
+    this.clock = clock;
+
+    Files.createDirectories(file.toAbsolutePath().getParent());
+    this.channel =
+        FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    recover();
+  }
+
+  /**
+   * 저장소 열기. 파일이 있으면 인덱스를 복구한다.
+   *
+   * @param file 로그 파일 경로
+   * @param ttl 디스크 엔트리 유효 기간
+   * @param compactionRatio 압축을 시작할 죽은 레코드 비율 (0~1)
+   * @return 저장소
+   */
+  public static DiskCacheStore open(Path file, Duration ttl, double compactionRatio)
+      throws IOException {
+    return new DiskCacheStore(file, ttl, compactionRatio, Clock.systemUTC());
+  }
+
+  /**
+   * 값 조회.
+   *
+   * @param key 캐시 키
+   * @return 저장된 값 (없거나 만료되었으면 null)
+   */
+  public byte[] get(String key) {
+    Entry entry = getEntry(key);
+    return entry != null ? entry.value() : null;
+  }
+
+  /**
+   * 값과 기록 시각 조회.
+   *
+   * @param key 캐시 키
+   * @return 저장된 값과 기록 시각 (없거나 만료되었으면 null)
+   */
+  public Entry getEntry(String key) {
+    lock.readLock().lock();
+    try {
+      Location location = index.get(key);
+      if (location == null || isExpired(location.writtenAt())) {
+        return null;
+      }
+      ByteBuffer buffer = ByteBuffer.allocate(location.valueLength());
+      readFully(channel, buffer, location.valueOffset());
+      reads.increment();
+      return new Entry(buffer.array(), location.writtenAt());
+    } catch (IOException e) {
+      log.warn("Disk cache read failed: file={}, key={}, error={}", file, key, e.getMessage());
+      return null;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 값 저장 (파일 끝에 추가).
+   *
+   * @param key 캐시 키
+   * @param value 직렬화된 값
+   */
+  public void put(String key, byte[] value) {
+    byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    long writtenAt = clock.millis();
+    ByteBuffer record = encodeRecord(keyBytes, writtenAt, value);
+
+    lock.writeLock().lock();
+    try {
+      long offset = fileSize;
+      writeFully(channel, record, offset);
+      fileSize += record.capacity();
+
+      long valueOffset = offset + Integer.BYTES + keyBytes.length + Long.BYTES + Integer.BYTES;
+      Location previous =
+          index.put(
+              key,
+              new Location(offset, record.capacity(), valueOffset, value.length, writtenAt));
+      liveBytes += record.capacity() - (previous != null ? previous.recordLength() : 0);
+      writes.increment();
+
+      maybeCompact();
+    } catch (IOException e) {
+      log.warn("Disk cache write failed: file={}, key={}, error={}", file, key, e.getMessage());
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** 키 삭제 (tombstone 추가). */
+  public void remove(String key) {
+    lock.writeLock().lock();
+    try {
+      Location previous = index.remove(key);
+      if (previous == null) {
+        return;
+      }
+      ByteBuffer record = encodeRecord(key.getBytes(StandardCharsets.UTF_8), clock.millis(), null);
+      writeFully(channel, record, fileSize);
+      fileSize += record.capacity();
+      liveBytes -= previous.recordLength();
+    } catch (IOException e) {
+      log.warn("Disk cache remove failed: file={}, key={}, error={}", file, key, e.getMessage());
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** 전체 삭제 (파일 비우기). */
+  public void clear() {
+    lock.writeLock().lock();
+    try {
+      channel.truncate(0);
+      index.clear();
+      fileSize = 0;
+      liveBytes = 0;
+    } catch (IOException e) {
+      log.warn("Disk cache clear failed: file={}, error={}", file, e.getMessage());
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** 저장소 통계. */
+  public Stats stats() {
+    lock.readLock().lock();
+    try {
+      return new Stats(index.size(), fileSize, liveBytes, reads.sum(), writes.sum());
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    lock.writeLock().lock();
+    try {
+      channel.close();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  // ==================== Private Methods ====================
+
+  private boolean isExpired(long writtenAt) {
+    return clock.millis() - writtenAt > ttl.toMillis();
+  }
+
+  /** 파일을 처음부터 스캔하여 인덱스를 복구하고, 손상된 꼬리를 잘라낸다. */
+  private void recover() throws IOException {
+    long size = channel.size();
+    long position = 0;
+
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      while (position < size) {
+        int keyLength = in.readInt();
+        if (keyLength <= 0 || keyLength > MAX_KEY_BYTES) {
+          break;
+        }
+        byte[] keyBytes = in.readNBytes(keyLength);
+        long writtenAt = in.readLong();
+        int valueLength = in.readInt();
+        if (valueLength < TOMBSTONE || valueLength > MAX_VALUE_BYTES) {
+          break;
+        }
+        byte[] value = valueLength > 0 ? in.readNBytes(valueLength) : new byte[0];
+        int crc = in.readInt();
+        if (keyBytes.length != keyLength
+            || value.length != Math.max(valueLength, 0)
+            || crc != checksum(keyBytes, value)) {
+          break;
+        }
+
+        int recordLength = recordLength(keyLength, Math.max(valueLength, 0));
+        String key = new String(keyBytes, StandardCharsets.UTF_8);
+        Location previous;
+        if (valueLength == TOMBSTONE || isExpired(writtenAt)) {
+          previous = index.remove(key);
+        } else {
+          long valueOffset = position + Integer.BYTES + keyLength + Long.BYTES + Integer.BYTES;
+          previous =
+              index.put(
+                  key, new Location(position, recordLength, valueOffset, valueLength, writtenAt));
+          liveBytes += recordLength;
+        }
+        if (previous != null) {
+          liveBytes -= previous.recordLength();
+        }
+        position += recordLength;
+      }
+    } catch (EOFException e) {
+      // 기록 도중 종료된 꼬리 레코드
+    }
+
+    if (position < size) {
+      log.warn("Disk cache truncated corrupt tail: file={}, bytes={}", file, size - position);
+      channel.truncate(position);
+    }
+    fileSize = position;
+    log.info("Disk cache opened: file={}, entries={}, bytes={}", file, index.size(), fileSize);
+  }
+
+  private void maybeCompact() throws IOException {
+    long deadBytes = fileSize - liveBytes;
+    if (fileSize < MIN_COMPACTION_BYTES || deadBytes < fileSize * compactionRatio) {
+      return;
+    }
+    compact();
+  }
+
+  /** 살아있는 레코드만 새 파일로 복사한 뒤 교체한다. 쓰기 락을 잡은 상태에서 호출된다. */
+  private void compact() throws IOException {
+    Path temp = file.resolveSibling(file.getFileName() + ".compact");
+    Map<String, Location> compacted = new HashMap<>();
+    long position = 0;
+
+    try (FileChannel out =
+        FileChannel.open(
+            temp,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      for (Map.Entry<String, Location> entry : index.entrySet()) {
+        Location location = entry.getValue();
+        if (isExpired(location.writtenAt())) {
+          continue;
+        }
+        ByteBuffer record = ByteBuffer.allocate(location.recordLength());
+        readFully(channel, record, location.offset());
+        record.flip();
+        writeFully(out, record, position);
+        compacted.put(entry.getKey(), location.relocate(position));
+        position += location.recordLength();
+      }
+      out.force(true);
+    }
+
+    long before = fileSize;
+    channel.close();
+    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+    index.clear();
+    index.putAll(compacted);
+    fileSize = position;
+    liveBytes = position;
+    log.info("Disk cache compacted: file={}, bytes {} -> {}", file, before, fileSize);
+  }
+
+  private static ByteBuffer encodeRecord(byte[] keyBytes, long writtenAt, byte[] value) {
+    byte[] payload = value != null ? value : new byte[0];
+    ByteBuffer buffer = ByteBuffer.allocate(recordLength(keyBytes.length, payload.length));
+    buffer.putInt(keyBytes.length);
+    buffer.put(keyBytes);
+    buffer.putLong(writtenAt);
+    buffer.putInt(value != null ? value.length : TOMBSTONE);
+    buffer.put(payload);
+    buffer.putInt(checksum(keyBytes, payload));
+    buffer.flip();
+    return buffer;
+  }
+
+  private static int recordLength(int keyLength, int valueLength) {
+    return Integer.BYTES + keyLength + Long.BYTES + Integer.BYTES + valueLength + Integer.BYTES;
+  }
+
+  private static int checksum(byte[] keyBytes, byte[] value) {
+    CRC32 crc = new CRC32();
+    crc.update(keyBytes);
+    crc.update(value);
+    return (int) crc.getValue();
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, position + buffer.position());
+      if (read < 0) {
+        throw new EOFException("Unexpected end of cache file");
+      }
+    }
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer, position + buffer.position());
+    }
+  }
+
+  /** 레코드 위치 정보. */
+  private record Location(
+      long offset, int recordLength, long valueOffset, int valueLength, long writtenAt) {
+
+    Location relocate(long newOffset) {
+      return new Location(
+          newOffset, recordLength, valueOffset - offset + newOffset, valueLength, writtenAt);
+    }
+  }
+
+  /**
+   * 저장된 값.
+   *
+   * @param value 직렬화된 값
+   * @param writtenAt 기록 시각 (epoch millis)
+   */
+  public record Entry(byte[] value, long writtenAt) {}
+
+  /** 저장소 통계. */
+  public record Stats(int entries, long fileBytes, long liveBytes, long reads, long writes) {}
+}
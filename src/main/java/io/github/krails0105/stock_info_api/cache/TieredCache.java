@@ -0,0 +1,313 @@
+package io.github.krails0105.stock_info_api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/**
+ * 2단 캐시 (L1 Caffeine 메모리 + L2 디스크).
+ *
+ * <p>L1에 없으면 디스크({@link DiskCacheStore})를 조회한다. 디스크 값은 신선 기간 안일 때만 L1으로 승격하며, 승격한 엔트리는 원래
+ * 기록이 신선 기간을 벗어나는 시각에 만료된다. 신선 기간은 이 인스턴스가 기록한 값이면 L1 TTL, 생성 전(이전 프로세스)에 기록된 값이면 재시작
+ * 창(restartWindow)이다. 재시작이나 배포가 L1 TTL보다 오래 걸려도 모든 키가 한꺼번에 원본을 다시 호출하지 않게 하기 위해서다. 신선 기간이
+ * 지난 디스크 값은 원본(네트워크) 호출이 실패했을 때만 대체값으로 제공하고, 어느 계층에도 다시 캐싱하지 않는다. 저장 시에는 두 계층에 모두
+ * 기록한다.
+ *
+ * <p>디스크 저장소가 없으면(null) L1 단독 캐시로 동작한다.
+ */
+@Slf4j
+public class TieredCache extends AbstractValueAdaptingCache {
+
+  private final String name;
+  private final Cache<Object, Object> memoryCache;
+  private final DiskCacheStore diskStore;
+  private final CacheValueCodec<Object> codec;
+  private final Duration memoryTtl;
+  private final Duration restartWindow;
+  private final Clock clock;
+
+  /** 생성 시각 (이보다 먼저 기록된 디스크 값은 이전 프로세스의 값) */
+  private final long startedAt;
+
+  private final LongAdder memoryHits = new LongAdder();
+  private final LongAdder diskHits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder staleFallbacks = new LongAdder();
+
+  /**
+   * 2단 캐시 생성.
+   *
+   * @param name 캐시 이름
+   * @param memoryCache L1 캐시 (expireAfterWrite는 memoryTtl과 같아야 함)
+   * @param diskStore L2 저장소 (null이면 L1 단독)
+   * @param codec 디스크 직렬화 코덱
+   * @param memoryTtl L1 TTL (이 인스턴스가 기록한 디스크 값의 승격 기준)
+   * @param restartWindow 생성 전에 기록된 디스크 값을 원본 호출 없이 제공하는 기간 (L1 TTL보다 짧으면 L1 TTL)
+   */
+  public TieredCache(
+      String name,
+      Cache<Object, Object> memoryCache,
+      DiskCacheStore diskStore,
+      CacheValueCodec<?> codec,
+      Duration memoryTtl,
+      Duration restartWindow) {
+    this(name, memoryCache, diskStore, codec, memoryTtl, restartWindow, Clock.systemUTC());
+  }
+
+  @SuppressWarnings("unchecked")
+  TieredCache(
+      String name,
+      Cache<Object, Object> memoryCache,
+      DiskCacheStore diskStore,
+      CacheValueCodec<?> codec,
+      Duration memoryTtl,
+      Duration restartWindow,
+      Clock clock) {
+    super(false);
+    this.name = name;
+    this.memoryCache = memoryCache;
+    this.diskStore = diskStore;
+    this.codec = (CacheValueCodec<Object>) codec;
+    this.memoryTtl = memoryTtl;
+    this.restartWindow = restartWindow.compareTo(memoryTtl) > 0 ? restartWindow : memoryTtl;
+    this.clock = clock;
+    this.startedAt = clock.millis();
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return memoryCache;
+  }
+
+  @Override
+  protected Object lookup(Object key) {
+    MemoryEntry entry = readFromMemory(key);
+    if (entry != null) {
+      memoryHits.increment();
+      return entry.value();
+    }
+
+    entry = readFreshFromDisk(key);
+    if (entry != null) {
+      diskHits.increment();
+      memoryCache.put(key, entry);
+      return entry.value();
+    }
+
+    misses.increment();
+    return null;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    Object cached = lookup(key);
+    if (cached != null) {
+      return (T) fromStoreValue(cached);
+    }
+
+    try {
+      MemoryEntry entry =
+          (MemoryEntry)
+              memoryCache.asMap().compute(key, (k, current) -> load(k, current, valueLoader));
+      return entry != null ? (T) fromStoreValue(entry.value()) : null;
+    } catch (LoaderException e) {
+      // 원본 장애: 디스크 TTL 안의 마지막 값을 대체값으로 제공 (다시 캐싱하지 않음)
+      Object stale = readFromDisk(key);
+      if (stale != null) {
+        staleFallbacks.increment();
+        log.warn(
+            "Serving stale disk value after load failure: cache={}, key={}, error={}",
+            name,
+            key,
+            e.getCause().getMessage());
+        return (T) fromStoreValue(stale);
+      }
+      throw new ValueRetrievalException(key, valueLoader, e.getCause());
+    }
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    Object storeValue = toStoreValue(value);
+    memoryCache.put(key, new MemoryEntry(storeValue, clock.millis() + memoryTtl.toMillis()));
+    writeToDisk(key, storeValue);
+  }
+
+  @Override
+  public void evict(Object key) {
+    memoryCache.invalidate(key);
+    if (diskStore != null) {
+      diskStore.remove(key.toString());
+    }
+  }
+
+  @Override
+  public void clear() {
+    memoryCache.invalidateAll();
+    if (diskStore != null) {
+      diskStore.clear();
+    }
+  }
+
+  /** 캐시 통계. */
+  public Stats stats() {
+    return new Stats(
+        name,
+        memoryHits.sum(),
+        diskHits.sum(),
+        misses.sum(),
+        staleFallbacks.sum(),
+        memoryCache.estimatedSize(),
+        diskStore != null ? diskStore.stats() : null);
+  }
+
+  // ==================== Private Methods ====================
+
+  /** L1 매핑 함수: 유효한 L1 엔트리, 신선 기간 안의 디스크 값, 원본 순으로 채운다. */
+  private <T> MemoryEntry load(Object key, Object current, Callable<T> valueLoader) {
+    // 동시에 로드한 다른 스레드가 먼저 채웠을 수 있음
+    if (current instanceof MemoryEntry existing && !isExpired(existing)) {
+      return existing;
+    }
+    MemoryEntry fromDisk = readFreshFromDisk(key);
+    if (fromDisk != null) {
+      return fromDisk;
+    }
+    try {
+      T loaded = valueLoader.call();
+      if (loaded == null) {
+        return null;
+      }
+      writeToDisk(key, loaded);
+      return new MemoryEntry(loaded, clock.millis() + memoryTtl.toMillis());
+    } catch (Exception e) {
+      throw new LoaderException(e);
+    }
+  }
+
+  /** 만료 전 L1 엔트리 (승격된 엔트리는 Caffeine TTL보다 먼저 만료될 수 있음) */
+  private MemoryEntry readFromMemory(Object key) {
+    Object value = memoryCache.getIfPresent(key);
+    if (!(value instanceof MemoryEntry entry)) {
+      return null;
+    }
+    if (isExpired(entry)) {
+      memoryCache.asMap().remove(key, entry);
+      return null;
+    }
+    return entry;
+  }
+
+  /** 신선 기간 안의 디스크 값 (L1 엔트리로, 원래 기록의 만료 시각 유지) */
+  private MemoryEntry readFreshFromDisk(Object key) {
+    DiskCacheStore.Entry stored = diskStore != null ? diskStore.getEntry(key.toString()) : null;
+    if (stored == null) {
+      return null;
+    }
+    Duration freshFor = stored.writtenAt() < startedAt ? restartWindow : memoryTtl;
+    long expiresAt = stored.writtenAt() + freshFor.toMillis();
+    if (expiresAt <= clock.millis()) {
+      return null;
+    }
+    Object value = decode(key, stored.value());
+    return value != null ? new MemoryEntry(value, expiresAt) : null;
+  }
+
+  /** 디스크 TTL 안의 값 (L1 TTL과 무관, 대체값용) */
+  private Object readFromDisk(Object key) {
+    DiskCacheStore.Entry stored = diskStore != null ? diskStore.getEntry(key.toString()) : null;
+    return stored != null ? decode(key, stored.value()) : null;
+  }
+
+  private Object decode(Object key, byte[] bytes) {
+    try {
+      return codec.decode(bytes);
+    } catch (Exception e) {
+      log.warn("Disk cache decode failed, evicting: cache={}, key={}", name, key);
+      diskStore.remove(key.toString());
+      return null;
+    }
+  }
+
+  private boolean isExpired(MemoryEntry entry) {
+    return entry.expiresAt() <= clock.millis();
+  }
+
+  private void writeToDisk(Object key, Object value) {
+    if (diskStore == null) {
+      return;
+    }
+    try {
+      diskStore.put(key.toString(), codec.encode(value));
+    } catch (Exception e) {
+      log.warn("Disk cache encode failed: cache={}, key={}, error={}", name, key, e.getMessage());
+    }
+  }
+
+  /**
+   * L1 엔트리.
+   *
+   * @param value 캐시 값
+   * @param expiresAt 만료 시각 (epoch millis)
+   */
+  private record MemoryEntry(Object value, long expiresAt) {}
+
+  /** Caffeine 매핑 함수 밖으로 로더 예외를 전달하기 위한 래퍼. */
+  private static class LoaderException extends RuntimeException {
+    LoaderException(Throwable cause) {
+      super(cause);
+    }
+  }
+
+  /**
+   * 캐시 통계.
+   *
+   * @param name 캐시 이름
+   * @param memoryHits L1 적중 수
+   * @param diskHits L2 적중 수
+   * @param misses 원본 호출 수
+   * @param staleFallbacks 원본 호출 실패로 신선 기간이 지난 디스크 값을 제공한 수
+   * @param memorySize L1 엔트리 수 (추정)
+   * @param disk 디스크 저장소 통계 (디스크 미사용 시 null)
+   */
+  public record Stats(
+      String name,
+      long memoryHits,
+      long diskHits,
+      long misses,
+      long staleFallbacks,
+      long memorySize,
+      DiskCacheStore.Stats disk) {
+
+    /** 전체 요청 수. */
+    public long requests() {
+      return memoryHits + diskHits + misses;
+    }
+
+    /** L1 적중률. */
+    public double memoryHitRate() {
+      return requests() == 0 ? 0 : (double) memoryHits / requests();
+    }
+
+    /** L1 미스 중 L2 적중률. */
+    public double diskHitRate() {
+      long diskLookups = diskHits + misses;
+      return diskLookups == 0 ? 0 : (double) diskHits / diskLookups;
+    }
+
+    /** 전체 적중률 (L1 + L2). */
+    public double hitRate() {
+      return requests() == 0 ? 0 : (double) (memoryHits + diskHits) / requests();
+    }
+  }
+}
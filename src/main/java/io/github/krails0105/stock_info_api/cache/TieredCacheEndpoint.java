@@ -0,0 +1,58 @@
+package io.github.krails0105.stock_info_api.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2단 캐시 상태 Actuator 엔드포인트 ({@code /actuator/tieredcache}).
+ *
+ * <p>캐시별 L1/L2 적중 수와 적중률, 원본 호출 수, 원본 장애 시 대체값 제공 수, 디스크 파일 크기를 제공한다.
+ */
+@Component
+@Endpoint(id = "tieredcache")
+@RequiredArgsConstructor
+public class TieredCacheEndpoint {
+
+  private final CacheManager cacheManager;
+
+  @ReadOperation
+  public Map<String, Object> caches() {
+    Map<String, Object> result = new LinkedHashMap<>();
+    for (String cacheName : cacheManager.getCacheNames()) {
+      Cache cache = cacheManager.getCache(cacheName);
+      if (cache instanceof TieredCache tieredCache) {
+        result.put(cacheName, toMap(tieredCache.stats()));
+      }
+    }
+    return result;
+  }
+
+  private Map<String, Object> toMap(TieredCache.Stats stats) {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("requests", stats.requests());
+    map.put("memoryHits", stats.memoryHits());
+    map.put("diskHits", stats.diskHits());
+    map.put("misses", stats.misses());
+    map.put("staleFallbacks", stats.staleFallbacks());
+    map.put("memoryHitRate", stats.memoryHitRate());
+    map.put("diskHitRate", stats.diskHitRate());
+    map.put("hitRate", stats.hitRate());
+    map.put("memorySize", stats.memorySize());
+
+    DiskCacheStore.Stats disk = stats.disk();
+    if (disk != null) {
+      map.put("diskEntries", disk.entries());
+      map.put("diskFileBytes", disk.fileBytes());
+      map.put("diskLiveBytes", disk.liveBytes());
+      map.put("diskReads", disk.reads());
+      map.put("diskWrites", disk.writes());
+    }
+    return map;
+  }
+}
@@ -1,18 +1,30 @@
 package io.github.krails0105.stock_info_api.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
-import java.util.concurrent.TimeUnit;
+import io.github.krails0105.stock_info_api.cache.CacheValueCodec;
+import io.github.krails0105.stock_info_api.cache.ChartResponseCodec;
+import io.github.krails0105.stock_info_api.cache.CompressedStringCodec;
+import io.github.krails0105.stock_info_api.cache.DiskCacheStore;
+import io.github.krails0105.stock_info_api.cache.TieredCache;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
  * 캐시 설정.
  *
- * <p>Caffeine 인메모리 캐시를 사용하여 외부 API 호출 결과를 캐싱한다. 차트 데이터의 경우 60초 TTL로 설정하여 장중 변동을 적절히 반영한다.
+ * <p>Caffeine 인메모리 캐시(L1) 뒤에 추가 전용 디스크 캐시(L2)를 둔 2단 캐시를 사용한다. 값은 기록 후 L1 TTL(60초) 동안만 캐시에서
+ * 제공되어 장중 변동을 반영한다. L2는 재시작 직후 캐시별 재시작 창(차트 10분, 일별 KRX 스냅샷 수 시간) 안의 값을 채우고, 원본 호출이
+ * 실패하면 디스크 TTL 안의 마지막 값을 대체값으로 제공한다. 디스크 TTL은 캐시별로 재시작 창보다 짧지 않게 맞춘다.
  */
+@Slf4j
 @Configuration
 @EnableCaching
 public class CacheConfig {
@@ -20,14 +32,55 @@ public class CacheConfig {
   /** 차트 캐시 이름 */
   public static final String CHART_CACHE = "chartCache";
 
+  /** KRX CSV 스냅샷 캐시 이름 */
+  public static final String KRX_SNAPSHOT_CACHE = "krxSnapshotCache";
+
   @Bean
-  public CacheManager cacheManager() {
-    CaffeineCacheManager cacheManager = new CaffeineCacheManager(CHART_CACHE);
-    cacheManager.setCaffeine(
-        Caffeine.newBuilder()
-            .expireAfterWrite(60, TimeUnit.SECONDS) // TTL 60초
-            .maximumSize(500) // 최대 500개 엔트리 (종목×range 조합)
-            .recordStats());
+  public CacheManager cacheManager(TieredCacheProperties properties) {
+    SimpleCacheManager cacheManager = new SimpleCacheManager();
+    cacheManager.setCaches(
+        List.of(
+            // 최대 500개 엔트리 (종목×range 조합)
+            tieredCache(CHART_CACHE, 500, new ChartResponseCodec(), properties),
+            // KRX 데이터셋 (재무/업종/지수)
+            tieredCache(KRX_SNAPSHOT_CACHE, 20, new CompressedStringCodec(), properties)));
     return cacheManager;
   }
+
+  private TieredCache tieredCache(
+      String name, long maximumSize, CacheValueCodec<?> codec, TieredCacheProperties properties) {
+    Duration restartWindow = properties.restartWindowOf(name);
+    return new TieredCache(
+        name,
+        Caffeine.newBuilder()
+            .expireAfterWrite(properties.getMemoryTtl())
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build(),
+        openDiskStore(name, restartWindow, properties),
+        codec,
+        properties.getMemoryTtl(),
+        restartWindow);
+  }
+
+  private DiskCacheStore openDiskStore(
+      String name, Duration restartWindow, TieredCacheProperties properties) {
+    if (!properties.isDiskEnabled()) {
+      return null;
+    }
+    Path file = Path.of(properties.getDiskDirectory(), name + ".log");
+    // 재시작 창 동안 읽을 값이 디스크에서 먼저 만료되지 않도록
+    Duration diskTtl =
+        properties.getDiskTtl().compareTo(restartWindow) >= 0
+            ? properties.getDiskTtl()
+            : restartWindow;
+    try {
+      return DiskCacheStore.open(file, diskTtl, properties.getCompactionRatio());
+    } catch (IOException e) {
+      // 디스크를 쓸 수 없으면 메모리 캐시만 사용
+      log.warn(
+          "Disk cache unavailable, using memory only: file={}, error={}", file, e.getMessage());
+      return null;
+    }
+  }
 }
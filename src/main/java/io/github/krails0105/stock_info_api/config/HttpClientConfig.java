@@ -0,0 +1,140 @@
+package io.github.krails0105.stock_info_api.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.routing.RouteInfo;
+import org.apache.hc.core5.http.EndpointDetails;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpResponseInterceptor;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * 외부 API 공용 HTTP 클라이언트 설정.
+ *
+ * <p>KRX, 네이버, KIS, Google News RSS 호출이 하나의 Apache HttpClient 커넥션 풀을 공유한다. 호스트별 연결 수를
+ * 제한하고, Keep-Alive로 연결을 재사용하며, gzip/deflate 응답 압축을 요청한다.
+ *
+ * <p>[메트릭]
+ *
+ * <ul>
+ *   <li>httpcomponents.httpclient.pool.* (pool=upstream): 풀 크기, 대여/유휴 연결, 대기 요청
+ *   <li>upstream.http.requests (host, connection=new|reused): 요청이 새 연결을 열었는지, 기존 연결을 재사용했는지
+ * </ul>
+ */
+@Slf4j
+@Configuration
+public class HttpClientConfig {
+
+  /** 커넥션 풀 메트릭 태그 */
+  private static final String POOL_NAME = "upstream";
+
+  @Bean(destroyMethod = "close")
+  public PoolingHttpClientConnectionManager upstreamConnectionManager(
+      HttpClientProperties properties, MeterRegistry meterRegistry) {
+    ConnectionConfig connectionConfig =
+        ConnectionConfig.custom()
+            .setConnectTimeout(timeout(properties.getConnectTimeout()))
+            .setSocketTimeout(timeout(properties.getReadTimeout()))
+            .setTimeToLive(TimeValue.ofMilliseconds(properties.getTimeToLive().toMillis()))
+            .build();
+
+    PoolingHttpClientConnectionManager connectionManager =
+        PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(properties.getMaxTotal())
+            .setMaxConnPerRoute(properties.getMaxPerRoute())
+            .setDefaultConnectionConfig(connectionConfig)
+            .build();
+
+    for (HttpClientProperties.Route route : properties.getRoutes()) {
+      boolean secure = "https".equalsIgnoreCase(route.getScheme());
+      int port = route.getPort() > 0 ? route.getPort() : (secure ? 443 : 80);
+      HttpHost target = new HttpHost(route.getScheme(), route.getHost(), port);
+      connectionManager.setMaxPerRoute(
+          new HttpRoute(target, null, secure), route.getMaxConnections());
+      log.info("HTTP route limit: {} -> {}", target, route.getMaxConnections());
+    }
+
+    new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME)
+        .bindTo(meterRegistry);
+    return connectionManager;
+  }
+
+  @Bean(destroyMethod = "close")
+  public CloseableHttpClient upstreamHttpClient(
+      PoolingHttpClientConnectionManager upstreamConnectionManager,
+      HttpClientProperties properties,
+      MeterRegistry meterRegistry) {
+    RequestConfig requestConfig =
+        RequestConfig.custom()
+            .setConnectionRequestTimeout(timeout(properties.getConnectionRequestTimeout()))
+            .setDefaultKeepAlive(properties.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS)
+            .build();
+
+    HttpClientBuilder builder =
+        HttpClients.custom()
+            .setConnectionManager(upstreamConnectionManager)
+            .setDefaultRequestConfig(requestConfig)
+            .evictExpiredConnections()
+            .evictIdleConnections(
+                TimeValue.ofMilliseconds(properties.getIdleEviction().toMillis()))
+            .addResponseInterceptorLast(connectionReuseRecorder(meterRegistry));
+
+    // 기본으로 Accept-Encoding: gzip, deflate를 보내고 응답을 자동 해제함
+    if (!properties.isCompression()) {
+      builder.disableContentCompression();
+    }
+    return builder.build();
+  }
+
+  /** KRX, 네이버, KIS, RSS 클라이언트가 공유하는 요청 팩토리. */
+  @Bean
+  public ClientHttpRequestFactory upstreamRequestFactory(CloseableHttpClient upstreamHttpClient) {
+    return new HttpComponentsClientHttpRequestFactory(upstreamHttpClient);
+  }
+
+  // ==================== Private Methods ====================
+
+  /**
+   * 응답마다 연결 재사용 여부 기록.
+   *
+   * <p>연결에서 처리한 요청 수가 1이면 이번 요청을 위해 새로 연 연결이다.
+   */
+  private static HttpResponseInterceptor connectionReuseRecorder(MeterRegistry meterRegistry) {
+    return (response, entity, context) -> {
+      HttpClientContext clientContext = HttpClientContext.castOrCreate(context);
+      EndpointDetails endpoint = clientContext.getEndpointDetails();
+      RouteInfo route = clientContext.getHttpRoute();
+      if (endpoint == null || route == null) {
+        return;
+      }
+      Counter.builder("upstream.http.requests")
+          .description("외부 API 요청 수 (연결 재사용 여부별)")
+          .tag("host", route.getTargetHost().getHostName())
+          .tag("connection", endpoint.getRequestCount() > 1 ? "reused" : "new")
+          .register(meterRegistry)
+          .increment();
+    };
+  }
+
+  private static Timeout timeout(Duration duration) {
+    return Timeout.ofMilliseconds(duration.toMillis());
+  }
+}
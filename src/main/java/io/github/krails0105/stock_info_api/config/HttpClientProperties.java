@@ -0,0 +1,68 @@
+package io.github.krails0105.stock_info_api.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 외부 API 공용 HTTP 클라이언트 설정.
+ *
+ * <p>application.yml의 `http-client.*` 프로퍼티를 바인딩한다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "http-client")
+@Getter
+@Setter
+public class HttpClientProperties {
+
+  /** 전체 최대 연결 수. */
+  private int maxTotal = 100;
+
+  /** 호스트별 기본 최대 연결 수. */
+  private int maxPerRoute = 20;
+
+  /** 연결 타임아웃. */
+  private Duration connectTimeout = Duration.ofSeconds(5);
+
+  /** 응답 읽기 타임아웃. */
+  private Duration readTimeout = Duration.ofSeconds(10);
+
+  /** 풀에서 연결을 빌릴 때 최대 대기 시간. */
+  private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+
+  /** 서버가 Keep-Alive 시간을 주지 않을 때 연결 유지 시간. */
+  private Duration keepAlive = Duration.ofSeconds(30);
+
+  /** 유휴 연결 정리 기준 시간. */
+  private Duration idleEviction = Duration.ofSeconds(30);
+
+  /** 연결 최대 수명 (DNS 변경 반영용). */
+  private Duration timeToLive = Duration.ofMinutes(5);
+
+  /** gzip/deflate 응답 압축 요청 여부. */
+  private boolean compression = true;
+
+  /** 호스트별 최대 연결 수 (지정하지 않은 호스트는 maxPerRoute). */
+  private List<Route> routes = new ArrayList<>();
+
+  /** 호스트별 연결 제한. */
+  @Getter
+  @Setter
+  public static class Route {
+    /** 스킴 (http/https). */
+    private String scheme = "https";
+
+    /** 호스트 이름. */
+    private String host;
+
+    /** 포트 (-1이면 스킴 기본 포트). */
+    private int port = -1;
+
+    /** 최대 연결 수. */
+    private int maxConnections;
+  }
+}
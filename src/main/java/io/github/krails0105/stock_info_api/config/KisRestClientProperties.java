@@ -1,6 +1,9 @@
 package io.github.krails0105.stock_info_api.config;
 
 import jakarta.validation.constraints.NotBlank;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -18,9 +21,9 @@ import org.springframework.stereotype.Component;
  *   rest-client:
  *     kis:
  *       base-url: https://openapi.koreainvestment.com:9443
- *       connect-timeout: 5000
+ *       app-key: ${KIS_APP_KEY:}
  *
- * 이 클래스의 baseUrl 필드에 URL이, connectTimeout 필드에 5000이 자동 주입됨
+ * 이 클래스의 baseUrl 필드에 URL이, appKey 필드에 환경변수 값이 자동 주입됨
  *
  * [왜 이 방식을 사용하나요?]
  * - 타입 안전성: 문자열로 설정값을 가져오는 것보다 안전함
@@ -44,9 +47,69 @@ public class KisRestClientProperties {
    * - 모의투자: https://openapivts.koreainvestment.com:29443
    */
   @NotBlank private String baseUrl;
-  private int connectTimeout;
-  private int readTimeout;
   private String appKey;
   private String appSecret;
   private String accountNumber;
+
+  /*
+   * 발급받은 접근 토큰 저장 파일
+   * - 재시작 시 유효한 토큰을 재사용하여 토큰 발급 호출(KIS 발급 횟수 제한)을 줄임
+   */
+  private String tokenCacheFile = "./data/kis-token.json";
+
+  /*
+   * 호출 속도 제한 (앱키당 초당 호출 수 제한 대응)
+   * - 모든 kisRestClient 호출은 토큰 버킷을 통과해야 전송됨
+   */
+  private RateLimit rateLimit = new RateLimit();
+
+  /*
+   * 실시간 시세 웹소켓 (H0STCNT0 주식 체결가)
+   * - 구독 종목의 체결 틱을 받아 실시간 시세 스냅샷에 반영
+   */
+  private Websocket websocket = new Websocket();
+
+  @Getter
+  @Setter
+  public static class RateLimit {
+
+    /* 초당 허용 호출 수 (실전투자 기준 20건/초보다 여유 있게 설정) */
+    private double requestsPerSecond = 15;
+
+    /* 순간적으로 허용할 최대 호출 수 (버킷 크기) */
+    private int burst = 15;
+
+    /* 토큰을 기다리는 최대 대기 요청 수 (초과 시 즉시 거절) */
+    private int maxQueueSize = 200;
+
+    /* 토큰을 기다리는 최대 시간 (초과 시 거절) */
+    private Duration maxWait = Duration.ofSeconds(5);
+  }
+
+  @Getter
+  @Setter
+  public static class Websocket {
+
+    /* 웹소켓 연결 여부 */
+    private boolean enabled = false;
+
+    /*
+     * 웹소켓 URL
+     * - 실전투자: ws://ops.koreainvestment.com:21000
+     * - 모의투자: ws://ops.koreainvestment.com:31000
+     */
+    private String url = "ws://ops.koreainvestment.com:21000";
+
+    /* 시작 시 구독할 종목 코드 (세션당 최대 41건) */
+    private List<String> codes = new ArrayList<>();
+
+    /* 틱 병합 주기 (이 주기마다 종목별 최신 틱만 스냅샷에 반영) */
+    private Duration coalesceInterval = Duration.ofMillis(200);
+
+    /* 조회 응답에 덮어쓸 실시간 체결가의 최대 수신 경과 시간 (같은 거래일만) */
+    private Duration maxQuoteAge = Duration.ofMinutes(5);
+
+    /* 연결 끊김 후 재연결 대기 시간 */
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+  }
 }
@@ -1,5 +1,9 @@
 package io.github.krails0105.stock_info_api.config;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -20,6 +24,7 @@ public class NewsProperties {
   private Processing processing = new Processing();
   private Freshness freshness = new Freshness();
   private Clustering clustering = new Clustering();
+  private EntityDictionary entityDictionary = new EntityDictionary();
 
   /** 수집 관련 설정. */
   @Getter
@@ -30,17 +35,29 @@ public class NewsProperties {
 
     /** 수집 주기 (분). */
     private int intervalMinutes = 15;
+
+    /** 동시에 수집할 피드 수. */
+    private int parallelism = 12;
+
+    /** 호스트별 동시 요청 수. */
+    private int maxPerHost = 6;
+
+    /** 워터마크 여유 구간 (분). 워터마크보다 이만큼 더 오래된 항목만 건너뛴다. */
+    private int watermarkOverlapMinutes = 60;
   }
 
   /** 처리 관련 설정. */
   @Getter
   @Setter
   public static class Processing {
-    /** 배치 처리 크기. */
+    /** 배치 처리 크기 (작업 스레드가 큐에서 한 번에 꺼내 처리할 최대 기사 수). */
     private int batchSize = 100;
 
-    /** 처리 주기 (분). */
-    private int intervalMinutes = 5;
+    /** 처리 작업 스레드 수. */
+    private int workers = 4;
+
+    /** 처리 대기 큐 크기. 가득 차면 수집 스레드가 대기한다. */
+    private int queueCapacity = 1000;
   }
 
   /** 뉴스 신선도 설정. */
@@ -64,4 +81,21 @@ public class NewsProperties {
     /** 클러스터링 윈도우 (시간). */
     private int windowHours = 72;
   }
+
+  /** 종목/섹터 개체 사전 설정. */
+  @Getter
+  @Setter
+  public static class EntityDictionary {
+    /** KRX 스냅샷으로 사전을 다시 만드는 주기 (분). */
+    private int refreshMinutes = 360;
+
+    /** 사전에 넣을 상장 종목명 최소 길이. */
+    private int minNameLength = 2;
+
+    /** 일반 명사와 겹쳐 사전에서 제외할 상장 종목명. */
+    private List<String> excludedNames = new ArrayList<>();
+
+    /** 종목코드별 추가 별칭 (예: 000660: [하이닉스]). */
+    private Map<String, List<String>> aliases = new LinkedHashMap<>();
+  }
 }
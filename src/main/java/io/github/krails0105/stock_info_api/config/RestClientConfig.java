@@ -1,9 +1,13 @@
 package io.github.krails0105.stock_info_api.config;
 
+import io.github.krails0105.stock_info_api.provider.kis.KisRateLimitInterceptor;
+import io.github.krails0105.stock_info_api.provider.upstream.Upstream;
+import io.github.krails0105.stock_info_api.provider.upstream.UpstreamMetrics;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 /*
@@ -16,15 +20,21 @@ import org.springframework.web.client.RestClient;
 public class RestClientConfig {
 
   private final KisRestClientProperties kisProperties;
+  private final KisRateLimitInterceptor kisRateLimitInterceptor;
+  private final UpstreamMetrics upstreamMetrics;
 
   @Bean
-  RestClient kisRestClient(RestClient.Builder builder) {
+  RestClient kisRestClient(
+      RestClient.Builder builder, ClientHttpRequestFactory upstreamRequestFactory) {
     String baseUrl =
         Objects.requireNonNull(kisProperties.getBaseUrl(), "rest-client.kis.base-url 설정이 필요합니다");
 
     return builder
         .baseUrl(baseUrl)
+        .requestFactory(upstreamRequestFactory) // 공용 커넥션 풀
         .defaultHeader("content-type", "application/json; charset=utf-8")
+        .requestInterceptor(kisRateLimitInterceptor) // 모든 KIS 호출에 속도 제한 적용
+        .requestInterceptor(upstreamMetrics.interceptor(Upstream.KIS)) // 대기 이후 구간만 계측
         .build();
   }
 }
@@ -0,0 +1,47 @@
+package io.github.krails0105.stock_info_api.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 2단 캐시(L1 메모리 + L2 디스크) 설정.
+ *
+ * <p>application.yml의 `cache.tiered.*` 프로퍼티를 바인딩한다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "cache.tiered")
+@Getter
+@Setter
+public class TieredCacheProperties {
+
+  /** L1 메모리 캐시 TTL. */
+  private Duration memoryTtl = Duration.ofSeconds(60);
+
+  /** L2 디스크 캐시 사용 여부. */
+  private boolean diskEnabled = true;
+
+  /** L2 디스크 캐시 파일 디렉터리. */
+  private String diskDirectory = "./data/cache";
+
+  /** L2 디스크 엔트리 TTL (원본 장애 시 대체값으로 제공 가능한 기간). */
+  private Duration diskTtl = Duration.ofMinutes(10);
+
+  /** 재시작 전에 기록된 디스크 값을 원본 호출 없이 제공하는 기간. */
+  private Duration restartWindow = Duration.ofMinutes(10);
+
+  /** 캐시별 재시작 창 (캐시 이름 → 기간, 없으면 restartWindow). */
+  private Map<String, Duration> restartWindows = new HashMap<>();
+
+  /** 죽은 레코드 비율이 이 값을 넘으면 디스크 파일 압축. */
+  private double compactionRatio = 0.5;
+
+  /** 캐시의 재시작 창. */
+  public Duration restartWindowOf(String cacheName) {
+    return restartWindows.getOrDefault(cacheName, restartWindow);
+  }
+}
@@ -0,0 +1,64 @@
+package io.github.krails0105.stock_info_api.config;
+
+import io.github.krails0105.stock_info_api.provider.upstream.Upstream;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 외부 API 호출 정책 설정.
+ *
+ * <p>application.yml의 `upstream.*` 프로퍼티를 바인딩한다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "upstream")
+@Getter
+@Setter
+public class UpstreamProperties {
+
+  /** 헤지 요청 실행 스레드 최대 수. */
+  private int hedgeMaxThreads = 64;
+
+  /** 업스트림별 헤지 요청 설정 (키: krx, naver, kis, google-news). 없으면 헤지하지 않는다. */
+  private Map<String, Hedge> hedge = new HashMap<>();
+
+  /**
+   * 업스트림의 헤지 설정 조회.
+   *
+   * @param upstream 업스트림
+   * @return 헤지 설정 (없으면 null)
+   */
+  public Hedge hedgeOf(Upstream upstream) {
+    return hedge.get(upstream.getInstanceName());
+  }
+
+  @Getter
+  @Setter
+  public static class Hedge {
+
+    /** 헤지 요청 사용 여부. */
+    private boolean enabled = false;
+
+    /** 전체 요청 대비 헤지 요청 최대 비율. */
+    private double budgetRatio = 0.05;
+
+    /** 한 번에 몰아서 쓸 수 있는 헤지 요청 수. */
+    private int burst = 5;
+
+    /** p95를 신뢰하기 위한 최소 표본 수. */
+    private int minSamples = 20;
+
+    /** 표본이 부족할 때 헤지 대기 시간. */
+    private Duration defaultDelay = Duration.ofMillis(500);
+
+    /** 헤지 대기 시간 하한. */
+    private Duration minDelay = Duration.ofMillis(50);
+
+    /** 헤지 대기 시간 상한. */
+    private Duration maxDelay = Duration.ofSeconds(2);
+  }
+}
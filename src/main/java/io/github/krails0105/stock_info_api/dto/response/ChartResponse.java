@@ -21,6 +21,13 @@ public class ChartResponse {
   public static class ChartDataPoint {
     private String date;
     private long price;
+
+    /** 고가 (제공하지 않는 원본이면 0) */
+    private long high;
+
+    /** 저가 (제공하지 않는 원본이면 0) */
+    private long low;
+
     private long volume;
   }
 
@@ -29,5 +36,8 @@ public class ChartResponse {
   public static class ChartMeta {
     private OffsetDateTime asOf;
     private String source;
+
+    /** 원본 장애로 마지막 정상 응답을 대신 제공했으면 true (캐시하지 않음) */
+    private boolean stale;
   }
 }
@@ -12,6 +12,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -33,7 +34,8 @@ import lombok.NoArgsConstructor;
       @Index(name = "idx_processed_sector", columnList = "sectorName"),
       @Index(name = "idx_processed_cluster", columnList = "clusterId"),
       @Index(name = "idx_processed_published", columnList = "publishedAt"),
-      @Index(name = "idx_processed_representative", columnList = "isClusterRepresentative")
+      @Index(name = "idx_processed_representative", columnList = "isClusterRepresentative"),
+      @Index(name = "idx_processed_simhash", columnList = "titleSimHash")
     })
 @Getter
 @Builder(toBuilder = true)
@@ -42,7 +44,11 @@ import lombok.NoArgsConstructor;
 public class ProcessedNewsArticle {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "processed_news_seq")
+  @SequenceGenerator(
+      name = "processed_news_seq",
+      sequenceName = "processed_news_articles_seq",
+      allocationSize = 50)
   private Long id;
 
   @Column(nullable = false)
@@ -51,6 +57,9 @@ public class ProcessedNewsArticle {
   @Column(nullable = false, length = 500)
   private String title;
 
+  /** 정규화한 제목의 64비트 SimHash (원본 기사에서 복사) */
+  @Column private Long titleSimHash;
+
   @Column(nullable = false, length = 100)
   private String publisher;
 
@@ -8,6 +8,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -26,7 +27,8 @@ import lombok.NoArgsConstructor;
     indexes = {
       @Index(name = "idx_raw_news_url", columnList = "url", unique = true),
       @Index(name = "idx_raw_news_published", columnList = "publishedAt"),
-      @Index(name = "idx_raw_news_status", columnList = "status")
+      @Index(name = "idx_raw_news_status", columnList = "status"),
+      @Index(name = "idx_raw_news_simhash", columnList = "titleSimHash")
     })
 @Getter
 @Builder(toBuilder = true)
@@ -35,12 +37,19 @@ import lombok.NoArgsConstructor;
 public class RawNewsArticle {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "raw_news_seq")
+  @SequenceGenerator(
+      name = "raw_news_seq",
+      sequenceName = "raw_news_articles_seq",
+      allocationSize = 50)
   private Long id;
 
   @Column(nullable = false, length = 500)
   private String title;
 
+  /** 정규화한 제목의 64비트 SimHash (언론사만 바뀐 재전송 기사 판별용) */
+  @Column private Long titleSimHash;
+
   @Column(nullable = false, length = 100)
   private String publisher;
 
@@ -0,0 +1,44 @@
+package io.github.krails0105.stock_info_api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * RSS 피드별 폴링 상태 엔티티.
+ *
+ * <p>조건부 요청(If-None-Match / If-Modified-Since)에 쓸 검증자와, 이미 수집한 가장 최근 기사의 발행 시각(워터마크)을 저장한다.
+ */
+@Entity
+@Table(name = "rss_feed_states")
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class RssFeedState {
+
+  /** 피드 이름 (RssFeedConfig.name) */
+  @Id
+  @Column(length = 100)
+  private String feedName;
+
+  /** 마지막 응답의 ETag */
+  @Column(length = 255)
+  private String etag;
+
+  /** 마지막 응답의 Last-Modified (받은 문자열 그대로) */
+  @Column(length = 64)
+  private String lastModified;
+
+  /** 수집한 기사 중 가장 최근 발행 시각 */
+  private LocalDateTime watermark;
+
+  /** 마지막으로 본문을 받아 처리한 시각 */
+  private LocalDateTime lastFetchedAt;
+}
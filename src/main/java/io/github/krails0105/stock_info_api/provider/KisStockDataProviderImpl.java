@@ -9,13 +9,28 @@ import io.github.krails0105.stock_info_api.dto.ScoreLabel;
 import io.github.krails0105.stock_info_api.dto.StockScoreDto;
 import io.github.krails0105.stock_info_api.dto.domain.StockInfo;
 import io.github.krails0105.stock_info_api.dto.external.kis.KisStockPriceResponse;
+import io.github.krails0105.stock_info_api.dto.external.krx.KrxStockResponse.KrxStockItem;
+import io.github.krails0105.stock_info_api.provider.kis.KisRateLimiter;
+import io.github.krails0105.stock_info_api.provider.kis.KisRequestPriority;
+import io.github.krails0105.stock_info_api.provider.upstream.HedgedRequestExecutor;
+import io.github.krails0105.stock_info_api.provider.upstream.Upstream;
+import io.github.krails0105.stock_info_api.provider.upstream.UpstreamGuard;
+import io.github.krails0105.stock_info_api.provider.upstream.UpstreamMetrics;
 import io.github.krails0105.stock_info_api.service.KisTokenService;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import jakarta.annotation.PreDestroy;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
@@ -40,33 +55,41 @@ public class KisStockDataProviderImpl implements StockDataProvider {
   private final RestClient kisRestClient;
   private final KisRestClientProperties props;
   private final KisTokenService kisTokenService;
+  private final SectorDataProvider sectorDataProvider;
+  private final UpstreamGuard upstreamGuard;
+  private final HedgedRequestExecutor hedgedRequestExecutor;
+  private final KisRateLimiter rateLimiter;
 
   /** 거래 ID: 주식 현재가 조회 */
   private static final String TR_ID_STOCK_PRICE = "FHKST01010100";
 
+  /** 메트릭/헤지 엔드포인트 태그 */
+  private static final String QUOTE_ENDPOINT = "inquire-price";
+
+  /** 일괄 조회 병렬도 (호출 속도는 속도 제한기가 조절) */
+  private static final int BULK_PARALLELISM = 4;
+
+  /** 검색 결과 최대 종목 수 */
+  private static final int SEARCH_LIMIT = 20;
+
+  /** 상위 종목 조회 시 후보 배수 */
+  private static final int TOP_CANDIDATE_FACTOR = 2;
+
+  private final ExecutorService bulkExecutor =
+      Executors.newFixedThreadPool(BULK_PARALLELISM, new CustomizableThreadFactory("kis-bulk-"));
+
   @Override
   public StockScoreDto getStockByCode(String code) {
     log.debug("KIS API 호출: 종목코드={}", code);
 
     String token = kisTokenService.getAccessToken();
 
+    // KIS 장애/지연 시 해당 종목의 마지막 정상 시세 사용, 응답이 늦으면 헤지 요청
+    KisRequestPriority priority = KisRequestPriority.current();
     KisStockPriceResponse response =
-        kisRestClient
-            .get()
-            .uri(
-                uriBuilder ->
-                    uriBuilder
-                        .path("/uapi/domestic-stock/v1/quotations/inquire-price")
-                        .queryParam("FID_COND_MRKT_DIV_CODE", "J") // J: 주식
-                        .queryParam("FID_INPUT_ISCD", code) // 종목코드
-                        .build())
-            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-            .header("appkey", props.getAppKey())
-            .header("appsecret", props.getAppSecret())
-            .header("tr_id", TR_ID_STOCK_PRICE)
-            .accept(MediaType.APPLICATION_JSON)
-            .retrieve()
-            .body(KisStockPriceResponse.class);
+        upstreamGuard
+            .withLastGood(Upstream.KIS, code, () -> requestQuoteGuarded(code, token, priority))
+            .value();
 
     if (response == null || response.getOutput() == null) {
       log.error("KIS API 응답 없음: code={}", code);
@@ -81,6 +104,58 @@ public class KisStockDataProviderImpl implements StockDataProvider {
     return convertToStockScoreDto(code, response.getOutput());
   }
 
+  /**
+   * 서킷 브레이커로 보호된 현재가 조회.
+   *
+   * <p>호출 토큰은 서킷 밖에서 미리 받아, 속도 제한 대기 시간이 서킷의 지연 호출 판정에 들어가지 않게 한다 (지연은 HTTP 호출 구간만).
+   * 서킷이 열려 있으면 토큰을 기다리지 않고 바로 실패한다.
+   */
+  private KisStockPriceResponse requestQuoteGuarded(
+      String code, String token, KisRequestPriority priority) {
+    KisRateLimiter.Permit permit =
+        upstreamGuard.state(Upstream.KIS) == CircuitBreaker.State.OPEN
+            ? KisRateLimiter.Permit.NONE
+            : rateLimiter.reserve(priority);
+    return upstreamGuard.execute(
+        Upstream.KIS,
+        () ->
+            hedgedRequestExecutor.execute(
+                Upstream.KIS,
+                QUOTE_ENDPOINT,
+                () ->
+                    permit.runWith(
+                        () ->
+                            KisRequestPriority.runAs(
+                                priority, () -> requestQuote(code, token)))));
+  }
+
+  /**
+   * 현재가 조회 API 호출 (GET /uapi/domestic-stock/v1/quotations/inquire-price)
+   *
+   * @param code 종목코드
+   * @param token 접근 토큰
+   * @return KIS API 응답
+   */
+  private KisStockPriceResponse requestQuote(String code, String token) {
+    return kisRestClient
+        .get()
+        .uri(
+            uriBuilder ->
+                uriBuilder
+                    .path("/uapi/domestic-stock/v1/quotations/inquire-price")
+                    .queryParam("FID_COND_MRKT_DIV_CODE", "J") // J: 주식
+                    .queryParam("FID_INPUT_ISCD", code) // 종목코드
+                    .build())
+        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+        .header("appkey", props.getAppKey())
+        .header("appsecret", props.getAppSecret())
+        .header("tr_id", TR_ID_STOCK_PRICE)
+        .attribute(UpstreamMetrics.ENDPOINT_ATTRIBUTE, QUOTE_ENDPOINT)
+        .accept(MediaType.APPLICATION_JSON)
+        .retrieve()
+        .body(KisStockPriceResponse.class);
+  }
+
   /**
    * KIS API 응답을 StockScoreDto로 변환
    *
@@ -166,21 +241,117 @@ public class KisStockDataProviderImpl implements StockDataProvider {
     return null;
   }
 
+  /**
+   * 업종 소속 종목 시세 조회
+   *
+   * <p>업종 구성은 KRX 스냅샷({@link SectorDataProvider})에서, 시세는 KIS에서 일괄 조회한다.
+   */
   @Override
   public List<StockScoreDto> getStocksBySector(String sectorId) {
-    // TODO: 업종별 종목 조회 구현
-    throw new UnsupportedOperationException("Not implemented yet");
+    List<String> codes =
+        findSectorMembers(sectorId).stream().map(KrxStockItem::getStockCode).toList();
+    return getStocksByCodes(codes);
   }
 
+  /**
+   * 종목명/코드 검색
+   *
+   * <p>KIS에는 종목 검색 API가 없으므로 KRX 업종 스냅샷의 종목 목록에서 이름 또는 코드로 찾은 뒤, 상위 {@value #SEARCH_LIMIT}개만 시세를
+   * 조회한다.
+   */
   @Override
   public List<StockScoreDto> searchStocks(String keyword) {
-    // TODO: 종목 검색 구현
-    throw new UnsupportedOperationException("Not implemented yet");
+    String normalized = keyword.trim().toLowerCase();
+    List<String> codes =
+        sectorDataProvider.getAllSectors().stream()
+            .flatMap(
+                sector -> sectorDataProvider.getStocksBySectorName(sector.getSectorName()).stream())
+            .filter(
+                item ->
+                    item.getStockCode().startsWith(normalized)
+                        || item.getStockName().toLowerCase().contains(normalized))
+            .map(KrxStockItem::getStockCode)
+            .distinct()
+            .limit(SEARCH_LIMIT)
+            .toList();
+    return getStocksByCodes(codes);
   }
 
+  /**
+   * 업종 내 점수 상위 종목 조회
+   *
+   * <p>점수는 등락률로 결정되므로, KRX 스냅샷 등락률 기준 상위 후보({@code limit * }{@value #TOP_CANDIDATE_FACTOR})만 KIS로
+   * 조회한 뒤 실시간 점수로 다시 정렬한다. 업종 전체 종목을 호출하지 않기 위함이다.
+   */
   @Override
   public List<StockScoreDto> getTopStocksBySector(String sectorId, int limit) {
-    // TODO: 업종별 상위 종목 조회 구현
-    throw new UnsupportedOperationException("Not implemented yet");
+    List<String> candidates =
+        findSectorMembers(sectorId).stream()
+            .sorted(Comparator.comparingDouble(KrxStockItem::getChangeRate).reversed())
+            .limit((long) limit * TOP_CANDIDATE_FACTOR)
+            .map(KrxStockItem::getStockCode)
+            .toList();
+
+    return getStocksByCodes(candidates).stream()
+        .sorted(Comparator.comparingInt(StockScoreDto::getScore).reversed())
+        .limit(limit)
+        .toList();
+  }
+
+  /**
+   * 여러 종목 현재가 병렬 조회
+   *
+   * <p>{@value #BULK_PARALLELISM}개 스레드의 고정 풀로 inquire-price를 나눠 호출한다. 실제 호출 속도는 kisRestClient의 속도
+   * 제한기가 조절하며, 호출한 스레드의 우선순위({@link KisRequestPriority})를 작업 스레드에도 그대로 적용한다. 일부 종목 조회가 실패해도 나머지
+   * 결과는 입력 순서대로 반환한다.
+   *
+   * @param codes 종목 코드 목록
+   * @return 조회에 성공한 종목 목록 (부분 결과 가능)
+   */
+  @Override
+  public List<StockScoreDto> getStocksByCodes(List<String> codes) {
+    KisRequestPriority priority = KisRequestPriority.current();
+
+    List<CompletableFuture<StockScoreDto>> futures =
+        codes.stream()
+            .distinct()
+            .map(
+                code ->
+                    CompletableFuture.supplyAsync(
+                        () -> KisRequestPriority.runAs(priority, () -> fetchQuietly(code)),
+                        bulkExecutor))
+            .toList();
+
+    List<StockScoreDto> results =
+        futures.stream().map(CompletableFuture::join).filter(Objects::nonNull).toList();
+
+    if (results.size() < futures.size()) {
+      log.warn("KIS 일괄 조회 일부 실패: requested={}, succeeded={}", futures.size(), results.size());
+    }
+    return results;
+  }
+
+  @PreDestroy
+  void shutdown() {
+    bulkExecutor.shutdownNow();
+  }
+
+  /** 단건 조회 (실패 시 null, 일괄 조회용) */
+  private StockScoreDto fetchQuietly(String code) {
+    try {
+      return getStockByCode(code);
+    } catch (Exception e) {
+      log.warn("KIS 시세 조회 실패: code={}, error={}", code, e.getMessage());
+      return null;
+    }
+  }
+
+  /** sectorId로 업종을 찾아 KRX 스냅샷의 소속 종목 반환 */
+  private List<KrxStockItem> findSectorMembers(String sectorId) {
+    return sectorDataProvider.getAllSectors().stream()
+        .filter(sector -> sector.getSectorId().equals(sectorId))
+        .findFirst()
+        .map(sector -> sectorDataProvider.getStocksBySectorName(sector.getSectorName()))
+        .orElse(List.of());
   }
 }
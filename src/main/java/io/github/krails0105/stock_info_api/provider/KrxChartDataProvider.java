@@ -6,7 +6,10 @@ import io.github.krails0105.stock_info_api.dto.external.naver.NaverChartResponse
 import io.github.krails0105.stock_info_api.dto.response.ChartResponse;
 import io.github.krails0105.stock_info_api.dto.response.ChartResponse.ChartDataPoint;
 import io.github.krails0105.stock_info_api.dto.response.ChartResponse.ChartMeta;
-import java.time.Duration;
+import io.github.krails0105.stock_info_api.provider.upstream.HedgedRequestExecutor;
+import io.github.krails0105.stock_info_api.provider.upstream.Upstream;
+import io.github.krails0105.stock_info_api.provider.upstream.UpstreamGuard;
+import io.github.krails0105.stock_info_api.provider.upstream.UpstreamMetrics;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
@@ -16,8 +19,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
-import org.springframework.boot.http.client.ClientHttpRequestFactorySettings;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.MediaType;
@@ -29,7 +30,8 @@ import org.springframework.web.client.RestClientException;
 /**
  * KRX 차트 데이터 Provider (prod 프로파일).
  *
- * <p>네이버 금융 차트 API를 사용하여 실제 주가 데이터를 조회한다. Caffeine 캐시를 적용하여 60초 TTL로 외부 호출을 최소화한다.
+ * <p>네이버 금융 차트 API를 사용하여 실제 주가 데이터를 조회한다. 2단 캐시(Caffeine 60초 TTL + 디스크)를 적용하여 외부 호출을
+ * 최소화한다. 디스크 값도 기록 후 60초 안에서만 재사용하므로 (재시작 직후 등) 장중 변동이 60초 이상 늦게 반영되지 않는다.
  */
 @Component
 @Profile("prod")
@@ -38,6 +40,9 @@ public class KrxChartDataProvider implements ChartDataProvider {
 
   private static final String NAVER_CHART_API_BASE = "https://fchart.stock.naver.com/siseJson.nhn";
 
+  /** 메트릭 엔드포인트 태그 */
+  private static final String CHART_ENDPOINT = "siseJson";
+
   /** 주요 종목명 매핑 (차트 응답에 종목명 포함용) */
   private static final Map<String, String> STOCK_NAMES =
       Map.ofEntries(
@@ -62,25 +67,27 @@ public class KrxChartDataProvider implements ChartDataProvider {
           Map.entry("032830", "삼성생명"),
           Map.entry("066570", "LG전자"));
 
-  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
-  private static final Duration READ_TIMEOUT = Duration.ofSeconds(10);
-
   private final RestClient restClient;
-
-  public KrxChartDataProvider() {
-    // Timeout 설정
-    ClientHttpRequestFactorySettings settings =
-        ClientHttpRequestFactorySettings.defaults()
-            .withConnectTimeout(CONNECT_TIMEOUT)
-            .withReadTimeout(READ_TIMEOUT);
-    ClientHttpRequestFactory requestFactory =
-        ClientHttpRequestFactoryBuilder.detect().build(settings);
-
+  private final UpstreamGuard upstreamGuard;
+  private final UpstreamMetrics upstreamMetrics;
+  private final HedgedRequestExecutor hedgedRequestExecutor;
+
+  public KrxChartDataProvider(
+      ClientHttpRequestFactory upstreamRequestFactory,
+      UpstreamGuard upstreamGuard,
+      UpstreamMetrics upstreamMetrics,
+      HedgedRequestExecutor hedgedRequestExecutor) {
+    this.upstreamGuard = upstreamGuard;
+    this.upstreamMetrics = upstreamMetrics;
+    this.hedgedRequestExecutor = hedgedRequestExecutor;
+
+    // 공용 커넥션 풀 사용 (타임아웃은 http-client.* 설정)
     this.restClient =
         RestClient.builder()
-            .requestFactory(requestFactory)
+            .requestFactory(upstreamRequestFactory)
             .defaultHeader("User-Agent", "Mozilla/5.0")
             .defaultHeader("Referer", "https://finance.naver.com")
+            .requestInterceptor(upstreamMetrics.interceptor(Upstream.NAVER))
             .build();
   }
 
@@ -88,13 +95,19 @@ public class KrxChartDataProvider implements ChartDataProvider {
   @Cacheable(
       value = CacheConfig.CHART_CACHE,
       key = "#stockCode + '_' + #range",
-      unless = "#result.dataPoints.isEmpty()") // 빈 응답은 캐시하지 않음
+      unless = "#result.dataPoints.isEmpty() || #result.meta.stale") // 빈 응답/대체 응답은 캐시하지 않음
   public ChartResponse getChartData(String stockCode, String range) {
     log.debug("Fetching chart data from Naver API: code={}, range={}", stockCode, range);
 
     try {
-      String xml = fetchFromNaverApi(stockCode, range);
-      NaverChartResponse naverResponse = NaverChartResponse.fromXml(xml);
+      UpstreamGuard.Guarded<String> xml = fetchFromNaverApi(stockCode, range);
+      NaverChartResponse naverResponse =
+          upstreamMetrics.parse(
+              Upstream.NAVER,
+              CHART_ENDPOINT,
+              "parse",
+              () -> NaverChartResponse.fromXml(xml.value()),
+              response -> response.getItems().size());
 
       if (naverResponse.getItems().isEmpty()) {
         log.warn("No chart data returned from Naver API: code={}, range={}", stockCode, range);
@@ -112,6 +125,7 @@ public class KrxChartDataProvider implements ChartDataProvider {
               ChartMeta.builder()
                   .asOf(OffsetDateTime.now(ZoneId.of("Asia/Seoul")))
                   .source("NAVER")
+                  .stale(xml.fallback())
                   .build())
           .build();
 
@@ -133,9 +147,9 @@ public class KrxChartDataProvider implements ChartDataProvider {
    *
    * @param stockCode 종목 코드
    * @param range 기간
-   * @return XML 응답 문자열
+   * @return XML 응답 문자열 (장애 시 마지막 정상 응답, 대체 여부 포함)
    */
-  private String fetchFromNaverApi(String stockCode, String range) {
+  private UpstreamGuard.Guarded<String> fetchFromNaverApi(String stockCode, String range) {
     ChartParams params = getChartParams(range);
 
     String url =
@@ -150,10 +164,27 @@ public class KrxChartDataProvider implements ChartDataProvider {
 
     log.debug("Naver Chart API URL: {}", url);
 
-    String response = restClient.get().uri(url).accept(MediaType.ALL).retrieve().body(String.class);
-
-    log.debug("Naver Chart API response length: {}", response != null ? response.length() : 0);
-    return response != null ? response : "";
+    // 네이버 장애/지연 시 같은 종목·기간의 마지막 정상 응답 사용, 응답이 늦으면 헤지 요청
+    UpstreamGuard.Guarded<String> response =
+        upstreamGuard.callGuarded(
+            Upstream.NAVER,
+            stockCode + "_" + range,
+            () ->
+                hedgedRequestExecutor.execute(
+                    Upstream.NAVER,
+                    CHART_ENDPOINT,
+                    () ->
+                        restClient
+                            .get()
+                            .uri(url)
+                            .accept(MediaType.ALL)
+                            .attribute(UpstreamMetrics.ENDPOINT_ATTRIBUTE, CHART_ENDPOINT)
+                            .retrieve()
+                            .body(String.class)));
+
+    String body = response.value() != null ? response.value() : "";
+    log.debug("Naver Chart API response length: {}", body.length());
+    return new UpstreamGuard.Guarded<>(body, response.fallback());
   }
 
   /**
@@ -194,6 +225,8 @@ public class KrxChartDataProvider implements ChartDataProvider {
           ChartDataPoint.builder()
               .date(formattedDate)
               .price(item.getClosePrice())
+              .high(item.getHighPrice())
+              .low(item.getLowPrice())
               .volume(item.getVolume())
               .build());
     }
@@ -2,27 +2,19 @@ package io.github.krails0105.stock_info_api.provider;
 
 import io.github.krails0105.stock_info_api.dto.domain.Index;
 import io.github.krails0105.stock_info_api.dto.external.krx.KrxIndexResponse;
-import java.time.Duration;
+import io.github.krails0105.stock_info_api.provider.upstream.Upstream;
+import io.github.krails0105.stock_info_api.provider.upstream.UpstreamMetrics;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
-import org.springframework.boot.http.client.ClientHttpRequestFactorySettings;
-import org.springframework.http.MediaType;
-import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestClient;
 
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class KrxIndexDataProviderImpl implements IndexDataProvider {
 
-  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
-  private static final Duration READ_TIMEOUT = Duration.ofSeconds(10);
-
   private static final Map<String, String> INDEX_CODES =
       Map.of(
           "KOSPI",
@@ -30,44 +22,27 @@ public class KrxIndexDataProviderImpl implements IndexDataProvider {
           "KOSDAQ",
           "CrXSsBNNRCu7sKFjyLfMvyIkiXj+uh47Lx3oEBwV/zERtSksuLS7Bnxpl86F7dAOljmd3W5WSuvBZefxIBXiswkSE+XScf5+02zIjMlosK6Lt4WN28I81i+7KB+smpuTkmi2DsJVi7nd9V9czE0E2sIg8AtAjFopL5enDBGlMAotVU1yKYe5tbbTljkhZJ2UVmu7dxwt3VTOS253NhIUz6gmScDRQAumnWS+nVj25PQFLUVRogm6XveqXBqi9mWvXj/MGcl3zlhm1+3U+0XOY4pPgztr2I3IM5kl8ywGPaU=");
 
-  private final RestClient restClient;
-
-  public KrxIndexDataProviderImpl() {
-    ClientHttpRequestFactorySettings settings =
-        ClientHttpRequestFactorySettings.defaults()
-            .withConnectTimeout(CONNECT_TIMEOUT)
-            .withReadTimeout(READ_TIMEOUT);
-    ClientHttpRequestFactory requestFactory =
-        ClientHttpRequestFactoryBuilder.detect().build(settings);
-
-    this.restClient = RestClient.builder().requestFactory(requestFactory).build();
-  }
+  private final KrxSnapshotClient krxSnapshotClient;
+  private final UpstreamMetrics upstreamMetrics;
 
   @Override
   public List<Index> getIndexes() {
-    return INDEX_CODES.values().stream()
-        .flatMap(code -> fetchKrxData(code).getItems().stream())
+    return INDEX_CODES.entrySet().stream()
+        .flatMap(entry -> fetchKrxData(entry.getKey(), entry.getValue()).getItems().stream())
         .map(Index::fromKrxIndexItem)
         .toList();
   }
 
-  private KrxIndexResponse fetchKrxData(String code) {
-    MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-    formData.add("code", code);
-
-    byte[] responseBytes =
-        restClient
-            .post()
-            .uri("https://data.krx.co.kr/comm/fileDn/download_csv/download.cmd")
-            .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-            .body(formData)
-            .retrieve()
-            .body(byte[].class);
+  private KrxIndexResponse fetchKrxData(String indexName, String code) {
+    String csvContent = krxSnapshotClient.fetchCsv("index-" + indexName, code);
 
     try {
-      String csvContent = new String(Objects.requireNonNull(responseBytes), "EUC-KR");
-      log.debug("KRX API Response: {}", csvContent);
-      return KrxIndexResponse.fromCsv(csvContent);
+      return upstreamMetrics.parse(
+          Upstream.KRX,
+          "index-" + indexName,
+          "parse",
+          () -> KrxIndexResponse.fromCsv(csvContent),
+          response -> response.getItems().size());
     } catch (Exception e) {
       log.error("Failed to parse KRX response", e);
       throw new RuntimeException("KRX 데이터 파싱 실패", e);
@@ -5,43 +5,24 @@ import io.github.krails0105.stock_info_api.dto.SectorScoreDto;
 import io.github.krails0105.stock_info_api.dto.domain.StockInfo;
 import io.github.krails0105.stock_info_api.dto.external.krx.KrxStockResponse;
 import io.github.krails0105.stock_info_api.dto.external.krx.KrxStockResponse.KrxStockItem;
-import java.time.Duration;
+import io.github.krails0105.stock_info_api.provider.upstream.Upstream;
+import io.github.krails0105.stock_info_api.provider.upstream.UpstreamMetrics;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
-import org.springframework.boot.http.client.ClientHttpRequestFactorySettings;
 import org.springframework.context.annotation.Profile;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestClient;
 
 @Component
 @Profile("prod")
 @Slf4j
+@RequiredArgsConstructor
 public class KrxSectorDataProviderImpl implements SectorDataProvider {
 
-  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
-  private static final Duration READ_TIMEOUT = Duration.ofSeconds(10);
-
-  private final RestClient restClient;
-
-  public KrxSectorDataProviderImpl() {
-    ClientHttpRequestFactorySettings settings =
-        ClientHttpRequestFactorySettings.defaults()
-            .withConnectTimeout(CONNECT_TIMEOUT)
-            .withReadTimeout(READ_TIMEOUT);
-    ClientHttpRequestFactory requestFactory =
-        ClientHttpRequestFactoryBuilder.detect().build(settings);
-
-    this.restClient = RestClient.builder().requestFactory(requestFactory).build();
-  }
+  private final KrxSnapshotClient krxSnapshotClient;
+  private final UpstreamMetrics upstreamMetrics;
 
   @Override
   public List<SectorScoreDto> getAllSectors() {
@@ -74,24 +55,15 @@ public class KrxSectorDataProviderImpl implements SectorDataProvider {
     String code =
         "HDXDuwRT2eYe15H+LdVef5OacEuiDpZWQr/f/k5HMOURtSksuLS7Bnxpl86F7dAOkunw9BBwugQaSjGAcH15ed4UlmGP84YYw/wfb2rAlPYtBgM+EFJCxYg3zco1gIgRZqIo4cIzoURnTI8+MmkJ4v/rk8yudrOQ53ef0cNipdpCT2QuimcLoNhc1Lfcxcp2kuAKzXEa0IBpvpB7G2ws4c0zLiPvt4cWCSl6aep8ew2uIO5+TCBkSffs+tprQzXPvTCprTIXuXT9XxFb88awpQ==";
 
-    MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-    formData.add("code", code);
-
-    byte[] responseBytes =
-        restClient
-            .post()
-            .uri("https://data.krx.co.kr/comm/fileDn/download_csv/download.cmd")
-            .header(
-                HttpHeaders.REFERER, "http://data.krx.co.kr/comm/fileDn/GenerateOTP/generate.cmd")
-            .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-            .body(formData)
-            .retrieve()
-            .body(byte[].class);
+    String csvContent = krxSnapshotClient.fetchCsv("stock-sector", code);
 
     try {
-      String csvContent = new String(Objects.requireNonNull(responseBytes), "EUC-KR");
-      log.debug("KRX API Response: {}", csvContent);
-      return KrxStockResponse.fromCsv(csvContent);
+      return upstreamMetrics.parse(
+          Upstream.KRX,
+          "stock-sector",
+          "parse",
+          () -> KrxStockResponse.fromCsv(csvContent),
+          response -> response.getItems().size());
     } catch (Exception e) {
       log.error("Failed to parse KRX response", e);
       throw new RuntimeException("KRX 데이터 파싱 실패", e);
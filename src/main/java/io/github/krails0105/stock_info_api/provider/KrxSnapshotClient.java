@@ -0,0 +1,127 @@
+package io.github.krails0105.stock_info_api.provider;
+
+import io.github.krails0105.stock_info_api.config.CacheConfig;
+import io.github.krails0105.stock_info_api.provider.upstream.Upstream;
+import io.github.krails0105.stock_info_api.provider.upstream.UpstreamGuard;
+import io.github.krails0105.stock_info_api.provider.upstream.UpstreamMetrics;
+import java.nio.charset.Charset;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClient;
+
+/**
+ * KRX CSV 다운로드 클라이언트.
+ *
+ * <p>KRX 파일 다운로드(download.cmd) 응답을 EUC-KR로 디코딩하여 CSV 문자열로 반환한다. 결과는 {@link
+ * CacheConfig#KRX_SNAPSHOT_CACHE}(L1 메모리 + L2 디스크)에 데이터셋 단위로 캐싱되어, 재시작 직후에도 KRX 호출이 몰리지 않는다.
+ *
+ * <p>HTTP 연결은 공용 커넥션 풀({@code upstreamRequestFactory})을 사용하고, 다운로드는 {@link UpstreamGuard}로 보호되어 KRX
+ * 장애 시 마지막 정상 스냅샷을 반환한다. 대체 스냅샷은 캐시에 넣지 않으므로, 다음 조회는 다시 KRX를 호출한다.
+ *
+ * <p>다운로드 지연/크기와 EUC-KR 디코딩 시간은 {@link UpstreamMetrics}에 데이터셋별로 기록된다.
+ */
+@Component
+@Slf4j
+public class KrxSnapshotClient {
+
+  private static final String DOWNLOAD_URL =
+      "https://data.krx.co.kr/comm/fileDn/download_csv/download.cmd";
+  private static final String OTP_REFERER =
+      "http://data.krx.co.kr/comm/fileDn/GenerateOTP/generate.cmd";
+  private static final Charset KRX_CHARSET = Charset.forName("EUC-KR");
+
+  private final RestClient restClient;
+  private final Cache snapshotCache;
+  private final UpstreamGuard upstreamGuard;
+  private final UpstreamMetrics upstreamMetrics;
+
+  public KrxSnapshotClient(
+      CacheManager cacheManager,
+      ClientHttpRequestFactory upstreamRequestFactory,
+      UpstreamGuard upstreamGuard,
+      UpstreamMetrics upstreamMetrics) {
+    this.restClient =
+        RestClient.builder()
+            .requestFactory(upstreamRequestFactory)
+            .requestInterceptor(upstreamMetrics.interceptor(Upstream.KRX))
+            .build();
+    this.snapshotCache =
+        Objects.requireNonNull(cacheManager.getCache(CacheConfig.KRX_SNAPSHOT_CACHE));
+    this.upstreamGuard = upstreamGuard;
+    this.upstreamMetrics = upstreamMetrics;
+  }
+
+  /**
+   * KRX CSV 스냅샷 조회 (캐시 우선).
+   *
+   * @param dataset 데이터셋 이름 (캐시 키, 예: "stock-financial")
+   * @param otpCode KRX 다운로드 OTP 코드
+   * @return EUC-KR 디코딩된 CSV 문자열
+   */
+  public String fetchCsv(String dataset, String otpCode) {
+    try {
+      return snapshotCache.get(dataset, () -> downloadFresh(dataset, otpCode));
+    } catch (Cache.ValueRetrievalException e) {
+      if (e.getCause() instanceof FallbackSnapshotException fallback) {
+        return fallback.csv;
+      }
+      throw e;
+    }
+  }
+
+  // ==================== Private Methods ====================
+
+  /** 캐시 로더: 대체 스냅샷이면 캐시에 넣지 않도록 예외로 돌려준다. */
+  private String downloadFresh(String dataset, String otpCode) {
+    UpstreamGuard.Guarded<String> result =
+        upstreamGuard.callGuarded(Upstream.KRX, dataset, () -> download(dataset, otpCode));
+    if (result.fallback()) {
+      throw new FallbackSnapshotException(result.value());
+    }
+    return result.value();
+  }
+
+  private String download(String dataset, String otpCode) {
+    MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+    formData.add("code", otpCode);
+
+    byte[] responseBytes =
+        restClient
+            .post()
+            .uri(DOWNLOAD_URL)
+            .header(HttpHeaders.REFERER, OTP_REFERER)
+            .attribute(UpstreamMetrics.ENDPOINT_ATTRIBUTE, dataset)
+            .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+            .body(formData)
+            .retrieve()
+            .body(byte[].class);
+
+    String csvContent =
+        upstreamMetrics.parse(
+            Upstream.KRX,
+            dataset,
+            "decode",
+            () -> new String(Objects.requireNonNull(responseBytes), KRX_CHARSET),
+            null);
+    log.debug("KRX API Response: dataset={}, length={}", dataset, csvContent.length());
+    return csvContent;
+  }
+
+  /** 마지막 정상 스냅샷 (캐시 로더 밖으로 값을 전달하기 위한 예외). */
+  private static final class FallbackSnapshotException extends RuntimeException {
+    private final String csv;
+
+    FallbackSnapshotException(String csv) {
+      super("KRX fallback snapshot", null, false, false);
+      this.csv = csv;
+    }
+  }
+}
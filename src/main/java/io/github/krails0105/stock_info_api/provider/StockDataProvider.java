@@ -3,6 +3,7 @@ package io.github.krails0105.stock_info_api.provider;
 import io.github.krails0105.stock_info_api.dto.StockScoreDto;
 import io.github.krails0105.stock_info_api.dto.domain.StockInfo;
 import java.util.List;
+import java.util.Objects;
 
 /** 종목 데이터 제공 인터페이스 나중에 DB Repository 구현체로 교체 가능 */
 public interface StockDataProvider {
@@ -21,6 +22,18 @@ public interface StockDataProvider {
 
   StockScoreDto getStockByCode(String code);
 
+  /**
+   * 여러 종목 일괄 조회
+   *
+   * <p>기본 구현은 종목별로 순차 조회하며, 결과가 없는 종목은 제외하고 입력 순서대로 반환한다.
+   *
+   * @param codes 종목 코드 목록
+   * @return 조회에 성공한 종목 목록 (부분 결과 가능)
+   */
+  default List<StockScoreDto> getStocksByCodes(List<String> codes) {
+    return codes.stream().distinct().map(this::getStockByCode).filter(Objects::nonNull).toList();
+  }
+
   List<StockScoreDto> searchStocks(String keyword);
 
   List<StockScoreDto> getTopStocksBySector(String sectorId, int limit);
@@ -0,0 +1,13 @@
+package io.github.krails0105.stock_info_api.provider.kis;
+
+/** KIS 호출 속도 제한으로 요청이 거절된 경우. */
+public class KisRateLimitException extends RuntimeException {
+
+  public KisRateLimitException(String message) {
+    super(message);
+  }
+
+  public KisRateLimitException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
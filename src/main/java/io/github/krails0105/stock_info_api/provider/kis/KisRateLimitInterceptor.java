@@ -0,0 +1,31 @@
+package io.github.krails0105.stock_info_api.provider.kis;
+
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * kisRestClient 요청 인터셉터.
+ *
+ * <p>모든 KIS 호출은 전송 전에 {@link KisRateLimiter}에서 현재 스레드의 우선순위로 토큰을 받아야 한다. 서킷 밖에서 미리 받은
+ * 토큰({@link KisRateLimiter.Permit})이 있으면 그것을 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class KisRateLimitInterceptor implements ClientHttpRequestInterceptor {
+
+  private final KisRateLimiter rateLimiter;
+
+  @Override
+  public ClientHttpResponse intercept(
+      HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+    if (!KisRateLimiter.consumePrepaid()) {
+      rateLimiter.acquire(KisRequestPriority.current());
+    }
+    return execution.execute(request, body);
+  }
+}
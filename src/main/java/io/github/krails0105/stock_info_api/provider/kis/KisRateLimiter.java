@@ -0,0 +1,255 @@
+package io.github.krails0105.stock_info_api.provider.kis;
+
+import io.github.krails0105.stock_info_api.config.KisRestClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * KIS 호출 속도 제한기 (토큰 버킷 + 우선순위 대기열).
+ *
+ * <p>버킷은 초당 {@code requestsPerSecond}개씩 채워지고 최대 {@code burst}개까지 쌓인다. 토큰이 없으면 대기열에 들어가며, 대기열은
+ * 우선순위({@link KisRequestPriority#INTERACTIVE} 먼저) → 도착 순서로 정렬되어 맨 앞 요청만 토큰을 가져간다. 따라서 백그라운드 작업이
+ * 대기열을 채우고 있어도 사용자 요청은 그 앞에 선다.
+ *
+ * <p>대기열이 가득 찼거나 {@code maxWait} 안에 토큰을 얻지 못하면 {@link KisRateLimitException}으로 거절한다.
+ *
+ * <p>토큰은 보통 {@link KisRateLimitInterceptor}가 전송 직전에 받는다. 서킷 브레이커 안에서 기다리면 대기 시간이 지연 호출로
+ * 집계되므로, 보호된 호출은 {@link #reserve(KisRequestPriority)}로 서킷 밖에서 미리 받아 두고 {@link
+ * Permit#runWith(Supplier)} 안에서 호출한다.
+ *
+ * <p>[메트릭]
+ *
+ * <ul>
+ *   <li>kis.ratelimit.queue.depth: 대기 중인 요청 수
+ *   <li>kis.ratelimit.wait (priority): 토큰 대기 시간
+ *   <li>kis.ratelimit.rejected (priority, reason): 거절 수
+ * </ul>
+ */
+@Component
+@Slf4j
+public class KisRateLimiter {
+
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  /** 현재 스레드가 미리 받아 둔 토큰 (다음 전송 한 번에 사용) */
+  private static final ThreadLocal<Boolean> PREPAID = new ThreadLocal<>();
+
+  private final double permitsPerNano;
+  private final int burst;
+  private final int maxQueueSize;
+  private final long maxWaitNanos;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition queueChanged = lock.newCondition();
+  private final PriorityQueue<Waiter> queue =
+      new PriorityQueue<>(
+          Comparator.comparing(Waiter::priority).thenComparingLong(Waiter::sequence));
+
+  private final Map<KisRequestPriority, Timer> waitTimers = new EnumMap<>(KisRequestPriority.class);
+  private final MeterRegistry meterRegistry;
+
+  private double tokens;
+  private long lastRefillNanos;
+  private long sequence;
+
+  public KisRateLimiter(KisRestClientProperties properties, MeterRegistry meterRegistry) {
+    KisRestClientProperties.RateLimit rateLimit = properties.getRateLimit();
+    this.permitsPerNano = rateLimit.getRequestsPerSecond() / NANOS_PER_SECOND;
+    this.burst = Math.max(1, rateLimit.getBurst());
+    this.maxQueueSize = rateLimit.getMaxQueueSize();
+    this.maxWaitNanos = rateLimit.getMaxWait().toNanos();
+    this.meterRegistry = meterRegistry;
+
+    this.tokens = burst;
+    this.lastRefillNanos = System.nanoTime();
+
+    Gauge.builder("kis.ratelimit.queue.depth", this, KisRateLimiter::queueDepth)
+        .description("KIS 호출 토큰 대기 요청 수")
+        .register(meterRegistry);
+    for (KisRequestPriority priority : KisRequestPriority.values()) {
+      waitTimers.put(
+          priority,
+          Timer.builder("kis.ratelimit.wait")
+              .description("KIS 호출 토큰 대기 시간")
+              .tag("priority", priority.name())
+              .register(meterRegistry));
+    }
+  }
+
+  /**
+   * 호출 토큰 획득 (없으면 우선순위 순서대로 대기).
+   *
+   * @param priority 호출 우선순위
+   * @throws KisRateLimitException 대기열이 가득 찼거나 대기 시간을 초과한 경우
+   */
+  public void acquire(KisRequestPriority priority) {
+    long start = System.nanoTime();
+    lock.lock();
+    try {
+      refill(start);
+      if (queue.isEmpty() && tokens >= 1) {
+        tokens -= 1;
+        waitTimers.get(priority).record(0, TimeUnit.NANOSECONDS);
+        return;
+      }
+
+      if (queue.size() >= maxQueueSize) {
+        reject(priority, "queue_full");
+      }
+
+      Waiter waiter = new Waiter(priority, sequence++);
+      queue.add(waiter);
+      awaitTurn(waiter, start + maxWaitNanos);
+      waitTimers.get(priority).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 호출 토큰을 미리 받는다 (없으면 우선순위 순서대로 대기).
+   *
+   * @param priority 호출 우선순위
+   * @return 한 번 쓸 수 있는 토큰
+   * @throws KisRateLimitException 대기열이 가득 찼거나 대기 시간을 초과한 경우
+   */
+  public Permit reserve(KisRequestPriority priority) {
+    acquire(priority);
+    return new Permit(true);
+  }
+
+  /**
+   * 현재 스레드에 미리 받은 토큰이 있으면 쓴다.
+   *
+   * @return 미리 받은 토큰을 썼으면 true (새로 받을 필요 없음)
+   */
+  static boolean consumePrepaid() {
+    if (Boolean.TRUE.equals(PREPAID.get())) {
+      PREPAID.remove();
+      return true;
+    }
+    return false;
+  }
+
+  /** 현재 대기 중인 요청 수. */
+  public int queueDepth() {
+    lock.lock();
+    try {
+      return queue.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // ==================== Private Methods ====================
+
+  /** 대기열 맨 앞이 되고 토큰이 생길 때까지 대기. 락을 잡은 상태에서 호출된다. */
+  private void awaitTurn(Waiter waiter, long deadline) {
+    try {
+      while (true) {
+        long now = System.nanoTime();
+        refill(now);
+
+        boolean head = queue.peek() == waiter;
+        if (head && tokens >= 1) {
+          tokens -= 1;
+          queue.poll();
+          // 다음 요청이 새 맨 앞이 되었음을 알림
+          queueChanged.signalAll();
+          return;
+        }
+
+        long remaining = deadline - now;
+        if (remaining <= 0) {
+          leave(waiter);
+          reject(waiter.priority(), "timeout");
+        }
+
+        // 맨 앞 요청만 다음 토큰 시점까지 기다리고, 나머지는 순서가 바뀔 때까지 대기
+        long waitNanos = head ? Math.min(remaining, nanosUntilNextToken()) : remaining;
+        queueChanged.awaitNanos(waitNanos);
+      }
+    } catch (InterruptedException e) {
+      leave(waiter);
+      Thread.currentThread().interrupt();
+      throw new KisRateLimitException("KIS 호출 대기 중 인터럽트", e);
+    }
+  }
+
+  private void leave(Waiter waiter) {
+    queue.remove(waiter);
+    queueChanged.signalAll();
+  }
+
+  private void refill(long now) {
+    long elapsed = now - lastRefillNanos;
+    if (elapsed > 0) {
+      tokens = Math.min(burst, tokens + elapsed * permitsPerNano);
+      lastRefillNanos = now;
+    }
+  }
+
+  private long nanosUntilNextToken() {
+    return Math.max(1, (long) Math.ceil((1 - tokens) / permitsPerNano));
+  }
+
+  private void reject(KisRequestPriority priority, String reason) {
+    Counter.builder("kis.ratelimit.rejected")
+        .description("KIS 호출 속도 제한 거절 수")
+        .tag("priority", priority.name())
+        .tag("reason", reason)
+        .register(meterRegistry)
+        .increment();
+    log.warn("KIS 호출 거절: priority={}, reason={}, queue={}", priority, reason, queue.size());
+    throw new KisRateLimitException("KIS 호출 속도 제한 초과: " + reason);
+  }
+
+  /** 미리 받은 호출 토큰 (한 번만 쓸 수 있음). */
+  public static final class Permit {
+
+    /** 토큰 없이 실행 (전송 시 인터셉터가 토큰을 받음) */
+    public static final Permit NONE = new Permit(false);
+
+    private final AtomicBoolean available;
+
+    private Permit(boolean available) {
+      this.available = new AtomicBoolean(available);
+    }
+
+    /**
+     * 토큰을 현재 스레드에 걸어 두고 작업 실행.
+     *
+     * <p>작업 안의 첫 KIS 전송이 이 토큰을 쓴다. 같은 작업이 다시 실행되면(헤지 요청 등) 토큰이 이미 쓰였으므로 인터셉터가 새로 받는다.
+     *
+     * @param task 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T runWith(Supplier<T> task) {
+      if (!available.compareAndSet(true, false)) {
+        return task.get();
+      }
+      PREPAID.set(Boolean.TRUE);
+      try {
+        return task.get();
+      } finally {
+        PREPAID.remove();
+      }
+    }
+  }
+
+  /** 대기 중인 요청. 같은 우선순위 안에서는 도착 순서를 지킨다. */
+  private record Waiter(KisRequestPriority priority, long sequence) {}
+}
@@ -0,0 +1,388 @@
+package io.github.krails0105.stock_info_api.provider.kis;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.krails0105.stock_info_api.config.KisRestClientProperties;
+import io.github.krails0105.stock_info_api.service.live.LiveQuote;
+import io.github.krails0105.stock_info_api.service.live.LiveQuoteService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * KIS 실시간 체결가(H0STCNT0) 웹소켓 클라이언트.
+ *
+ * <p>[흐름]
+ *
+ * <ol>
+ *   <li>웹소켓 접속키 발급 (POST /oauth2/Approval)
+ *   <li>웹소켓 연결 후 관리 중인 종목마다 등록 메시지 전송
+ *   <li>체결 데이터({@code 0|H0STCNT0|건수|필드^필드...})를 파싱하여 {@link LiveQuoteService}로 전달
+ *   <li>PINGPONG 메시지는 그대로 돌려보내 세션 유지
+ *   <li>연결이 끊기면 reconnect-delay 후 재연결하고 종목을 다시 등록
+ * </ol>
+ *
+ * <p>접속키는 만료되므로, 연결에 실패하거나 종목 등록이 거절되면 접속키를 버리고 다음 연결에서 새로 발급받는다. 등록이 거절된 연결은 바로 끊고
+ * 재연결한다 (틱이 오지 않는 연결을 붙잡고 있지 않도록).
+ *
+ * <p>rest-client.kis.websocket.enabled가 false면 연결하지 않는다.
+ */
+@Component
+@Slf4j
+public class KisRealtimeClient {
+
+  /** 거래 ID: 국내주식 실시간 체결가 */
+  static final String TR_ID_EXECUTION = "H0STCNT0";
+
+  /** 세션당 최대 등록 건수 (KIS 제한) */
+  private static final int MAX_SUBSCRIPTIONS = 41;
+
+  /** H0STCNT0 필드 위치 */
+  private static final int FIELD_CODE = 0;
+  private static final int FIELD_TIME = 1;
+  private static final int FIELD_PRICE = 2;
+  private static final int FIELD_SIGN = 3;
+  private static final int FIELD_CHANGE = 4;
+  private static final int FIELD_CHANGE_RATE = 5;
+  private static final int FIELD_ACCUMULATED_VOLUME = 13;
+
+  private final RestClient kisRestClient;
+  private final KisRestClientProperties properties;
+  private final LiveQuoteService liveQuoteService;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final HttpClient httpClient =
+      HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+  private final ScheduledExecutorService reconnectExecutor =
+      Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("kis-ws-"));
+
+  /** 관리 중인 구독 종목 (재연결 시 다시 등록) */
+  private final Set<String> codes = ConcurrentHashMap.newKeySet();
+
+  private volatile WebSocket webSocket;
+  private volatile String approvalKey;
+  private volatile boolean running;
+
+  /** 전송 순서 보장용 (WebSocket은 이전 전송이 끝나기 전에 다시 보낼 수 없음) */
+  private CompletableFuture<?> sendChain = CompletableFuture.completedFuture(null);
+
+  public KisRealtimeClient(
+      RestClient kisRestClient,
+      KisRestClientProperties properties,
+      LiveQuoteService liveQuoteService) {
+    this.kisRestClient = kisRestClient;
+    this.properties = properties;
+    this.liveQuoteService = liveQuoteService;
+  }
+
+  @PostConstruct
+  void start() {
+    KisRestClientProperties.Websocket websocket = properties.getWebsocket();
+    if (!websocket.isEnabled()) {
+      log.debug("KIS websocket is disabled");
+      return;
+    }
+
+    websocket.getCodes().forEach(this::subscribe);
+    running = true;
+    reconnectExecutor.execute(this::connectQuietly);
+  }
+
+  @PreDestroy
+  void stop() {
+    running = false;
+    reconnectExecutor.shutdownNow();
+    WebSocket current = webSocket;
+    if (current != null) {
+      current.sendClose(WebSocket.NORMAL_CLOSURE, "shutdown");
+    }
+  }
+
+  /**
+   * 종목 구독 추가.
+   *
+   * @param code 종목 코드
+   * @return 추가되었으면 true (세션당 최대 건수 초과 시 false)
+   */
+  public boolean subscribe(String code) {
+    if (codes.size() >= MAX_SUBSCRIPTIONS && !codes.contains(code)) {
+      log.warn("KIS 실시간 구독 한도 초과: code={}, limit={}", code, MAX_SUBSCRIPTIONS);
+      return false;
+    }
+    if (codes.add(code) && webSocket != null) {
+      sendRegistration(code, true);
+    }
+    return true;
+  }
+
+  /**
+   * 종목 구독 해제.
+   *
+   * @param code 종목 코드
+   */
+  public void unsubscribe(String code) {
+    if (codes.remove(code) && webSocket != null) {
+      sendRegistration(code, false);
+    }
+  }
+
+  /** 구독 중인 종목 코드. */
+  public Set<String> getSubscribedCodes() {
+    return Set.copyOf(codes);
+  }
+
+  /**
+   * 웹소켓 연결 후 관리 중인 전체 종목 등록.
+   *
+   * @param uri 웹소켓 URL
+   * @param approvalKey 웹소켓 접속키
+   * @return 연결된 웹소켓
+   */
+  CompletableFuture<WebSocket> connect(URI uri, String approvalKey) {
+    this.approvalKey = approvalKey;
+    return httpClient
+        .newWebSocketBuilder()
+        .buildAsync(uri, new Listener())
+        .thenApply(
+            connected -> {
+              webSocket = connected;
+              log.info("KIS websocket connected: uri={}, codes={}", uri, codes.size());
+              codes.forEach(code -> sendRegistration(code, true));
+              return connected;
+            });
+  }
+
+  /**
+   * 실시간 체결 데이터 파싱.
+   *
+   * <p>형식: {@code 암호화여부|TR_ID|데이터건수|필드^필드^...}. 여러 건이면 필드가 건수만큼 이어 붙어 온다.
+   *
+   * @param message 수신 메시지
+   * @return 체결 시세 목록 (H0STCNT0가 아니면 빈 목록)
+   */
+  static List<LiveQuote> parseExecutions(String message) {
+    String[] parts = message.split("\\|", 4);
+    if (parts.length < 4 || !"0".equals(parts[0]) || !TR_ID_EXECUTION.equals(parts[1])) {
+      return List.of();
+    }
+
+    int count = Integer.parseInt(parts[2]);
+    String[] fields = parts[3].split("\\^", -1);
+    int fieldsPerRecord = fields.length / count;
+    if (fieldsPerRecord <= FIELD_ACCUMULATED_VOLUME) {
+      return List.of();
+    }
+
+    Instant receivedAt = Instant.now();
+    List<LiveQuote> quotes = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int base = i * fieldsPerRecord;
+      long change = Math.abs(parseLong(fields[base + FIELD_CHANGE]));
+      // 전일 대비 부호: 1 상한, 2 상승, 3 보합, 4 하한, 5 하락
+      String sign = fields[base + FIELD_SIGN];
+      if ("4".equals(sign) || "5".equals(sign)) {
+        change = -change;
+      }
+      quotes.add(
+          new LiveQuote(
+              fields[base + FIELD_CODE],
+              fields[base + FIELD_TIME],
+              parseLong(fields[base + FIELD_PRICE]),
+              change,
+              Double.parseDouble(fields[base + FIELD_CHANGE_RATE]),
+              parseLong(fields[base + FIELD_ACCUMULATED_VOLUME]),
+              receivedAt));
+    }
+    return quotes;
+  }
+
+  // ==================== Private Methods ====================
+
+  private void connectQuietly() {
+    if (!running) {
+      return;
+    }
+    try {
+      String key = approvalKey;
+      if (key == null) {
+        key = KisRequestPriority.runAs(KisRequestPriority.BACKGROUND, this::issueApprovalKey);
+      }
+      connect(URI.create(properties.getWebsocket().getUrl()), key).join();
+    } catch (Exception e) {
+      // 만료된 접속키로 거절되었을 수 있으므로 다음 연결에서 새로 발급
+      log.warn("KIS websocket connect failed: {}", e.getMessage());
+      approvalKey = null;
+      scheduleReconnect();
+    }
+  }
+
+  /** 연결이 끊긴 웹소켓이 현재 연결이면 재연결 예약 (이미 교체된 연결의 콜백은 무시) */
+  private synchronized void onDisconnected(WebSocket socket) {
+    if (webSocket != socket) {
+      return;
+    }
+    scheduleReconnect();
+  }
+
+  /** 등록이 거절된 연결을 끊고 새 접속키로 재연결 (연결당 한 번) */
+  private synchronized void renewApprovalKey() {
+    WebSocket current = webSocket;
+    if (current == null) {
+      return;
+    }
+    log.warn("KIS websocket registration rejected, re-issuing approval key");
+    approvalKey = null;
+    scheduleReconnect();
+    current.abort();
+  }
+
+  private void scheduleReconnect() {
+    webSocket = null;
+    if (!running) {
+      return;
+    }
+    long delayMillis = properties.getWebsocket().getReconnectDelay().toMillis();
+    reconnectExecutor.schedule(this::connectQuietly, delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /** 웹소켓 접속키 발급 (POST /oauth2/Approval) */
+  private String issueApprovalKey() {
+    Map<String, String> request =
+        Map.of(
+            "grant_type", "client_credentials",
+            "appkey", properties.getAppKey(),
+            "secretkey", properties.getAppSecret());
+
+    JsonNode response =
+        kisRestClient
+            .post()
+            .uri("/oauth2/Approval")
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(request)
+            .retrieve()
+            .body(JsonNode.class);
+
+    if (response == null || !response.hasNonNull("approval_key")) {
+      throw new IllegalStateException("KIS 웹소켓 접속키 발급 실패: 응답이 없습니다");
+    }
+    return response.get("approval_key").asText();
+  }
+
+  private void sendRegistration(String code, boolean register) {
+    String key = approvalKey;
+    if (key == null) {
+      // 접속키 재발급 중 (재연결 후 전체 종목을 다시 등록함)
+      return;
+    }
+    Map<String, Object> message =
+        Map.of(
+            "header",
+            Map.of(
+                "approval_key", key,
+                "custtype", "P",
+                "tr_type", register ? "1" : "2",
+                "content-type", "utf-8"),
+            "body",
+            Map.of("input", Map.of("tr_id", TR_ID_EXECUTION, "tr_key", code)));
+    try {
+      send(objectMapper.writeValueAsString(message));
+    } catch (Exception e) {
+      log.warn("KIS websocket registration failed: code={}, error={}", code, e.getMessage());
+    }
+  }
+
+  private synchronized void send(String text) {
+    WebSocket current = webSocket;
+    if (current == null) {
+      return;
+    }
+    sendChain =
+        sendChain
+            .exceptionally(e -> null)
+            .thenCompose(ignored -> current.sendText(text, true));
+  }
+
+  private void handleMessage(String message) {
+    try {
+      if (message.startsWith("0|") || message.startsWith("1|")) {
+        parseExecutions(message).forEach(liveQuoteService::onTick);
+        return;
+      }
+
+      JsonNode root = objectMapper.readTree(message);
+      String trId = root.path("header").path("tr_id").asText();
+      if ("PINGPONG".equals(trId)) {
+        send(message);
+        return;
+      }
+      JsonNode body = root.path("body");
+      if (!"0".equals(body.path("rt_cd").asText())) {
+        log.warn("KIS websocket error: trId={}, msg={}", trId, body.path("msg1").asText());
+        if (TR_ID_EXECUTION.equals(trId)) {
+          renewApprovalKey();
+        }
+      } else {
+        log.debug("KIS websocket response: trId={}, msg={}", trId, body.path("msg1").asText());
+      }
+    } catch (Exception e) {
+      log.warn("KIS websocket message handling failed: {}", e.getMessage());
+    }
+  }
+
+  private static long parseLong(String value) {
+    if (value == null || value.isBlank()) {
+      return 0L;
+    }
+    return Long.parseLong(value.trim());
+  }
+
+  /** 메시지 조각을 모아 완성된 텍스트 단위로 처리하는 리스너. */
+  private class Listener implements WebSocket.Listener {
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    @Override
+    public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+      buffer.append(data);
+      if (last) {
+        String message = buffer.toString();
+        buffer.setLength(0);
+        handleMessage(message);
+      }
+      socket.request(1);
+      return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket socket, int statusCode, String reason) {
+      log.info("KIS websocket closed: status={}, reason={}", statusCode, reason);
+      onDisconnected(socket);
+      return null;
+    }
+
+    @Override
+    public void onError(WebSocket socket, Throwable error) {
+      log.warn("KIS websocket error: {}", error.getMessage());
+      onDisconnected(socket);
+    }
+  }
+}
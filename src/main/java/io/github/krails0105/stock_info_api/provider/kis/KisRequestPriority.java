@@ -0,0 +1,53 @@
+package io.github.krails0105.stock_info_api.provider.kis;
+
+import java.util.function.Supplier;
+
+/**
+ * KIS 호출 우선순위.
+ *
+ * <p>현재 스레드의 우선순위는 {@link #current()}로 조회하며, 지정하지 않으면 {@link #INTERACTIVE}다. 스케줄러 등 백그라운드 작업은
+ * {@link #runAs(KisRequestPriority, Supplier)}로 감싸 사용자 요청보다 뒤로 밀리도록 한다.
+ */
+public enum KisRequestPriority {
+
+  /** 사용자 요청 (먼저 처리) */
+  INTERACTIVE,
+
+  /** 백그라운드 갱신 작업 */
+  BACKGROUND;
+
+  private static final ThreadLocal<KisRequestPriority> CURRENT =
+      ThreadLocal.withInitial(() -> INTERACTIVE);
+
+  /** 현재 스레드의 호출 우선순위. */
+  public static KisRequestPriority current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * 지정한 우선순위로 작업 실행.
+   *
+   * @param priority 작업 중 KIS 호출에 적용할 우선순위
+   * @param task 실행할 작업
+   * @return 작업 결과
+   */
+  public static <T> T runAs(KisRequestPriority priority, Supplier<T> task) {
+    KisRequestPriority previous = CURRENT.get();
+    CURRENT.set(priority);
+    try {
+      return task.get();
+    } finally {
+      CURRENT.set(previous);
+    }
+  }
+
+  /** 지정한 우선순위로 작업 실행 (반환값 없음). */
+  public static void runAs(KisRequestPriority priority, Runnable task) {
+    runAs(
+        priority,
+        () -> {
+          task.run();
+          return null;
+        });
+  }
+}
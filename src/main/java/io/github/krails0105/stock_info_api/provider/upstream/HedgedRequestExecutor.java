@@ -0,0 +1,238 @@
+package io.github.krails0105.stock_info_api.provider.upstream;
+
+import io.github.krails0105.stock_info_api.config.UpstreamProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 헤지 요청 실행기 (지연 꼬리 완화).
+ *
+ * <p>첫 요청이 관측된 p95 안에 응답하지 않으면 같은 요청을 한 번 더 보내고, 먼저 성공한 응답을 사용한다. 둘 다 실패하면 첫 요청의 예외를
+ * 던진다.
+ *
+ * <p>[예산] 요청마다 budget-ratio 만큼 예산이 쌓이고(최대 burst), 헤지 한 번에 1을 쓴다. 예산이 없으면 헤지하지 않고 첫 요청을 기다린다.
+ * 따라서 업스트림 추가 부하는 전체 요청의 budget-ratio 이하로 제한된다.
+ *
+ * <p>헤지 대기 시간은 업스트림/엔드포인트별 첫 요청 지연의 p95이며 min-delay ~ max-delay로 제한한다. 표본이 min-samples보다
+ * 적으면 default-delay를 쓴다. upstream.hedge.{이름}.enabled가 false면 호출 스레드에서 그대로 실행한다.
+ *
+ * <p>[메트릭] upstream.hedge.fired, upstream.hedge.won, upstream.hedge.skipped
+ * (reason=budget|saturated)
+ */
+@Slf4j
+@Component
+public class HedgedRequestExecutor {
+
+  /** 예산 단위 (헤지 1회 = 1000) */
+  private static final long BUDGET_SCALE = 1000;
+
+  private final UpstreamProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final ThreadPoolExecutor executor;
+
+  /** 업스트림별 남은 헤지 예산 (BUDGET_SCALE 단위) */
+  private final Map<Upstream, AtomicLong> budgets = new ConcurrentHashMap<>();
+
+  public HedgedRequestExecutor(UpstreamProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.executor =
+        new ThreadPoolExecutor(
+            0,
+            properties.getHedgeMaxThreads(),
+            60,
+            TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            new CustomizableThreadFactory("upstream-hedge-"));
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * 헤지 요청 실행.
+   *
+   * @param upstream 업스트림
+   * @param endpoint 엔드포인트 (지연 통계 구분용)
+   * @param supplier 실제 호출 (두 번 실행될 수 있으므로 멱등이어야 함)
+   * @return 먼저 성공한 응답
+   */
+  public <T> T execute(Upstream upstream, String endpoint, Supplier<T> supplier) {
+    UpstreamProperties.Hedge hedge = properties.hedgeOf(upstream);
+    if (hedge == null || !hedge.isEnabled()) {
+      return supplier.get();
+    }
+
+    AtomicLong budget = budgets.computeIfAbsent(upstream, ignored -> new AtomicLong());
+    deposit(budget, hedge);
+
+    Timer latency = latencyTimer(upstream, endpoint);
+    CompletableFuture<T> primary;
+    try {
+      primary = submit(supplier, latency);
+    } catch (RejectedExecutionException e) {
+      skipped(upstream, "saturated");
+      return supplier.get();
+    }
+
+    try {
+      return primary.get(delayMillis(latency, hedge), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      // p95 초과: 헤지 여부 판단
+    } catch (ExecutionException e) {
+      throw unwrap(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("외부 호출 대기 중 인터럽트", e);
+    }
+
+    if (!withdraw(budget)) {
+      skipped(upstream, "budget");
+      return await(primary);
+    }
+
+    CompletableFuture<T> secondary;
+    try {
+      secondary = submit(supplier, null);
+    } catch (RejectedExecutionException e) {
+      skipped(upstream, "saturated");
+      return await(primary);
+    }
+    counter("upstream.hedge.fired", upstream).increment();
+    log.debug("Hedged request fired: upstream={}, endpoint={}", upstream, endpoint);
+
+    Attempt<T> winner = await(firstSuccess(primary, secondary));
+    if (winner.hedged()) {
+      counter("upstream.hedge.won", upstream).increment();
+    }
+    return winner.value();
+  }
+
+  // ==================== Private Methods ====================
+
+  /** 요청 1건마다 budget-ratio 만큼 적립 (최대 burst). */
+  private static void deposit(AtomicLong budget, UpstreamProperties.Hedge hedge) {
+    long amount = Math.round(hedge.getBudgetRatio() * BUDGET_SCALE);
+    long cap = hedge.getBurst() * BUDGET_SCALE;
+    budget.getAndUpdate(current -> Math.min(cap, current + amount));
+  }
+
+  private static boolean withdraw(AtomicLong budget) {
+    long current;
+    do {
+      current = budget.get();
+      if (current < BUDGET_SCALE) {
+        return false;
+      }
+    } while (!budget.compareAndSet(current, current - BUDGET_SCALE));
+    return true;
+  }
+
+  /** 첫 요청 지연의 p95 (표본이 부족하면 기본값). */
+  private static long delayMillis(Timer latency, UpstreamProperties.Hedge hedge) {
+    HistogramSnapshot snapshot = latency.takeSnapshot();
+    if (snapshot.count() < hedge.getMinSamples() || snapshot.percentileValues().length == 0) {
+      return hedge.getDefaultDelay().toMillis();
+    }
+    long p95 = (long) snapshot.percentileValues()[0].value(TimeUnit.MILLISECONDS);
+    return Math.max(hedge.getMinDelay().toMillis(), Math.min(hedge.getMaxDelay().toMillis(), p95));
+  }
+
+  /** 첫 요청만 지연을 기록해 헤지 여부와 관계없는 원래 분포를 유지한다. */
+  private <T> CompletableFuture<T> submit(Supplier<T> supplier, Timer latency) {
+    return CompletableFuture.supplyAsync(
+        () -> latency != null ? latency.record(supplier) : supplier.get(), executor);
+  }
+
+  /** 먼저 성공한 시도. 둘 다 실패하면 첫 요청의 예외로 완료된다. */
+  private static <T> CompletableFuture<Attempt<T>> firstSuccess(
+      CompletableFuture<T> primary, CompletableFuture<T> secondary) {
+    CompletableFuture<Attempt<T>> result = new CompletableFuture<>();
+    AtomicInteger failures = new AtomicInteger();
+    AtomicReference<Throwable> primaryError = new AtomicReference<>();
+    primary.whenComplete(
+        (value, error) -> {
+          if (error == null) {
+            result.complete(new Attempt<>(value, false));
+            return;
+          }
+          primaryError.set(error);
+          if (failures.incrementAndGet() == 2) {
+            result.completeExceptionally(error);
+          }
+        });
+    secondary.whenComplete(
+        (value, error) -> {
+          if (error == null) {
+            result.complete(new Attempt<>(value, true));
+          } else if (failures.incrementAndGet() == 2) {
+            result.completeExceptionally(primaryError.get());
+          }
+        });
+    return result;
+  }
+
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      throw unwrap(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("외부 호출 대기 중 인터럽트", e);
+    }
+  }
+
+  private static RuntimeException unwrap(ExecutionException e) {
+    Throwable cause = e.getCause();
+    if (cause instanceof RuntimeException runtime) {
+      return runtime;
+    }
+    if (cause instanceof Error error) {
+      throw error;
+    }
+    return new IllegalStateException(cause);
+  }
+
+  private Timer latencyTimer(Upstream upstream, String endpoint) {
+    return Timer.builder("upstream.hedge.latency")
+        .description("헤지 판단용 첫 요청 지연")
+        .tag("upstream", upstream.getInstanceName())
+        .tag("endpoint", endpoint)
+        .publishPercentiles(0.95)
+        .register(meterRegistry);
+  }
+
+  private Counter counter(String name, Upstream upstream) {
+    return meterRegistry.counter(name, "upstream", upstream.getInstanceName());
+  }
+
+  private void skipped(Upstream upstream, String reason) {
+    meterRegistry
+        .counter("upstream.hedge.skipped", "upstream", upstream.getInstanceName(), "reason", reason)
+        .increment();
+  }
+
+  private record Attempt<T>(T value, boolean hedged) {}
+}
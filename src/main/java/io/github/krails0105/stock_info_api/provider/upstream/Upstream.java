@@ -0,0 +1,28 @@
+package io.github.krails0105.stock_info_api.provider.upstream;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 데이터 소스.
+ *
+ * <p>{@link #getInstanceName()}은 application.yml의 resilience4j 인스턴스 이름과 메트릭 태그로 사용된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Upstream {
+
+  /** KRX 정보데이터시스템 (data.krx.co.kr) */
+  KRX("krx"),
+
+  /** 네이버 금융 차트 (fchart.stock.naver.com) */
+  NAVER("naver"),
+
+  /** 한국투자증권 OpenAPI */
+  KIS("kis"),
+
+  /** Google News RSS */
+  GOOGLE_NEWS("google-news");
+
+  private final String instanceName;
+}
@@ -0,0 +1,98 @@
+package io.github.krails0105.stock_info_api.provider.upstream;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 호출 지연 Actuator 엔드포인트 ({@code /actuator/upstreams}).
+ *
+ * <p>업스트림/엔드포인트별로 TTFB, 전체 지연, 응답 크기, 파싱 시간, 행 수의 p50/p95/p99와 서킷 상태를 제공한다. 시간 단위는 ms.
+ */
+@Component
+@Endpoint(id = "upstreams")
+@RequiredArgsConstructor
+public class UpstreamEndpoint {
+
+  private final MeterRegistry meterRegistry;
+  private final UpstreamGuard upstreamGuard;
+
+  @ReadOperation
+  public Map<String, Object> upstreams() {
+    Map<String, Object> result = new LinkedHashMap<>();
+    for (Upstream upstream : Upstream.values()) {
+      String name = upstream.getInstanceName();
+      Map<String, Map<String, Object>> endpoints = new TreeMap<>();
+      collect(endpoints, name, UpstreamMetrics.CALL_TTFB, "ttfb");
+      collect(endpoints, name, UpstreamMetrics.CALL_DURATION, "total");
+      collect(endpoints, name, UpstreamMetrics.RESPONSE_BYTES, "bytes");
+      collect(endpoints, name, UpstreamMetrics.PARSE_DURATION, "parse");
+      collect(endpoints, name, UpstreamMetrics.PARSE_ROWS, "rows");
+
+      Map<String, Object> map = new LinkedHashMap<>();
+      map.put("circuit", upstreamGuard.state(upstream).name());
+      map.put("endpoints", endpoints);
+      result.put(name, map);
+    }
+    return result;
+  }
+
+  // ==================== Private Methods ====================
+
+  /**
+   * 메트릭 이름의 미터를 엔드포인트별로 모음.
+   *
+   * <p>outcome/stage 태그가 있으면 {@code key.태그값} 으로 나눠 담는다 (예: total.success, parse.decode).
+   */
+  private void collect(
+      Map<String, Map<String, Object>> endpoints, String upstream, String metric, String key) {
+    for (Meter meter : meterRegistry.find(metric).tag("upstream", upstream).meters()) {
+      String endpoint = meter.getId().getTag("endpoint");
+      String qualifier =
+          meter.getId().getTags().stream()
+              .filter(tag -> tag.getKey().equals("outcome") || tag.getKey().equals("stage"))
+              .map(Tag::getValue)
+              .findFirst()
+              .map(value -> key + "." + value)
+              .orElse(key);
+
+      HistogramSnapshot snapshot;
+      boolean time;
+      if (meter instanceof Timer timer) {
+        snapshot = timer.takeSnapshot();
+        time = true;
+      } else if (meter instanceof DistributionSummary summary) {
+        snapshot = summary.takeSnapshot();
+        time = false;
+      } else {
+        continue;
+      }
+      endpoints
+          .computeIfAbsent(endpoint, ignored -> new LinkedHashMap<>())
+          .put(qualifier, toMap(snapshot, time));
+    }
+  }
+
+  private static Map<String, Object> toMap(HistogramSnapshot snapshot, boolean time) {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("count", snapshot.count());
+    for (ValueAtPercentile value : snapshot.percentileValues()) {
+      String name = "p" + Math.round(value.percentile() * 100);
+      map.put(name, time ? value.value(TimeUnit.MILLISECONDS) : value.value());
+    }
+    map.put("max", time ? snapshot.max(TimeUnit.MILLISECONDS) : snapshot.max());
+    return map;
+  }
+}
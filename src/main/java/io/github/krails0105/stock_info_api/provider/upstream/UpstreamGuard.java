@@ -0,0 +1,150 @@
+package io.github.krails0105.stock_info_api.provider.upstream;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 호출 보호기 (업스트림별 서킷 브레이커 + 벌크헤드 + 마지막 정상값).
+ *
+ * <p>호출은 업스트림별 벌크헤드(동시 호출 수 제한)를 먼저 통과한 뒤 서킷 브레이커를 거친다. 한 업스트림이 느려져도 그 업스트림 호출만 제한된 수의
+ * 스레드를 점유하고, 실패/지연 비율이 임계치를 넘으면 서킷이 열려 즉시 실패한다.
+ *
+ * <p>{@link #call(Upstream, String, Supplier)}는 성공한 응답을 키별로 기억해 두었다가, 서킷이 열렸거나 벌크헤드가 가득 찼거나 호출이
+ * 실패하면 마지막 정상값을 대신 반환한다. 정상값이 없으면 예외를 그대로 던진다. 대체값은 최신 응답이 아니므로, 결과를 캐시하는 호출 측은
+ * {@link #callGuarded(Upstream, String, Supplier)}로 대체 여부를 받아 대체값을 캐시에 넣지 않는다.
+ *
+ * <p>서킷/벌크헤드 설정은 application.yml의 resilience4j.* 에서 업스트림 이름별로 지정하며, 상태는 actuator
+ * circuitbreakers 엔드포인트에서 확인할 수 있다.
+ */
+@Slf4j
+@Component
+public class UpstreamGuard {
+
+  /** 마지막 정상값 보관 기간 */
+  private static final Duration LAST_GOOD_TTL = Duration.ofHours(24);
+
+  /** 마지막 정상값 최대 개수 */
+  private static final long LAST_GOOD_MAX_ENTRIES = 2000;
+
+  private final CircuitBreakerRegistry circuitBreakerRegistry;
+  private final BulkheadRegistry bulkheadRegistry;
+  private final MeterRegistry meterRegistry;
+
+  /** 업스트림+키별 마지막 정상 응답 */
+  private final Cache<String, Object> lastGood =
+      Caffeine.newBuilder()
+          .expireAfterWrite(LAST_GOOD_TTL)
+          .maximumSize(LAST_GOOD_MAX_ENTRIES)
+          .build();
+
+  public UpstreamGuard(
+      CircuitBreakerRegistry circuitBreakerRegistry,
+      BulkheadRegistry bulkheadRegistry,
+      MeterRegistry meterRegistry) {
+    this.circuitBreakerRegistry = circuitBreakerRegistry;
+    this.bulkheadRegistry = bulkheadRegistry;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * 보호된 호출 (실패 시 마지막 정상값으로 대체).
+   *
+   * @param upstream 업스트림
+   * @param key 응답 식별 키 (예: 데이터셋 이름, 종목코드)
+   * @param supplier 실제 호출
+   * @return 호출 결과 또는 마지막 정상값
+   */
+  public <T> T call(Upstream upstream, String key, Supplier<T> supplier) {
+    return callGuarded(upstream, key, supplier).value();
+  }
+
+  /**
+   * 보호된 호출 (실패 시 마지막 정상값으로 대체, 대체 여부 포함).
+   *
+   * @param upstream 업스트림
+   * @param key 응답 식별 키 (예: 데이터셋 이름, 종목코드)
+   * @param supplier 실제 호출
+   * @return 호출 결과 또는 마지막 정상값
+   */
+  public <T> Guarded<T> callGuarded(Upstream upstream, String key, Supplier<T> supplier) {
+    return withLastGood(upstream, key, () -> execute(upstream, supplier));
+  }
+
+  /**
+   * 마지막 정상값 대체만 적용한 호출.
+   *
+   * <p>서킷 밖에서 먼저 할 일(예: 호출 토큰 대기)이 있는 경우, 호출 측이 그 작업과 {@link #execute(Upstream, Supplier)}를 묶어
+   * 넘긴다. 대기 시간이 서킷의 지연 호출 판정에 들어가지 않는다.
+   *
+   * @param upstream 업스트림
+   * @param key 응답 식별 키
+   * @param call 보호된 호출 (보통 {@link #execute(Upstream, Supplier)}를 포함)
+   * @return 호출 결과 또는 마지막 정상값
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Guarded<T> withLastGood(Upstream upstream, String key, Supplier<T> call) {
+    String cacheKey = upstream.getInstanceName() + ":" + key;
+    try {
+      T result = call.get();
+      if (result != null) {
+        lastGood.put(cacheKey, result);
+      }
+      return new Guarded<>(result, false);
+    } catch (RuntimeException e) {
+      Object fallback = lastGood.getIfPresent(cacheKey);
+      if (fallback == null) {
+        throw e;
+      }
+      meterRegistry
+          .counter("upstream.fallback", "upstream", upstream.getInstanceName())
+          .increment();
+      log.warn(
+          "Upstream call failed, serving last good value: upstream={}, key={}, error={}",
+          upstream.getInstanceName(),
+          key,
+          e.toString());
+      return new Guarded<>((T) fallback, true);
+    }
+  }
+
+  /**
+   * 보호된 호출 (대체값 없음).
+   *
+   * <p>서킷이 열려 있으면 {@code CallNotPermittedException}, 벌크헤드가 가득 차면 {@code
+   * BulkheadFullException}을 던진다.
+   *
+   * @param upstream 업스트림
+   * @param supplier 실제 호출
+   * @return 호출 결과
+   */
+  public <T> T execute(Upstream upstream, Supplier<T> supplier) {
+    Bulkhead bulkhead = bulkheadRegistry.bulkhead(upstream.getInstanceName());
+    CircuitBreaker circuitBreaker =
+        circuitBreakerRegistry.circuitBreaker(upstream.getInstanceName());
+    return Bulkhead.decorateSupplier(
+            bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, supplier))
+        .get();
+  }
+
+  /** 업스트림 서킷 상태. */
+  public CircuitBreaker.State state(Upstream upstream) {
+    return circuitBreakerRegistry.circuitBreaker(upstream.getInstanceName()).getState();
+  }
+
+  /**
+   * 보호된 호출 결과.
+   *
+   * @param value 호출 결과 또는 마지막 정상값
+   * @param fallback 마지막 정상값으로 대체했으면 true (캐시하지 않아야 함)
+   */
+  public record Guarded<T>(T value, boolean fallback) {}
+}
@@ -0,0 +1,212 @@
+package io.github.krails0105.stock_info_api.provider.upstream;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 호출 계측.
+ *
+ * <p>업스트림 RestClient에 {@link #interceptor(Upstream)}를 등록하면 요청마다 응답 헤더 수신까지의 시간(TTFB), 본문을 다 읽을 때까지의
+ * 전체 시간, 응답 본문 크기를 기록한다. 응답 디코딩/파싱은 {@link #parse}로 감싸 단계별 소요 시간과 행 수를 기록한다.
+ *
+ * <p>엔드포인트 태그는 요청 속성 {@link #ENDPOINT_ATTRIBUTE}로 지정하며, 없으면 URL 경로를 사용한다.
+ *
+ * <p>[메트릭] 태그: upstream, endpoint
+ *
+ * <ul>
+ *   <li>upstream.call.ttfb (outcome): 요청 전송 ~ 응답 헤더 수신
+ *   <li>upstream.call.duration (outcome): 요청 전송 ~ 응답 본문 읽기 완료
+ *   <li>upstream.response.bytes: 응답 본문 크기 (압축 해제 후)
+ *   <li>upstream.parse.duration (stage): 디코딩/파싱 단계별 소요 시간
+ *   <li>upstream.parse.rows: 파싱 결과 행 수
+ * </ul>
+ *
+ * <p>모든 타이머/분포는 p50/p95/p99를 함께 계산하며 actuator upstreams 엔드포인트에서 조회한다.
+ */
+@Component
+public class UpstreamMetrics {
+
+  /** 요청 속성: 메트릭 엔드포인트 태그 */
+  public static final String ENDPOINT_ATTRIBUTE = "upstream.endpoint";
+
+  static final String CALL_TTFB = "upstream.call.ttfb";
+  static final String CALL_DURATION = "upstream.call.duration";
+  static final String RESPONSE_BYTES = "upstream.response.bytes";
+  static final String PARSE_DURATION = "upstream.parse.duration";
+  static final String PARSE_ROWS = "upstream.parse.rows";
+
+  static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+  private final MeterRegistry meterRegistry;
+
+  public UpstreamMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * 업스트림 요청 계측 인터셉터.
+   *
+   * <p>속도 제한 등 대기 시간이 포함되지 않도록 다른 인터셉터보다 나중에 등록한다.
+   *
+   * @param upstream 업스트림
+   * @return RestClient 요청 인터셉터
+   */
+  public ClientHttpRequestInterceptor interceptor(Upstream upstream) {
+    return (request, body, execution) -> {
+      String endpoint = endpointOf(request);
+      long start = System.nanoTime();
+      ClientHttpResponse response;
+      try {
+        response = execution.execute(request, body);
+      } catch (IOException | RuntimeException e) {
+        timer(CALL_DURATION, upstream, endpoint, "outcome", "error")
+            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        throw e;
+      }
+
+      String outcome = response.getStatusCode().isError() ? "error" : "success";
+      timer(CALL_TTFB, upstream, endpoint, "outcome", outcome)
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      return new MeteredResponse(
+          response,
+          bytes -> {
+            timer(CALL_DURATION, upstream, endpoint, "outcome", outcome)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            summary(RESPONSE_BYTES, upstream, endpoint, "bytes").record(bytes);
+          });
+    };
+  }
+
+  /**
+   * 디코딩/파싱 단계 계측.
+   *
+   * @param upstream 업스트림
+   * @param endpoint 엔드포인트 (예: 데이터셋 이름)
+   * @param stage 단계 (예: decode, parse)
+   * @param parser 파싱 작업
+   * @param rowCounter 결과 행 수 (null이면 기록하지 않음)
+   * @return 파싱 결과
+   */
+  public <T> T parse(
+      Upstream upstream,
+      String endpoint,
+      String stage,
+      Supplier<T> parser,
+      ToIntFunction<T> rowCounter) {
+    long start = System.nanoTime();
+    T result = parser.get();
+    timer(PARSE_DURATION, upstream, endpoint, "stage", stage)
+        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    if (rowCounter != null && result != null) {
+      summary(PARSE_ROWS, upstream, endpoint, "rows").record(rowCounter.applyAsInt(result));
+    }
+    return result;
+  }
+
+  // ==================== Private Methods ====================
+
+  private static String endpointOf(HttpRequest request) {
+    Object endpoint = request.getAttributes().get(ENDPOINT_ATTRIBUTE);
+    return endpoint != null ? endpoint.toString() : request.getURI().getPath();
+  }
+
+  private Timer timer(
+      String name, Upstream upstream, String endpoint, String extraTag, String extraValue) {
+    return Timer.builder(name)
+        .tag("upstream", upstream.getInstanceName())
+        .tag("endpoint", endpoint)
+        .tag(extraTag, extraValue)
+        .publishPercentiles(PERCENTILES)
+        .register(meterRegistry);
+  }
+
+  private DistributionSummary summary(
+      String name, Upstream upstream, String endpoint, String baseUnit) {
+    return DistributionSummary.builder(name)
+        .baseUnit(baseUnit)
+        .tag("upstream", upstream.getInstanceName())
+        .tag("endpoint", endpoint)
+        .publishPercentiles(PERCENTILES)
+        .register(meterRegistry);
+  }
+
+  /** 본문을 읽은 바이트 수를 세고, 닫힐 때 한 번 기록하는 응답 래퍼. */
+  private static class MeteredResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final Consumer<Long> onComplete;
+    private long bytesRead;
+    private boolean completed;
+    private InputStream body;
+
+    MeteredResponse(ClientHttpResponse delegate, Consumer<Long> onComplete) {
+      this.delegate = delegate;
+      this.onComplete = onComplete;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      if (body == null) {
+        body =
+            new FilterInputStream(delegate.getBody()) {
+              @Override
+              public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0) {
+                  bytesRead++;
+                }
+                return b;
+              }
+
+              @Override
+              public int read(byte[] buffer, int offset, int length) throws IOException {
+                int n = super.read(buffer, offset, length);
+                if (n > 0) {
+                  bytesRead += n;
+                }
+                return n;
+              }
+            };
+      }
+      return body;
+    }
+
+    @Override
+    public void close() {
+      if (!completed) {
+        completed = true;
+        onComplete.accept(bytesRead);
+      }
+      delegate.close();
+    }
+  }
+}
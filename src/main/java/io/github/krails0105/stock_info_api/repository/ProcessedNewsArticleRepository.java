@@ -2,8 +2,10 @@ package io.github.krails0105.stock_info_api.repository;
 
 import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -58,6 +60,17 @@ public interface ProcessedNewsArticleRepository extends JpaRepository<ProcessedN
           + "ORDER BY p.importance ASC, p.publishedAt DESC")
   List<ProcessedNewsArticle> findRecentNews(@Param("since") LocalDateTime since, Pageable pageable);
 
+  /**
+   * 클러스터 대표 뉴스 전체 조회 (특정 시점 이후, 클러스터 인덱스 재구성용).
+   *
+   * @param since 조회 시작 시점
+   * @return 대표 뉴스 목록
+   */
+  @Query(
+      "SELECT p FROM ProcessedNewsArticle p "
+          + "WHERE p.publishedAt > :since AND p.isClusterRepresentative = true")
+  List<ProcessedNewsArticle> findRepresentativesSince(@Param("since") LocalDateTime since);
+
   /**
    * 클러스터 대표 뉴스만 조회 (종목별).
    *
@@ -98,6 +111,16 @@ public interface ProcessedNewsArticleRepository extends JpaRepository<ProcessedN
    */
   boolean existsByRawArticleId(Long rawArticleId);
 
+  /**
+   * 주어진 원본 기사 ID 중 이미 처리된 ID 조회 (일괄 확인).
+   *
+   * @param rawArticleIds 원본 기사 ID 목록
+   * @return 이미 처리된 원본 기사 ID
+   */
+  @Query(
+      "SELECT p.rawArticleId FROM ProcessedNewsArticle p WHERE p.rawArticleId IN :rawArticleIds")
+  Set<Long> findProcessedRawArticleIds(@Param("rawArticleIds") Collection<Long> rawArticleIds);
+
   /**
    * 종목별 뉴스 개수 조회 (특정 시점 이후).
    *
@@ -2,10 +2,14 @@ package io.github.krails0105.stock_info_api.repository;
 
 import io.github.krails0105.stock_info_api.entity.RawNewsArticle;
 import io.github.krails0105.stock_info_api.entity.RawNewsArticle.ProcessingStatus;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /** 원본 뉴스 기사 저장소. */
@@ -20,6 +24,24 @@ public interface RawNewsArticleRepository extends JpaRepository<RawNewsArticle,
    */
   boolean existsByUrl(String url);
 
+  /**
+   * 주어진 URL 중 이미 저장된 URL 조회 (일괄 중복 체크).
+   *
+   * @param urls 확인할 URL 목록
+   * @return 이미 저장된 URL
+   */
+  @Query("SELECT r.url FROM RawNewsArticle r WHERE r.url IN :urls")
+  Set<String> findExistingUrls(@Param("urls") Collection<String> urls);
+
+  /**
+   * 전체 URL 조회 (ID순, URL 필터 구축용).
+   *
+   * @param pageable 페이징 정보
+   * @return URL 목록
+   */
+  @Query("SELECT r.url FROM RawNewsArticle r ORDER BY r.id ASC")
+  List<String> findAllUrls(Pageable pageable);
+
   /**
    * 처리 상태별 조회.
    *
@@ -29,13 +51,37 @@ public interface RawNewsArticleRepository extends JpaRepository<RawNewsArticle,
   List<RawNewsArticle> findByStatus(ProcessingStatus status);
 
   /**
-   * PENDING 상태 기사 조회 (수집 시간순).
+   * PENDING 상태 기사 조회 (ID순, 재기동 시 복구용).
    *
+   * @param afterId 이 ID 이후부터 (키셋 페이징)
+   * @param upToId 이 ID까지
    * @param pageable 페이징 정보
    * @return PENDING 기사 목록
    */
-  @Query("SELECT r FROM RawNewsArticle r WHERE r.status = 'PENDING' ORDER BY r.collectedAt ASC")
-  List<RawNewsArticle> findPendingArticles(Pageable pageable);
+  @Query(
+      "SELECT r FROM RawNewsArticle r WHERE r.status = 'PENDING' "
+          + "AND r.id > :afterId AND r.id <= :upToId ORDER BY r.id ASC")
+  List<RawNewsArticle> findPendingArticles(
+      @Param("afterId") Long afterId, @Param("upToId") Long upToId, Pageable pageable);
+
+  /**
+   * PENDING 상태 기사 중 가장 큰 ID.
+   *
+   * @return 최대 ID (없으면 null)
+   */
+  @Query("SELECT MAX(r.id) FROM RawNewsArticle r WHERE r.status = 'PENDING'")
+  Long findMaxPendingId();
+
+  /**
+   * 처리 상태 일괄 변경.
+   *
+   * @param ids 기사 ID 목록
+   * @param status 변경할 상태
+   * @return 변경된 행 수
+   */
+  @Modifying
+  @Query("UPDATE RawNewsArticle r SET r.status = :status WHERE r.id IN :ids")
+  int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") ProcessingStatus status);
 
   /**
    * 특정 피드 소스의 최근 기사 수 조회.
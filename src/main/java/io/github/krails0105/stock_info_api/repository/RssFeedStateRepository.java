@@ -0,0 +1,9 @@
+package io.github.krails0105.stock_info_api.repository;
+
+import io.github.krails0105.stock_info_api.entity.RssFeedState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/** RSS 피드 폴링 상태 저장소 (키: 피드 이름). */
+@Repository
+public interface RssFeedStateRepository extends JpaRepository<RssFeedState, String> {}
@@ -0,0 +1,41 @@
+package io.github.krails0105.stock_info_api.scheduler;
+
+import io.github.krails0105.stock_info_api.dto.domain.StockInfo;
+import io.github.krails0105.stock_info_api.provider.StockDataProvider;
+import io.github.krails0105.stock_info_api.service.indicator.IndicatorEngineService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기술적 지표 재계산 스케줄러.
+ *
+ * <p>장 마감 후 전체 종목의 지표를 병렬로 재계산한다. 장중에는 조회 시점에 종목 단위로 계산된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndicatorScheduler {
+
+  private final StockDataProvider stockDataProvider;
+  private final IndicatorEngineService indicatorEngineService;
+
+  /**
+   * 전체 종목 지표 재계산 (기본: 평일 15:40).
+   *
+   * <p>application.yml의 indicator.bulk-cron으로 조정 가능.
+   */
+  @Scheduled(cron = "${indicator.bulk-cron:0 40 15 * * MON-FRI}", zone = "Asia/Seoul")
+  public void recomputeAll() {
+    log.info("Starting scheduled indicator recompute");
+    try {
+      List<String> stockCodes =
+          stockDataProvider.getAllStocks().stream().map(StockInfo::getCode).toList();
+      indicatorEngineService.recomputeAll(stockCodes);
+    } catch (Exception e) {
+      log.error("Scheduled indicator recompute failed", e);
+    }
+  }
+}
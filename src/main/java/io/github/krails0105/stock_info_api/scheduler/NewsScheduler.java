@@ -1,17 +1,21 @@
 package io.github.krails0105.stock_info_api.scheduler;
 
 import io.github.krails0105.stock_info_api.config.NewsProperties;
+import io.github.krails0105.stock_info_api.provider.StockDataProvider;
 import io.github.krails0105.stock_info_api.service.news.NewsCollectorService;
-import io.github.krails0105.stock_info_api.service.news.NewsProcessorService;
+import io.github.krails0105.stock_info_api.service.news.NewsEntityDictionary;
+import io.github.krails0105.stock_info_api.service.news.NewsPipeline;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
- * 뉴스 수집/처리 스케줄러.
+ * 뉴스 수집 스케줄러.
  *
- * <p>주기적으로 RSS 피드에서 뉴스를 수집하고, PENDING 상태 기사를 처리한다.
+ * <p>주기적으로 RSS 피드에서 뉴스를 수집한다. 수집된 기사는 {@link NewsPipeline}을 통해 바로 처리된다. 태깅에 쓰는 종목 사전({@link
+ * NewsEntityDictionary})도 여기서 KRX 스냅샷으로 주기적으로 재구성한다.
  */
 @Slf4j
 @Component
@@ -19,8 +23,9 @@ import org.springframework.stereotype.Component;
 public class NewsScheduler {
 
   private final NewsCollectorService collectorService;
-  private final NewsProcessorService processorService;
   private final NewsProperties newsProperties;
+  private final StockDataProvider stockDataProvider;
+  private final NewsEntityDictionary entityDictionary;
 
   /**
    * 뉴스 수집 (기본 15분 주기).
@@ -48,29 +53,19 @@ public class NewsScheduler {
   }
 
   /**
-   * 뉴스 처리 (기본 5분 주기).
+   * 종목 사전 재구성 (기동 직후 + 기본 6시간 주기).
    *
-   * <p>application.yml의 news.processing.interval-minutes로 조정 가능.
+   * <p>application.yml의 news.entity-dictionary.refresh-minutes로 조정 가능. 실패하면 기존 사전을 유지한다.
    */
-  @Scheduled(fixedRateString = "${news.processing.interval-minutes:5}000")
-  public void processNews() {
-    if (!newsProperties.getCollection().isEnabled()) {
-      log.debug("News processing is disabled (collection disabled)");
-      return;
-    }
-
-    log.debug("Starting scheduled news processing");
+  @Scheduled(
+      initialDelay = 0,
+      fixedRateString = "${news.entity-dictionary.refresh-minutes:360}",
+      timeUnit = TimeUnit.MINUTES)
+  public void refreshEntityDictionary() {
     try {
-      NewsProcessorService.ProcessingResult result = processorService.processPendingArticles();
-      if (result.processed() > 0 || result.failed() > 0) {
-        log.info(
-            "Scheduled processing complete: processed={}, failed={}, newClusters={}",
-            result.processed(),
-            result.failed(),
-            result.newClusters());
-      }
+      entityDictionary.rebuild(stockDataProvider.getAllStocks());
     } catch (Exception e) {
-      log.error("Scheduled processing failed", e);
+      log.warn("Entity dictionary refresh failed, keeping current dictionary", e);
     }
   }
 }
@@ -15,6 +15,8 @@ import io.github.krails0105.stock_info_api.dto.insight.SectorInsight.TopPick.Pic
 import io.github.krails0105.stock_info_api.dto.insight.SectorInsight.TopPick.TopPickRole;
 import io.github.krails0105.stock_info_api.dto.insight.StockInsight;
 import io.github.krails0105.stock_info_api.dto.response.StockListItem;
+import io.github.krails0105.stock_info_api.service.indicator.IndicatorEngineService;
+import io.github.krails0105.stock_info_api.service.indicator.IndicatorSnapshot;
 import io.github.krails0105.stock_info_api.service.rule.RuleConstants;
 import io.github.krails0105.stock_info_api.service.rule.RuleEngineService;
 import io.github.krails0105.stock_info_api.service.rule.StockSignals;
@@ -22,8 +24,11 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.DoubleSummaryStatistics;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,6 +50,7 @@ public class InsightService {
   private final SectorService sectorService;
   private final RuleEngineService ruleEngineService;
   private final NewsAggregatorService newsAggregatorService;
+  private final IndicatorEngineService indicatorEngineService;
 
   /**
    * 종목 인사이트 생성
@@ -60,15 +66,16 @@ public class InsightService {
       throw new IllegalArgumentException("Stock not found: " + stockCode);
     }
 
-    // 섹터 통계 계산을 위해 같은 섹터 종목 조회
-    String sectorName = stockInfo.getSectorName() != null ? stockInfo.getSectorName() : "전체";
-    Map<String, Double> sectorMedians = calculateSectorMedians(sectorName);
+    // 섹터 통계 계산을 위해 같은 섹터 종목의 지표 조회
+    List<IndicatorSnapshot> sectorIndicators = loadSectorIndicators(stockInfo.getSectorName());
+    Map<String, Double> sectorMedians = calculateSectorMedians(sectorIndicators);
 
     // 뉴스 조회
     List<NewsItem> newsItems = newsAggregatorService.getNewsByStockCode(stockCode);
 
     // StockSignals 생성
-    StockSignals signals = buildStockSignals(stockInfo, sectorMedians, newsItems);
+    StockSignals signals =
+        buildStockSignals(stockInfo, sectorMedians, sectorIndicators, newsItems);
 
     // RuleEngine으로 인사이트 생성
     return ruleEngineService.buildStockInsight(signals);
@@ -135,9 +142,13 @@ public class InsightService {
   // ==================== Private Methods ====================
 
   private StockSignals buildStockSignals(
-      StockInfo stockInfo, Map<String, Double> sectorMedians, List<NewsItem> newsItems) {
+      StockInfo stockInfo,
+      Map<String, Double> sectorMedians,
+      List<IndicatorSnapshot> sectorIndicators,
+      List<NewsItem> newsItems) {
 
     double coverage = calculateCoverage(stockInfo);
+    IndicatorSnapshot indicators = indicatorEngineService.getSnapshot(stockInfo.getCode());
 
     return StockSignals.builder()
         .stockCode(stockInfo.getCode())
@@ -157,6 +168,10 @@ public class InsightService {
         .sectorMedianPbr(sectorMedians.get("pbr"))
         .sectorMedianRoe(sectorMedians.get("roe"))
         .sectorMedianVolatility(sectorMedians.get("volatility"))
+        .volumeRatio(indicators.volumeRatio())
+        .return5d(indicators.return5d())
+        .sectorReturn5dPercentile(calculateReturn5dPercentile(indicators, sectorIndicators))
+        .volatility(indicators.volatility())
         .dataCoverage(coverage)
         .isSuspended(false)
         .isAdministrative(false)
@@ -181,18 +196,34 @@ public class InsightService {
     return (double) presentFields / totalFields;
   }
 
-  private Map<String, Double> calculateSectorMedians(String sectorName) {
-    // 기본값 반환 (실제로는 섹터별 종목에서 계산)
-    return Map.of(
-        "per", 15.0,
-        "pbr", 1.5,
-        "roe", 10.0,
-        "volatility", 2.0);
+  /** 같은 섹터 종목의 지표 스냅샷 (전체 재계산으로 채워진 상태 기준, 섹터를 모르면 빈 목록) */
+  private List<IndicatorSnapshot> loadSectorIndicators(String sectorName) {
+    if (sectorName == null) {
+      return List.of();
+    }
+    return indicatorEngineService.getSnapshots(sectorService.getStockCodesBySectorName(sectorName));
+  }
+
+  /**
+   * 섹터 중앙값 (PER/PBR/ROE는 기본값, 변동성은 섹터 종목 지표의 중앙값)
+   *
+   * <p>변동성이 계산된 종목이 없으면 "volatility" 키를 넣지 않아 변동성 룰이 평가되지 않는다.
+   */
+  private Map<String, Double> calculateSectorMedians(List<IndicatorSnapshot> sectorIndicators) {
+    Map<String, Double> medians = new HashMap<>();
+    medians.put("per", 15.0);
+    medians.put("pbr", 1.5);
+    medians.put("roe", 10.0);
+    Double volatility = median(sectorIndicators, IndicatorSnapshot::volatility);
+    if (volatility != null) {
+      medians.put("volatility", volatility);
+    }
+    return medians;
   }
 
   private Map<String, Double> calculateSectorMediansFromStocks(List<StockListItem> stocks) {
     if (stocks == null || stocks.isEmpty()) {
-      return calculateSectorMedians("전체");
+      return calculateSectorMedians(List.of());
     }
 
     DoubleSummaryStatistics perStats =
@@ -207,15 +238,60 @@ public class InsightService {
             .mapToDouble(StockListItem::getPbr)
             .summaryStatistics();
 
-    return Map.of(
-        "per",
-        perStats.getCount() > 0 ? perStats.getAverage() : 15.0,
-        "pbr",
-        pbrStats.getCount() > 0 ? pbrStats.getAverage() : 1.5,
-        "roe",
-        10.0,
-        "volatility",
-        2.0);
+    List<String> stockCodes = stocks.stream().map(StockListItem::getCode).toList();
+    Map<String, Double> medians =
+        calculateSectorMedians(indicatorEngineService.getSnapshots(stockCodes));
+    if (perStats.getCount() > 0) {
+      medians.put("per", perStats.getAverage());
+    }
+    if (pbrStats.getCount() > 0) {
+      medians.put("pbr", pbrStats.getAverage());
+    }
+    return medians;
+  }
+
+  /**
+   * 섹터 내 5일 수익률 백분위 (1위 = 1/n, 꼴찌 = 1.0)
+   *
+   * <p>수익률이 계산된 종목(자신 포함)이 {@value #LOW_SAMPLE_THRESHOLD}개 미만이면 순위가 의미 없어 null을 반환한다.
+   */
+  private Double calculateReturn5dPercentile(
+      IndicatorSnapshot indicators, List<IndicatorSnapshot> sectorIndicators) {
+    Double return5d = indicators.return5d();
+    if (return5d == null) {
+      return null;
+    }
+
+    List<Double> peerReturns =
+        sectorIndicators.stream()
+            .filter(peer -> !peer.stockCode().equals(indicators.stockCode()))
+            .map(IndicatorSnapshot::return5d)
+            .filter(Objects::nonNull)
+            .toList();
+    int sampleSize = peerReturns.size() + 1;
+    if (sampleSize < LOW_SAMPLE_THRESHOLD) {
+      return null;
+    }
+
+    long higher = peerReturns.stream().filter(peer -> peer > return5d).count();
+    return (double) (higher + 1) / sampleSize;
+  }
+
+  /** 지표 값의 중앙값 (값이 있는 종목이 없으면 null) */
+  private Double median(
+      List<IndicatorSnapshot> snapshots, Function<IndicatorSnapshot, Double> indicator) {
+    double[] values =
+        snapshots.stream()
+            .map(indicator)
+            .filter(Objects::nonNull)
+            .mapToDouble(Double::doubleValue)
+            .sorted()
+            .toArray();
+    if (values.length == 0) {
+      return null;
+    }
+    int mid = values.length / 2;
+    return values.length % 2 == 1 ? values[mid] : (values[mid - 1] + values[mid]) / 2;
   }
 
   private List<TopPick> buildTopPicks(
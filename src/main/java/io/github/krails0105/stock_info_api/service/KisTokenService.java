@@ -1,12 +1,30 @@
 package io.github.krails0105.stock_info_api.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.krails0105.stock_info_api.config.KisRestClientProperties;
 import io.github.krails0105.stock_info_api.dto.external.kis.KisTokenRequest;
 import io.github.krails0105.stock_info_api.dto.external.kis.KisTokenResponse;
+import io.github.krails0105.stock_info_api.provider.kis.KisRequestPriority;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 
@@ -18,78 +36,167 @@ import org.springframework.web.client.RestClient;
  * <ul>
  *   <li>토큰 발급 요청 (POST /oauth2/tokenP)
  *   <li>토큰 캐싱 (만료 전까지 재사용)
- *   <li>토큰 만료 시 자동 재발급
+ *   <li>만료 전 백그라운드 재발급 및 파일 저장
  * </ul>
  *
  * <p>[토큰 유효 시간]
  *
  * <ul>
  *   <li>KIS 토큰은 약 24시간(86400초) 유효
- *   <li>만료 1시간 전에 미리 재발급하여 안정성 확보
+ *   <li>만료 1시간 전에 스케줄러가 미리 재발급하여 요청 스레드가 발급을 기다리지 않도록 함
  * </ul>
+ *
+ * <p>[동시성]
+ *
+ * <p>토큰은 불변 record로 {@link AtomicReference}에 보관한다. 조회는 락 없이 읽기만 하며, 토큰이 없거나 만료된 경우에만 락을 잡고
+ * 한 번 발급한다.
+ *
+ * <p>[재시작]
+ *
+ * <p>KIS는 토큰 발급 횟수를 제한하므로 발급된 토큰을 파일로 저장하고, 시작 시 같은 앱키의 유효한 토큰이 있으면 재사용한다.
  */
 @Service
 @Slf4j
 public class KisTokenService {
 
+  private static final DateTimeFormatter EXPIRE_TIME_FORMAT =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+  /** 만료 전 여유 시간 (1시간 전에 미리 갱신) */
+  private static final int REFRESH_MARGIN_MINUTES = 60;
+
+  /** 만료 직전 토큰 사용을 피하기 위한 최소 여유 (1분) */
+  private static final int EXPIRY_SAFETY_MINUTES = 1;
+
+  /** 토큰 파일 권한 (소유자만 읽기/쓰기) */
+  private static final Set<PosixFilePermission> OWNER_ONLY =
+      PosixFilePermissions.fromString("rw-------");
+
   private final RestClient kisRestClient;
   private final KisRestClientProperties properties;
+  private final ObjectMapper objectMapper = new ObjectMapper();
 
-  /** 캐싱된 토큰 */
-  private String cachedToken;
+  /** 현재 토큰 (없으면 null) */
+  private final AtomicReference<AccessToken> currentToken = new AtomicReference<>();
 
-  /** 토큰 만료 시간 */
-  private LocalDateTime tokenExpireTime;
-
-  /** 만료 전 여유 시간 (1시간 전에 미리 갱신) */
-  private static final int REFRESH_MARGIN_MINUTES = 60;
+  /** 토큰 발급 직렬화용 락 (발급 경로에서만 사용) */
+  private final ReentrantLock issueLock = new ReentrantLock();
 
   public KisTokenService(RestClient kisRestClient, KisRestClientProperties properties) {
     this.kisRestClient = kisRestClient;
     this.properties = properties;
   }
 
+  /** 저장된 토큰 복원 (같은 앱키이고 아직 유효한 경우만) */
+  @PostConstruct
+  void loadPersistedToken() {
+    Path file = tokenFile();
+    if (file == null || !Files.exists(file)) {
+      return;
+    }
+
+    try {
+      PersistedToken persisted = objectMapper.readValue(file.toFile(), PersistedToken.class);
+      if (!appKeyHash().equals(persisted.appKeyHash())) {
+        log.info("저장된 토큰의 앱키가 달라 무시함");
+        return;
+      }
+
+      AccessToken token =
+          new AccessToken(persisted.accessToken(), LocalDateTime.parse(persisted.expiresAt()));
+      if (token.isUsable(LocalDateTime.now())) {
+        currentToken.set(token);
+        log.info("저장된 토큰 재사용 (만료: {})", token.expiresAt());
+      }
+    } catch (Exception e) {
+      log.warn("저장된 토큰 읽기 실패: {}", e.getMessage());
+    }
+  }
+
   /**
    * 유효한 액세스 토큰 반환
    *
-   * <p>캐싱된 토큰이 유효하면 재사용, 만료되었거나 없으면 새로 발급
+   * <p>현재 토큰이 만료 전이면 락 없이 바로 반환한다. 만료 1시간 전 구간에서도 토큰 자체는 유효하므로 그대로 사용하고, 재발급은 스케줄러가 맡는다.
+   * 토큰이 없거나 만료되었을 때만 새로 발급한다.
    *
    * @return Bearer 토큰 문자열
    */
   public String getAccessToken() {
-    if (isTokenValid()) {
-      log.debug("캐싱된 토큰 사용 (만료: {})", tokenExpireTime);
-      return cachedToken;
+    AccessToken token = currentToken.get();
+    if (token != null && token.isUsable(LocalDateTime.now())) {
+      return token.value();
     }
 
     log.info("토큰 발급 요청 시작");
-    return refreshToken();
+    return issueToken(false).value();
   }
 
   /**
-   * 토큰이 유효한지 확인
+   * 만료 임박 토큰 선제 재발급 (5분 주기 확인).
    *
-   * @return 토큰이 존재하고 만료 시간 전이면 true
+   * <p>토큰을 한 번도 사용하지 않았다면(없으면) 발급하지 않는다.
    */
-  private boolean isTokenValid() {
-    if (cachedToken == null || tokenExpireTime == null) {
-      return false;
+  @Scheduled(fixedDelay = 5, initialDelay = 1, timeUnit = TimeUnit.MINUTES)
+  public void refreshIfExpiring() {
+    AccessToken token = currentToken.get();
+    if (token == null || !token.needsRefresh(LocalDateTime.now())) {
+      return;
+    }
+
+    log.info("토큰 만료 임박, 선제 재발급 (만료: {})", token.expiresAt());
+    try {
+      KisRequestPriority.runAs(KisRequestPriority.BACKGROUND, () -> issueToken(true));
+    } catch (Exception e) {
+      // 기존 토큰이 아직 유효하므로 다음 주기에 재시도
+      log.warn("토큰 선제 재발급 실패: {}", e.getMessage());
+    }
+  }
+
+  /** 캐시 초기화 (테스트용) */
+  public void clearCache() {
+    currentToken.set(null);
+    Path file = tokenFile();
+    if (file != null) {
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        log.warn("토큰 파일 삭제 실패: {}", e.getMessage());
+      }
     }
-    // 만료 1시간 전에 미리 갱신
-    return LocalDateTime.now().plusMinutes(REFRESH_MARGIN_MINUTES).isBefore(tokenExpireTime);
+    log.info("토큰 캐시 초기화됨");
   }
 
+  // ==================== Private Methods ====================
+
   /**
    * 새 토큰 발급
    *
-   * @return 새로 발급받은 액세스 토큰
+   * @param proactive true면 만료 임박 토큰도 교체 (스케줄러), false면 사용 불가 토큰만 교체
+   * @return 현재 유효한 토큰
    */
-  private synchronized String refreshToken() {
-    // 동시 요청 시 중복 발급 방지를 위한 재확인
-    if (isTokenValid()) {
-      return cachedToken;
+  private AccessToken issueToken(boolean proactive) {
+    issueLock.lock();
+    try {
+      // 락 대기 중 다른 스레드가 이미 발급했는지 재확인
+      AccessToken existing = currentToken.get();
+      if (existing != null) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean reusable = proactive ? !existing.needsRefresh(now) : existing.isUsable(now);
+        if (reusable) {
+          return existing;
+        }
+      }
+
+      AccessToken issued = requestToken();
+      currentToken.set(issued);
+      persist(issued);
+      return issued;
+    } finally {
+      issueLock.unlock();
     }
+  }
 
+  private AccessToken requestToken() {
     KisTokenRequest request =
         KisTokenRequest.builder()
             .appKey(properties.getAppKey())
@@ -111,12 +218,63 @@ public class KisTokenService {
       throw new RuntimeException("KIS 토큰 발급 실패: 응답이 없습니다");
     }
 
-    cachedToken = response.getAccessToken();
-    tokenExpireTime = parseExpireTime(response.getAccessTokenExpired());
+    AccessToken token =
+        new AccessToken(
+            response.getAccessToken(), parseExpireTime(response.getAccessTokenExpired()));
+
+    log.info("토큰 발급 성공 (만료: {}, 유효시간: {}초)", token.expiresAt(), response.getExpiresIn());
+    return token;
+  }
+
+  /** 토큰 파일 저장 (임시 파일에 쓴 뒤 원자적 교체, 소유자만 읽기/쓰기) */
+  private void persist(AccessToken token) {
+    Path file = tokenFile();
+    if (file == null) {
+      return;
+    }
+
+    try {
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      Path temp = createOwnerOnlyFile(file.resolveSibling(file.getFileName() + ".tmp"));
+      PersistedToken persisted =
+          new PersistedToken(appKeyHash(), token.value(), token.expiresAt().toString());
+      Files.write(temp, objectMapper.writeValueAsBytes(persisted));
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      log.warn("토큰 파일 저장 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 소유자만 읽기/쓰기 가능한 빈 파일 생성
+   *
+   * <p>생성 시점부터 권한을 지정하여, 토큰을 쓰는 동안 umask 기본 권한으로 다른 사용자에게 노출되지 않게 한다. 이전 실행이 남긴 파일은 지우고
+   * 새로 만든다.
+   */
+  private Path createOwnerOnlyFile(Path path) throws IOException {
+    Files.deleteIfExists(path);
+    try {
+      return Files.createFile(path, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+    } catch (UnsupportedOperationException e) {
+      log.warn("POSIX 권한 미지원 파일시스템, 기본 권한으로 토큰 파일 저장: {}", path);
+      return Files.createFile(path);
+    }
+  }
 
-    log.info("토큰 발급 성공 (만료: {}, 유효시간: {}초)", tokenExpireTime, response.getExpiresIn());
+  private Path tokenFile() {
+    String path = properties.getTokenCacheFile();
+    return path == null || path.isBlank() ? null : Path.of(path);
+  }
 
-    return cachedToken;
+  /** 앱키 식별용 해시 (앱키 원문은 파일에 남기지 않음) */
+  private String appKeyHash() {
+    String appKey = properties.getAppKey() != null ? properties.getAppKey() : "";
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(appKey.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
   }
 
   /**
@@ -132,8 +290,7 @@ public class KisTokenService {
     }
 
     try {
-      DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-      return LocalDateTime.parse(expiredStr, formatter);
+      return LocalDateTime.parse(expiredStr, EXPIRE_TIME_FORMAT);
     } catch (Exception e) {
       log.warn("토큰 만료 시간 파싱 실패: {}, 기본값 23시간 사용", expiredStr);
       return LocalDateTime.now().plusHours(23);
@@ -153,10 +310,25 @@ public class KisTokenService {
     return str.substring(0, 4) + "****";
   }
 
-  /** 캐시 초기화 (테스트용) */
-  public void clearCache() {
-    cachedToken = null;
-    tokenExpireTime = null;
-    log.info("토큰 캐시 초기화됨");
+  /**
+   * 발급된 액세스 토큰 (불변).
+   *
+   * @param value 토큰 문자열
+   * @param expiresAt 만료 시각
+   */
+  record AccessToken(String value, LocalDateTime expiresAt) {
+
+    /** 만료 전이면 사용 가능 */
+    boolean isUsable(LocalDateTime now) {
+      return now.plusMinutes(EXPIRY_SAFETY_MINUTES).isBefore(expiresAt);
+    }
+
+    /** 만료 1시간 전 구간이면 재발급 대상 */
+    boolean needsRefresh(LocalDateTime now) {
+      return !now.plusMinutes(REFRESH_MARGIN_MINUTES).isBefore(expiresAt);
+    }
   }
+
+  /** 파일 저장 형식. */
+  record PersistedToken(String appKeyHash, String accessToken, String expiresAt) {}
 }
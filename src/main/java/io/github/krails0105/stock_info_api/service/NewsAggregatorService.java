@@ -5,15 +5,18 @@ import io.github.krails0105.stock_info_api.dto.insight.NewsItem;
 import io.github.krails0105.stock_info_api.dto.insight.NewsItem.Importance;
 import io.github.krails0105.stock_info_api.dto.insight.NewsItem.Tag;
 import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle;
-import io.github.krails0105.stock_info_api.repository.ProcessedNewsArticleRepository;
+import io.github.krails0105.stock_info_api.service.news.NewsArticleIndex;
 import io.github.krails0105.stock_info_api.service.news.NewsDeduplicatorService;
+import io.github.krails0105.stock_info_api.util.MinHashLsh;
+import io.github.krails0105.stock_info_api.util.TokenDictionary;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -37,7 +40,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class NewsAggregatorService {
 
-  private final ProcessedNewsArticleRepository processedNewsRepository;
+  private final NewsArticleIndex articleIndex;
   private final NewsProperties newsProperties;
   private final NewsDeduplicatorService deduplicatorService;
 
@@ -45,6 +48,11 @@ public class NewsAggregatorService {
   private static final int FRESHNESS_HOURS_MEDIUM = 72;
   private static final double SIMILARITY_THRESHOLD = 0.6;
 
+  /** 헤드라인 LSH band 수 / band당 해시 수 (유사도 0.6 → 후보 확률 99%, 0.2 → 15%) */
+  private static final int LSH_BANDS = 20;
+
+  private static final int LSH_ROWS = 3;
+
   /**
    * 뉴스 목록을 집계하여 중복 제거, 중요도/신선도 정렬 수행.
    *
@@ -114,13 +122,37 @@ public class NewsAggregatorService {
     return Importance.LOW;
   }
 
-  /** 유사 헤드라인 클러스터링. 유사도가 SIMILARITY_THRESHOLD 이상인 뉴스는 같은 클러스터로 묶고, 각 클러스터에서 가장 중요하고 최신인 뉴스만 반환. */
+  /**
+   * 유사 헤드라인 클러스터링. 유사도가 SIMILARITY_THRESHOLD 이상인 뉴스는 같은 클러스터로 묶고, 각 클러스터에서 가장 중요하고 최신인 뉴스만 반환.
+   *
+   * <p>앞서 나온 헤드라인을 MinHash LSH 버킷에 넣어 두고, 새 헤드라인은 band가 하나라도 겹치는 후보하고만 Jaccard를 비교한다. 토큰화와
+   * 토큰 ID 변환은 헤드라인마다 한 번이므로, 전체 비용은 헤드라인 수 × 후보 수에 비례한다.
+   */
   private List<NewsItem> clusterByHeadline(List<NewsItem> newsItems) {
-    Map<String, List<NewsItem>> clusters = new HashMap<>();
+    Map<String, List<NewsItem>> clusters = new LinkedHashMap<>();
     List<NewsItem> result = new ArrayList<>();
 
+    // 앞서 나온 헤드라인 (LSH 키 = 목록 위치)
+    MinHashLsh<Integer> lsh = new MinHashLsh<>(LSH_BANDS, LSH_ROWS);
+    TokenDictionary tokenDictionary = new TokenDictionary();
+    List<int[]> memberTokenIds = new ArrayList<>(newsItems.size());
+    List<String> memberClusterIds = new ArrayList<>(newsItems.size());
+
     for (NewsItem item : newsItems) {
-      String clusterId = findMatchingCluster(item, clusters);
+      Set<String> tokens = deduplicatorService.tokenize(item.getTitle());
+      int[] tokenIds = tokenDictionary.toSortedIds(tokens);
+
+      // 후보 중 가장 먼저 나온 유사 헤드라인의 클러스터
+      int matchedMember = Integer.MAX_VALUE;
+      for (int member : lsh.candidates(tokens)) {
+        if (member < matchedMember
+            && TokenDictionary.jaccard(tokenIds, memberTokenIds.get(member))
+                >= SIMILARITY_THRESHOLD) {
+          matchedMember = member;
+        }
+      }
+      String clusterId =
+          matchedMember == Integer.MAX_VALUE ? null : memberClusterIds.get(matchedMember);
 
       if (clusterId == null) {
         // 새 클러스터 생성
@@ -140,6 +172,10 @@ public class NewsAggregatorService {
               .build();
 
       clusters.get(clusterId).add(itemWithCluster);
+
+      lsh.put(memberTokenIds.size(), tokens);
+      memberTokenIds.add(tokenIds);
+      memberClusterIds.add(clusterId);
     }
 
     // 각 클러스터에서 대표 뉴스 선택 (가장 중요하고 최신)
@@ -151,23 +187,6 @@ public class NewsAggregatorService {
     return result;
   }
 
-  /** 기존 클러스터 중 유사한 헤드라인이 있는지 검색. */
-  private String findMatchingCluster(NewsItem item, Map<String, List<NewsItem>> clusters) {
-    for (Map.Entry<String, List<NewsItem>> entry : clusters.entrySet()) {
-      for (NewsItem existing : entry.getValue()) {
-        if (calculateSimilarity(item.getTitle(), existing.getTitle()) >= SIMILARITY_THRESHOLD) {
-          return entry.getKey();
-        }
-      }
-    }
-    return null;
-  }
-
-  /** Jaccard 유사도 계산 (NewsDeduplicatorService 위임). */
-  private double calculateSimilarity(String title1, String title2) {
-    return deduplicatorService.calculateJaccardSimilarity(title1, title2);
-  }
-
   /** 클러스터에서 대표 뉴스 선택 (중요도 높고 최신). */
   private NewsItem selectRepresentative(List<NewsItem> cluster) {
     return cluster.stream()
@@ -226,7 +245,7 @@ public class NewsAggregatorService {
   }
 
   /**
-   * DB에서 종목 관련 뉴스 조회 후 집계.
+   * 종목 관련 뉴스 조회 후 집계 (대표 기사 색인 조회, DB 접근 없음).
    *
    * @param stockCode 종목 코드
    * @return 집계된 뉴스 목록
@@ -235,8 +254,7 @@ public class NewsAggregatorService {
     int windowHours = newsProperties.getClustering().getWindowHours();
     LocalDateTime since = LocalDateTime.now().minusHours(windowHours);
 
-    List<ProcessedNewsArticle> articles =
-        processedNewsRepository.findRepresentativeNewsByStockCode(stockCode, since);
+    List<ProcessedNewsArticle> articles = articleIndex.findByStockCode(stockCode, since);
 
     List<NewsItem> newsItems = articles.stream().map(this::toNewsItem).collect(Collectors.toList());
 
@@ -244,7 +262,7 @@ public class NewsAggregatorService {
   }
 
   /**
-   * DB에서 섹터 관련 뉴스 조회 후 집계.
+   * 섹터 관련 뉴스 조회 후 집계 (대표 기사 색인 조회, DB 접근 없음).
    *
    * @param sectorName 섹터명
    * @return 집계된 뉴스 목록
@@ -253,8 +271,7 @@ public class NewsAggregatorService {
     int windowHours = newsProperties.getClustering().getWindowHours();
     LocalDateTime since = LocalDateTime.now().minusHours(windowHours);
 
-    List<ProcessedNewsArticle> articles =
-        processedNewsRepository.findRepresentativeNewsBySectorName(sectorName, since);
+    List<ProcessedNewsArticle> articles = articleIndex.findBySectorName(sectorName, since);
 
     List<NewsItem> newsItems = articles.stream().map(this::toNewsItem).collect(Collectors.toList());
 
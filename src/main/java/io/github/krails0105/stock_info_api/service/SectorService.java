@@ -68,6 +68,18 @@ public class SectorService {
     return sectorDataProvider.getStocksBySectorId(sectorId);
   }
 
+  /**
+   * 섹터별 종목코드 조회 (재무 정보 조회 없이 KRX 스냅샷만 사용)
+   *
+   * @param sectorName 업종명
+   * @return 해당 업종에 속한 종목코드 목록
+   */
+  public List<String> getStockCodesBySectorName(String sectorName) {
+    return sectorDataProvider.getStocksBySectorName(sectorName).stream()
+        .map(KrxStockItem::getStockCode)
+        .toList();
+  }
+
   /**
    * 섹터별 종목 목록 조회 (재무 정보 포함)
    *
@@ -1,5 +1,6 @@
 package io.github.krails0105.stock_info_api.service;
 
+import io.github.krails0105.stock_info_api.config.KisRestClientProperties;
 import io.github.krails0105.stock_info_api.dto.SectorScoreDto;
 import io.github.krails0105.stock_info_api.dto.StockListResponse;
 import io.github.krails0105.stock_info_api.dto.StockScoreDto;
@@ -8,11 +9,22 @@ import io.github.krails0105.stock_info_api.dto.response.ChartResponse;
 import io.github.krails0105.stock_info_api.provider.ChartDataProvider;
 import io.github.krails0105.stock_info_api.provider.SectorDataProvider;
 import io.github.krails0105.stock_info_api.provider.StockDataProvider;
+import io.github.krails0105.stock_info_api.service.live.LiveQuote;
+import io.github.krails0105.stock_info_api.service.live.LiveQuoteService;
+import io.github.krails0105.stock_info_api.util.FormatUtils;
+import java.time.Instant;
 import java.util.Comparator;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+/**
+ * 종목 조회 서비스.
+ *
+ * <p>실시간 체결가를 구독 중인 종목은 {@link LiveQuoteService} 스냅샷의 최신 체결가로 현재가와 등락률을 덮어써 반환한다 (점수와 등급은
+ * 원본 데이터 기준 유지). 체결가가 같은 거래일에 받은 것이 아니거나 rest-client.kis.websocket.max-quote-age보다 오래되면(연결 끊김, 구독
+ * 해제 등) 원본 시세를 그대로 쓴다.
+ */
 @Service
 @RequiredArgsConstructor
 public class StockService {
@@ -20,6 +32,8 @@ public class StockService {
   private final StockDataProvider stockDataProvider;
   private final SectorDataProvider sectorDataProvider;
   private final ChartDataProvider chartDataProvider;
+  private final LiveQuoteService liveQuoteService;
+  private final KisRestClientProperties kisProperties;
 
   public StockListResponse getStocksBySector(String sectorId) {
     // 섹터 정보 조회 (getAllSectors에서 필터링)
@@ -35,6 +49,7 @@ public class StockService {
 
     List<StockScoreDto> stocks =
         stockDataProvider.getStocksBySector(sectorId).stream()
+            .map(this::withLiveQuote)
             .sorted(Comparator.comparingInt(StockScoreDto::getScore).reversed())
             .toList();
 
@@ -53,14 +68,16 @@ public class StockService {
   }
 
   public StockScoreDto getStockByCode(String code) {
-    return stockDataProvider.getStockByCode(code);
+    return withLiveQuote(stockDataProvider.getStockByCode(code));
   }
 
   public List<StockScoreDto> searchStocks(String keyword) {
     if (keyword == null || keyword.trim().isEmpty()) {
       return List.of();
     }
-    return stockDataProvider.searchStocks(keyword.trim());
+    return stockDataProvider.searchStocks(keyword.trim()).stream()
+        .map(this::withLiveQuote)
+        .toList();
   }
 
   public List<StockScoreDto> getTopStocks(int limit) {
@@ -68,10 +85,26 @@ public class StockService {
         .flatMap(sector -> stockDataProvider.getTopStocksBySector(sector.getSectorId(), 3).stream())
         .sorted(Comparator.comparingInt(StockScoreDto::getScore).reversed())
         .limit(limit)
+        .map(this::withLiveQuote)
         .toList();
   }
 
   public ChartResponse getStockChart(String stockCode, String range) {
     return chartDataProvider.getChartData(stockCode, range);
   }
+
+  // ==================== Private Methods ====================
+
+  /** 신선한 실시간 체결가가 있으면 현재가/등락률을 덮어쓴 복사본 */
+  private StockScoreDto withLiveQuote(StockScoreDto stock) {
+    LiveQuote quote = stock != null ? liveQuoteService.getQuote(stock.getCode()) : null;
+    if (quote == null
+        || !quote.isFresh(Instant.now(), kisProperties.getWebsocket().getMaxQuoteAge())) {
+      return stock;
+    }
+    return stock.toBuilder()
+        .price(quote.price())
+        .priceChange(FormatUtils.formatChangeRate(quote.changeRate()))
+        .build();
+  }
 }
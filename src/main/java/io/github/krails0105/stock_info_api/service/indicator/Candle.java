@@ -0,0 +1,26 @@
+package io.github.krails0105.stock_info_api.service.indicator;
+
+import io.github.krails0105.stock_info_api.dto.response.ChartResponse.ChartDataPoint;
+
+/**
+ * 지표 계산에 사용하는 봉(캔들) 데이터.
+ *
+ * <p>차트 응답({@link ChartDataPoint})의 고가/저가를 그대로 쓴다. 고가/저가를 제공하지 않는 원본(0)이면 종가로 채우며, 이때 ATR의 True
+ * Range는 종가 간 변동폭(|종가 - 전일 종가|)이 된다.
+ *
+ * @param date 봉 일자 (yyyy-MM-dd)
+ * @param high 고가
+ * @param low 저가
+ * @param close 종가
+ * @param volume 거래량
+ */
+public record Candle(String date, double high, double low, double close, long volume) {
+
+  /** 차트 데이터 포인트를 캔들로 변환. */
+  public static Candle fromDataPoint(ChartDataPoint point) {
+    double close = point.getPrice();
+    double high = point.getHigh() > 0 ? Math.max(point.getHigh(), close) : close;
+    double low = point.getLow() > 0 ? Math.min(point.getLow(), close) : close;
+    return new Candle(point.getDate(), high, low, close, point.getVolume());
+  }
+}
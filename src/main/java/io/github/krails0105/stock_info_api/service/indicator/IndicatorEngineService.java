@@ -0,0 +1,272 @@
+package io.github.krails0105.stock_info_api.service.indicator;
+
+import io.github.krails0105.stock_info_api.dto.response.ChartResponse;
+import io.github.krails0105.stock_info_api.dto.response.ChartResponse.ChartDataPoint;
+import io.github.krails0105.stock_info_api.provider.ChartDataProvider;
+import io.github.krails0105.stock_info_api.service.live.LiveQuote;
+import io.github.krails0105.stock_info_api.service.live.LiveQuotesUpdatedEvent;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * 기술적 지표 엔진 서비스.
+ *
+ * <p>종목별 {@link IndicatorState}를 메모리에 유지하고, 새 봉이 들어오면 O(1)로 지표를 갱신한다. 상태가 없는 종목은 일봉 차트(3M)로 최초
+ * 1회 계산하며, 전체 시장 재계산은 제한된 스레드 풀에서 병렬로 수행한다. 최초 계산은 같은 풀에서 비동기로 하므로 조회 스레드는 차트 조회를
+ * 기다리지 않는다 (계산 전에는 빈 스냅샷).
+ *
+ * <p>실시간 체결가({@link LiveQuotesUpdatedEvent})로 종목별 오늘 봉을 만들고, 일자가 바뀌어 첫 체결가가 오면 전날 봉을 확정해 증분 반영한다.
+ * 장 마감 후 전체 재계산이 먼저 돌았다면 차트의 같은 일자 봉이 이미 반영되어 있어 중복 반영되지 않는다.
+ *
+ * <p>계산된 지표는 {@code StockSignals}의 변동성, 거래량 비율, 5일 수익률과 섹터 변동성 중앙값, 섹터 내 5일 수익률 백분위로 사용된다.
+ */
+@Slf4j
+@Service
+public class IndicatorEngineService {
+
+  /** 지표 계산에 사용하는 차트 기간 (일봉 약 60영업일) */
+  static final String SERIES_RANGE = "3M";
+
+  /** 전체 재계산 병렬도 */
+  private static final int BULK_PARALLELISM = 8;
+
+  /** 봉 일자 기준 시간대 */
+  private static final ZoneId MARKET_ZONE = ZoneId.of("Asia/Seoul");
+
+  private final ChartDataProvider chartDataProvider;
+  private final Map<String, IndicatorState> states = new ConcurrentHashMap<>();
+
+  /** 최초 계산 중인 종목 (중복 요청 방지) */
+  private final Set<String> seeding = ConcurrentHashMap.newKeySet();
+
+  /** 실시간 체결가로 만드는 종목별 오늘 봉 (일자가 바뀌면 확정) */
+  private final Map<String, Candle> formingBars = new ConcurrentHashMap<>();
+  private final ExecutorService bulkExecutor =
+      Executors.newFixedThreadPool(
+          BULK_PARALLELISM, new CustomizableThreadFactory("indicator-bulk-"));
+
+  public IndicatorEngineService(ChartDataProvider chartDataProvider) {
+    this.chartDataProvider = chartDataProvider;
+  }
+
+  /**
+   * 종목 지표 스냅샷 조회.
+   *
+   * <p>상태가 없으면 차트 데이터로 계산을 비동기로 시작하고 빈 스냅샷을 반환한다.
+   *
+   * @param stockCode 종목 코드
+   * @return 지표 스냅샷
+   */
+  public IndicatorSnapshot getSnapshot(String stockCode) {
+    IndicatorState state = states.get(stockCode);
+    if (state == null) {
+      seedAsync(stockCode);
+      return IndicatorSnapshot.empty(stockCode);
+    }
+    synchronized (state) {
+      return state.snapshot();
+    }
+  }
+
+  /**
+   * 여러 종목의 지표 스냅샷 조회 (섹터 통계용).
+   *
+   * <p>상태가 있는 종목만 반환하며 최초 계산을 시작하지 않는다. 섹터 전체는 전체 재계산으로 채워진 상태를 기준으로 한다.
+   *
+   * @param stockCodes 종목 코드
+   * @return 상태가 있는 종목의 스냅샷
+   */
+  public List<IndicatorSnapshot> getSnapshots(Collection<String> stockCodes) {
+    List<IndicatorSnapshot> snapshots = new ArrayList<>(stockCodes.size());
+    for (String stockCode : stockCodes) {
+      IndicatorState state = states.get(stockCode);
+      if (state == null) {
+        continue;
+      }
+      synchronized (state) {
+        snapshots.add(state.snapshot());
+      }
+    }
+    return snapshots;
+  }
+
+  /**
+   * 새 봉을 증분 반영한다 (봉당 O(1)).
+   *
+   * <p>상태가 없는 종목은 반영하지 않고 차트로 최초 계산을 시작한다. 빈 상태에 봉 하나만 쌓으면 워밍업이 안 된 상태가 차트 계산을 대신하게 되기
+   * 때문이다.
+   *
+   * @param stockCode 종목 코드
+   * @param candle 새 봉
+   * @return 반영 여부 (상태가 없거나 이미 반영된 일자면 false)
+   */
+  public boolean append(String stockCode, Candle candle) {
+    IndicatorState state = states.get(stockCode);
+    if (state == null) {
+      seedAsync(stockCode);
+      return false;
+    }
+    synchronized (state) {
+      return state.append(candle);
+    }
+  }
+
+  /**
+   * 종목 하나의 지표를 차트 시계열 전체로 다시 계산한다.
+   *
+   * <p>새 상태를 별도로 만든 뒤 교체하므로 계산 중에도 이전 스냅샷을 읽을 수 있다.
+   *
+   * @param stockCode 종목 코드
+   * @return 새 상태 (차트 데이터가 없으면 null)
+   */
+  public IndicatorState recompute(String stockCode) {
+    List<Candle> candles = loadCandles(stockCode);
+    if (candles.isEmpty()) {
+      return null;
+    }
+
+    IndicatorState state = IndicatorState.withDefaults(stockCode);
+    for (Candle candle : candles) {
+      state.append(candle);
+    }
+    states.put(stockCode, state);
+    return state;
+  }
+
+  /**
+   * 전체 종목 지표를 병렬로 재계산한다.
+   *
+   * @param stockCodes 대상 종목 코드
+   * @return 재계산에 성공한 종목 수
+   */
+  public int recomputeAll(Collection<String> stockCodes) {
+    long start = System.currentTimeMillis();
+    AtomicInteger succeeded = new AtomicInteger();
+
+    List<CompletableFuture<Void>> futures = new ArrayList<>(stockCodes.size());
+    for (String stockCode : stockCodes) {
+      futures.add(
+          CompletableFuture.runAsync(
+              () -> {
+                try {
+                  if (recompute(stockCode) != null) {
+                    succeeded.incrementAndGet();
+                  }
+                } catch (Exception e) {
+                  log.warn(
+                      "Indicator recompute failed: code={}, error={}", stockCode, e.getMessage());
+                }
+              },
+              bulkExecutor));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+    log.info(
+        "Indicator bulk recompute complete: {}/{} stocks in {}ms",
+        succeeded.get(),
+        stockCodes.size(),
+        System.currentTimeMillis() - start);
+    return succeeded.get();
+  }
+
+  /**
+   * 실시간 체결가로 오늘 봉 갱신 (병합 주기마다 한 번).
+   *
+   * @param event 이번 주기에 갱신된 체결가
+   */
+  @EventListener
+  public void onLiveQuotesUpdated(LiveQuotesUpdatedEvent event) {
+    String today = LocalDate.now(MARKET_ZONE).toString();
+    for (LiveQuote quote : event.quotes()) {
+      applyLiveQuote(quote, today);
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    bulkExecutor.shutdownNow();
+  }
+
+  // ==================== Private Methods ====================
+
+  /**
+   * 체결가 하나를 오늘 봉에 반영하고, 일자가 바뀌었으면 전날 봉을 확정해 증분 반영한다.
+   *
+   * @param quote 체결가
+   * @param tradeDate 체결 일자 (yyyy-MM-dd, 차트 일봉 일자와 같은 형식)
+   */
+  void applyLiveQuote(LiveQuote quote, String tradeDate) {
+    if (quote.price() <= 0) {
+      return;
+    }
+    double price = quote.price();
+    Candle forming = formingBars.get(quote.code());
+    if (forming != null && !forming.date().equals(tradeDate)) {
+      append(quote.code(), forming);
+      forming = null;
+    }
+
+    formingBars.put(
+        quote.code(),
+        forming == null
+            ? new Candle(tradeDate, price, price, price, quote.accumulatedVolume())
+            : new Candle(
+                tradeDate,
+                Math.max(forming.high(), price),
+                Math.min(forming.low(), price),
+                price,
+                quote.accumulatedVolume()));
+  }
+
+  /** 차트로 최초 계산을 비동기로 시작 (이미 진행 중이면 무시) */
+  private void seedAsync(String stockCode) {
+    if (!seeding.add(stockCode)) {
+      return;
+    }
+    try {
+      bulkExecutor.execute(
+          () -> {
+            try {
+              if (!states.containsKey(stockCode)) {
+                recompute(stockCode);
+              }
+            } catch (Exception e) {
+              log.warn("Indicator seed failed: code={}, error={}", stockCode, e.getMessage());
+            } finally {
+              seeding.remove(stockCode);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      seeding.remove(stockCode);
+    }
+  }
+
+  private List<Candle> loadCandles(String stockCode) {
+    ChartResponse chart = chartDataProvider.getChartData(stockCode, SERIES_RANGE);
+    if (chart == null || chart.getDataPoints() == null) {
+      return List.of();
+    }
+
+    List<Candle> candles = new ArrayList<>(chart.getDataPoints().size());
+    for (ChartDataPoint point : chart.getDataPoints()) {
+      candles.add(Candle.fromDataPoint(point));
+    }
+    return candles;
+  }
+}
@@ -0,0 +1,35 @@
+package io.github.krails0105.stock_info_api.service.indicator;
+
+/**
+ * 종목별 기술적 지표 스냅샷.
+ *
+ * <p>워밍업 기간이 부족해 아직 계산되지 않은 지표는 null이다.
+ *
+ * @param stockCode 종목 코드
+ * @param lastDate 마지막으로 반영된 봉 일자
+ * @param barCount 반영된 봉 개수
+ * @param sma 단순이동평균 (종가)
+ * @param ema 지수이동평균 (종가)
+ * @param rsi RSI (Wilder, 0~100)
+ * @param atr ATR (Wilder)
+ * @param volatility 실현 변동성 (일간 로그수익률 표준편차, %)
+ * @param volumeRatio 최근 거래량 / 직전 평균 거래량
+ * @param return5d 5일 수익률 (%)
+ */
+public record IndicatorSnapshot(
+    String stockCode,
+    String lastDate,
+    int barCount,
+    Double sma,
+    Double ema,
+    Double rsi,
+    Double atr,
+    Double volatility,
+    Double volumeRatio,
+    Double return5d) {
+
+  /** 데이터가 없는 종목의 빈 스냅샷. */
+  public static IndicatorSnapshot empty(String stockCode) {
+    return new IndicatorSnapshot(stockCode, null, 0, null, null, null, null, null, null, null);
+  }
+}
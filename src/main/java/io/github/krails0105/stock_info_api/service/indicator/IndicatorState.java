@@ -0,0 +1,275 @@
+package io.github.krails0105.stock_info_api.service.indicator;
+
+/**
+ * 종목 하나의 증분 지표 상태.
+ *
+ * <p>봉이 하나 추가될 때마다 고정 크기 윈도우의 누적합만 갱신하므로, 시계열 길이와 무관하게 봉당 O(1)로 지표를 갱신한다.
+ *
+ * <ul>
+ *   <li>SMA: 종가 윈도우 누적합
+ *   <li>EMA: 첫 기간은 SMA로 시드 후 지수 평활
+ *   <li>RSI / ATR: Wilder 평활 (첫 기간은 단순 평균으로 시드)
+ *   <li>실현 변동성: 로그수익률 윈도우의 합/제곱합으로 표본 표준편차 계산
+ *   <li>거래량 비율: 현재 거래량 / 직전 N봉 평균 거래량
+ * </ul>
+ *
+ * <p>스레드 안전하지 않다. 동시 접근은 호출 측({@link IndicatorEngineService})에서 직렬화한다.
+ */
+public class IndicatorState {
+
+  public static final int DEFAULT_SMA_PERIOD = 20;
+  public static final int DEFAULT_EMA_PERIOD = 20;
+  public static final int DEFAULT_RSI_PERIOD = 14;
+  public static final int DEFAULT_ATR_PERIOD = 14;
+  public static final int DEFAULT_VOLATILITY_PERIOD = 20;
+  public static final int DEFAULT_VOLUME_PERIOD = 20;
+
+  /** 수익률 계산 기간 (5일) */
+  private static final int RETURN_DAYS = 5;
+
+  private final String stockCode;
+  private final int emaPeriod;
+  private final int rsiPeriod;
+  private final int atrPeriod;
+
+  private final RollingWindow smaWindow;
+  private final RollingWindow returnWindow;
+  private final RollingWindow logReturnWindow;
+  private final RollingWindow volumeWindow;
+
+  private int barCount;
+  private String lastDate;
+  private double prevClose;
+
+  private double emaSeedSum;
+  private Double ema;
+
+  private double gainSum;
+  private double lossSum;
+  private Double avgGain;
+  private Double avgLoss;
+
+  private double trSum;
+  private Double atr;
+
+  private Double volumeRatio;
+
+  public IndicatorState(
+      String stockCode,
+      int smaPeriod,
+      int emaPeriod,
+      int rsiPeriod,
+      int atrPeriod,
+      int volatilityPeriod,
+      int volumePeriod) {
+    this.stockCode = stockCode;
+    this.emaPeriod = emaPeriod;
+    this.rsiPeriod = rsiPeriod;
+    this.atrPeriod = atrPeriod;
+    this.smaWindow = new RollingWindow(smaPeriod);
+    this.returnWindow = new RollingWindow(RETURN_DAYS + 1);
+    this.logReturnWindow = new RollingWindow(volatilityPeriod);
+    this.volumeWindow = new RollingWindow(volumePeriod);
+  }
+
+  /** 기본 기간으로 상태 생성. */
+  public static IndicatorState withDefaults(String stockCode) {
+    return new IndicatorState(
+        stockCode,
+        DEFAULT_SMA_PERIOD,
+        DEFAULT_EMA_PERIOD,
+        DEFAULT_RSI_PERIOD,
+        DEFAULT_ATR_PERIOD,
+        DEFAULT_VOLATILITY_PERIOD,
+        DEFAULT_VOLUME_PERIOD);
+  }
+
+  /**
+   * 봉 하나를 반영한다.
+   *
+   * <p>이미 반영된 일자 이전(또는 같은) 봉은 무시한다. 확정된 봉만 순서대로 추가하는 것을 전제로 한다.
+   *
+   * @param candle 새 봉
+   * @return 반영 여부
+   */
+  public boolean append(Candle candle) {
+    if (candle == null || candle.close() <= 0) {
+      return false;
+    }
+    if (lastDate != null && candle.date() != null && candle.date().compareTo(lastDate) <= 0) {
+      return false;
+    }
+
+    double close = candle.close();
+
+    // 거래량 비율은 현재 봉을 넣기 전 윈도우(직전 N봉) 기준
+    volumeRatio =
+        volumeWindow.isFull() && volumeWindow.mean() > 0
+            ? candle.volume() / volumeWindow.mean()
+            : null;
+    volumeWindow.add(candle.volume());
+
+    smaWindow.add(close);
+    returnWindow.add(close);
+    updateEma(close);
+    updateAtr(candle);
+
+    if (barCount > 0) {
+      logReturnWindow.add(Math.log(close / prevClose));
+      updateRsi(close - prevClose);
+    }
+
+    prevClose = close;
+    lastDate = candle.date();
+    barCount++;
+    return true;
+  }
+
+  /** 현재 상태의 지표 스냅샷. */
+  public IndicatorSnapshot snapshot() {
+    return new IndicatorSnapshot(
+        stockCode,
+        lastDate,
+        barCount,
+        smaWindow.isFull() ? smaWindow.mean() : null,
+        ema,
+        rsi(),
+        atr,
+        volatility(),
+        volumeRatio,
+        return5d());
+  }
+
+  public int getBarCount() {
+    return barCount;
+  }
+
+  // ==================== Private Methods ====================
+
+  private void updateEma(double close) {
+    if (ema != null) {
+      double alpha = 2.0 / (emaPeriod + 1);
+      ema = ema + alpha * (close - ema);
+      return;
+    }
+    emaSeedSum += close;
+    if (barCount + 1 == emaPeriod) {
+      ema = emaSeedSum / emaPeriod;
+    }
+  }
+
+  private void updateAtr(Candle candle) {
+    double trueRange = candle.high() - candle.low();
+    if (barCount > 0) {
+      trueRange =
+          Math.max(
+              trueRange,
+              Math.max(Math.abs(candle.high() - prevClose), Math.abs(candle.low() - prevClose)));
+    }
+
+    if (atr != null) {
+      atr = (atr * (atrPeriod - 1) + trueRange) / atrPeriod;
+      return;
+    }
+    trSum += trueRange;
+    if (barCount + 1 == atrPeriod) {
+      atr = trSum / atrPeriod;
+    }
+  }
+
+  private void updateRsi(double change) {
+    double gain = Math.max(change, 0);
+    double loss = Math.max(-change, 0);
+
+    if (avgGain != null) {
+      avgGain = (avgGain * (rsiPeriod - 1) + gain) / rsiPeriod;
+      avgLoss = (avgLoss * (rsiPeriod - 1) + loss) / rsiPeriod;
+      return;
+    }
+    gainSum += gain;
+    lossSum += loss;
+    // barCount는 아직 증가 전이므로 변화량 개수 = barCount
+    if (barCount == rsiPeriod) {
+      avgGain = gainSum / rsiPeriod;
+      avgLoss = lossSum / rsiPeriod;
+    }
+  }
+
+  private Double rsi() {
+    if (avgGain == null) {
+      return null;
+    }
+    if (avgLoss == 0) {
+      return avgGain == 0 ? 50.0 : 100.0;
+    }
+    return 100 - 100 / (1 + avgGain / avgLoss);
+  }
+
+  private Double volatility() {
+    if (!logReturnWindow.isFull() || logReturnWindow.size() < 2) {
+      return null;
+    }
+    return Math.sqrt(logReturnWindow.sampleVariance()) * 100;
+  }
+
+  private Double return5d() {
+    if (!returnWindow.isFull()) {
+      return null;
+    }
+    return (returnWindow.latest() / returnWindow.oldest() - 1) * 100;
+  }
+
+  /** 고정 크기 원형 버퍼. 합/제곱합을 함께 유지한다. */
+  private static final class RollingWindow {
+
+    private final double[] values;
+    private int head;
+    private int size;
+    private double sum;
+    private double sumSq;
+
+    RollingWindow(int capacity) {
+      this.values = new double[capacity];
+    }
+
+    void add(double value) {
+      if (size == values.length) {
+        double evicted = values[head];
+        sum -= evicted;
+        sumSq -= evicted * evicted;
+      } else {
+        size++;
+      }
+      values[head] = value;
+      head = (head + 1) % values.length;
+      sum += value;
+      sumSq += value * value;
+    }
+
+    boolean isFull() {
+      return size == values.length;
+    }
+
+    int size() {
+      return size;
+    }
+
+    double mean() {
+      return size == 0 ? 0 : sum / size;
+    }
+
+    double sampleVariance() {
+      double variance = (sumSq - sum * sum / size) / (size - 1);
+      // 누적 오차로 음수가 되는 경우 방지
+      return Math.max(variance, 0);
+    }
+
+    double latest() {
+      return values[(head - 1 + values.length) % values.length];
+    }
+
+    double oldest() {
+      return isFull() ? values[head] : values[0];
+    }
+  }
+}
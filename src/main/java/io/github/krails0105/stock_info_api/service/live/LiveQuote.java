@@ -0,0 +1,43 @@
+package io.github.krails0105.stock_info_api.service.live;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 실시간 체결 시세.
+ *
+ * @param code 종목 코드
+ * @param tradeTime 체결 시각 (HHmmss)
+ * @param price 현재가 (원)
+ * @param change 전일 대비 (원, 하락 시 음수)
+ * @param changeRate 전일 대비율 (%)
+ * @param accumulatedVolume 누적 거래량
+ * @param receivedAt 수신 시각
+ */
+public record LiveQuote(
+    String code,
+    String tradeTime,
+    long price,
+    long change,
+    double changeRate,
+    long accumulatedVolume,
+    Instant receivedAt) {
+
+  /** 거래일 기준 시간대 */
+  private static final ZoneId MARKET_ZONE = ZoneId.of("Asia/Seoul");
+
+  /**
+   * 아직 현재가로 쓸 수 있는 시세인지 여부.
+   *
+   * @param now 현재 시각
+   * @param maxAge 최대 수신 경과 시간
+   * @return 같은 거래일(한국 시간)에 받았고 maxAge가 지나지 않았으면 true
+   */
+  public boolean isFresh(Instant now, Duration maxAge) {
+    LocalDate tradeDate = LocalDate.ofInstant(receivedAt, MARKET_ZONE);
+    return tradeDate.equals(LocalDate.ofInstant(now, MARKET_ZONE))
+        && !receivedAt.plus(maxAge).isBefore(now);
+  }
+}
@@ -0,0 +1,136 @@
+package io.github.krails0105.stock_info_api.service.live;
+
+import io.github.krails0105.stock_info_api.config.KisRestClientProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * 실시간 시세 스냅샷 서비스.
+ *
+ * <p>웹소켓 틱은 {@link #onTick(LiveQuote)}로 종목별 대기 슬롯에 덮어써지고(병합), 병합 주기마다 {@link #flush()}가 종목당 최신 틱만
+ * 스냅샷에 반영한 뒤 {@link LiveQuotesUpdatedEvent}를 한 번 발행한다. 틱이 몰려도 후속 계산은 주기당 종목 1회로 제한된다.
+ *
+ * <p>반영은 전용 스레드에서 실행한다. 공용 {@code @Scheduled} 스레드는 하나뿐이라, 뉴스 수집이나 지표 재계산 같은 긴 작업이 돌면 200ms 주기가
+ * 밀리기 때문이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LiveQuoteService {
+
+  private final ApplicationEventPublisher eventPublisher;
+  private final KisRestClientProperties properties;
+
+  /** 종목별 최신 반영 시세 */
+  private final Map<String, LiveQuote> snapshot = new ConcurrentHashMap<>();
+
+  /** 다음 반영을 기다리는 종목별 최신 틱 */
+  private final Map<String, LiveQuote> pending = new ConcurrentHashMap<>();
+
+  private final LongAdder ticksReceived = new LongAdder();
+  private final LongAdder quotesApplied = new LongAdder();
+
+  private final ScheduledExecutorService flushExecutor =
+      Executors.newSingleThreadScheduledExecutor(
+          new CustomizableThreadFactory("live-quote-flush-"));
+
+  /**
+   * 병합 주기 반영 시작.
+   *
+   * <p>application.yml의 rest-client.kis.websocket.coalesce-interval로 조정 가능.
+   */
+  @PostConstruct
+  void start() {
+    long intervalMillis = properties.getWebsocket().getCoalesceInterval().toMillis();
+    flushExecutor.scheduleWithFixedDelay(
+        this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    flushExecutor.shutdownNow();
+  }
+
+  /**
+   * 틱 수신 (같은 종목의 이전 대기 틱은 버려짐).
+   *
+   * @param quote 체결 틱
+   */
+  public void onTick(LiveQuote quote) {
+    pending.put(quote.code(), quote);
+    ticksReceived.increment();
+  }
+
+  /** 대기 중인 틱을 스냅샷에 반영 (병합 주기마다 실행). */
+  public void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+
+    List<LiveQuote> batch = new ArrayList<>(pending.size());
+    for (String code : pending.keySet()) {
+      // 반영 도중 들어온 틱은 슬롯에 남아 다음 주기에 반영됨
+      LiveQuote quote = pending.remove(code);
+      if (quote != null) {
+        snapshot.put(code, quote);
+        batch.add(quote);
+      }
+    }
+
+    quotesApplied.add(batch.size());
+    eventPublisher.publishEvent(new LiveQuotesUpdatedEvent(List.copyOf(batch)));
+  }
+
+  /**
+   * 종목 실시간 시세 조회.
+   *
+   * @param code 종목 코드
+   * @return 최근 반영된 시세 (수신 이력이 없으면 null)
+   */
+  public LiveQuote getQuote(String code) {
+    return snapshot.get(code);
+  }
+
+  /** 전체 스냅샷 (복사본). */
+  public Map<String, LiveQuote> getSnapshot() {
+    return Map.copyOf(snapshot);
+  }
+
+  /** 수신/반영 통계. */
+  public Stats stats() {
+    return new Stats(ticksReceived.sum(), quotesApplied.sum(), snapshot.size());
+  }
+
+  // ==================== Private Methods ====================
+
+  /** 리스너 예외로 주기 실행이 멈추지 않도록 예외를 기록만 한다 */
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (Exception e) {
+      log.warn("Live quote flush failed: {}", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 수신/반영 통계.
+   *
+   * @param ticksReceived 수신한 틱 수
+   * @param quotesApplied 병합 후 스냅샷에 반영한 횟수
+   * @param codes 스냅샷 종목 수
+   */
+  public record Stats(long ticksReceived, long quotesApplied, int codes) {}
+}
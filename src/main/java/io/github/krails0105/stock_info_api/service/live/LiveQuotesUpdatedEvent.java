@@ -0,0 +1,12 @@
+package io.github.krails0105.stock_info_api.service.live;
+
+import java.util.List;
+
+/**
+ * 실시간 시세 스냅샷 갱신 이벤트.
+ *
+ * <p>병합 주기마다 한 번 발행되며, 종목당 최신 시세 하나만 담긴다.
+ *
+ * @param quotes 이번 주기에 갱신된 시세
+ */
+public record LiveQuotesUpdatedEvent(List<LiveQuote> quotes) {}
@@ -0,0 +1,205 @@
+package io.github.krails0105.stock_info_api.service.news;
+
+import io.github.krails0105.stock_info_api.config.NewsProperties;
+import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle;
+import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle.NewsTag;
+import io.github.krails0105.stock_info_api.repository.ProcessedNewsArticleRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 클러스터 대표 기사 역색인 (종목 코드 / 섹터명 / 태그).
+ *
+ * <p>대표 기사를 발행 시각 기준 1시간 버킷에 나눠 담고, 버킷마다 종목 코드, 섹터명, 태그별 목록을 둔다. 조회는 기준 시각 이후 버킷의 해당 키
+ * 목록만 훑으므로 DB 접근 없이 결과 수(k)에 비례한다. 클러스터링 윈도우(news.clustering.window-hours)를 벗어난 버킷은 통째로 버린다.
+ *
+ * <p>{@link NewsProcessorService}가 대표 기사를 저장할 때마다 커밋 후 추가하고, 기동 시에는 윈도우 안의 대표 기사로 다시 만든다.
+ */
+@Slf4j
+@Component
+public class NewsArticleIndex {
+
+  private final ProcessedNewsArticleRepository processedNewsRepository;
+  private final NewsProperties newsProperties;
+
+  /** 버킷 시작 시각(정시) → 버킷 */
+  private final NavigableMap<LocalDateTime, Bucket> buckets = new TreeMap<>();
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  public NewsArticleIndex(
+      ProcessedNewsArticleRepository processedNewsRepository, NewsProperties newsProperties) {
+    this.processedNewsRepository = processedNewsRepository;
+    this.newsProperties = newsProperties;
+  }
+
+  /** 클러스터링 윈도우 안의 대표 기사로 색인을 다시 만든다. */
+  @PostConstruct
+  public void rebuild() {
+    LocalDateTime since = windowStart();
+    List<ProcessedNewsArticle> representatives =
+        processedNewsRepository.findRepresentativesSince(since);
+
+    lock.writeLock().lock();
+    try {
+      buckets.clear();
+      representatives.forEach(this::addInternal);
+    } finally {
+      lock.writeLock().unlock();
+    }
+    log.info("News article index rebuilt: {} representatives since {}", size(), since);
+  }
+
+  /**
+   * 저장한 기사를 색인에 등록한다 (대표 기사만).
+   *
+   * <p>트랜잭션 안이면 커밋된 뒤에 등록하여, 저장이 롤백된 기사가 조회되지 않게 한다.
+   *
+   * @param article 저장한 기사
+   */
+  public void register(ProcessedNewsArticle article) {
+    if (!Boolean.TRUE.equals(article.getIsClusterRepresentative())
+        || article.getPublishedAt() == null) {
+      return;
+    }
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              add(article);
+            }
+          });
+    } else {
+      add(article);
+    }
+  }
+
+  /**
+   * 종목 대표 기사 조회.
+   *
+   * @param stockCode 종목 코드
+   * @param after 이 시각 이후에 발행된 기사만
+   * @return 대표 기사 (순서 없음)
+   */
+  public List<ProcessedNewsArticle> findByStockCode(String stockCode, LocalDateTime after) {
+    return find(bucket -> bucket.byStockCode.get(stockCode), after);
+  }
+
+  /**
+   * 섹터 대표 기사 조회.
+   *
+   * @param sectorName 섹터명
+   * @param after 이 시각 이후에 발행된 기사만
+   * @return 대표 기사 (순서 없음)
+   */
+  public List<ProcessedNewsArticle> findBySectorName(String sectorName, LocalDateTime after) {
+    return find(bucket -> bucket.bySectorName.get(sectorName), after);
+  }
+
+  /**
+   * 태그 대표 기사 조회.
+   *
+   * @param tag 태그
+   * @param after 이 시각 이후에 발행된 기사만
+   * @return 대표 기사 (순서 없음)
+   */
+  public List<ProcessedNewsArticle> findByTag(NewsTag tag, LocalDateTime after) {
+    return find(bucket -> bucket.byTag.get(tag), after);
+  }
+
+  /** 색인된 대표 기사 수 */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return buckets.values().stream().mapToInt(bucket -> bucket.size).sum();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // ==================== Private Methods ====================
+
+  private void add(ProcessedNewsArticle article) {
+    lock.writeLock().lock();
+    try {
+      // 윈도우를 벗어난 버킷 제거 (버킷 끝이 윈도우 시작 이전인 것)
+      buckets.headMap(windowStart().truncatedTo(ChronoUnit.HOURS), false).clear();
+      addInternal(article);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void addInternal(ProcessedNewsArticle article) {
+    Bucket bucket =
+        buckets.computeIfAbsent(
+            article.getPublishedAt().truncatedTo(ChronoUnit.HOURS), ignored -> new Bucket());
+    if (article.getStockCode() != null) {
+      post(bucket.byStockCode, article.getStockCode(), article);
+    }
+    if (article.getSectorName() != null) {
+      post(bucket.bySectorName, article.getSectorName(), article);
+    }
+    if (article.getTags() != null) {
+      for (NewsTag tag : article.getTags()) {
+        post(bucket.byTag, tag, article);
+      }
+    }
+    bucket.size++;
+  }
+
+  private static <K> void post(
+      Map<K, List<ProcessedNewsArticle>> postings, K key, ProcessedNewsArticle article) {
+    postings.computeIfAbsent(key, ignored -> new ArrayList<>()).add(article);
+  }
+
+  private List<ProcessedNewsArticle> find(
+      Function<Bucket, List<ProcessedNewsArticle>> postings, LocalDateTime after) {
+    List<ProcessedNewsArticle> result = new ArrayList<>();
+    lock.readLock().lock();
+    try {
+      for (Bucket bucket : buckets.tailMap(after.truncatedTo(ChronoUnit.HOURS), true).values()) {
+        List<ProcessedNewsArticle> articles = postings.apply(bucket);
+        if (articles == null) {
+          continue;
+        }
+        for (ProcessedNewsArticle article : articles) {
+          if (article.getPublishedAt().isAfter(after)) {
+            result.add(article);
+          }
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    return result;
+  }
+
+  private LocalDateTime windowStart() {
+    return LocalDateTime.now().minusHours(newsProperties.getClustering().getWindowHours());
+  }
+
+  /** 1시간 버킷 (키별 대표 기사 목록). */
+  private static final class Bucket {
+    private final Map<String, List<ProcessedNewsArticle>> byStockCode = new HashMap<>();
+    private final Map<String, List<ProcessedNewsArticle>> bySectorName = new HashMap<>();
+    private final Map<NewsTag, List<ProcessedNewsArticle>> byTag = new EnumMap<>(NewsTag.class);
+    private int size;
+  }
+}
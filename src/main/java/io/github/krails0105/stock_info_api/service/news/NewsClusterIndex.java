@@ -0,0 +1,183 @@
+package io.github.krails0105.stock_info_api.service.news;
+
+import io.github.krails0105.stock_info_api.util.MinHashLsh;
+import io.github.krails0105.stock_info_api.util.SimHashIndex;
+import io.github.krails0105.stock_info_api.util.TokenDictionary;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 클러스터 대표 기사 슬라이딩 윈도우 인덱스 (스레드 안전하지 않음, 호출 측에서 잠금).
+ *
+ * <p>대표 기사를 발행 시각순으로 유지하고, 윈도우가 밀려나면 가장 오래된 것부터 제거한다. 후보 검색은 {@link MinHashLsh}로, 유사도 비교용
+ * 토큰은 {@link TokenDictionary}의 정렬된 ID 배열로 한 번만 만들어 둔다. 제목 SimHash는 {@link SimHashIndex}에 따로 넣어
+ * 거의 같은 제목을 Jaccard 비교 없이 바로 찾는다.
+ *
+ * <p>조회 토큰은 사전에 등록하지 않는다. 대표 기사가 빠져 사전의 절반 이상이 쓰이지 않는 토큰이 되면, 남은 대표 기사 기준으로 사전을 압축한다.
+ */
+final class NewsClusterIndex {
+
+  /** 이 크기 이하의 사전은 압축하지 않는다 */
+  private static final int COMPACT_MIN_TOKENS = 4096;
+
+  private final MinHashLsh<String> lsh;
+  private final TokenDictionary tokenDictionary = new TokenDictionary();
+  private final SimHashIndex<String> simHashIndex = new SimHashIndex<>();
+
+  /** 클러스터 ID → 대표 기사 */
+  private final Map<String, Representative> byClusterId = new HashMap<>();
+
+  /** 발행 시각순 대표 기사 (만료용) */
+  private final NavigableSet<Representative> byPublishedAt =
+      new TreeSet<>(
+          Comparator.comparing(Representative::publishedAt)
+              .thenComparing(Representative::clusterId));
+
+  /** 대표 기사 토큰 ID 수 합계 (사용 중인 토큰 수의 상한) */
+  private long liveTokenRefs;
+
+  NewsClusterIndex(int bands, int rows) {
+    this.lsh = new MinHashLsh<>(bands, rows);
+  }
+
+  /**
+   * 대표 기사 추가 (같은 클러스터가 있으면 교체)
+   *
+   * @param clusterId 클러스터 ID
+   * @param tokens 제목 토큰
+   * @param simHash 제목 SimHash (없으면 SimHash 조회 대상에서 빠짐)
+   * @param publishedAt 발행 시각
+   */
+  void add(String clusterId, Set<String> tokens, OptionalLong simHash, LocalDateTime publishedAt) {
+    remove(clusterId);
+    Representative representative =
+        new Representative(clusterId, tokenDictionary.toSortedIds(tokens), publishedAt);
+    byClusterId.put(clusterId, representative);
+    byPublishedAt.add(representative);
+    liveTokenRefs += representative.tokenIds().length;
+    lsh.put(clusterId, tokens);
+    if (simHash.isPresent()) {
+      simHashIndex.put(clusterId, simHash.getAsLong());
+    }
+  }
+
+  /**
+   * 윈도우를 벗어난 대표 기사 제거 (사전이 성기면 압축)
+   *
+   * @param cutoff 이 시각 이전(포함)에 발행된 대표 기사를 제거
+   * @return 제거한 수
+   */
+  int evictUpTo(LocalDateTime cutoff) {
+    int evicted = 0;
+    while (!byPublishedAt.isEmpty() && !byPublishedAt.first().publishedAt().isAfter(cutoff)) {
+      Representative expired = byPublishedAt.pollFirst();
+      byClusterId.remove(expired.clusterId());
+      liveTokenRefs -= expired.tokenIds().length;
+      lsh.remove(expired.clusterId());
+      simHashIndex.remove(expired.clusterId());
+      evicted++;
+    }
+    if (evicted > 0) {
+      compactIfSparse();
+    }
+    return evicted;
+  }
+
+  /**
+   * 후보 대표 기사 조회
+   *
+   * @param tokens 제목 토큰
+   * @param after 이 시각 이후에 발행된 대표 기사만
+   * @return LSH 후보 대표 기사
+   */
+  List<Representative> candidates(Set<String> tokens, LocalDateTime after) {
+    List<Representative> candidates = new ArrayList<>();
+    for (String clusterId : lsh.candidates(tokens)) {
+      Representative representative = byClusterId.get(clusterId);
+      if (representative.publishedAt().isAfter(after)) {
+        candidates.add(representative);
+      }
+    }
+    return candidates;
+  }
+
+  /**
+   * SimHash가 가장 가까운 대표 기사 조회
+   *
+   * @param simHash 제목 SimHash
+   * @param maxDistance 최대 해밍 거리 (0 ~ {@link SimHashIndex#MAX_DISTANCE})
+   * @param after 이 시각 이후에 발행된 대표 기사만
+   * @return 가장 가까운 대표 기사와 해밍 거리
+   */
+  Optional<SimHashIndex.Hit<String>> nearest(long simHash, int maxDistance, LocalDateTime after) {
+    for (SimHashIndex.Hit<String> hit : simHashIndex.within(simHash, maxDistance)) {
+      if (byClusterId.get(hit.key()).publishedAt().isAfter(after)) {
+        return Optional.of(hit);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * 인덱스와 같은 사전으로 만든 정렬된 토큰 ID (사전에 등록하지 않음)
+   *
+   * @param tokens 토큰
+   * @return 정렬된 토큰 ID (사전에 없는 토큰은 음수 임시 ID)
+   */
+  int[] tokenIds(Collection<String> tokens) {
+    return tokenDictionary.lookupSortedIds(tokens);
+  }
+
+  /** 전체 삭제 */
+  void clear() {
+    byClusterId.clear();
+    byPublishedAt.clear();
+    lsh.clear();
+    simHashIndex.clear();
+    tokenDictionary.clear();
+    liveTokenRefs = 0;
+  }
+
+  /** 대표 기사 수 */
+  int size() {
+    return byClusterId.size();
+  }
+
+  /** 토큰 사전 크기 */
+  int dictionarySize() {
+    return tokenDictionary.size();
+  }
+
+  // ==================== Private Methods ====================
+
+  private void remove(String clusterId) {
+    Representative previous = byClusterId.remove(clusterId);
+    if (previous != null) {
+      byPublishedAt.remove(previous);
+      liveTokenRefs -= previous.tokenIds().length;
+      lsh.remove(clusterId);
+      simHashIndex.remove(clusterId);
+    }
+  }
+
+  /** 사전 토큰의 절반 이상이 어떤 대표 기사에도 쓰이지 않으면 압축 */
+  private void compactIfSparse() {
+    int dictionarySize = tokenDictionary.size();
+    if (dictionarySize > COMPACT_MIN_TOKENS && dictionarySize > 2 * liveTokenRefs) {
+      tokenDictionary.compact(byClusterId.values().stream().map(Representative::tokenIds).toList());
+    }
+  }
+
+  /** 인덱스에 있는 대표 기사. */
+  record Representative(String clusterId, int[] tokenIds, LocalDateTime publishedAt) {}
+}
@@ -4,10 +4,18 @@ import com.rometools.rome.feed.synd.SyndEntry;
 import com.rometools.rome.feed.synd.SyndFeed;
 import com.rometools.rome.io.SyndFeedInput;
 import com.rometools.rome.io.XmlReader;
+import io.github.krails0105.stock_info_api.config.NewsProperties;
 import io.github.krails0105.stock_info_api.entity.RawNewsArticle;
 import io.github.krails0105.stock_info_api.entity.RawNewsArticle.ProcessingStatus;
+import io.github.krails0105.stock_info_api.entity.RssFeedState;
+import io.github.krails0105.stock_info_api.provider.upstream.Upstream;
+import io.github.krails0105.stock_info_api.provider.upstream.UpstreamGuard;
+import io.github.krails0105.stock_info_api.provider.upstream.UpstreamMetrics;
 import io.github.krails0105.stock_info_api.repository.RawNewsArticleRepository;
-import java.net.URL;
+import io.github.krails0105.stock_info_api.repository.RssFeedStateRepository;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.net.URI;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -16,22 +24,86 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
 
 /**
  * RSS 피드에서 뉴스를 수집하는 서비스.
  *
- * <p>여러 RSS 소스에서 뉴스를 가져와 정규화 후 DB에 저장한다. URL 기반 중복 체크로 이미 수집된 뉴스는 건너뛴다.
+ * <p>여러 RSS 소스에서 뉴스를 가져와 정규화 후 DB에 저장한다. URL 기반 중복 체크(블룸 필터 + 일괄 DB 조회)로 이미 수집된 뉴스는
+ * 건너뛴다. 피드는 병렬로 조회하며 호스트별 동시 요청 수를 제한한다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NewsCollectorService {
 
   private final RawNewsArticleRepository rawNewsRepository;
+  private final RssFeedStateRepository feedStateRepository;
+  private final NewsUrlFilter urlFilter;
+  private final NewsPipeline newsPipeline;
+  private final UpstreamGuard upstreamGuard;
+  private final UpstreamMetrics upstreamMetrics;
+  private final RestClient restClient;
+  private final TransactionTemplate transactionTemplate;
+  private final ExecutorService collectExecutor;
+  private final int maxPerHost;
+  private final int watermarkOverlapMinutes;
+
+  /** 호스트별 동시 요청 허용 수 */
+  private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+  public NewsCollectorService(
+      RawNewsArticleRepository rawNewsRepository,
+      RssFeedStateRepository feedStateRepository,
+      NewsUrlFilter urlFilter,
+      NewsPipeline newsPipeline,
+      UpstreamGuard upstreamGuard,
+      UpstreamMetrics upstreamMetrics,
+      ClientHttpRequestFactory upstreamRequestFactory,
+      PlatformTransactionManager transactionManager,
+      NewsProperties newsProperties) {
+    this.rawNewsRepository = rawNewsRepository;
+    this.feedStateRepository = feedStateRepository;
+    this.urlFilter = urlFilter;
+    this.newsPipeline = newsPipeline;
+    this.upstreamGuard = upstreamGuard;
+    this.upstreamMetrics = upstreamMetrics;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.collectExecutor =
+        Executors.newFixedThreadPool(
+            newsProperties.getCollection().getParallelism(),
+            new CustomizableThreadFactory("rss-collect-"));
+    this.maxPerHost = newsProperties.getCollection().getMaxPerHost();
+    this.watermarkOverlapMinutes = newsProperties.getCollection().getWatermarkOverlapMinutes();
+    this.restClient =
+        RestClient.builder()
+            .requestFactory(upstreamRequestFactory)
+            .requestInterceptor(upstreamMetrics.interceptor(Upstream.GOOGLE_NEWS))
+            .build();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    collectExecutor.shutdownNow();
+  }
 
   /** Google News RSS 기본 URL */
   private static final String GOOGLE_NEWS_RSS_BASE =
@@ -115,30 +187,37 @@ public class NewsCollectorService {
   /**
    * 모든 설정된 RSS 피드에서 뉴스를 수집한다.
    *
+   * <p>피드는 수집 스레드 풀에서 동시에 조회하되 호스트별 동시 요청 수는 max-per-host로 제한하며, 피드마다 별도 트랜잭션으로 저장한다. 한
+   * 피드가 실패해도 다른 피드의 저장 결과는 유지된다. 수집 스레드가 인터럽트되면 아직 시작하지 않은 피드는 건너뛰고 주기를 끝낸다.
+   *
    * @return 수집 결과 (수집/중복/에러 건수)
    */
-  @Transactional
   public CollectionResult collectFromAllFeeds() {
+    log.info("Starting news collection from {} feeds", RSS_FEEDS.size());
+    urlFilter.rebuildIfSaturated();
+
+    // 여러 피드에 같은 기사가 실리는 경우 이번 주기에서 먼저 잡은 피드만 저장
+    Set<String> claimedUrls = ConcurrentHashMap.newKeySet();
+    AtomicBoolean stopped = new AtomicBoolean();
+    List<CompletableFuture<CollectionResult>> futures =
+        RSS_FEEDS.stream()
+            .map(
+                feed ->
+                    CompletableFuture.supplyAsync(
+                        () -> collectQuietly(feed, claimedUrls, stopped), collectExecutor))
+            .toList();
+
     int totalCollected = 0;
     int totalDuplicates = 0;
     int totalErrors = 0;
-
-    log.info("Starting news collection from {} feeds", RSS_FEEDS.size());
-
-    for (RssFeedConfig feed : RSS_FEEDS) {
-      try {
-        CollectionResult result = collectFromFeed(feed);
-        totalCollected += result.collected();
-        totalDuplicates += result.duplicates();
-        log.info(
-            "Feed [{}]: collected={}, duplicates={}",
-            feed.name(),
-            result.collected(),
-            result.duplicates());
-      } catch (Exception e) {
-        log.error("Failed to collect from feed: {}", feed.name(), e);
-        totalErrors++;
-      }
+    for (CompletableFuture<CollectionResult> future : futures) {
+      CollectionResult result = future.join();
+      totalCollected += result.collected();
+      totalDuplicates += result.duplicates();
+      totalErrors += result.errors();
+    }
+    if (stopped.get()) {
+      log.warn("Collection cycle interrupted; remaining feeds skipped");
     }
 
     log.info(
@@ -157,28 +236,148 @@ public class NewsCollectorService {
    * @return 수집 결과
    */
   public CollectionResult collectFromFeed(RssFeedConfig feed) throws Exception {
-    SyndFeedInput input = new SyndFeedInput();
-    SyndFeed syndFeed;
+    return collectFromFeed(feed, ConcurrentHashMap.newKeySet());
+  }
+
+  // ==================== Private Methods ====================
+
+  /** 피드 수집 (실패 시 에러 1건으로 집계, 인터럽트되면 주기 중단). */
+  private CollectionResult collectQuietly(
+      RssFeedConfig feed, Set<String> claimedUrls, AtomicBoolean stopped) {
+    if (stopped.get()) {
+      return new CollectionResult(0, 0, 0);
+    }
+    try {
+      CollectionResult result = collectFromFeed(feed, claimedUrls);
+      log.info(
+          "Feed [{}]: collected={}, duplicates={}",
+          feed.name(),
+          result.collected(),
+          result.duplicates());
+      return result;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      stopped.set(true);
+      log.warn("Interrupted while collecting feed: {}", feed.name());
+      return new CollectionResult(0, 0, 1);
+    } catch (Exception e) {
+      log.error("Failed to collect from feed: {}", feed.name(), e);
+      return new CollectionResult(0, 0, 1);
+    }
+  }
+
+  /**
+   * 피드 조회/파싱 후 저장.
+   *
+   * <p>조회는 호스트별 허용 수 안에서만 수행하고, 저장은 네트워크 대기가 끝난 뒤 피드 단위 트랜잭션으로 묶는다. 저장된 검증자로 조건부 요청을 보내
+   * 304면 파싱/저장을 건너뛴다. 커밋된 새 기사는 처리 파이프라인으로 넘긴다.
+   */
+  private CollectionResult collectFromFeed(RssFeedConfig feed, Set<String> claimedUrls)
+      throws InterruptedException {
+    RssFeedState state = feedStateRepository.findById(feed.name()).orElse(null);
+
+    Semaphore hostPermits = hostPermits(feed.url());
+    hostPermits.acquire();
+    FeedResponse response;
+    try {
+      // 서킷이 열려 있으면 즉시 실패 (이미 수집된 기사는 DB에 있으므로 대체값 없음)
+      response = upstreamGuard.execute(Upstream.GOOGLE_NEWS, () -> fetchFeed(feed, state));
+    } finally {
+      hostPermits.release();
+    }
 
-    try (XmlReader reader = new XmlReader(new URL(feed.url()))) {
-      syndFeed = input.build(reader);
+    if (response.notModified()) {
+      log.debug("Feed [{}] not modified", feed.name());
+      return new CollectionResult(0, 0, 0);
     }
 
-    int collected = 0;
+    SyndFeed syndFeed =
+        upstreamMetrics.parse(
+            Upstream.GOOGLE_NEWS,
+            feed.name(),
+            "parse",
+            () -> parseFeed(feed, response.body()),
+            parsed -> parsed.getEntries().size());
+
+    SavedEntries saved =
+        transactionTemplate.execute(
+            status -> saveEntries(feed, state, response, syndFeed, claimedUrls));
+
+    // 커밋 후 처리 큐로 전달 (큐가 가득 차면 대기)
+    newsPipeline.submit(saved.articles());
+    return saved.result();
+  }
+
+  private Semaphore hostPermits(String url) {
+    String host = URI.create(url).getHost();
+    return hostPermits.computeIfAbsent(host, ignored -> new Semaphore(maxPerHost));
+  }
+
+  /**
+   * 피드 항목 중 새 기사만 저장하고 피드 상태(검증자, 워터마크) 갱신.
+   *
+   * <p>발행 시각이 워터마크보다 watermark-overlap-minutes 이상 오래된 항목은 이미 처리한 것으로 보고 DB 조회 없이 건너뛴다. 피드가
+   * 발행 시각순으로 정렬되어 있다는 보장이 없으므로 중단하지 않고 항목마다 판단한다. 남은 항목은 URL 필터로 거른 뒤 한 번의 IN 조회로
+   * 이미 저장된 URL을 확인하고, 새 기사는 한 번에 저장한다.
+   */
+  private SavedEntries saveEntries(
+      RssFeedConfig feed,
+      RssFeedState state,
+      FeedResponse response,
+      SyndFeed syndFeed,
+      Set<String> claimedUrls) {
+    LocalDateTime watermark = state != null ? state.getWatermark() : null;
+    LocalDateTime skipBefore =
+        watermark != null ? watermark.minusMinutes(watermarkOverlapMinutes) : null;
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime newest = watermark;
+
     int duplicates = 0;
+    List<SyndEntry> candidates = new ArrayList<>();
+    List<String> candidateUrls = new ArrayList<>();
 
     for (SyndEntry entry : syndFeed.getEntries()) {
+      if (entry.getPublishedDate() != null) {
+        LocalDateTime publishedAt = toLocalDateTime(entry.getPublishedDate());
+        if (skipBefore != null && publishedAt.isBefore(skipBefore)) {
+          duplicates++;
+          continue;
+        }
+        // 미래 시각(시계 오차)은 워터마크로 쓰지 않음
+        if (!publishedAt.isAfter(now) && (newest == null || publishedAt.isAfter(newest))) {
+          newest = publishedAt;
+        }
+      }
+
       String url = normalizeUrl(entry.getLink());
+      if (!claimedUrls.add(url)) {
+        duplicates++;
+        continue;
+      }
+      candidates.add(entry);
+      candidateUrls.add(url);
+    }
 
-      // URL 기반 중복 체크
-      if (rawNewsRepository.existsByUrl(url)) {
+    // URL 기반 중복 체크: 필터가 "있을 수 있음"이라고 답한 URL만 한 번에 DB 조회
+    List<String> maybeSeen = candidateUrls.stream().filter(urlFilter::mightContain).toList();
+    Set<String> existing =
+        maybeSeen.isEmpty() ? Set.of() : rawNewsRepository.findExistingUrls(maybeSeen);
+
+    List<RawNewsArticle> articles = new ArrayList<>();
+    for (int i = 0; i < candidates.size(); i++) {
+      SyndEntry entry = candidates.get(i);
+      String url = candidateUrls.get(i);
+      if (existing.contains(url)) {
         duplicates++;
         continue;
       }
 
-      RawNewsArticle article =
+      String title = cleanTitle(entry.getTitle());
+      OptionalLong titleSimHash = NewsTitleFingerprint.of(title);
+      articles.add(
           RawNewsArticle.builder()
-              .title(cleanTitle(entry.getTitle()))
+              .title(title)
+              .titleSimHash(titleSimHash.isPresent() ? titleSimHash.getAsLong() : null)
               .publisher(extractPublisher(entry, feed.name()))
               .url(url)
               .publishedAt(toLocalDateTime(entry.getPublishedDate()))
@@ -186,13 +385,82 @@ public class NewsCollectorService {
               .sourceFeed(feed.name())
               .collectedAt(LocalDateTime.now())
               .status(ProcessingStatus.PENDING)
-              .build();
-
-      rawNewsRepository.save(article);
-      collected++;
+              .build());
     }
 
-    return new CollectionResult(collected, duplicates, 0);
+    // 피드 단위 일괄 저장 (JDBC 배치)
+    rawNewsRepository.saveAll(articles);
+    articles.forEach(article -> urlFilter.put(article.getUrl()));
+
+    feedStateRepository.save(
+        RssFeedState.builder()
+            .feedName(feed.name())
+            .etag(response.etag())
+            .lastModified(response.lastModified())
+            .watermark(newest)
+            .lastFetchedAt(now)
+            .build());
+
+    return new SavedEntries(new CollectionResult(articles.size(), duplicates, 0), articles);
+  }
+
+  /**
+   * RSS 피드 조건부 조회.
+   *
+   * @param feed 피드 설정
+   * @param state 이전 폴링 상태 (없으면 null)
+   * @return 응답 (304면 본문 없음)
+   */
+  private FeedResponse fetchFeed(RssFeedConfig feed, RssFeedState state) {
+    return restClient
+        .get()
+        .uri(URI.create(feed.url()))
+        .accept(MediaType.APPLICATION_XML, MediaType.ALL)
+        .headers(
+            headers -> {
+              if (state != null && state.getEtag() != null) {
+                headers.set(HttpHeaders.IF_NONE_MATCH, state.getEtag());
+              }
+              if (state != null && state.getLastModified() != null) {
+                headers.set(HttpHeaders.IF_MODIFIED_SINCE, state.getLastModified());
+              }
+            })
+        .attribute(UpstreamMetrics.ENDPOINT_ATTRIBUTE, feed.name())
+        .exchange(
+            (request, response) -> {
+              if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                return new FeedResponse(true, null, null, null);
+              }
+              if (response.getStatusCode().isError()) {
+                throw new RestClientResponseException(
+                    "RSS 피드 응답 오류: " + feed.url(),
+                    response.getStatusCode(),
+                    response.getStatusText(),
+                    response.getHeaders(),
+                    null,
+                    null);
+              }
+              return new FeedResponse(
+                  false,
+                  response.getBody().readAllBytes(),
+                  response.getHeaders().getETag(),
+                  response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED));
+            });
+  }
+
+  /**
+   * RSS 피드 파싱 (XML 선언의 인코딩을 따름).
+   *
+   * @param feed 피드 설정
+   * @param body 응답 본문
+   * @return 파싱된 피드
+   */
+  private SyndFeed parseFeed(RssFeedConfig feed, byte[] body) {
+    try (XmlReader reader = new XmlReader(new ByteArrayInputStream(body))) {
+      return new SyndFeedInput().build(reader);
+    } catch (Exception e) {
+      throw new RuntimeException("RSS 피드 파싱 실패: " + feed.url(), e);
+    }
   }
 
   /**
@@ -300,6 +568,13 @@ public class NewsCollectorService {
   /** RSS 피드 설정. */
   public record RssFeedConfig(String name, String url) {}
 
+  /** 피드 저장 결과 (처리 큐로 넘길 새 기사 포함). */
+  private record SavedEntries(CollectionResult result, List<RawNewsArticle> articles) {}
+
+  /** 피드 조회 응답. */
+  private record FeedResponse(
+      boolean notModified, byte[] body, String etag, String lastModified) {}
+
   /** 수집 결과. */
   public record CollectionResult(int collected, int duplicates, int errors) {}
 }
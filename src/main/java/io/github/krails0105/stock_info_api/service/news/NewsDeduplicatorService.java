@@ -2,30 +2,102 @@ package io.github.krails0105.stock_info_api.service.news;
 
 import io.github.krails0105.stock_info_api.config.NewsProperties;
 import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle;
+import io.github.krails0105.stock_info_api.entity.RawNewsArticle;
 import io.github.krails0105.stock_info_api.repository.ProcessedNewsArticleRepository;
+import io.github.krails0105.stock_info_api.util.SimHashIndex;
+import io.github.krails0105.stock_info_api.util.TokenDictionary;
+import jakarta.annotation.PostConstruct;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 뉴스 중복 제거 및 클러스터링 서비스.
  *
  * <p>Jaccard 유사도 기반으로 유사한 뉴스를 클러스터링하고 대표 기사를 선정한다.
+ *
+ * <p>[후보 검색] 클러스터링 윈도우(news.clustering.window-hours) 안의 모든 대표 기사를 {@link NewsClusterIndex}에 발행
+ * 시각순으로 유지한다. 새 대표 기사는 바로 추가되고, 윈도우가 밀려나면 오래된 대표 기사부터 제거된다. 할당 시에는 이 인덱스만 보므로 DB는
+ * 저장에만 쓰인다 (기동 시 재구성 제외). 후보는 MinHash LSH(20 band × 3 row)로 고르며, 임계값 0.6에서 후보 재현율은 약 99%다.
+ *
+ * <p>[유사도 계산] 토큰은 {@link TokenDictionary}로 정수 ID로 바꾸고, 대표 기사의 토큰은 정렬된 int[]로 한 번만 만들어 둔다. 후보 비교는
+ * 병합 방식이라 비교마다 토큰화나 집합 할당이 없다.
+ *
+ * <p>[근접 중복] 수집 시 저장한 제목 SimHash({@link NewsTitleFingerprint})로 해밍 거리 3 이하인 대표 기사를 먼저
+ * 찾는다. 64비트 지문을 16비트 블록 4개로 나눈 표({@link SimHashIndex})를 조회하므로 비교 대상이 거의 없다. 언론사 접미사나 말머리만
+ * 다른 재전송 기사는 여기서 바로 기존 클러스터에 붙고, Jaccard 비교는 찾지 못한 경우에만 한다. 말머리나 기호뿐이라 지문이 없는 제목은
+ * 이 단계를 건너뛴다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NewsDeduplicatorService {
 
+  /** LSH band 수 / band당 해시 수 (유사도 0.6 → 후보 확률 99%, 0.2 → 15%) */
+  private static final int LSH_BANDS = 20;
+
+  private static final int LSH_ROWS = 3;
+
+  /** 한글, 영문, 숫자, 공백 외 문자. */
+  private static final Pattern NON_WORD_PATTERN = Pattern.compile("[^가-힣a-zA-Z0-9\\s]");
+
+  /** 연속 공백. */
+  private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+  /** 불용어. */
+  private static final Set<String> STOPWORDS =
+      Set.of(
+          "의", "를", "이", "가", "은", "는", "에", "도", "와", "과", "로", "a", "the", "is", "are", "and",
+          "or");
+
   private final ProcessedNewsArticleRepository processedNewsRepository;
   private final NewsProperties newsProperties;
 
+  /** 윈도우 안의 대표 기사 인덱스 (this로 잠금) */
+  private final NewsClusterIndex clusterIndex = new NewsClusterIndex(LSH_BANDS, LSH_ROWS);
+
+  /** 클러스터링 윈도우 안의 대표 기사로 인덱스를 다시 만든다. */
+  @PostConstruct
+  public synchronized void rebuildIndex() {
+    clusterIndex.clear();
+
+    LocalDateTime since =
+        LocalDateTime.now().minusHours(newsProperties.getClustering().getWindowHours());
+    for (ProcessedNewsArticle article : processedNewsRepository.findRepresentativesSince(since)) {
+      indexRepresentative(
+          article.getClusterId(),
+          article.getTitle(),
+          simHashOf(article.getTitleSimHash(), article.getTitle()),
+          article.getPublishedAt());
+    }
+    log.info("Cluster index rebuilt: {} representatives since {}", clusterIndex.size(), since);
+  }
+
+  /**
+   * 원본 기사에 클러스터 ID를 할당한다.
+   *
+   * <p>수집 시 저장한 제목 SimHash를 그대로 쓴다 (없으면 제목으로 계산).
+   *
+   * @param rawArticle 원본 기사
+   * @return 클러스터 할당 결과
+   */
+  public ClusterAssignment assignCluster(RawNewsArticle rawArticle) {
+    return assignCluster(
+        rawArticle.getTitle(),
+        simHashOf(rawArticle.getTitleSimHash(), rawArticle.getTitle()),
+        rawArticle.getPublishedAt());
+  }
+
   /**
    * 새 기사에 클러스터 ID를 할당한다.
    *
@@ -36,30 +108,98 @@ public class NewsDeduplicatorService {
    * @return 클러스터 할당 결과
    */
   public ClusterAssignment assignCluster(String title, LocalDateTime publishedAt) {
+    return assignCluster(title, NewsTitleFingerprint.of(title), publishedAt);
+  }
+
+  /**
+   * Jaccard 유사도 계산.
+   *
+   * @param text1 첫 번째 텍스트
+   * @param text2 두 번째 텍스트
+   * @return 유사도 (0.0 ~ 1.0)
+   */
+  public double calculateJaccardSimilarity(String text1, String text2) {
+    if (text1 == null || text2 == null) {
+      return 0.0;
+    }
+
+    return jaccard(tokenize(text1), tokenize(text2));
+  }
+
+  /**
+   * 텍스트 토큰화 (Jaccard 유사도 계산과 같은 규칙).
+   *
+   * @param text 원본 텍스트
+   * @return 토큰 집합 (null이면 빈 집합)
+   */
+  public Set<String> tokenize(String text) {
+    if (text == null) {
+      return Set.of();
+    }
+
+    // 한글, 영문, 숫자만 추출 후 공백으로 분리
+    String normalized =
+        WHITESPACE_PATTERN
+            .matcher(NON_WORD_PATTERN.matcher(text.toLowerCase()).replaceAll(" "))
+            .replaceAll(" ")
+            .trim();
+
+    if (normalized.isEmpty()) {
+      return Set.of();
+    }
+
+    // 불용어 제거
+    Set<String> tokens = new HashSet<>(Arrays.asList(WHITESPACE_PATTERN.split(normalized)));
+    tokens.removeAll(STOPWORDS);
+
+    // 1글자 토큰 제거
+    tokens.removeIf(t -> t.length() < 2);
+
+    return tokens;
+  }
+
+  // ==================== Private Methods ====================
+
+  private ClusterAssignment assignCluster(
+      String title, OptionalLong simHash, LocalDateTime publishedAt) {
     double threshold = newsProperties.getClustering().getSimilarityThreshold();
     int windowHours = newsProperties.getClustering().getWindowHours();
 
     LocalDateTime windowStart = publishedAt.minusHours(windowHours);
-
-    // 최근 클러스터 대표 기사들과 비교
-    List<ProcessedNewsArticle> recentRepresentatives =
-        processedNewsRepository.findRecentNews(
-            windowStart, org.springframework.data.domain.PageRequest.of(0, 100));
+    Set<String> tokens = tokenize(title);
 
     double maxSimilarity = 0.0;
     String matchedClusterId = null;
 
-    for (ProcessedNewsArticle representative : recentRepresentatives) {
-      if (!Boolean.TRUE.equals(representative.getIsClusterRepresentative())) {
-        continue;
+    synchronized (this) {
+      clusterIndex.evictUpTo(LocalDateTime.now().minusHours(windowHours));
+
+      // 0. 제목 SimHash가 거의 같은 대표 기사 (Jaccard 비교 생략)
+      Optional<SimHashIndex.Hit<String>> nearDuplicate =
+          simHash.isPresent()
+              ? clusterIndex.nearest(simHash.getAsLong(), SimHashIndex.MAX_DISTANCE, windowStart)
+              : Optional.empty();
+      if (nearDuplicate.isPresent()) {
+        SimHashIndex.Hit<String> hit = nearDuplicate.get();
+        log.debug(
+            "Article '{}' assigned to existing cluster {} (simhash distance={})",
+            truncate(title, 30),
+            hit.key(),
+            hit.distance());
+        return new ClusterAssignment(hit.key(), false, 1.0 - hit.distance() / 64.0);
       }
 
-      double similarity = calculateJaccardSimilarity(title, representative.getTitle());
+      int[] tokenIds = clusterIndex.tokenIds(tokens);
 
-      if (similarity > maxSimilarity) {
-        maxSimilarity = similarity;
-        if (similarity >= threshold) {
-          matchedClusterId = representative.getClusterId();
+      // 1. 인덱스 후보 대표 기사와 비교
+      for (NewsClusterIndex.Representative representative :
+          clusterIndex.candidates(tokens, windowStart)) {
+        double similarity = TokenDictionary.jaccard(tokenIds, representative.tokenIds());
+        if (similarity > maxSimilarity) {
+          maxSimilarity = similarity;
+          if (similarity >= threshold) {
+            matchedClusterId = representative.clusterId();
+          }
         }
       }
     }
@@ -74,6 +214,7 @@ public class NewsDeduplicatorService {
     }
 
     String newClusterId = generateClusterId();
+    registerRepresentative(newClusterId, title, simHash, publishedAt);
     log.debug(
         "Article '{}' assigned to new cluster {} (max similarity={})",
         truncate(title, 30),
@@ -83,61 +224,56 @@ public class NewsDeduplicatorService {
   }
 
   /**
-   * Jaccard 유사도 계산.
+   * 새 대표 기사를 인덱스에 등록한다.
    *
-   * @param text1 첫 번째 텍스트
-   * @param text2 두 번째 텍스트
-   * @return 유사도 (0.0 ~ 1.0)
+   * <p>트랜잭션 안이면 커밋된 뒤에 등록하여, 저장이 롤백된 대표 기사가 인덱스에 남지 않게 한다.
    */
-  public double calculateJaccardSimilarity(String text1, String text2) {
-    if (text1 == null || text2 == null) {
-      return 0.0;
+  private void registerRepresentative(
+      String clusterId, String title, OptionalLong simHash, LocalDateTime publishedAt) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              indexRepresentative(clusterId, title, simHash, publishedAt);
+            }
+          });
+    } else {
+      indexRepresentative(clusterId, title, simHash, publishedAt);
     }
+  }
 
-    Set<String> tokens1 = tokenize(text1);
-    Set<String> tokens2 = tokenize(text2);
-
-    if (tokens1.isEmpty() || tokens2.isEmpty()) {
-      return 0.0;
+  private synchronized void indexRepresentative(
+      String clusterId, String title, OptionalLong simHash, LocalDateTime publishedAt) {
+    if (clusterId == null || title == null || publishedAt == null) {
+      return;
     }
-
-    Set<String> intersection = new HashSet<>(tokens1);
-    intersection.retainAll(tokens2);
-
-    Set<String> union = new HashSet<>(tokens1);
-    union.addAll(tokens2);
-
-    return (double) intersection.size() / union.size();
+    clusterIndex.add(clusterId, tokenize(title), simHash, publishedAt);
   }
 
-  /**
-   * 텍스트 토큰화.
-   *
-   * @param text 원본 텍스트
-   * @return 토큰 집합
-   */
-  private Set<String> tokenize(String text) {
-    // 한글, 영문, 숫자만 추출 후 공백으로 분리
-    String normalized =
-        text.toLowerCase().replaceAll("[^가-힣a-zA-Z0-9\\s]", " ").replaceAll("\\s+", " ").trim();
-
-    if (normalized.isEmpty()) {
-      return Set.of();
+  /** 저장된 제목 SimHash (없으면 제목으로 계산, 지문을 만들 수 없는 제목이면 빈 값) */
+  private static OptionalLong simHashOf(Long stored, String title) {
+    if (stored == null || !NewsTitleFingerprint.isFingerprintable(title)) {
+      return NewsTitleFingerprint.of(title);
     }
+    return OptionalLong.of(stored);
+  }
 
-    // 불용어 제거
-    Set<String> stopwords =
-        Set.of(
-            "의", "를", "이", "가", "은", "는", "에", "도", "와", "과", "로", "a", "the", "is", "are", "and",
-            "or");
-
-    Set<String> tokens = new HashSet<>(Arrays.asList(normalized.split("\\s+")));
-    tokens.removeAll(stopwords);
-
-    // 1글자 토큰 제거
-    tokens.removeIf(t -> t.length() < 2);
+  private static double jaccard(Set<String> tokens1, Set<String> tokens2) {
+    if (tokens1.isEmpty() || tokens2.isEmpty()) {
+      return 0.0;
+    }
 
-    return tokens;
+    // 작은 집합 기준으로 교집합 크기만 센다 (교집합/합집합 복사 없음)
+    Set<String> smaller = tokens1.size() <= tokens2.size() ? tokens1 : tokens2;
+    Set<String> larger = smaller == tokens1 ? tokens2 : tokens1;
+    int intersection = 0;
+    for (String token : smaller) {
+      if (larger.contains(token)) {
+        intersection++;
+      }
+    }
+    return (double) intersection / (tokens1.size() + tokens2.size() - intersection);
   }
 
   private String generateClusterId() {
@@ -0,0 +1,310 @@
+package io.github.krails0105.stock_info_api.service.news;
+
+import io.github.krails0105.stock_info_api.config.NewsProperties;
+import io.github.krails0105.stock_info_api.dto.domain.StockInfo;
+import io.github.krails0105.stock_info_api.service.news.NewsTaggerService.EntityMatch;
+import io.github.krails0105.stock_info_api.service.news.NewsTaggerService.EntityType;
+import io.github.krails0105.stock_info_api.util.AhoCorasick;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 뉴스 개체(종목/섹터) 사전.
+ *
+ * <p>KRX 스냅샷의 전체 상장 종목명 + 기본 별칭 + 설정 별칭(news.entity-dictionary.aliases)과 섹터 키워드를 각각의
+ * Aho-Corasick 오토마톤으로 컴파일해 둔다. 종목과 섹터는 따로 leftmost-longest 매칭하므로, 섹터 키워드를 품은 종목명("삼성전자"의 "전자",
+ * "한국전력"의 "전력")이 섹터 매칭을 가리지 않는다. 재구성은 스케줄러 스레드에서 수행하고 완성된 오토마톤을 원자적으로 교체하므로, 태깅 중인 작업 스레드는 항상 완전한
+ * 사전 하나만 본다. 매칭 비용은 본문 길이에만 비례하므로 사전이 커져도 태깅 시간은 그대로다.
+ *
+ * <p>종목명 우선순위: 기본 별칭 &lt; 상장 종목명 &lt; 설정 별칭. 일반 명사와 겹치는 종목명은 news.entity-dictionary.excluded-names로
+ * 제외한다.
+ *
+ * <p>종목명은 단어 경계에서만 인정한다. 앞은 본문 시작이거나 한글/영문/숫자가 아니어야 하고, 뒤는 본문 끝, 한글/영문/숫자가 아닌 문자, 또는
+ * 조사/접미사("삼성전자가", "현대차그룹의")여야 한다. "전방위"의 "전방"처럼 다른 단어의 일부인 매칭은 버리므로, 같은 위치의 더 짧은 종목명이나
+ * 뒤에 나오는 진짜 종목명이 선택된다. 섹터 키워드는 복합어("반도체주", "바이오기업")로 많이 쓰여 경계를 보지 않는다.
+ */
+@Slf4j
+@Component
+public class NewsEntityDictionary {
+
+  /** 섹터명 키워드 매핑 (KRX 업종명 기준) - 확장 버전. */
+  private static final Map<String, List<String>> SECTOR_KEYWORDS =
+      Map.ofEntries(
+          Map.entry(
+              "전기·전자",
+              List.of(
+                  "반도체", "메모리", "파운드리", "HBM", "D램", "낸드", "전자", "디스플레이", "OLED", "LCD", "AP",
+                  "시스템반도체", "비메모리", "DDR5", "GPU")),
+          Map.entry(
+              "운송장비·부품",
+              List.of(
+                  "자동차", "전기차", "EV", "완성차", "현대차", "기아", "자율주행", "배터리팩", "모빌리티", "수소차", "하이브리드",
+                  "전장부품")),
+          Map.entry(
+              "제약",
+              List.of(
+                  "바이오", "제약", "신약", "임상", "의약", "헬스케어", "CMO", "CDMO", "mRNA", "세포치료제", "항암제",
+                  "면역항암", "바이오시밀러")),
+          Map.entry("은행", List.of("은행", "금융", "대출", "예금", "저축", "금리", "여신", "수신")),
+          Map.entry("증권", List.of("증권사", "자산운용", "투자", "펀드", "IB", "IPO", "유상증자", "공모주")),
+          Map.entry("보험", List.of("보험", "생명보험", "손해보험", "재보험", "보험료")),
+          Map.entry(
+              "IT 서비스",
+              List.of(
+                  "AI", "인공지능", "소프트웨어", "클라우드", "플랫폼", "게임", "챗GPT", "LLM", "데이터센터", "SaaS", "핀테크",
+                  "메타버스", "IT서비스")),
+          Map.entry(
+              "전기·가스",
+              List.of(
+                  "에너지", "태양광", "풍력", "친환경", "2차전지", "배터리", "ESS", "신재생", "탄소중립", "수소", "연료전지",
+                  "전력")),
+          Map.entry(
+              "화학",
+              List.of("석유", "정유", "화학", "리튬", "양극재", "음극재", "전해액", "분리막", "석유화학", "NCC", "에틸렌")),
+          Map.entry(
+              "기계·장비",
+              List.of(
+                  "조선업", "선박", "HD현대중공업", "한화오션", "기계", "삼성중공업", "LNG선", "컨테이너선", "방산", "항공우주",
+                  "로봇")),
+          Map.entry("금속", List.of("철강", "포스코", "금속", "비철금속", "알루미늄", "구리", "희토류")),
+          Map.entry("통신", List.of("통신", "5G", "6G", "이통사", "KT", "SKT", "LGU+", "네트워크")),
+          Map.entry(
+              "유통",
+              List.of(
+                  "유통", "소비재", "화장품", "백화점", "이커머스", "쿠팡", "네이버쇼핑", "편의점", "마트", "K뷰티", "면세점")));
+
+  /** 기본 종목명/별칭 → 종목코드 매핑 (KRX 스냅샷이 없을 때도 쓰이는 약칭 포함). */
+  private static final Map<String, String> STOCK_NAME_CODE_MAP =
+      Map.ofEntries(
+          // 시총 상위 종목
+          Map.entry("삼성전자", "005930"),
+          Map.entry("삼성", "005930"),
+          Map.entry("SK하이닉스", "000660"),
+          Map.entry("하이닉스", "000660"),
+          Map.entry("LG에너지솔루션", "373220"),
+          Map.entry("LG엔솔", "373220"),
+          Map.entry("삼성바이오로직스", "207940"),
+          Map.entry("삼성바이오", "207940"),
+          Map.entry("현대차", "005380"),
+          Map.entry("현대자동차", "005380"),
+          Map.entry("기아", "000270"),
+          Map.entry("기아차", "000270"),
+          Map.entry("셀트리온", "068270"),
+          Map.entry("KB금융", "105560"),
+          Map.entry("KB금융지주", "105560"),
+          Map.entry("신한지주", "055550"),
+          Map.entry("신한금융", "055550"),
+          Map.entry("NAVER", "035420"),
+          Map.entry("네이버", "035420"),
+          Map.entry("카카오", "035720"),
+          Map.entry("포스코홀딩스", "005490"),
+          Map.entry("포스코", "005490"),
+          Map.entry("POSCO", "005490"),
+          Map.entry("현대모비스", "012330"),
+          Map.entry("LG화학", "051910"),
+          Map.entry("삼성SDI", "006400"),
+          Map.entry("SK이노베이션", "096770"),
+          Map.entry("SK이노", "096770"),
+          Map.entry("삼성물산", "028260"),
+          Map.entry("하나금융지주", "086790"),
+          Map.entry("하나금융", "086790"),
+          Map.entry("삼성생명", "032830"),
+          Map.entry("LG전자", "066570"),
+          Map.entry("SK텔레콤", "017670"),
+          Map.entry("SKT", "017670"),
+          Map.entry("KT", "030200"),
+          Map.entry("케이티", "030200"),
+          Map.entry("SK", "034730"),
+          Map.entry("두산에너빌리티", "034020"),
+          Map.entry("두산에너", "034020"),
+          Map.entry("한화에어로스페이스", "012450"),
+          Map.entry("한화에어로", "012450"),
+          Map.entry("크래프톤", "259960"),
+          Map.entry("HD현대중공업", "329180"),
+          Map.entry("현대중공업", "329180"),
+          Map.entry("엔씨소프트", "036570"),
+          Map.entry("NC소프트", "036570"),
+          Map.entry("넷마블", "251270"),
+          Map.entry("카카오뱅크", "323410"),
+          Map.entry("SK바이오팜", "326030"),
+          Map.entry("LG생활건강", "051900"),
+          Map.entry("아모레퍼시픽", "090430"),
+          Map.entry("아모레", "090430"),
+          Map.entry("HLB", "028300"),
+          Map.entry("에코프로비엠", "247540"),
+          Map.entry("에코프로BM", "247540"),
+          Map.entry("에코프로", "086520"),
+          // 추가 종목 (시총 상위 확대)
+          Map.entry("삼성화재", "000810"),
+          Map.entry("우리금융지주", "316140"),
+          Map.entry("우리금융", "316140"),
+          Map.entry("LG", "003550"),
+          Map.entry("한화솔루션", "009830"),
+          Map.entry("삼성에스디에스", "018260"),
+          Map.entry("삼성SDS", "018260"),
+          Map.entry("한국전력", "015760"),
+          Map.entry("한전", "015760"),
+          Map.entry("삼성전기", "009150"),
+          Map.entry("SK스퀘어", "402340"),
+          Map.entry("HD한국조선해양", "009540"),
+          Map.entry("한국조선해양", "009540"),
+          Map.entry("한화오션", "042660"),
+          Map.entry("삼성중공업", "010140"),
+          Map.entry("LG이노텍", "011070"),
+          Map.entry("SK온", "361610"),
+          Map.entry("카카오페이", "377300"),
+          Map.entry("토스뱅크", "024110"),
+          Map.entry("대한항공", "003490"),
+          Map.entry("SK네트웍스", "001740"),
+          Map.entry("CJ제일제당", "097950"),
+          Map.entry("CJ", "001040"),
+          Map.entry("한미약품", "128940"),
+          Map.entry("유한양행", "000100"),
+          Map.entry("녹십자", "006280"),
+          Map.entry("SK바이오사이언스", "302440"));
+
+  /** 종목명 뒤에 붙어도 단어 경계로 보는 조사/접미사 (최대 두 개까지 이어 붙을 수 있음, 예: "에서도") */
+  private static final Set<String> NAME_SUFFIXES =
+      Set.of(
+          "은", "는", "이", "가", "을", "를", "의", "에", "와", "과", "도", "로", "만", "나", "랑", "으로", "에서",
+          "에게", "까지", "부터", "보다", "처럼", "이나", "이랑", "측", "등", "그룹");
+
+  private static final int MAX_SUFFIX_LENGTH = 2;
+
+  private final NewsProperties.EntityDictionary properties;
+
+  /** 현재 검색기 (재구성 시 통째로 교체) */
+  private final AtomicReference<Matchers> matchers;
+
+  public NewsEntityDictionary(NewsProperties newsProperties) {
+    this.properties = newsProperties.getEntityDictionary();
+    this.matchers = new AtomicReference<>(compile(Map.of()));
+  }
+
+  /**
+   * KRX 스냅샷으로 사전을 재구성하고 교체한다.
+   *
+   * <p>컴파일이 끝난 뒤에만 교체하므로, 재구성 중에도 기존 사전으로 태깅이 계속된다.
+   *
+   * @param stocks 상장 종목 목록
+   * @return 컴파일된 키워드 수
+   */
+  public int rebuild(List<StockInfo> stocks) {
+    long startNanos = System.nanoTime();
+    Set<String> excluded = Set.copyOf(properties.getExcludedNames());
+
+    Map<String, String> listedNames = new LinkedHashMap<>();
+    for (StockInfo stock : stocks) {
+      String name = stock.getName() == null ? null : stock.getName().strip();
+      if (name == null
+          || stock.getCode() == null
+          || name.length() < properties.getMinNameLength()
+          || excluded.contains(name)) {
+        continue;
+      }
+      listedNames.putIfAbsent(name, stock.getCode());
+    }
+
+    Matchers compiled = compile(listedNames);
+    matchers.set(compiled);
+    log.info(
+        "Entity dictionary rebuilt: {} listed names, {} keywords in {}ms",
+        listedNames.size(),
+        compiled.size(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    return compiled.size();
+  }
+
+  /** 현재 사전의 키워드 수 */
+  public int size() {
+    return matchers.get().size();
+  }
+
+  /**
+   * 본문의 종목/섹터 (유형별로 겹치지 않는 leftmost-longest 매칭, 종목명은 단어 경계에서만)
+   *
+   * <p>종목과 섹터는 서로 겹칠 수 있다. 같은 위치에서는 종목이 먼저 온다.
+   *
+   * @param text 본문
+   * @return 등장 위치순 개체
+   */
+  List<EntityMatch> findEntities(String text) {
+    Matchers current = matchers.get();
+    List<EntityMatch> entities = new ArrayList<>();
+    for (AhoCorasick.Match<String> match :
+        current.stocks().findAll(text, match -> isBounded(text, match))) {
+      entities.add(toEntity(EntityType.STOCK, match));
+    }
+    for (AhoCorasick.Match<String> match : current.sectors().findAll(text)) {
+      entities.add(toEntity(EntityType.SECTOR, match));
+    }
+    // 안정 정렬이라 같은 위치에서는 먼저 넣은 종목이 앞에 남는다
+    entities.sort(Comparator.comparingInt(EntityMatch::start));
+    return entities;
+  }
+
+  // ==================== Private Methods ====================
+
+  private static EntityMatch toEntity(EntityType type, AhoCorasick.Match<String> match) {
+    return new EntityMatch(type, match.value(), match.keyword(), match.start(), match.end());
+  }
+
+  /** 매칭 앞뒤가 단어 경계인지 (뒤는 조사/접미사 허용) */
+  private static boolean isBounded(String text, AhoCorasick.Match<?> match) {
+    if (match.start() > 0 && isWordChar(text.charAt(match.start() - 1))) {
+      return false;
+    }
+    return endsAtBoundary(text, match.end(), MAX_SUFFIX_LENGTH);
+  }
+
+  private static boolean endsAtBoundary(String text, int end, int suffixesLeft) {
+    if (end >= text.length() || !isWordChar(text.charAt(end))) {
+      return true;
+    }
+    if (suffixesLeft == 0) {
+      return false;
+    }
+    for (String suffix : NAME_SUFFIXES) {
+      if (text.startsWith(suffix, end)
+          && endsAtBoundary(text, end + suffix.length(), suffixesLeft - 1)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** 한글 음절, 영문, 숫자 */
+  private static boolean isWordChar(char c) {
+    return (c >= '가' && c <= '힣') || (c < 128 && Character.isLetterOrDigit(c));
+  }
+
+  private Matchers compile(Map<String, String> listedNames) {
+    Map<String, String> stockNames = new LinkedHashMap<>(STOCK_NAME_CODE_MAP);
+    stockNames.putAll(listedNames);
+    properties
+        .getAliases()
+        .forEach((code, aliases) -> aliases.forEach(alias -> stockNames.put(alias, code)));
+
+    // 같은 키워드가 종목명이면서 섹터 키워드일 수 있음 (예: 현대차, 포스코) - 사전이 달라 둘 다 매칭된다
+    Map<String, String> sectorKeywords = new LinkedHashMap<>();
+    SECTOR_KEYWORDS.forEach(
+        (sector, keywords) -> keywords.forEach(keyword -> sectorKeywords.put(keyword, sector)));
+    return new Matchers(AhoCorasick.compile(stockNames), AhoCorasick.compile(sectorKeywords));
+  }
+
+  /** 종목명 → 종목코드, 섹터 키워드 → 섹터명 검색기 묶음 (함께 교체). */
+  private record Matchers(AhoCorasick<String> stocks, AhoCorasick<String> sectors) {
+
+    int size() {
+      return stocks.size() + sectors.size();
+    }
+  }
+}
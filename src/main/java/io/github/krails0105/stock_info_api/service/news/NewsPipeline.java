@@ -0,0 +1,137 @@
+package io.github.krails0105.stock_info_api.service.news;
+
+import io.github.krails0105.stock_info_api.config.NewsProperties;
+import io.github.krails0105.stock_info_api.entity.RawNewsArticle;
+import io.github.krails0105.stock_info_api.repository.RawNewsArticleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수집 → 처리 인메모리 파이프라인.
+ *
+ * <p>수집기가 저장한 새 기사를 유한 큐에 넣으면 작업 스레드가 꺼내 바로 처리한다. 작업 스레드는 큐에 쌓인 기사를 batch-size까지 묶어 한 번에
+ * 처리한다. 큐가 가득 차면 수집 스레드가 빈 자리가 날 때까지 기다린다 (배압).
+ *
+ * <p>DB의 PENDING 상태는 장애 복구용으로만 쓴다. 기동 시 이전 실행에서 처리하지 못한 PENDING 기사를 다시 큐에 넣는다. 처리 중 상태를
+ * 바꾸지 못한 기사도 PENDING으로 남아 다음 기동 때 다시 처리된다.
+ *
+ * <p>[메트릭] news.pipeline.queue.size
+ */
+@Slf4j
+@Component
+public class NewsPipeline {
+
+  private final NewsProcessorService processorService;
+  private final RawNewsArticleRepository rawNewsRepository;
+  private final BlockingQueue<RawNewsArticle> queue;
+  private final ExecutorService workerExecutor;
+  private final boolean enabled;
+  private final int workers;
+  private final int batchSize;
+
+  public NewsPipeline(
+      NewsProcessorService processorService,
+      RawNewsArticleRepository rawNewsRepository,
+      NewsProperties newsProperties,
+      MeterRegistry meterRegistry) {
+    NewsProperties.Processing processing = newsProperties.getProcessing();
+    this.processorService = processorService;
+    this.rawNewsRepository = rawNewsRepository;
+    this.queue = new ArrayBlockingQueue<>(processing.getQueueCapacity());
+    this.enabled = newsProperties.getCollection().isEnabled();
+    this.workers = processing.getWorkers();
+    this.batchSize = processing.getBatchSize();
+    // 작업 스레드 + 복구 스레드 1개
+    this.workerExecutor =
+        Executors.newFixedThreadPool(workers + 1, new CustomizableThreadFactory("news-pipeline-"));
+    meterRegistry.gauge("news.pipeline.queue.size", queue, Collection::size);
+  }
+
+  /** 작업 스레드 시작 및 PENDING 기사 복구 */
+  @PostConstruct
+  void start() {
+    if (!enabled) {
+      log.info("News pipeline is disabled (collection disabled)");
+      return;
+    }
+
+    // 수집 스케줄 시작 전 기준점: 이후 수집된 기사는 수집기가 직접 큐에 넣음
+    Long replayUpTo = rawNewsRepository.findMaxPendingId();
+    for (int i = 0; i < workers; i++) {
+      workerExecutor.execute(this::consume);
+    }
+    if (replayUpTo != null) {
+      workerExecutor.execute(() -> replayPending(replayUpTo));
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    workerExecutor.shutdownNow();
+  }
+
+  /**
+   * 새로 저장한 기사를 처리 큐에 넣는다 (큐가 가득 차면 대기).
+   *
+   * @param articles 저장이 커밋된 원본 기사
+   */
+  public void submit(List<RawNewsArticle> articles) throws InterruptedException {
+    for (RawNewsArticle article : articles) {
+      queue.put(article);
+    }
+  }
+
+  // ==================== Private Methods ====================
+
+  /** 큐에서 기사를 꺼내 batch-size까지 묶어 처리 */
+  private void consume() {
+    List<RawNewsArticle> batch = new ArrayList<>(batchSize);
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        batch.add(queue.take());
+        queue.drainTo(batch, batchSize - 1);
+        processorService.processArticles(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (Exception e) {
+        log.error("Failed to process {} articles (left PENDING)", batch.size(), e);
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  /** 기준 ID까지의 PENDING 기사를 ID순으로 다시 큐에 넣음 */
+  private void replayPending(long upToId) {
+    long afterId = 0;
+    int replayed = 0;
+    try {
+      List<RawNewsArticle> page;
+      do {
+        page = rawNewsRepository.findPendingArticles(afterId, upToId, PageRequest.of(0, batchSize));
+        submit(page);
+        replayed += page.size();
+        if (!page.isEmpty()) {
+          afterId = page.get(page.size() - 1).getId();
+        }
+      } while (page.size() == batchSize);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      log.error("Failed to replay pending articles", e);
+    }
+    log.info("Replayed {} pending articles", replayed);
+  }
+}
@@ -1,129 +1,209 @@
 package io.github.krails0105.stock_info_api.service.news;
 
-import io.github.krails0105.stock_info_api.config.NewsProperties;
 import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle;
-import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle.NewsImportance;
-import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle.NewsTag;
 import io.github.krails0105.stock_info_api.entity.RawNewsArticle;
 import io.github.krails0105.stock_info_api.entity.RawNewsArticle.ProcessingStatus;
 import io.github.krails0105.stock_info_api.repository.ProcessedNewsArticleRepository;
 import io.github.krails0105.stock_info_api.repository.RawNewsArticleRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDateTime;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 뉴스 처리 통합 서비스.
  *
- * <p>원본 뉴스를 가져와 태깅, 클러스터링을 수행하고 처리 완료된 뉴스로 저장한다.
+ * <p>원본 뉴스에 태깅, 클러스터링을 수행하고 처리 완료된 뉴스로 저장한다. {@link NewsPipeline}의 작업 스레드 여러 개가 동시에 호출하며,
+ * 기사마다 별도의 짧은 트랜잭션으로 저장하므로 한 기사의 실패가 다른 기사에 영향을 주지 않는다.
+ *
+ * <p>[동시성] 태깅은 작업 스레드별로 병렬 수행한다. 클러스터 할당과 저장은 하나의 잠금 안에서 직렬로 수행하여, 뒤 기사의 할당이 앞 기사가 만든
+ * 클러스터를 항상 보도록 한다.
+ *
+ * <p>[조회 색인] 저장한 대표 기사는 커밋 후 {@link NewsArticleIndex}에 등록되어, 종목/섹터별 뉴스 조회가 DB를 거치지 않는다.
+ *
+ * <p>[메트릭] news.processing.articles (worker, outcome=processed|failed),
+ * news.processing.batch.duration (worker), news.processing.throughput (worker, 배치별 초당 기사 수)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NewsProcessorService {
 
   private final RawNewsArticleRepository rawNewsRepository;
   private final ProcessedNewsArticleRepository processedNewsRepository;
   private final NewsTaggerService taggerService;
   private final NewsDeduplicatorService deduplicatorService;
-  private final NewsProperties newsProperties;
+  private final NewsArticleIndex articleIndex;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+
+  /** 클러스터 할당 + 저장 직렬화 */
+  private final ReentrantLock clusterLock = new ReentrantLock();
+
+  public NewsProcessorService(
+      RawNewsArticleRepository rawNewsRepository,
+      ProcessedNewsArticleRepository processedNewsRepository,
+      NewsTaggerService taggerService,
+      NewsDeduplicatorService deduplicatorService,
+      NewsArticleIndex articleIndex,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.rawNewsRepository = rawNewsRepository;
+    this.processedNewsRepository = processedNewsRepository;
+    this.taggerService = taggerService;
+    this.deduplicatorService = deduplicatorService;
+    this.articleIndex = articleIndex;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.meterRegistry = meterRegistry;
+  }
 
   /**
-   * PENDING 상태의 원본 기사를 배치 처리한다.
+   * 원본 기사 묶음을 처리한다.
    *
+   * <p>수집 직후 {@link NewsPipeline}의 작업 스레드가 호출한다. 처리량은 호출한 작업 스레드 이름으로 구분해 기록한다.
+   *
+   * @param rawArticles 원본 기사 (PENDING)
    * @return 처리 결과
    */
-  @Transactional
-  public ProcessingResult processPendingArticles() {
-    int batchSize = newsProperties.getProcessing().getBatchSize();
-    List<RawNewsArticle> pendingArticles =
-        rawNewsRepository.findPendingArticles(PageRequest.of(0, batchSize));
-
-    if (pendingArticles.isEmpty()) {
-      log.debug("No pending articles to process");
+  public ProcessingResult processArticles(List<RawNewsArticle> rawArticles) {
+    if (rawArticles.isEmpty()) {
       return new ProcessingResult(0, 0, 0);
     }
 
-    log.info("Processing {} pending articles", pendingArticles.size());
+    String worker = Thread.currentThread().getName();
+    long startNanos = System.nanoTime();
+
+    Set<Long> alreadyProcessed =
+        processedNewsRepository.findProcessedRawArticleIds(
+            rawArticles.stream().map(RawNewsArticle::getId).toList());
 
     int processed = 0;
     int failed = 0;
     int clustered = 0;
 
-    for (RawNewsArticle rawArticle : pendingArticles) {
+    for (RawNewsArticle rawArticle : rawArticles) {
       try {
-        ProcessedNewsArticle result = processArticle(rawArticle);
+        ProcessedNewsArticle result = processArticle(rawArticle, alreadyProcessed);
 
         // 클러스터 대표 여부 카운트
         if (Boolean.TRUE.equals(result.getIsClusterRepresentative())) {
           clustered++;
         }
-
-        // 원본 기사 상태 업데이트
-        rawNewsRepository.save(rawArticle.toBuilder().status(ProcessingStatus.PROCESSED).build());
-
         processed++;
       } catch (Exception e) {
         log.error("Failed to process article id={}: {}", rawArticle.getId(), e.getMessage());
-        rawNewsRepository.save(rawArticle.toBuilder().status(ProcessingStatus.FAILED).build());
+        markFailed(rawArticle);
         failed++;
       }
     }
 
-    log.info(
-        "Processing complete: processed={}, failed={}, new clusters={}",
+    long elapsedNanos = System.nanoTime() - startNanos;
+    double articlesPerSecond = rawArticles.size() * 1e9 / Math.max(1, elapsedNanos);
+    recordThroughput(worker, processed, failed, elapsedNanos, articlesPerSecond);
+    log.debug(
+        "Processing complete [{}]: processed={}, failed={}, new clusters={}, {} articles/s",
+        worker,
         processed,
         failed,
-        clustered);
+        clustered,
+        String.format("%.1f", articlesPerSecond));
 
     return new ProcessingResult(processed, failed, clustered);
   }
 
+  // ==================== Private Methods ====================
+
   /**
    * 단일 기사 처리.
    *
    * @param rawArticle 원본 기사
-   * @return 처리된 기사
+   * @param alreadyProcessed 이미 처리된 원본 기사 ID
+   * @return 저장된 처리 기사
    */
-  private ProcessedNewsArticle processArticle(RawNewsArticle rawArticle) {
+  private ProcessedNewsArticle processArticle(
+      RawNewsArticle rawArticle, Set<Long> alreadyProcessed) {
     // 이미 처리된 경우 스킵
-    if (processedNewsRepository.existsByRawArticleId(rawArticle.getId())) {
+    if (alreadyProcessed.contains(rawArticle.getId())) {
       log.debug("Article {} already processed, skipping", rawArticle.getId());
       throw new IllegalStateException("Article already processed");
     }
 
-    // 1. 태깅
-    List<NewsTag> tags = taggerService.assignTags(rawArticle);
-    NewsImportance importance = taggerService.determineImportance(rawArticle, tags);
-    String stockCode = taggerService.extractStockCode(rawArticle);
-    String sectorName = taggerService.extractSectorName(rawArticle);
-
-    // 2. 클러스터링
-    NewsDeduplicatorService.ClusterAssignment clusterAssignment =
-        deduplicatorService.assignCluster(rawArticle.getTitle(), rawArticle.getPublishedAt());
-
-    // 3. 처리된 기사 생성
-    ProcessedNewsArticle processedArticle =
-        ProcessedNewsArticle.builder()
-            .rawArticleId(rawArticle.getId())
-            .title(rawArticle.getTitle())
-            .publisher(rawArticle.getPublisher())
-            .url(rawArticle.getUrl())
-            .publishedAt(rawArticle.getPublishedAt())
-            .tags(tags)
-            .importance(importance)
-            .stockCode(stockCode)
-            .sectorName(sectorName)
-            .clusterId(clusterAssignment.clusterId())
-            .isClusterRepresentative(clusterAssignment.isNewCluster())
-            .processedAt(LocalDateTime.now())
-            .build();
-
-    return processedNewsRepository.save(processedArticle);
+    // 1. 태깅 (작업 스레드별 병렬, 검색 본문 한 번 생성)
+    NewsTaggerService.TaggingResult tagging = taggerService.tagArticle(rawArticle);
+
+    // 2. 클러스터링 + 저장 (직렬, 기사별 트랜잭션)
+    clusterLock.lock();
+    try {
+      return transactionTemplate.execute(
+          status -> {
+            NewsDeduplicatorService.ClusterAssignment clusterAssignment =
+                deduplicatorService.assignCluster(rawArticle);
+
+            ProcessedNewsArticle saved =
+                processedNewsRepository.save(
+                    ProcessedNewsArticle.builder()
+                        .rawArticleId(rawArticle.getId())
+                        .title(rawArticle.getTitle())
+                        .titleSimHash(rawArticle.getTitleSimHash())
+                        .publisher(rawArticle.getPublisher())
+                        .url(rawArticle.getUrl())
+                        .publishedAt(rawArticle.getPublishedAt())
+                        .tags(tagging.tags())
+                        .importance(tagging.importance())
+                        .stockCode(tagging.stockCode())
+                        .sectorName(tagging.sectorName())
+                        .clusterId(clusterAssignment.clusterId())
+                        .isClusterRepresentative(clusterAssignment.isNewCluster())
+                        .processedAt(LocalDateTime.now())
+                        .build());
+            rawNewsRepository.updateStatus(
+                List.of(rawArticle.getId()), ProcessingStatus.PROCESSED);
+            articleIndex.register(saved);
+            return saved;
+          });
+    } finally {
+      clusterLock.unlock();
+    }
+  }
+
+  private void markFailed(RawNewsArticle rawArticle) {
+    try {
+      transactionTemplate.executeWithoutResult(
+          status ->
+              rawNewsRepository.updateStatus(
+                  List.of(rawArticle.getId()), ProcessingStatus.FAILED));
+    } catch (Exception e) {
+      // 상태 변경도 실패하면 PENDING으로 남아 다음 기동 때 다시 처리됨
+      log.warn("Failed to mark article id={} as FAILED: {}", rawArticle.getId(), e.getMessage());
+    }
+  }
+
+  private void recordThroughput(
+      String worker, int processed, int failed, long elapsedNanos, double articlesPerSecond) {
+    meterRegistry
+        .counter("news.processing.articles", "worker", worker, "outcome", "processed")
+        .increment(processed);
+    meterRegistry
+        .counter("news.processing.articles", "worker", worker, "outcome", "failed")
+        .increment(failed);
+    Timer.builder("news.processing.batch.duration")
+        .description("작업 스레드별 배치 처리 시간")
+        .tag("worker", worker)
+        .register(meterRegistry)
+        .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    DistributionSummary.builder("news.processing.throughput")
+        .description("작업 스레드별 배치 처리량")
+        .baseUnit("articles/s")
+        .tag("worker", worker)
+        .register(meterRegistry)
+        .record(articlesPerSecond);
   }
 
   /** 처리 결과. */
@@ -3,9 +3,12 @@ package io.github.krails0105.stock_info_api.service.news;
 import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle.NewsImportance;
 import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle.NewsTag;
 import io.github.krails0105.stock_info_api.entity.RawNewsArticle;
+import io.github.krails0105.stock_info_api.util.AhoCorasick;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -18,62 +21,38 @@ import org.springframework.stereotype.Service;
  * 뉴스 태깅 서비스.
  *
  * <p>키워드 기반 규칙으로 뉴스에 태그와 중요도를 부여한다. 향후 LLM 기반 태깅으로 확장 가능.
+ *
+ * <p>태그 키워드와 종목/섹터 사전({@link NewsEntityDictionary})은 각각 Aho-Corasick 오토마톤으로 컴파일해 두고,
+ * {@link #tagArticle(RawNewsArticle)}는 검색 본문을 한 번만 만들어 모든 추출에 공유한다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NewsTaggerService {
 
-  /** 태그별 키워드 패턴. */
-  private static final Map<NewsTag, List<Pattern>> TAG_PATTERNS =
+  /** 태그별 키워드 (대소문자 무시, 공백은 한 칸으로 정규화된 본문 기준). */
+  private static final Map<NewsTag, List<String>> TAG_KEYWORDS =
       Map.of(
           NewsTag.EARNINGS,
-          List.of(
-              Pattern.compile("실적", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("분기", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("영업이익", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("순이익", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("매출", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("어닝[스]?", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("earnings", Pattern.CASE_INSENSITIVE)),
+          List.of("실적", "분기", "영업이익", "순이익", "매출", "어닝", "earnings"),
           NewsTag.CONTRACT,
-          List.of(
-              Pattern.compile("계약", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("수주", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("납품", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("공급", Pattern.CASE_INSENSITIVE)),
+          List.of("계약", "수주", "납품", "공급"),
           NewsTag.BUYBACK_DIVIDEND,
-          List.of(
-              Pattern.compile("배당", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("자사주", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("매입", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("주주환원", Pattern.CASE_INSENSITIVE)),
+          List.of("배당", "자사주", "매입", "주주환원"),
           NewsTag.REGULATION_RISK,
-          List.of(
-              Pattern.compile("규제", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("제재", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("과징금", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("수사", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("검찰", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("소송", Pattern.CASE_INSENSITIVE)),
+          List.of("규제", "제재", "과징금", "수사", "검찰", "소송"),
           NewsTag.MA,
-          List.of(
-              Pattern.compile("인수", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("합병", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("M&A", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("M\\s*&\\s*A", Pattern.CASE_INSENSITIVE)),
+          List.of("인수", "합병", "M&A", "M & A", "M &A", "M& A"),
           NewsTag.INDUSTRY,
-          List.of(
-              Pattern.compile("업종", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("산업", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("섹터", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("시장", Pattern.CASE_INSENSITIVE)),
+          List.of("업종", "산업", "섹터", "시장"),
           NewsTag.RUMOR,
-          List.of(
-              Pattern.compile("루머", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("소문", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("찌라시", Pattern.CASE_INSENSITIVE),
-              Pattern.compile("관측", Pattern.CASE_INSENSITIVE)));
+          List.of("루머", "소문", "찌라시", "관측"));
+
+  /** 태그 키워드 검색기 (본문 한 번 스캔, 겹치는 매칭 포함). */
+  private static final AhoCorasick<NewsTag> TAG_MATCHER = buildTagMatcher();
+
+  /** 연속 공백 패턴 (검색 본문 정규화용). */
+  private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
 
   /** 신뢰할 수 있는 언론사 목록 (신선도 가산점용). */
   private static final List<String> TRUSTED_PUBLISHERS =
@@ -82,141 +61,34 @@ public class NewsTaggerService {
   /** 6자리 주식 코드 패턴. */
   private static final Pattern STOCK_CODE_PATTERN = Pattern.compile("\\b(\\d{6})\\b");
 
-  /** 섹터명 키워드 매핑 (KRX 업종명 기준) - 확장 버전. */
-  private static final Map<String, List<String>> SECTOR_KEYWORDS =
-      Map.ofEntries(
-          Map.entry(
-              "전기·전자",
-              List.of(
-                  "반도체", "메모리", "파운드리", "HBM", "D램", "낸드", "전자", "디스플레이", "OLED", "LCD", "AP",
-                  "시스템반도체", "비메모리", "DDR5", "GPU")),
-          Map.entry(
-              "운송장비·부품",
-              List.of(
-                  "자동차", "전기차", "EV", "완성차", "현대차", "기아", "자율주행", "배터리팩", "모빌리티", "수소차", "하이브리드",
-                  "전장부품")),
-          Map.entry(
-              "제약",
-              List.of(
-                  "바이오", "제약", "신약", "임상", "의약", "헬스케어", "CMO", "CDMO", "mRNA", "세포치료제", "항암제",
-                  "면역항암", "바이오시밀러")),
-          Map.entry("은행", List.of("은행", "금융", "대출", "예금", "저축", "금리", "여신", "수신")),
-          Map.entry("증권", List.of("증권사", "자산운용", "투자", "펀드", "IB", "IPO", "유상증자", "공모주")),
-          Map.entry("보험", List.of("보험", "생명보험", "손해보험", "재보험", "보험료")),
-          Map.entry(
-              "IT 서비스",
-              List.of(
-                  "AI", "인공지능", "소프트웨어", "클라우드", "플랫폼", "게임", "챗GPT", "LLM", "데이터센터", "SaaS", "핀테크",
-                  "메타버스", "IT서비스")),
-          Map.entry(
-              "전기·가스",
-              List.of(
-                  "에너지", "태양광", "풍력", "친환경", "2차전지", "배터리", "ESS", "신재생", "탄소중립", "수소", "연료전지",
-                  "전력")),
-          Map.entry(
-              "화학",
-              List.of("석유", "정유", "화학", "리튬", "양극재", "음극재", "전해액", "분리막", "석유화학", "NCC", "에틸렌")),
-          Map.entry(
-              "기계·장비",
-              List.of(
-                  "조선업", "선박", "HD현대중공업", "한화오션", "기계", "삼성중공업", "LNG선", "컨테이너선", "방산", "항공우주",
-                  "로봇")),
-          Map.entry("금속", List.of("철강", "포스코", "금속", "비철금속", "알루미늄", "구리", "희토류")),
-          Map.entry("통신", List.of("통신", "5G", "6G", "이통사", "KT", "SKT", "LGU+", "네트워크")),
-          Map.entry(
-              "유통",
-              List.of(
-                  "유통", "소비재", "화장품", "백화점", "이커머스", "쿠팡", "네이버쇼핑", "편의점", "마트", "K뷰티", "면세점")));
-
-  /** 주요 종목명 → 종목코드 매핑 (시총 상위 종목 + 주요 관심 종목) - 확장 버전. */
-  private static final Map<String, String> STOCK_NAME_CODE_MAP =
-      Map.ofEntries(
-          // 시총 상위 종목
-          Map.entry("삼성전자", "005930"),
-          Map.entry("삼성", "005930"),
-          Map.entry("SK하이닉스", "000660"),
-          Map.entry("하이닉스", "000660"),
-          Map.entry("LG에너지솔루션", "373220"),
-          Map.entry("LG엔솔", "373220"),
-          Map.entry("삼성바이오로직스", "207940"),
-          Map.entry("삼성바이오", "207940"),
-          Map.entry("현대차", "005380"),
-          Map.entry("현대자동차", "005380"),
-          Map.entry("기아", "000270"),
-          Map.entry("기아차", "000270"),
-          Map.entry("셀트리온", "068270"),
-          Map.entry("KB금융", "105560"),
-          Map.entry("KB금융지주", "105560"),
-          Map.entry("신한지주", "055550"),
-          Map.entry("신한금융", "055550"),
-          Map.entry("NAVER", "035420"),
-          Map.entry("네이버", "035420"),
-          Map.entry("카카오", "035720"),
-          Map.entry("포스코홀딩스", "005490"),
-          Map.entry("포스코", "005490"),
-          Map.entry("POSCO", "005490"),
-          Map.entry("현대모비스", "012330"),
-          Map.entry("LG화학", "051910"),
-          Map.entry("삼성SDI", "006400"),
-          Map.entry("SK이노베이션", "096770"),
-          Map.entry("SK이노", "096770"),
-          Map.entry("삼성물산", "028260"),
-          Map.entry("하나금융지주", "086790"),
-          Map.entry("하나금융", "086790"),
-          Map.entry("삼성생명", "032830"),
-          Map.entry("LG전자", "066570"),
-          Map.entry("SK텔레콤", "017670"),
-          Map.entry("SKT", "017670"),
-          Map.entry("KT", "030200"),
-          Map.entry("케이티", "030200"),
-          Map.entry("SK", "034730"),
-          Map.entry("두산에너빌리티", "034020"),
-          Map.entry("두산에너", "034020"),
-          Map.entry("한화에어로스페이스", "012450"),
-          Map.entry("한화에어로", "012450"),
-          Map.entry("크래프톤", "259960"),
-          Map.entry("HD현대중공업", "329180"),
-          Map.entry("현대중공업", "329180"),
-          Map.entry("엔씨소프트", "036570"),
-          Map.entry("NC소프트", "036570"),
-          Map.entry("넷마블", "251270"),
-          Map.entry("카카오뱅크", "323410"),
-          Map.entry("SK바이오팜", "326030"),
-          Map.entry("LG생활건강", "051900"),
-          Map.entry("아모레퍼시픽", "090430"),
-          Map.entry("아모레", "090430"),
-          Map.entry("HLB", "028300"),
-          Map.entry("에코프로비엠", "247540"),
-          Map.entry("에코프로BM", "247540"),
-          Map.entry("에코프로", "086520"),
-          // 추가 종목 (시총 상위 확대)
-          Map.entry("삼성화재", "000810"),
-          Map.entry("우리금융지주", "316140"),
-          Map.entry("우리금융", "316140"),
-          Map.entry("LG", "003550"),
-          Map.entry("한화솔루션", "009830"),
-          Map.entry("삼성에스디에스", "018260"),
-          Map.entry("삼성SDS", "018260"),
-          Map.entry("한국전력", "015760"),
-          Map.entry("한전", "015760"),
-          Map.entry("삼성전기", "009150"),
-          Map.entry("SK스퀘어", "402340"),
-          Map.entry("HD한국조선해양", "009540"),
-          Map.entry("한국조선해양", "009540"),
-          Map.entry("한화오션", "042660"),
-          Map.entry("삼성중공업", "010140"),
-          Map.entry("LG이노텍", "011070"),
-          Map.entry("SK온", "361610"),
-          Map.entry("카카오페이", "377300"),
-          Map.entry("토스뱅크", "024110"),
-          Map.entry("대한항공", "003490"),
-          Map.entry("SK네트웍스", "001740"),
-          Map.entry("CJ제일제당", "097950"),
-          Map.entry("CJ", "001040"),
-          Map.entry("한미약품", "128940"),
-          Map.entry("유한양행", "000100"),
-          Map.entry("녹십자", "006280"),
-          Map.entry("SK바이오사이언스", "302440"));
+  private final NewsEntityDictionary entityDictionary;
+
+  private static AhoCorasick<NewsTag> buildTagMatcher() {
+    Map<String, NewsTag> dictionary = new LinkedHashMap<>();
+    TAG_KEYWORDS.forEach(
+        (tag, keywords) -> keywords.forEach(keyword -> dictionary.put(keyword, tag)));
+    return AhoCorasick.compileIgnoreCase(dictionary);
+  }
+
+  /**
+   * 기사 한 건의 태깅 결과를 한 번에 만든다.
+   *
+   * <p>정규화된 검색 본문을 한 번만 만들어 태그, 중요도, 종목, 섹터 추출이 함께 쓴다. 태그는 한 번, 종목/섹터는 한 번의 스캔으로 찾는다.
+   *
+   * @param article 원본 기사
+   * @return 태깅 결과
+   */
+  public TaggingResult tagArticle(RawNewsArticle article) {
+    String text = buildSearchText(article);
+    List<NewsTag> tags = assignTags(article, text);
+    List<EntityMatch> entities = entityDictionary.findEntities(text);
+    return new TaggingResult(
+        tags,
+        determineImportance(article, tags),
+        extractStockCode(article, text, entities),
+        extractSectorName(article, entities),
+        entities);
+  }
 
   /**
    * 뉴스에 태그를 부여한다.
@@ -225,24 +97,7 @@ public class NewsTaggerService {
    * @return 부여된 태그 목록
    */
   public List<NewsTag> assignTags(RawNewsArticle article) {
-    List<NewsTag> tags = new ArrayList<>();
-    String text = buildSearchText(article);
-
-    for (Map.Entry<NewsTag, List<Pattern>> entry : TAG_PATTERNS.entrySet()) {
-      for (Pattern pattern : entry.getValue()) {
-        if (pattern.matcher(text).find()) {
-          tags.add(entry.getKey());
-          break;
-        }
-      }
-    }
-
-    if (tags.isEmpty()) {
-      tags.add(NewsTag.INDUSTRY);
-    }
-
-    log.debug("Assigned tags {} to article: {}", tags, article.getTitle());
-    return tags;
+    return assignTags(article, buildSearchText(article));
   }
 
   /**
@@ -312,17 +167,58 @@ public class NewsTaggerService {
    */
   public String extractStockCode(RawNewsArticle article) {
     String text = buildSearchText(article);
+    return extractStockCode(article, text, entityDictionary.findEntities(text));
+  }
 
-    // 1. 종목명으로 찾기 (매핑 테이블 사용)
-    for (Map.Entry<String, String> entry : STOCK_NAME_CODE_MAP.entrySet()) {
-      if (text.contains(entry.getKey())) {
-        log.debug(
-            "Found stock {} ({}) in article: {}",
-            entry.getKey(),
-            entry.getValue(),
-            article.getTitle());
-        return entry.getValue();
-      }
+  /**
+   * 섹터명 추출 (키워드 기반).
+   *
+   * @param article 원본 기사
+   * @return 섹터명 (없으면 null)
+   */
+  public String extractSectorName(RawNewsArticle article) {
+    return extractSectorName(article, entityDictionary.findEntities(buildSearchText(article)));
+  }
+
+  /**
+   * 종목/섹터 개체 추출.
+   *
+   * <p>사전 전체를 컴파일한 오토마톤으로 본문을 한 번 훑어 모든 종목명/섹터 키워드를 찾는다. 겹치는 키워드는 leftmost-longest로 하나만
+   * 고른다 (예: "삼성바이오로직스"는 "삼성"보다 우선). 종목명은 단어 경계(조사/접미사 허용)에서만 인정한다. 한 키워드가 종목명이면서 섹터
+   * 키워드면 둘 다 돌려준다.
+   *
+   * @param article 원본 기사
+   * @return 등장 위치순 개체 목록 (위치는 공백을 한 칸으로 정규화한 "제목 + 공백 + 본문" 기준)
+   */
+  public List<EntityMatch> extractEntities(RawNewsArticle article) {
+    return entityDictionary.findEntities(buildSearchText(article));
+  }
+
+  // ==================== Private Methods ====================
+
+  private List<NewsTag> assignTags(RawNewsArticle article, String text) {
+    // 키워드 전체를 한 번 스캔, 태그 순서는 enum 선언 순서
+    EnumSet<NewsTag> found = EnumSet.noneOf(NewsTag.class);
+    for (AhoCorasick.Match<NewsTag> match : TAG_MATCHER.findOverlapping(text)) {
+      found.add(match.value());
+    }
+
+    List<NewsTag> tags = new ArrayList<>(found);
+    if (tags.isEmpty()) {
+      tags.add(NewsTag.INDUSTRY);
+    }
+
+    log.debug("Assigned tags {} to article: {}", tags, article.getTitle());
+    return tags;
+  }
+
+  private String extractStockCode(RawNewsArticle article, String text, List<EntityMatch> entities) {
+    // 1. 종목명으로 찾기 (가장 앞에 나온 종목명)
+    EntityMatch stock = firstMatch(entities, EntityType.STOCK);
+    if (stock != null) {
+      log.debug(
+          "Found stock {} ({}) in article: {}", stock.keyword(), stock.value(), article.getTitle());
+      return stock.value();
     }
 
     // 2. 6자리 숫자 패턴 찾기 (한국 주식 코드)
@@ -334,31 +230,25 @@ public class NewsTaggerService {
     return null;
   }
 
-  /**
-   * 섹터명 추출 (키워드 기반).
-   *
-   * @param article 원본 기사
-   * @return 섹터명 (없으면 null)
-   */
-  public String extractSectorName(RawNewsArticle article) {
-    String text = buildSearchText(article);
-
-    for (Map.Entry<String, List<String>> entry : SECTOR_KEYWORDS.entrySet()) {
-      for (String keyword : entry.getValue()) {
-        if (text.contains(keyword)) {
-          log.debug(
-              "Found sector {} (keyword: {}) in article: {}",
-              entry.getKey(),
-              keyword,
-              article.getTitle());
-          return entry.getKey();
-        }
-      }
+  private String extractSectorName(RawNewsArticle article, List<EntityMatch> entities) {
+    // 가장 앞에 나온 섹터 키워드
+    EntityMatch sector = firstMatch(entities, EntityType.SECTOR);
+    if (sector == null) {
+      return null;
     }
+    log.debug(
+        "Found sector {} (keyword: {}) in article: {}",
+        sector.value(),
+        sector.keyword(),
+        article.getTitle());
+    return sector.value();
+  }
 
-    return null;
+  private EntityMatch firstMatch(List<EntityMatch> entities, EntityType type) {
+    return entities.stream().filter(entity -> entity.type() == type).findFirst().orElse(null);
   }
 
+  /** 검색 본문 ("제목 + 공백 + 본문", 연속 공백은 한 칸으로). */
   private String buildSearchText(RawNewsArticle article) {
     StringBuilder sb = new StringBuilder();
     if (article.getTitle() != null) {
@@ -367,7 +257,7 @@ public class NewsTaggerService {
     if (article.getContent() != null) {
       sb.append(article.getContent());
     }
-    return sb.toString();
+    return WHITESPACE_PATTERN.matcher(sb).replaceAll(" ");
   }
 
   private boolean isTrustedPublisher(String publisher) {
@@ -376,4 +266,37 @@ public class NewsTaggerService {
     }
     return TRUSTED_PUBLISHERS.stream().anyMatch(publisher::contains);
   }
+
+  /** 개체 종류. */
+  public enum EntityType {
+    STOCK,
+    SECTOR
+  }
+
+  /**
+   * 본문에서 찾은 종목/섹터.
+   *
+   * @param type 개체 종류
+   * @param value 종목코드 또는 섹터명
+   * @param keyword 본문에서 매칭된 키워드
+   * @param start 시작 위치 (포함)
+   * @param end 끝 위치 (미포함)
+   */
+  public record EntityMatch(EntityType type, String value, String keyword, int start, int end) {}
+
+  /**
+   * 기사 한 건의 태깅 결과.
+   *
+   * @param tags 태그
+   * @param importance 중요도
+   * @param stockCode 종목 코드 (없으면 null)
+   * @param sectorName 섹터명 (없으면 null)
+   * @param entities 등장 위치순 종목/섹터
+   */
+  public record TaggingResult(
+      List<NewsTag> tags,
+      NewsImportance importance,
+      String stockCode,
+      String sectorName,
+      List<EntityMatch> entities) {}
 }
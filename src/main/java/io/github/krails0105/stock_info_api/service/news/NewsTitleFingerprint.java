@@ -0,0 +1,81 @@
+package io.github.krails0105.stock_info_api.service.news;
+
+import io.github.krails0105.stock_info_api.util.SimHash;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.regex.Pattern;
+
+/**
+ * 뉴스 제목 SimHash 지문.
+ *
+ * <p>제목을 정규화한 뒤 글자 2-gram으로 64비트 SimHash를 만든다. 정규화는 언론사 접미사(" - 한국경제", " | 연합뉴스"), 괄호 말머리
+ * ("[속보]", "(종합)"), 공백/기호, 대소문자 차이를 없애므로, 언론사만 바꿔 다시 낸 기사는 같은 지문(또는 해밍 거리가 작은 지문)을 갖는다.
+ *
+ * <p>정규화 후 2-gram이 {@value #MIN_SHINGLES}개 미만인 제목(말머리나 기호뿐인 제목 등)은 지문을 만들지 않는다. 이런 제목은 서로 관계없어도
+ * 같은 지문이 되기 때문이다.
+ */
+public final class NewsTitleFingerprint {
+
+  /** 제목 끝 언론사 접미사 (" - 언론사", " | 언론사", 공백 없는 20자 이내). */
+  private static final Pattern PUBLISHER_SUFFIX_PATTERN =
+      Pattern.compile("\\s+[-|]\\s+[^\\s\\-|]{1,20}$");
+
+  /** 괄호 말머리/꼬리표 ([속보], (종합), 【단독】 등). */
+  private static final Pattern BRACKET_TAG_PATTERN =
+      Pattern.compile("\\[[^\\]]*\\]|\\([^)]*\\)|【[^】]*】|<[^>]*>");
+
+  /** 한글, 영문, 숫자 외 문자 (공백 포함). */
+  private static final Pattern NON_WORD_PATTERN = Pattern.compile("[^가-힣a-z0-9]");
+
+  /** 지문을 만들 최소 2-gram 수 */
+  static final int MIN_SHINGLES = 3;
+
+  private NewsTitleFingerprint() {
+    // 유틸 클래스 - 인스턴스화 방지
+  }
+
+  /**
+   * 제목 지문.
+   *
+   * @param title 기사 제목
+   * @return 64비트 SimHash (정규화한 제목이 너무 짧으면 빈 값)
+   */
+  public static OptionalLong of(String title) {
+    String normalized = normalize(title);
+    if (normalized.length() - 1 < MIN_SHINGLES) {
+      return OptionalLong.empty();
+    }
+
+    List<CharSequence> bigrams = new ArrayList<>(normalized.length() - 1);
+    for (int i = 0; i + 2 <= normalized.length(); i++) {
+      bigrams.add(normalized.subSequence(i, i + 2));
+    }
+    return OptionalLong.of(SimHash.fingerprint(bigrams));
+  }
+
+  /**
+   * 지문을 만들 수 있는 제목인지 여부.
+   *
+   * @param title 기사 제목
+   * @return 정규화한 제목의 2-gram이 {@value #MIN_SHINGLES}개 이상이면 true
+   */
+  static boolean isFingerprintable(String title) {
+    return normalize(title).length() - 1 >= MIN_SHINGLES;
+  }
+
+  /**
+   * 지문용 제목 정규화.
+   *
+   * @param title 기사 제목
+   * @return 언론사 접미사, 괄호 말머리, 공백/기호를 지운 소문자 제목
+   */
+  static String normalize(String title) {
+    if (title == null) {
+      return "";
+    }
+    String stripped = PUBLISHER_SUFFIX_PATTERN.matcher(title.strip()).replaceFirst("");
+    stripped = BRACKET_TAG_PATTERN.matcher(stripped).replaceAll(" ");
+    return NON_WORD_PATTERN.matcher(stripped.toLowerCase()).replaceAll("");
+  }
+}
@@ -0,0 +1,97 @@
+package io.github.krails0105.stock_info_api.service.news;
+
+import io.github.krails0105.stock_info_api.repository.RawNewsArticleRepository;
+import io.github.krails0105.stock_info_api.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수집한 기사 URL 블룸 필터.
+ *
+ * <p>수집 시 DB 중복 조회 앞에 두어, 필터가 "없음"이라고 답한 URL은 DB 조회 없이 새 기사로 처리한다. "있을 수 있음"인 URL만 DB에서
+ * 확인한다.
+ *
+ * <p>기동 시 DB의 전체 URL로 만들고, 크기는 저장된 기사 수의 2배(최소 {@value #MIN_EXPECTED_INSERTIONS}건)로 잡는다. 예상 개수를
+ * 넘으면 오탐률이 올라가므로 다음 수집 주기 시작 시 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsUrlFilter {
+
+  /** 최소 예상 개수 */
+  static final long MIN_EXPECTED_INSERTIONS = 100_000;
+
+  /** 목표 오탐률 */
+  private static final double FPP = 0.01;
+
+  /** 재구축 시 한 번에 읽을 URL 수 */
+  private static final int PAGE_SIZE = 5_000;
+
+  private final RawNewsArticleRepository rawNewsRepository;
+
+  private final AtomicReference<BloomFilter> current =
+      new AtomicReference<>(BloomFilter.create(MIN_EXPECTED_INSERTIONS, FPP));
+
+  /** 재구축 중인 필터 (재구축 중 추가된 URL을 놓치지 않도록 함께 기록) */
+  private volatile BloomFilter rebuilding;
+
+  /** DB의 전체 URL로 필터 재구축 */
+  @PostConstruct
+  public synchronized void rebuild() {
+    long count = rawNewsRepository.count();
+    BloomFilter next = BloomFilter.create(Math.max(MIN_EXPECTED_INSERTIONS, count * 2), FPP);
+    rebuilding = next;
+    try {
+      int page = 0;
+      List<String> urls;
+      do {
+        urls = rawNewsRepository.findAllUrls(PageRequest.of(page++, PAGE_SIZE));
+        urls.forEach(next::put);
+      } while (urls.size() == PAGE_SIZE);
+      current.set(next);
+    } finally {
+      rebuilding = null;
+    }
+    log.info(
+        "News URL filter built: urls={}, bits={}, hashes={}",
+        next.insertions(),
+        next.bitCount(),
+        next.hashCount());
+  }
+
+  /** 예상 개수를 넘었으면 재구축 */
+  public void rebuildIfSaturated() {
+    if (current.get().isSaturated()) {
+      rebuild();
+    }
+  }
+
+  /**
+   * 수집한 적이 있을 수 있는 URL인지 확인.
+   *
+   * @param url 정규화된 URL
+   * @return false면 확실히 새 URL
+   */
+  public boolean mightContain(String url) {
+    return current.get().mightContain(url);
+  }
+
+  /**
+   * 저장한 URL 기록.
+   *
+   * @param url 정규화된 URL
+   */
+  public void put(String url) {
+    current.get().put(url);
+    BloomFilter next = rebuilding;
+    if (next != null) {
+      next.put(url);
+    }
+  }
+}
@@ -0,0 +1,269 @@
+package io.github.krails0105.stock_info_api.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * 다중 키워드 검색기 (Aho-Corasick 오토마톤, 스레드 안전)
+ *
+ * <p>사전 전체를 한 번 컴파일해 두고, 본문을 한 번만 훑어 모든 키워드 위치를 찾는다. 검색 비용은 사전 크기와 무관하게 본문 길이 + 매칭 수에
+ * 비례한다.
+ *
+ * <p>{@link #findAll(String)}은 leftmost-longest 규칙으로 겹치지 않는 매칭만 돌려준다. 가장 왼쪽에서 시작하는 매칭을 고르고, 같은
+ * 위치에서 시작하면 가장 긴 키워드를 고른다 (예: "삼성바이오로직스"는 "삼성"보다 우선). {@link #findOverlapping(String)}은 겹치는
+ * 매칭까지 모두 돌려준다. 대소문자는 {@link #compileIgnoreCase(Map)}로 만든 경우에만 무시한다. 단어 경계처럼 문맥에 따라 버릴 매칭은
+ * {@link #findAll(String, Predicate)}로 고르기 전에 거른다.
+ *
+ * @param <V> 키워드에 연결된 값
+ */
+public final class AhoCorasick<V> {
+
+  private static final int ROOT = 0;
+
+  /** 상태별 전이 문자 (오름차순) */
+  private final char[][] edgeChars;
+
+  /** 상태별 전이 대상 (edgeChars와 같은 순서) */
+  private final int[][] edgeTargets;
+
+  /** 실패 링크 */
+  private final int[] fail;
+
+  /** 실패 링크를 따라가며 만나는 가장 가까운 키워드 종료 상태 (없으면 -1) */
+  private final int[] outputLink;
+
+  /** 상태에서 끝나는 키워드 번호 (없으면 -1) */
+  private final int[] keywordOf;
+
+  private final String[] keywords;
+  private final List<V> values;
+  private final boolean ignoreCase;
+
+  private AhoCorasick(
+      char[][] edgeChars,
+      int[][] edgeTargets,
+      int[] fail,
+      int[] outputLink,
+      int[] keywordOf,
+      String[] keywords,
+      List<V> values,
+      boolean ignoreCase) {
+    this.edgeChars = edgeChars;
+    this.edgeTargets = edgeTargets;
+    this.fail = fail;
+    this.outputLink = outputLink;
+    this.keywordOf = keywordOf;
+    this.keywords = keywords;
+    this.values = values;
+    this.ignoreCase = ignoreCase;
+  }
+
+  /**
+   * 사전 컴파일
+   *
+   * @param dictionary 키워드 → 값 (빈 키워드는 무시)
+   * @return 검색기
+   */
+  public static <V> AhoCorasick<V> compile(Map<String, V> dictionary) {
+    return compile(dictionary, false);
+  }
+
+  /**
+   * 대소문자를 무시하는 사전 컴파일 (문자 단위 소문자 변환이므로 매칭 위치는 원문 기준)
+   *
+   * @param dictionary 키워드 → 값 (빈 키워드는 무시)
+   * @return 검색기
+   */
+  public static <V> AhoCorasick<V> compileIgnoreCase(Map<String, V> dictionary) {
+    return compile(dictionary, true);
+  }
+
+  /**
+   * 겹치지 않는 모든 매칭 (leftmost-longest)
+   *
+   * @param text 본문
+   * @return 시작 위치순 매칭 목록
+   */
+  public List<Match<V>> findAll(String text) {
+    return findAll(text, match -> true);
+  }
+
+  /**
+   * 조건을 통과한 매칭 중 겹치지 않는 모든 매칭 (leftmost-longest)
+   *
+   * <p>조건은 고르기 전에 적용하므로, 같은 위치의 긴 키워드가 걸러지면 짧은 키워드가 대신 선택될 수 있다.
+   *
+   * @param text 본문
+   * @param accept 매칭 조건
+   * @return 시작 위치순 매칭 목록
+   */
+  public List<Match<V>> findAll(String text, Predicate<Match<V>> accept) {
+    List<Match<V>> candidates = new ArrayList<>();
+    for (Match<V> match : findOverlapping(text)) {
+      if (accept.test(match)) {
+        candidates.add(match);
+      }
+    }
+
+    // 가장 왼쪽, 같은 위치면 가장 긴 매칭부터 겹치지 않게 선택
+    candidates.sort(
+        Comparator.<Match<V>>comparingInt(Match::start)
+            .thenComparing(Comparator.<Match<V>>comparingInt(Match::end).reversed()));
+    List<Match<V>> selected = new ArrayList<>();
+    int coveredUntil = 0;
+    for (Match<V> match : candidates) {
+      if (match.start() >= coveredUntil) {
+        selected.add(match);
+        coveredUntil = match.end();
+      }
+    }
+    return selected;
+  }
+
+  /**
+   * 겹치는 매칭까지 모든 매칭 (한 번의 스캔)
+   *
+   * @param text 본문
+   * @return 끝 위치순 매칭 목록
+   */
+  public List<Match<V>> findOverlapping(String text) {
+    if (text == null || text.isEmpty() || keywords.length == 0) {
+      return List.of();
+    }
+
+    List<Match<V>> matches = new ArrayList<>();
+    int state = ROOT;
+    for (int i = 0; i < text.length(); i++) {
+      char c = fold(text.charAt(i), ignoreCase);
+      int target;
+      while ((target = next(edgeChars, edgeTargets, state, c)) < 0 && state != ROOT) {
+        state = fail[state];
+      }
+      state = Math.max(target, ROOT);
+
+      for (int s = keywordOf[state] >= 0 ? state : outputLink[state]; s >= 0; s = outputLink[s]) {
+        int k = keywordOf[s];
+        matches.add(new Match<>(i + 1 - keywords[k].length(), i + 1, keywords[k], values.get(k)));
+      }
+    }
+    return matches;
+  }
+
+  /** 컴파일된 키워드 수 */
+  public int size() {
+    return keywords.length;
+  }
+
+  // ==================== Private Methods ====================
+
+  private static <V> AhoCorasick<V> compile(Map<String, V> dictionary, boolean ignoreCase) {
+    // 1. 트라이 구성
+    List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+    List<Integer> terminal = new ArrayList<>();
+    trie.add(new TreeMap<>());
+    terminal.add(-1);
+
+    List<String> keywords = new ArrayList<>();
+    List<V> values = new ArrayList<>();
+    for (Map.Entry<String, V> entry : dictionary.entrySet()) {
+      String keyword = entry.getKey();
+      if (keyword == null || keyword.isEmpty()) {
+        continue;
+      }
+      int state = ROOT;
+      for (int i = 0; i < keyword.length(); i++) {
+        char c = fold(keyword.charAt(i), ignoreCase);
+        Integer next = trie.get(state).get(c);
+        if (next == null) {
+          next = trie.size();
+          trie.add(new TreeMap<>());
+          terminal.add(-1);
+          trie.get(state).put(c, next);
+        }
+        state = next;
+      }
+      terminal.set(state, keywords.size());
+      keywords.add(keyword);
+      values.add(entry.getValue());
+    }
+
+    // 2. 전이 표를 배열로 압축
+    int size = trie.size();
+    char[][] edgeChars = new char[size][];
+    int[][] edgeTargets = new int[size][];
+    int[] keywordOf = new int[size];
+    for (int s = 0; s < size; s++) {
+      TreeMap<Character, Integer> edges = trie.get(s);
+      edgeChars[s] = new char[edges.size()];
+      edgeTargets[s] = new int[edges.size()];
+      int i = 0;
+      for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+        edgeChars[s][i] = edge.getKey();
+        edgeTargets[s][i] = edge.getValue();
+        i++;
+      }
+      keywordOf[s] = terminal.get(s);
+    }
+
+    // 3. 실패 링크 / 출력 링크 (BFS)
+    int[] fail = new int[size];
+    int[] outputLink = new int[size];
+    Arrays.fill(outputLink, -1);
+    Queue<Integer> queue = new ArrayDeque<>();
+    for (int target : edgeTargets[ROOT]) {
+      fail[target] = ROOT;
+      queue.add(target);
+    }
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      for (int i = 0; i < edgeChars[state].length; i++) {
+        char c = edgeChars[state][i];
+        int child = edgeTargets[state][i];
+        int f = fail[state];
+        while (f != ROOT && next(edgeChars, edgeTargets, f, c) < 0) {
+          f = fail[f];
+        }
+        int target = next(edgeChars, edgeTargets, f, c);
+        fail[child] = target >= 0 && target != child ? target : ROOT;
+        outputLink[child] = keywordOf[fail[child]] >= 0 ? fail[child] : outputLink[fail[child]];
+        queue.add(child);
+      }
+    }
+
+    return new AhoCorasick<>(
+        edgeChars,
+        edgeTargets,
+        fail,
+        outputLink,
+        keywordOf,
+        keywords.toArray(new String[0]),
+        List.copyOf(values),
+        ignoreCase);
+  }
+
+  private static char fold(char c, boolean ignoreCase) {
+    return ignoreCase ? Character.toLowerCase(c) : c;
+  }
+
+  private static int next(char[][] edgeChars, int[][] edgeTargets, int state, char c) {
+    int i = Arrays.binarySearch(edgeChars[state], c);
+    return i >= 0 ? edgeTargets[state][i] : -1;
+  }
+
+  /**
+   * 매칭 결과
+   *
+   * @param start 시작 위치 (포함)
+   * @param end 끝 위치 (미포함)
+   * @param keyword 매칭된 키워드
+   * @param value 키워드에 연결된 값
+   */
+  public record Match<V>(int start, int end, String keyword, V value) {}
+}
@@ -0,0 +1,133 @@
+package io.github.krails0105.stock_info_api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 블룸 필터 (스레드 안전)
+ *
+ * <p>{@link #mightContain(String)}이 false면 확실히 넣은 적이 없는 값이고, true면 넣었을 수도 있는 값이다. 오탐률은 생성 시 지정한
+ * 예상 개수까지 fpp 이하로 유지된다.
+ *
+ * <p>비트 배열은 {@link AtomicLongArray}로 관리하여 잠금 없이 동시에 넣고 조회할 수 있다. 해시는 FNV-1a 64비트 값을 섞은 두 값으로
+ * k개 위치를 만든다 (double hashing).
+ */
+public final class BloomFilter {
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final AtomicLongArray bits;
+  private final long bitCount;
+  private final int hashCount;
+  private final long expectedInsertions;
+  private final AtomicLong insertions = new AtomicLong();
+
+  private BloomFilter(long bitCount, int hashCount, long expectedInsertions) {
+    int words = (int) ((bitCount + 63) / 64);
+    this.bits = new AtomicLongArray(words);
+    this.bitCount = (long) words * 64;
+    this.hashCount = hashCount;
+    this.expectedInsertions = expectedInsertions;
+  }
+
+  /**
+   * 블룸 필터 생성
+   *
+   * @param expectedInsertions 예상 개수
+   * @param fpp 목표 오탐률 (0 초과 1 미만)
+   * @return 빈 블룸 필터
+   */
+  public static BloomFilter create(long expectedInsertions, double fpp) {
+    if (expectedInsertions <= 0) {
+      throw new IllegalArgumentException(
+          "expectedInsertions는 0보다 커야 합니다: " + expectedInsertions);
+    }
+    if (fpp <= 0 || fpp >= 1) {
+      throw new IllegalArgumentException("fpp는 0과 1 사이여야 합니다: " + fpp);
+    }
+    // m = -n ln p / (ln 2)^2, k = m/n ln 2
+    double ln2 = Math.log(2);
+    long bitCount = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (ln2 * ln2));
+    int hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+    return new BloomFilter(bitCount, hashCount, expectedInsertions);
+  }
+
+  /**
+   * 값 추가
+   *
+   * @param value 값
+   */
+  public void put(String value) {
+    long h1 = hash(value);
+    long h2 = secondHash(h1);
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(h1 + i * h2, bitCount);
+      long mask = 1L << (index & 63);
+      bits.getAndAccumulate((int) (index >>> 6), mask, (current, bit) -> current | bit);
+    }
+    insertions.incrementAndGet();
+  }
+
+  /**
+   * 포함 여부 확인
+   *
+   * @param value 값
+   * @return false면 확실히 없음, true면 있을 수 있음
+   */
+  public boolean mightContain(String value) {
+    long h1 = hash(value);
+    long h2 = secondHash(h1);
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(h1 + i * h2, bitCount);
+      if ((bits.get((int) (index >>> 6)) & (1L << (index & 63))) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** 예상 개수를 넘게 추가되어 오탐률이 목표보다 높아졌는지 여부 */
+  public boolean isSaturated() {
+    return insertions.get() > expectedInsertions;
+  }
+
+  /** 추가한 횟수 (중복 포함) */
+  public long insertions() {
+    return insertions.get();
+  }
+
+  /** 비트 배열 크기 */
+  public long bitCount() {
+    return bitCount;
+  }
+
+  /** 해시 함수 개수 */
+  public int hashCount() {
+    return hashCount;
+  }
+
+  // ==================== Private Methods ====================
+
+  private static long hash(String value) {
+    long hash = FNV_OFFSET;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= FNV_PRIME;
+    }
+    return mix(hash);
+  }
+
+  /** 두 번째 해시 (홀수로 만들어 2의 거듭제곱 크기 배열에서도 모든 위치를 돌게 함) */
+  private static long secondHash(long h1) {
+    return mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+  }
+
+  /** splitmix64 마무리 단계 (비트 확산) */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,176 @@
+package io.github.krails0105.stock_info_api.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MinHash + LSH(Locality Sensitive Hashing) 후보 검색 인덱스 (스레드 안전하지 않음)
+ *
+ * <p>토큰 집합마다 bands × rows 개의 MinHash 서명을 만들고, 서명을 band 단위로 묶어 버킷에 넣는다. 한 band라도 같은 버킷에 들어간 항목만
+ * 후보로 돌려주므로, 조회 비용은 인덱스 크기가 아니라 후보 수에 비례한다.
+ *
+ * <p>Jaccard 유사도가 s인 두 집합이 후보가 될 확률은 1 - (1 - s^rows)^bands 이다. 후보는 근사치이므로 호출 측에서 정확한 Jaccard로
+ * 다시 확인해야 한다. 공통 토큰이 하나도 없는 집합은 (해시 충돌이 아니면) 후보가 되지 않는다.
+ *
+ * @param <K> 항목 키
+ */
+public final class MinHashLsh<K> {
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final int bands;
+  private final int rows;
+
+  /** 해시 함수별 시드 */
+  private final long[] seeds;
+
+  /** band별 버킷 (band 키 → 항목 키) */
+  private final List<Map<Long, Set<K>>> buckets;
+
+  /** 항목별 band 키 (삭제용) */
+  private final Map<K, long[]> bandKeysByItem = new HashMap<>();
+
+  /**
+   * 빈 인덱스 생성
+   *
+   * @param bands band 수
+   * @param rows band당 해시 수
+   */
+  public MinHashLsh(int bands, int rows) {
+    if (bands <= 0 || rows <= 0) {
+      throw new IllegalArgumentException("bands, rows는 0보다 커야 합니다: " + bands + ", " + rows);
+    }
+    this.bands = bands;
+    this.rows = rows;
+    this.seeds = new long[bands * rows];
+    for (int i = 0; i < seeds.length; i++) {
+      seeds[i] = mix(0x9e3779b97f4a7c15L * (i + 1));
+    }
+    this.buckets = new ArrayList<>(bands);
+    for (int b = 0; b < bands; b++) {
+      buckets.add(new HashMap<>());
+    }
+  }
+
+  /**
+   * 항목 추가 (같은 키가 있으면 교체)
+   *
+   * @param key 항목 키
+   * @param tokens 토큰 집합 (비어 있으면 추가하지 않음)
+   */
+  public void put(K key, Collection<String> tokens) {
+    remove(key);
+    if (tokens.isEmpty()) {
+      return;
+    }
+    long[] bandKeys = bandKeys(tokens);
+    for (int b = 0; b < bands; b++) {
+      buckets.get(b).computeIfAbsent(bandKeys[b], ignored -> new LinkedHashSet<>()).add(key);
+    }
+    bandKeysByItem.put(key, bandKeys);
+  }
+
+  /**
+   * 항목 삭제
+   *
+   * @param key 항목 키
+   */
+  public void remove(K key) {
+    long[] bandKeys = bandKeysByItem.remove(key);
+    if (bandKeys == null) {
+      return;
+    }
+    for (int b = 0; b < bands; b++) {
+      Map<Long, Set<K>> band = buckets.get(b);
+      Set<K> bucket = band.get(bandKeys[b]);
+      if (bucket != null) {
+        bucket.remove(key);
+        if (bucket.isEmpty()) {
+          band.remove(bandKeys[b]);
+        }
+      }
+    }
+  }
+
+  /**
+   * 후보 항목 조회
+   *
+   * @param tokens 토큰 집합
+   * @return 한 band 이상 버킷이 겹치는 항목 키
+   */
+  public Set<K> candidates(Collection<String> tokens) {
+    if (tokens.isEmpty() || bandKeysByItem.isEmpty()) {
+      return Set.of();
+    }
+    long[] bandKeys = bandKeys(tokens);
+    Set<K> candidates = new LinkedHashSet<>();
+    for (int b = 0; b < bands; b++) {
+      Set<K> bucket = buckets.get(b).get(bandKeys[b]);
+      if (bucket != null) {
+        candidates.addAll(bucket);
+      }
+    }
+    return candidates;
+  }
+
+  /** 전체 삭제 */
+  public void clear() {
+    bandKeysByItem.clear();
+    buckets.forEach(Map::clear);
+  }
+
+  /** 항목 수 */
+  public int size() {
+    return bandKeysByItem.size();
+  }
+
+  // ==================== Private Methods ====================
+
+  /** MinHash 서명을 band 단위로 묶은 키 */
+  private long[] bandKeys(Collection<String> tokens) {
+    long[] signature = new long[seeds.length];
+    Arrays.fill(signature, Long.MAX_VALUE);
+    for (String token : tokens) {
+      long base = hash(token);
+      for (int i = 0; i < seeds.length; i++) {
+        long h = mix(base ^ seeds[i]);
+        if (h < signature[i]) {
+          signature[i] = h;
+        }
+      }
+    }
+
+    long[] bandKeys = new long[bands];
+    for (int b = 0; b < bands; b++) {
+      long key = b;
+      for (int r = 0; r < rows; r++) {
+        key = mix(key * 31 + signature[b * rows + r]);
+      }
+      bandKeys[b] = key;
+    }
+    return bandKeys;
+  }
+
+  private static long hash(String token) {
+    long hash = FNV_OFFSET;
+    for (int i = 0; i < token.length(); i++) {
+      hash ^= token.charAt(i);
+      hash *= FNV_PRIME;
+    }
+    return hash;
+  }
+
+  /** splitmix64 마무리 단계 (비트 확산) */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
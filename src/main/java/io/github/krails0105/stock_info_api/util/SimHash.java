@@ -0,0 +1,71 @@
+package io.github.krails0105.stock_info_api.util;
+
+/**
+ * 64비트 SimHash 유틸리티
+ *
+ * <p>특징(feature)마다 64비트 해시를 구해 비트별로 +1/-1을 더하고, 합이 양수인 비트를 1로 만든다. 특징 대부분이 같은 두 입력은 해밍
+ * 거리가 작은 지문을 갖는다.
+ */
+public final class SimHash {
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private SimHash() {
+    // 유틸 클래스 - 인스턴스화 방지
+  }
+
+  /**
+   * 특징 목록의 SimHash
+   *
+   * @param features 특징 (중복은 가중치로 반영)
+   * @return 64비트 지문 (특징이 없으면 0)
+   */
+  public static long fingerprint(Iterable<? extends CharSequence> features) {
+    int[] weights = new int[64];
+    boolean empty = true;
+    for (CharSequence feature : features) {
+      long hash = hash(feature);
+      for (int bit = 0; bit < 64; bit++) {
+        weights[bit] += ((hash >>> bit) & 1) == 1 ? 1 : -1;
+      }
+      empty = false;
+    }
+    if (empty) {
+      return 0L;
+    }
+
+    long fingerprint = 0L;
+    for (int bit = 0; bit < 64; bit++) {
+      if (weights[bit] > 0) {
+        fingerprint |= 1L << bit;
+      }
+    }
+    return fingerprint;
+  }
+
+  /**
+   * 두 지문의 해밍 거리
+   *
+   * @param a 지문
+   * @param b 지문
+   * @return 서로 다른 비트 수 (0 ~ 64)
+   */
+  public static int distance(long a, long b) {
+    return Long.bitCount(a ^ b);
+  }
+
+  // ==================== Private Methods ====================
+
+  private static long hash(CharSequence feature) {
+    long hash = FNV_OFFSET;
+    for (int i = 0; i < feature.length(); i++) {
+      hash ^= feature.charAt(i);
+      hash *= FNV_PRIME;
+    }
+    // splitmix64 마무리 단계 (비트 확산)
+    hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+    hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+    return hash ^ (hash >>> 31);
+  }
+}
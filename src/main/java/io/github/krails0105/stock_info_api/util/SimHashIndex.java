@@ -0,0 +1,136 @@
+package io.github.krails0105.stock_info_api.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 해밍 거리 3 이하 SimHash 검색 인덱스 (스레드 안전하지 않음)
+ *
+ * <p>64비트 지문을 16비트 블록 4개로 나누고 블록마다 표를 둔다. 거리가 3 이하인 두 지문은 비둘기집 원리에 따라 적어도 한 블록이 완전히 같으므로,
+ * 4번의 표 조회로 모은 후보만 실제 거리를 확인하면 된다.
+ *
+ * @param <K> 항목 키
+ */
+public final class SimHashIndex<K> {
+
+  /** 표 조회로 보장되는 최대 해밍 거리 */
+  public static final int MAX_DISTANCE = 3;
+
+  private static final int BLOCKS = MAX_DISTANCE + 1;
+  private static final int BLOCK_BITS = 64 / BLOCKS;
+  private static final long BLOCK_MASK = (1L << BLOCK_BITS) - 1;
+
+  /** 블록별 표 (블록 값 → 항목 키) */
+  private final List<Map<Integer, Set<K>>> tables = new ArrayList<>(BLOCKS);
+
+  /** 항목별 지문 */
+  private final Map<K, Long> fingerprints = new HashMap<>();
+
+  public SimHashIndex() {
+    for (int b = 0; b < BLOCKS; b++) {
+      tables.add(new HashMap<>());
+    }
+  }
+
+  /**
+   * 항목 추가 (같은 키가 있으면 교체)
+   *
+   * @param key 항목 키
+   * @param fingerprint SimHash 지문
+   */
+  public void put(K key, long fingerprint) {
+    remove(key);
+    for (int b = 0; b < BLOCKS; b++) {
+      tables
+          .get(b)
+          .computeIfAbsent(block(fingerprint, b), ignored -> new LinkedHashSet<>())
+          .add(key);
+    }
+    fingerprints.put(key, fingerprint);
+  }
+
+  /**
+   * 항목 삭제
+   *
+   * @param key 항목 키
+   */
+  public void remove(K key) {
+    Long fingerprint = fingerprints.remove(key);
+    if (fingerprint == null) {
+      return;
+    }
+    for (int b = 0; b < BLOCKS; b++) {
+      Map<Integer, Set<K>> table = tables.get(b);
+      int block = block(fingerprint, b);
+      Set<K> bucket = table.get(block);
+      if (bucket != null) {
+        bucket.remove(key);
+        if (bucket.isEmpty()) {
+          table.remove(block);
+        }
+      }
+    }
+  }
+
+  /**
+   * 해밍 거리 이내 항목 조회
+   *
+   * @param fingerprint SimHash 지문
+   * @param maxDistance 최대 해밍 거리 (0 ~ {@link #MAX_DISTANCE})
+   * @return 가까운 순으로 정렬된 항목
+   */
+  public List<Hit<K>> within(long fingerprint, int maxDistance) {
+    if (maxDistance < 0 || maxDistance > MAX_DISTANCE) {
+      throw new IllegalArgumentException(
+          "maxDistance는 0 ~ " + MAX_DISTANCE + " 사이여야 합니다: " + maxDistance);
+    }
+
+    Set<K> seen = new LinkedHashSet<>();
+    List<Hit<K>> hits = new ArrayList<>();
+    for (int b = 0; b < BLOCKS; b++) {
+      Set<K> bucket = tables.get(b).get(block(fingerprint, b));
+      if (bucket == null) {
+        continue;
+      }
+      for (K key : bucket) {
+        if (seen.add(key)) {
+          int distance = SimHash.distance(fingerprint, fingerprints.get(key));
+          if (distance <= maxDistance) {
+            hits.add(new Hit<>(key, distance));
+          }
+        }
+      }
+    }
+    hits.sort((a, b) -> Integer.compare(a.distance(), b.distance()));
+    return hits;
+  }
+
+  /** 전체 삭제 */
+  public void clear() {
+    fingerprints.clear();
+    tables.forEach(Map::clear);
+  }
+
+  /** 항목 수 */
+  public int size() {
+    return fingerprints.size();
+  }
+
+  // ==================== Private Methods ====================
+
+  private static int block(long fingerprint, int index) {
+    return (int) ((fingerprint >>> (index * BLOCK_BITS)) & BLOCK_MASK);
+  }
+
+  /**
+   * 검색 결과
+   *
+   * @param key 항목 키
+   * @param distance 해밍 거리
+   */
+  public record Hit<K>(K key, int distance) {}
+}
@@ -0,0 +1,172 @@
+package io.github.krails0105.stock_info_api.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 토큰 → 정수 ID 사전 (스레드 안전)
+ *
+ * <p>토큰 집합을 정렬된 int[]로 바꿔 두면, 두 집합의 Jaccard 유사도를 문자열 해시나 집합 복사 없이 병합 방식으로 계산할 수 있다.
+ *
+ * <p>ID는 처음 본 순서대로 0부터 부여되며, {@link #clear()}나 {@link #compact(Collection)} 전까지 바뀌지 않는다. 서로 다른
+ * 사전에서 만든 ID 배열끼리는 비교할 수 없다.
+ *
+ * <p>조회용 토큰은 {@link #lookupSortedIds(Collection)}로 바꾸면 사전에 등록되지 않으므로, 저장하지 않는 질의가 사전을 키우지 않는다.
+ */
+public final class TokenDictionary {
+
+  private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+  private final AtomicInteger nextId = new AtomicInteger();
+
+  /**
+   * 토큰 ID (처음 보는 토큰이면 새로 부여)
+   *
+   * @param token 토큰
+   * @return 토큰 ID
+   */
+  public int idOf(String token) {
+    return ids.computeIfAbsent(token, ignored -> nextId.getAndIncrement());
+  }
+
+  /**
+   * 토큰 집합을 중복 없는 오름차순 ID 배열로 변환
+   *
+   * @param tokens 토큰 집합
+   * @return 정렬된 토큰 ID
+   */
+  public int[] toSortedIds(Collection<String> tokens) {
+    int[] result = new int[tokens.size()];
+    int i = 0;
+    for (String token : tokens) {
+      result[i++] = idOf(token);
+    }
+    return sortDistinct(result);
+  }
+
+  /**
+   * 토큰 집합을 사전에 등록하지 않고 오름차순 ID 배열로 변환
+   *
+   * <p>사전에 없는 토큰은 음수 임시 ID(-1, -2, ...)를 받는다. 임시 ID는 사전의 어떤 ID와도 겹치지 않으므로 {@link #jaccard(int[],
+   * int[])}에서 합집합 크기에만 들어간다.
+   *
+   * @param tokens 토큰 집합
+   * @return 정렬된 토큰 ID (사전에 없는 토큰은 음수)
+   */
+  public int[] lookupSortedIds(Collection<String> tokens) {
+    int[] result = new int[tokens.size()];
+    Map<String, Integer> unknown = null;
+    int i = 0;
+    for (String token : tokens) {
+      Integer id = ids.get(token);
+      if (id == null) {
+        if (unknown == null) {
+          unknown = new HashMap<>();
+        }
+        id = unknown.get(token);
+        if (id == null) {
+          id = -1 - unknown.size();
+          unknown.put(token, id);
+        }
+      }
+      result[i++] = id;
+    }
+    return sortDistinct(result);
+  }
+
+  /**
+   * 두 정렬된 ID 배열의 Jaccard 유사도 (추가 할당 없음)
+   *
+   * @param a 오름차순 토큰 ID
+   * @param b 오름차순 토큰 ID
+   * @return 유사도 (0.0 ~ 1.0, 한쪽이 비어 있으면 0.0)
+   */
+  public static double jaccard(int[] a, int[] b) {
+    if (a.length == 0 || b.length == 0) {
+      return 0.0;
+    }
+
+    int intersection = 0;
+    int i = 0;
+    int j = 0;
+    while (i < a.length && j < b.length) {
+      if (a[i] == b[j]) {
+        intersection++;
+        i++;
+        j++;
+      } else if (a[i] < b[j]) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return (double) intersection / (a.length + b.length - intersection);
+  }
+
+  /**
+   * 사용 중인 ID만 남기고 ID를 0부터 다시 부여 (다른 호출과 동시에 부르지 않는다)
+   *
+   * <p>남는 토큰의 상대 순서는 유지되므로, 넘긴 배열은 제자리에서 새 ID로 바뀐 뒤에도 오름차순이다. 넘기지 않은 배열은 더 이상 비교할 수 없다.
+   *
+   * @param live 사용 중인 정렬된 ID 배열 (제자리에서 새 ID로 바뀜)
+   */
+  public void compact(Collection<int[]> live) {
+    int[] remap = new int[nextId.get()];
+    for (int[] sortedIds : live) {
+      for (int id : sortedIds) {
+        remap[id] = 1;
+      }
+    }
+
+    // 이전 ID 순서대로 새 ID 부여 (사용하지 않는 ID는 -1)
+    int next = 0;
+    for (int id = 0; id < remap.length; id++) {
+      remap[id] = remap[id] == 1 ? next++ : -1;
+    }
+
+    for (Iterator<Map.Entry<String, Integer>> it = ids.entrySet().iterator(); it.hasNext(); ) {
+      Map.Entry<String, Integer> entry = it.next();
+      int newId = remap[entry.getValue()];
+      if (newId < 0) {
+        it.remove();
+      } else {
+        entry.setValue(newId);
+      }
+    }
+    for (int[] sortedIds : live) {
+      for (int i = 0; i < sortedIds.length; i++) {
+        sortedIds[i] = remap[sortedIds[i]];
+      }
+    }
+    nextId.set(next);
+  }
+
+  /** 등록된 토큰 수 */
+  public int size() {
+    return ids.size();
+  }
+
+  /** 전체 삭제 (이전에 만든 ID 배열은 더 이상 비교할 수 없음) */
+  public void clear() {
+    ids.clear();
+    nextId.set(0);
+  }
+
+  // ==================== Private Methods ====================
+
+  /** 오름차순 정렬 후 중복 제거 (List 등 중복이 있는 입력 대비) */
+  private static int[] sortDistinct(int[] ids) {
+    Arrays.sort(ids);
+    int size = 0;
+    for (int j = 0; j < ids.length; j++) {
+      if (j == 0 || ids[j] != ids[j - 1]) {
+        ids[size++] = ids[j];
+      }
+    }
+    return size == ids.length ? ids : Arrays.copyOf(ids, size);
+  }
+}
@@ -0,0 +1,115 @@
+package io.github.krails0105.stock_info_api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.github.krails0105.stock_info_api.dto.response.ChartResponse;
+import io.github.krails0105.stock_info_api.dto.response.ChartResponse.ChartDataPoint;
+import io.github.krails0105.stock_info_api.dto.response.ChartResponse.ChartMeta;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** ChartResponseCodec 테스트. */
+class ChartResponseCodecTest {
+
+  private final ChartResponseCodec codec = new ChartResponseCodec();
+
+  private static ChartDataPoint point(String date, long price, long volume) {
+    return point(date, price, price, price, volume);
+  }
+
+  private static ChartDataPoint point(String date, long price, long high, long low, long volume) {
+    return ChartDataPoint.builder()
+        .date(date)
+        .price(price)
+        .high(high)
+        .low(low)
+        .volume(volume)
+        .build();
+  }
+
+  @Test
+  @DisplayName("하락 구간(음수 차이)을 포함한 차트를 그대로 복원한다")
+  void shouldRoundTripWithNegativeDeltas() throws IOException {
+    OffsetDateTime asOf = OffsetDateTime.of(2026, 1, 2, 15, 30, 0, 0, ZoneOffset.ofHours(9));
+    ChartResponse original =
+        ChartResponse.builder()
+            .stockCode("005930")
+            .stockName("삼성전자")
+            .range("1M")
+            .dataPoints(
+                List.of(
+                    point("20260102", 71_000, 12_000_000),
+                    point("20260105", 69_500, 0),
+                    point("20260106", 1, 5),
+                    point("20260107", 1_000_000, Long.MAX_VALUE)))
+            .meta(ChartMeta.builder().asOf(asOf).source("NAVER").build())
+            .build();
+
+    ChartResponse decoded = codec.decode(codec.encode(original));
+
+    assertThat(decoded.getStockCode()).isEqualTo("005930");
+    assertThat(decoded.getStockName()).isEqualTo("삼성전자");
+    assertThat(decoded.getRange()).isEqualTo("1M");
+    assertThat(decoded.getDataPoints())
+        .extracting(ChartDataPoint::getDate, ChartDataPoint::getPrice, ChartDataPoint::getVolume)
+        .containsExactly(
+            tuple("20260102", 71_000L, 12_000_000L),
+            tuple("20260105", 69_500L, 0L),
+            tuple("20260106", 1L, 5L),
+            tuple("20260107", 1_000_000L, Long.MAX_VALUE));
+    assertThat(decoded.getMeta().getAsOf()).isEqualTo(asOf);
+    assertThat(decoded.getMeta().getSource()).isEqualTo("NAVER");
+  }
+
+  @Test
+  @DisplayName("고가/저가를 복원하고, 제공되지 않은 고가/저가(0)도 그대로 복원한다")
+  void shouldRoundTripHighLow() throws IOException {
+    ChartResponse original =
+        ChartResponse.builder()
+            .stockCode("005930")
+            .dataPoints(
+                List.of(
+                    point("20260102", 71_000, 72_300, 70_100, 12_000_000),
+                    point("20260105", 69_500, 71_200, 69_000, 9_000_000),
+                    point("20260106", 70_000, 0, 0, 1_000)))
+            .build();
+
+    ChartResponse decoded = codec.decode(codec.encode(original));
+
+    assertThat(decoded.getDataPoints())
+        .extracting(ChartDataPoint::getPrice, ChartDataPoint::getHigh, ChartDataPoint::getLow)
+        .containsExactly(
+            tuple(71_000L, 72_300L, 70_100L),
+            tuple(69_500L, 71_200L, 69_000L),
+            tuple(70_000L, 0L, 0L));
+  }
+
+  @Test
+  @DisplayName("빈 차트와 null 필드를 복원한다")
+  void shouldRoundTripEmptyChart() throws IOException {
+    ChartResponse decoded =
+        codec.decode(codec.encode(ChartResponse.builder().stockCode("000660").build()));
+
+    assertThat(decoded.getStockCode()).isEqualTo("000660");
+    assertThat(decoded.getStockName()).isNull();
+    assertThat(decoded.getDataPoints()).isEmpty();
+    assertThat(decoded.getMeta()).isNull();
+  }
+
+  @Test
+  @DisplayName("버전이 다른 바이트는 거부한다")
+  void shouldRejectVersionMismatch() throws IOException {
+    byte[] bytes = codec.encode(ChartResponse.builder().stockCode("005930").build());
+    bytes[0] = (byte) (bytes[0] + 1);
+
+    assertThatThrownBy(() -> codec.decode(bytes))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("version");
+  }
+}
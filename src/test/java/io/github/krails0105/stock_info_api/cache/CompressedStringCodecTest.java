@@ -0,0 +1,33 @@
+package io.github.krails0105.stock_info_api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** CompressedStringCodec 테스트. */
+class CompressedStringCodecTest {
+
+  private final CompressedStringCodec codec = new CompressedStringCodec();
+
+  @Test
+  @DisplayName("한글 CSV를 압축해 그대로 복원한다")
+  void shouldRoundTrip() throws IOException {
+    String csv = "종목코드,종목명,종가\n" + "005930,삼성전자,71000\n".repeat(500);
+
+    byte[] encoded = codec.encode(csv);
+
+    assertThat(codec.decode(encoded)).isEqualTo(csv);
+    assertThat(encoded.length).isLessThan(csv.length());
+    assertThat(codec.decode(codec.encode(""))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("압축 형식이 아닌 바이트는 거부한다")
+  void shouldRejectCorruptBytes() {
+    assertThatThrownBy(() -> codec.decode(new byte[] {1, 2, 3, 4}))
+        .isInstanceOf(IOException.class);
+  }
+}
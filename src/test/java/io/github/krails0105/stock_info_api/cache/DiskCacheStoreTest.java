@@ -0,0 +1,150 @@
+package io.github.krails0105.stock_info_api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** DiskCacheStore 테스트. */
+class DiskCacheStoreTest {
+
+  private static final Duration TTL = Duration.ofMinutes(10);
+
+  @TempDir Path tempDir;
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private DiskCacheStore open(Path file, Clock clock) throws IOException {
+    return new DiskCacheStore(file, TTL, 0.5, clock);
+  }
+
+  @Nested
+  @DisplayName("조회/저장")
+  class ReadWriteTests {
+
+    @Test
+    @DisplayName("저장한 값을 그대로 조회한다")
+    void shouldReadWhatWasWritten() throws IOException {
+      try (DiskCacheStore store = open(tempDir.resolve("cache.log"), Clock.systemUTC())) {
+        store.put("005930_1M", bytes("chart"));
+
+        assertThat(store.get("005930_1M")).isEqualTo(bytes("chart"));
+        assertThat(store.get("000660_1M")).isNull();
+      }
+    }
+
+    @Test
+    @DisplayName("같은 키를 다시 저장하면 최신 값을 조회한다")
+    void shouldReturnLatestValue() throws IOException {
+      try (DiskCacheStore store = open(tempDir.resolve("cache.log"), Clock.systemUTC())) {
+        store.put("key", bytes("v1"));
+        store.put("key", bytes("v2"));
+
+        assertThat(store.get("key")).isEqualTo(bytes("v2"));
+        assertThat(store.stats().entries()).isEqualTo(1);
+      }
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 값은 조회되지 않는다")
+    void shouldExpireOldEntries() throws IOException {
+      MutableClock clock = new MutableClock(Instant.parse("2026-01-02T00:00:00Z"));
+      try (DiskCacheStore store = open(tempDir.resolve("cache.log"), clock)) {
+        store.put("key", bytes("value"));
+
+        clock.advance(TTL.plusSeconds(1));
+
+        assertThat(store.get("key")).isNull();
+      }
+    }
+
+    @Test
+    @DisplayName("삭제한 키는 조회되지 않는다")
+    void shouldRemoveKey() throws IOException {
+      try (DiskCacheStore store = open(tempDir.resolve("cache.log"), Clock.systemUTC())) {
+        store.put("key", bytes("value"));
+        store.remove("key");
+
+        assertThat(store.get("key")).isNull();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("재시작 복구")
+  class RecoveryTests {
+
+    @Test
+    @DisplayName("다시 열면 파일을 스캔해 인덱스를 복구한다")
+    void shouldRebuildIndexOnReopen() throws IOException {
+      Path file = tempDir.resolve("cache.log");
+      try (DiskCacheStore store = open(file, Clock.systemUTC())) {
+        store.put("a", bytes("1"));
+        store.put("b", bytes("2"));
+        store.put("a", bytes("3"));
+        store.remove("b");
+      }
+
+      try (DiskCacheStore reopened = open(file, Clock.systemUTC())) {
+        assertThat(reopened.get("a")).isEqualTo(bytes("3"));
+        assertThat(reopened.get("b")).isNull();
+        assertThat(reopened.stats().entries()).isEqualTo(1);
+      }
+    }
+
+    @Test
+    @DisplayName("기록 도중 끊긴 꼬리 레코드는 잘라내고 앞선 레코드는 유지한다")
+    void shouldTruncateTornTail() throws IOException {
+      Path file = tempDir.resolve("cache.log");
+      try (DiskCacheStore store = open(file, Clock.systemUTC())) {
+        store.put("a", bytes("1"));
+        store.put("b", bytes("2"));
+      }
+      long intactSize = Files.size(file);
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+        channel.truncate(intactSize - 3);
+      }
+
+      try (DiskCacheStore reopened = open(file, Clock.systemUTC())) {
+        assertThat(reopened.get("a")).isEqualTo(bytes("1"));
+        assertThat(reopened.get("b")).isNull();
+        assertThat(reopened.stats().fileBytes()).isLessThan(intactSize);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("압축")
+  class CompactionTests {
+
+    @Test
+    @DisplayName("덮어쓴 레코드가 쌓이면 살아있는 레코드만 남도록 압축한다")
+    void shouldCompactDeadRecords() throws IOException {
+      Path file = tempDir.resolve("cache.log");
+      byte[] payload = new byte[64 * 1024];
+      try (DiskCacheStore store = open(file, Clock.systemUTC())) {
+        for (int i = 0; i < 40; i++) {
+          store.put("key-" + (i % 4), payload);
+        }
+
+        DiskCacheStore.Stats stats = store.stats();
+        assertThat(stats.entries()).isEqualTo(4);
+        assertThat(stats.fileBytes()).isLessThan(40L * payload.length / 2);
+        assertThat(store.get("key-3")).isEqualTo(payload);
+      }
+    }
+  }
+}
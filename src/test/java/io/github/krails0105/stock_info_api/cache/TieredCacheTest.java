@@ -0,0 +1,171 @@
+package io.github.krails0105.stock_info_api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.Cache;
+
+/** TieredCache 테스트. */
+class TieredCacheTest {
+
+  private static final Duration MEMORY_TTL = Duration.ofSeconds(60);
+  private static final Duration RESTART_WINDOW = Duration.ofMinutes(5);
+  private static final Duration DISK_TTL = Duration.ofMinutes(10);
+  private static final CompressedStringCodec CODEC = new CompressedStringCodec();
+
+  @TempDir Path tempDir;
+
+  private MutableClock clock;
+  private DiskCacheStore diskStore;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    clock = new MutableClock(Instant.parse("2026-01-02T00:00:00Z"));
+    diskStore = new DiskCacheStore(tempDir.resolve("cache.log"), DISK_TTL, 0.5, clock);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    diskStore.close();
+  }
+
+  /** 빈 L1으로 새 캐시 생성 (재시작 상황) */
+  private TieredCache newCache() {
+    return new TieredCache(
+        "test",
+        Caffeine.newBuilder()
+            .expireAfterWrite(MEMORY_TTL)
+            .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+            .build(),
+        diskStore,
+        CODEC,
+        MEMORY_TTL,
+        RESTART_WINDOW,
+        clock);
+  }
+
+  private void writeToDisk(String key, String value) throws IOException {
+    diskStore.put(key, CODEC.encode(value));
+  }
+
+  @Nested
+  @DisplayName("디스크 값 승격")
+  class PromotionTests {
+
+    @Test
+    @DisplayName("L1 TTL보다 오래 걸린 재시작 후에도 재시작 창 안의 디스크 값은 원본 호출 없이 제공한다")
+    void shouldServeDiskValueAfterSlowRestart() throws IOException {
+      writeToDisk("chart", "v1");
+      clock.advance(MEMORY_TTL.multipliedBy(3));
+      TieredCache cache = newCache();
+      AtomicInteger loads = new AtomicInteger();
+
+      String value = cache.get("chart", () -> "v" + (loads.incrementAndGet() + 1));
+
+      assertThat(value).isEqualTo("v1");
+      assertThat(loads).hasValue(0);
+      assertThat(cache.stats().diskHits()).isEqualTo(1);
+      assertThat(cache.stats().misses()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시작 전 디스크 값은 원래 기록의 재시작 창이 끝나는 시각까지만 제공한다")
+    void shouldPromoteWithOriginalExpiry() throws IOException {
+      writeToDisk("chart", "v1");
+      clock.advance(Duration.ofMinutes(3));
+      TieredCache cache = newCache();
+
+      assertThat(cache.get("chart", String.class)).isEqualTo("v1");
+      assertThat(cache.stats().diskHits()).isEqualTo(1);
+
+      // 승격 후 2분 더 지나면 기록 후 5분 → 만료 (승격 시점부터가 아님)
+      clock.advance(Duration.ofMinutes(2).plusSeconds(1));
+      assertThat(cache.get("chart")).isNull();
+    }
+
+    @Test
+    @DisplayName("재시작 창이 지난 디스크 값은 승격하지 않고 원본을 다시 호출한다")
+    void shouldNotPromoteStaleDiskValue() throws IOException {
+      writeToDisk("chart", "old");
+      clock.advance(RESTART_WINDOW.plusMinutes(1));
+      TieredCache cache = newCache();
+
+      assertThat(cache.get("chart")).isNull();
+      assertThat(cache.get("chart", () -> "fresh")).isEqualTo("fresh");
+      assertThat(cache.get("chart", String.class)).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("저장한 값은 L1 TTL이 지나면 다시 원본을 호출한다")
+    void shouldReloadAfterMemoryTtl() {
+      TieredCache cache = newCache();
+      AtomicInteger loads = new AtomicInteger();
+
+      cache.get("chart", () -> "v" + loads.incrementAndGet());
+      cache.get("chart", () -> "v" + loads.incrementAndGet());
+      clock.advance(MEMORY_TTL.plusSeconds(1));
+      String reloaded = cache.get("chart", () -> "v" + loads.incrementAndGet());
+
+      assertThat(reloaded).isEqualTo("v2");
+      assertThat(loads).hasValue(2);
+    }
+  }
+
+  @Nested
+  @DisplayName("원본 호출 실패")
+  class LoaderFailureTests {
+
+    @Test
+    @DisplayName("디스크 TTL 안의 마지막 값을 대체값으로 주되 캐싱하지 않는다")
+    void shouldServeStaleFallbackWithoutCaching() throws IOException {
+      writeToDisk("snapshot", "last-good");
+      clock.advance(RESTART_WINDOW.plusMinutes(1));
+      TieredCache cache = newCache();
+      AtomicInteger loads = new AtomicInteger();
+
+      String fallback =
+          cache.get(
+              "snapshot",
+              () -> {
+                loads.incrementAndGet();
+                throw new IllegalStateException("upstream down");
+              });
+
+      assertThat(fallback).isEqualTo("last-good");
+      assertThat(cache.stats().staleFallbacks()).isEqualTo(1);
+      // 대체값은 L1에 남지 않으므로 다음 요청은 다시 원본을 호출한다
+      assertThat(cache.get("snapshot", () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("대체값이 없으면 예외를 전달하고 아무것도 캐싱하지 않는다")
+    void shouldPropagateLoaderException() {
+      TieredCache cache = newCache();
+
+      assertThatThrownBy(
+              () ->
+                  cache.get(
+                      "snapshot",
+                      () -> {
+                        throw new IllegalStateException("upstream down");
+                      }))
+          .isInstanceOf(Cache.ValueRetrievalException.class)
+          .hasRootCauseInstanceOf(IllegalStateException.class);
+      assertThat(cache.get("snapshot")).isNull();
+      assertThat(diskStore.get("snapshot")).isNull();
+    }
+  }
+}
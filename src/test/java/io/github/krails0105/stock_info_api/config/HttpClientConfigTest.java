@@ -0,0 +1,130 @@
+package io.github.krails0105.stock_info_api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+/** HttpClientConfig 테스트. */
+class HttpClientConfigTest {
+
+  private static final String BODY = "종목코드,종목명\n005930,삼성전자\n";
+
+  private HttpServer server;
+  private MeterRegistry meterRegistry;
+  private CloseableHttpClient httpClient;
+  private RestClient restClient;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext(
+        "/csv",
+        exchange -> {
+          byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=UTF-8");
+          String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+          if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            body = gzip(body);
+          }
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+          }
+        });
+    server.start();
+
+    meterRegistry = new SimpleMeterRegistry();
+    HttpClientProperties properties = new HttpClientProperties();
+    HttpClientConfig config = new HttpClientConfig();
+    PoolingHttpClientConnectionManager connectionManager =
+        config.upstreamConnectionManager(properties, meterRegistry);
+    httpClient = config.upstreamHttpClient(connectionManager, properties, meterRegistry);
+    restClient =
+        RestClient.builder()
+            .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+            .requestFactory(config.upstreamRequestFactory(httpClient))
+            .build();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    httpClient.close();
+    server.stop(0);
+  }
+
+  private static byte[] gzip(byte[] data) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+      out.write(data);
+    }
+    return bytes.toByteArray();
+  }
+
+  private double requests(String connection) {
+    return meterRegistry
+        .get("upstream.http.requests")
+        .tag("host", "127.0.0.1")
+        .tag("connection", connection)
+        .counter()
+        .count();
+  }
+
+  @Nested
+  @DisplayName("커넥션 풀")
+  class PoolTests {
+
+    @Test
+    @DisplayName("같은 호스트로 연속 요청하면 연결을 재사용한다")
+    void shouldReuseConnection() {
+      restClient.get().uri("/csv").retrieve().body(String.class);
+      restClient.get().uri("/csv").retrieve().body(String.class);
+      restClient.get().uri("/csv").retrieve().body(String.class);
+
+      assertThat(requests("new")).isEqualTo(1);
+      assertThat(requests("reused")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("풀 메트릭을 upstream 이름으로 등록한다")
+    void shouldBindPoolMetrics() {
+      assertThat(
+              meterRegistry
+                  .get("httpcomponents.httpclient.pool.total.max")
+                  .tag("httpclient", "upstream")
+                  .gauge()
+                  .value())
+          .isEqualTo(100);
+    }
+  }
+
+  @Nested
+  @DisplayName("응답 압축")
+  class CompressionTests {
+
+    @Test
+    @DisplayName("gzip 응답을 자동으로 해제한다")
+    void shouldDecompressGzip() {
+      String body = restClient.get().uri("/csv").retrieve().body(String.class);
+
+      assertThat(body).isEqualTo(BODY);
+    }
+  }
+}
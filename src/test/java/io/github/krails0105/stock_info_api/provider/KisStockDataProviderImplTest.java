@@ -0,0 +1,151 @@
+package io.github.krails0105.stock_info_api.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import io.github.krails0105.stock_info_api.config.KisRestClientProperties;
+import io.github.krails0105.stock_info_api.config.UpstreamProperties;
+import io.github.krails0105.stock_info_api.dto.ScoreLabel;
+import io.github.krails0105.stock_info_api.dto.SectorScoreDto;
+import io.github.krails0105.stock_info_api.dto.StockScoreDto;
+import io.github.krails0105.stock_info_api.dto.external.krx.KrxStockResponse.KrxStockItem;
+import io.github.krails0105.stock_info_api.provider.kis.KisRateLimiter;
+import io.github.krails0105.stock_info_api.provider.upstream.HedgedRequestExecutor;
+import io.github.krails0105.stock_info_api.provider.upstream.UpstreamGuard;
+import io.github.krails0105.stock_info_api.service.KisTokenService;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+/** KisStockDataProviderImpl 일괄 조회 테스트. */
+class KisStockDataProviderImplTest {
+
+  private MockRestServiceServer server;
+  private SectorDataProvider sectorDataProvider;
+  private KisStockDataProviderImpl provider;
+
+  @BeforeEach
+  void setUp() {
+    RestClient.Builder builder = RestClient.builder().baseUrl("https://kis.test");
+    server = MockRestServiceServer.bindTo(builder).ignoreExpectOrder(true).build();
+
+    KisTokenService tokenService = mock(KisTokenService.class);
+    when(tokenService.getAccessToken()).thenReturn("token");
+    sectorDataProvider = mock(SectorDataProvider.class);
+
+    UpstreamGuard upstreamGuard =
+        new UpstreamGuard(
+            CircuitBreakerRegistry.ofDefaults(),
+            BulkheadRegistry.ofDefaults(),
+            new SimpleMeterRegistry());
+
+    provider =
+        new KisStockDataProviderImpl(
+            builder.build(),
+            new KisRestClientProperties(),
+            tokenService,
+            sectorDataProvider,
+            upstreamGuard,
+            new HedgedRequestExecutor(new UpstreamProperties(), new SimpleMeterRegistry()),
+            new KisRateLimiter(new KisRestClientProperties(), new SimpleMeterRegistry()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    provider.shutdown();
+  }
+
+  private void expectQuote(String code, String name, String changeRate) {
+    String body =
+        """
+        {"rt_cd":"0","msg_cd":"MCA00000","msg1":"정상처리","output":{
+          "hts_kor_isnm":"%s","stck_prpr":"10000","prdy_ctrt":"%s",
+          "acml_vol":"1000","prdy_vol":"1000","per":"10","pbr":"1"}}
+        """
+            .formatted(name, changeRate);
+    server
+        .expect(requestTo(containsString("FID_INPUT_ISCD=" + code)))
+        .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+  }
+
+  private static KrxStockItem krxItem(String code, double changeRate) {
+    return KrxStockItem.builder()
+        .stockCode(code)
+        .stockName("종목" + code)
+        .sectorName("전기전자")
+        .changeRate(changeRate)
+        .build();
+  }
+
+  @Nested
+  @DisplayName("getStocksByCodes")
+  class BulkTests {
+
+    @Test
+    @DisplayName("일부 종목 조회가 실패해도 나머지를 입력 순서대로 반환한다")
+    void shouldReturnPartialResultsInOrder() {
+      expectQuote("005930", "삼성전자", "1.00");
+      server
+          .expect(requestTo(containsString("FID_INPUT_ISCD=000660")))
+          .andRespond(withServerError());
+      expectQuote("035420", "NAVER", "-1.00");
+
+      List<StockScoreDto> result = provider.getStocksByCodes(List.of("005930", "000660", "035420"));
+
+      assertThat(result).extracting(StockScoreDto::getCode).containsExactly("005930", "035420");
+      server.verify();
+    }
+  }
+
+  @Nested
+  @DisplayName("업종 조회")
+  class SectorTests {
+
+    @BeforeEach
+    void setUpSector() {
+      when(sectorDataProvider.getAllSectors())
+          .thenReturn(
+              List.of(
+                  SectorScoreDto.builder()
+                      .sectorId("전기전자")
+                      .sectorName("전기전자")
+                      .label(ScoreLabel.NEUTRAL)
+                      .build()));
+      when(sectorDataProvider.getStocksBySectorName("전기전자"))
+          .thenReturn(
+              List.of(krxItem("A00001", 5.0), krxItem("A00002", 1.0), krxItem("A00003", -2.0)));
+    }
+
+    @Test
+    @DisplayName("상위 종목은 KRX 등락률 상위 후보만 조회하고 실시간 점수로 다시 정렬한다")
+    void shouldRankCandidatesByLiveScore() {
+      expectQuote("A00001", "종목1", "1.00");
+      expectQuote("A00002", "종목2", "3.00");
+
+      List<StockScoreDto> result = provider.getTopStocksBySector("전기전자", 1);
+
+      assertThat(result).extracting(StockScoreDto::getCode).containsExactly("A00002");
+      server.verify();
+    }
+
+    @Test
+    @DisplayName("없는 업종이면 빈 목록을 반환한다")
+    void shouldReturnEmptyForUnknownSector() {
+      assertThat(provider.getStocksBySector("UNKNOWN")).isEmpty();
+    }
+  }
+}
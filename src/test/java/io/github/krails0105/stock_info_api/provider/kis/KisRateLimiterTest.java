@@ -0,0 +1,192 @@
+package io.github.krails0105.stock_info_api.provider.kis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.krails0105.stock_info_api.config.KisRestClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** KisRateLimiter 테스트. */
+class KisRateLimiterTest {
+
+  private MeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  private KisRateLimiter limiter(
+      double requestsPerSecond, int burst, int maxQueueSize, Duration maxWait) {
+    KisRestClientProperties properties = new KisRestClientProperties();
+    properties.getRateLimit().setRequestsPerSecond(requestsPerSecond);
+    properties.getRateLimit().setBurst(burst);
+    properties.getRateLimit().setMaxQueueSize(maxQueueSize);
+    properties.getRateLimit().setMaxWait(maxWait);
+    return new KisRateLimiter(properties, meterRegistry);
+  }
+
+  private static Thread acquireAsync(
+      KisRateLimiter limiter, KisRequestPriority priority, List<KisRequestPriority> completed) {
+    Thread thread =
+        new Thread(
+            () -> {
+              try {
+                limiter.acquire(priority);
+                completed.add(priority);
+              } catch (KisRateLimitException e) {
+                // 거절/인터럽트된 요청은 완료 목록에 넣지 않음
+              }
+            });
+    thread.start();
+    return thread;
+  }
+
+  private static void awaitQueueDepth(KisRateLimiter limiter, int depth)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+    while (limiter.queueDepth() < depth && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertThat(limiter.queueDepth()).isEqualTo(depth);
+  }
+
+  @Nested
+  @DisplayName("토큰 버킷")
+  class BucketTests {
+
+    @Test
+    @DisplayName("버킷 크기만큼은 대기 없이 바로 통과한다")
+    void shouldPassBurstWithoutQueueing() {
+      KisRateLimiter limiter = limiter(1, 3, 10, Duration.ofSeconds(1));
+
+      for (int i = 0; i < 3; i++) {
+        limiter.acquire(KisRequestPriority.INTERACTIVE);
+      }
+
+      assertThat(limiter.queueDepth()).isZero();
+      assertThat(
+              meterRegistry
+                  .get("kis.ratelimit.wait")
+                  .tag("priority", "INTERACTIVE")
+                  .timer()
+                  .count())
+          .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 다음 토큰이 채워질 때까지 기다린다")
+    void shouldWaitForRefill() {
+      KisRateLimiter limiter = limiter(10, 1, 10, Duration.ofSeconds(1));
+      limiter.acquire(KisRequestPriority.INTERACTIVE);
+
+      long start = System.nanoTime();
+      limiter.acquire(KisRequestPriority.INTERACTIVE);
+
+      assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThan(Duration.ofMillis(50));
+    }
+  }
+
+  @Nested
+  @DisplayName("미리 받은 토큰")
+  class PermitTests {
+
+    @Test
+    @DisplayName("미리 받은 토큰은 한 번만 쓰이고, 이후 실행은 인터셉터가 다시 토큰을 받는다")
+    void shouldConsumePermitOnce() {
+      KisRateLimiter limiter = limiter(1, 1, 10, Duration.ofSeconds(1));
+      KisRateLimiter.Permit permit = limiter.reserve(KisRequestPriority.INTERACTIVE);
+
+      boolean first = permit.runWith(KisRateLimiter::consumePrepaid);
+      boolean second = permit.runWith(KisRateLimiter::consumePrepaid);
+
+      assertThat(first).isTrue();
+      assertThat(second).isFalse();
+      assertThat(KisRateLimiter.consumePrepaid()).isFalse();
+    }
+
+    @Test
+    @DisplayName("NONE은 토큰 없이 실행한다")
+    void shouldRunWithoutPermit() {
+      assertThat(KisRateLimiter.Permit.NONE.runWith(KisRateLimiter::consumePrepaid)).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("우선순위")
+  class PriorityTests {
+
+    @Test
+    @DisplayName("먼저 대기한 백그라운드 요청보다 사용자 요청이 먼저 토큰을 받는다")
+    void shouldServeInteractiveBeforeBackground() throws InterruptedException {
+      KisRateLimiter limiter = limiter(5, 1, 10, Duration.ofSeconds(3));
+      limiter.acquire(KisRequestPriority.INTERACTIVE);
+      List<KisRequestPriority> completed = new CopyOnWriteArrayList<>();
+
+      Thread background = acquireAsync(limiter, KisRequestPriority.BACKGROUND, completed);
+      awaitQueueDepth(limiter, 1);
+      Thread interactive = acquireAsync(limiter, KisRequestPriority.INTERACTIVE, completed);
+      awaitQueueDepth(limiter, 2);
+
+      background.join();
+      interactive.join();
+
+      assertThat(completed)
+          .containsExactly(KisRequestPriority.INTERACTIVE, KisRequestPriority.BACKGROUND);
+    }
+  }
+
+  @Nested
+  @DisplayName("거절")
+  class RejectTests {
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 거절한다")
+    void shouldRejectWhenQueueFull() throws InterruptedException {
+      KisRateLimiter limiter = limiter(1, 1, 1, Duration.ofSeconds(2));
+      limiter.acquire(KisRequestPriority.INTERACTIVE);
+      Thread waiting =
+          acquireAsync(limiter, KisRequestPriority.BACKGROUND, new CopyOnWriteArrayList<>());
+      awaitQueueDepth(limiter, 1);
+
+      assertThatThrownBy(() -> limiter.acquire(KisRequestPriority.INTERACTIVE))
+          .isInstanceOf(KisRateLimitException.class);
+      assertThat(
+              meterRegistry
+                  .get("kis.ratelimit.rejected")
+                  .tag("reason", "queue_full")
+                  .counter()
+                  .count())
+          .isEqualTo(1);
+
+      waiting.interrupt();
+      waiting.join();
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간 안에 토큰을 받지 못하면 거절하고 대기열에서 빠진다")
+    void shouldRejectAfterMaxWait() {
+      KisRateLimiter limiter = limiter(0.5, 1, 10, Duration.ofMillis(100));
+      limiter.acquire(KisRequestPriority.INTERACTIVE);
+
+      assertThatThrownBy(() -> limiter.acquire(KisRequestPriority.BACKGROUND))
+          .isInstanceOf(KisRateLimitException.class);
+      assertThat(limiter.queueDepth()).isZero();
+      assertThat(
+              meterRegistry
+                  .get("kis.ratelimit.rejected")
+                  .tag("reason", "timeout")
+                  .counter()
+                  .count())
+          .isEqualTo(1);
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package io.github.krails0105.stock_info_api.provider.kis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import io.github.krails0105.stock_info_api.config.KisRestClientProperties;
+import io.github.krails0105.stock_info_api.service.live.LiveQuote;
+import io.github.krails0105.stock_info_api.service.live.LiveQuoteService;
+import io.github.krails0105.stock_info_api.service.live.LiveQuotesUpdatedEvent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+/** KisRealtimeClient 테스트. */
+class KisRealtimeClientTest {
+
+  private static final String TICK_FILE = "/kis/h0stcnt0-ticks.txt";
+
+  private ApplicationEventPublisher eventPublisher;
+  private LiveQuoteService liveQuoteService;
+  private KisRealtimeClient client;
+
+  @BeforeEach
+  void setUp() {
+    eventPublisher = mock(ApplicationEventPublisher.class);
+    liveQuoteService = new LiveQuoteService(eventPublisher, new KisRestClientProperties());
+    client =
+        new KisRealtimeClient(RestClient.create(), new KisRestClientProperties(), liveQuoteService);
+  }
+
+  @AfterEach
+  void tearDown() {
+    client.stop();
+  }
+
+  /** 녹화된 틱 파일 로드 ('#'으로 시작하는 줄은 주석). */
+  private static List<String> loadTicks() throws IOException {
+    try (InputStream in = KisRealtimeClientTest.class.getResourceAsStream(TICK_FILE)) {
+      String content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+      return content.lines().filter(line -> !line.isBlank() && !line.startsWith("#")).toList();
+    }
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(condition.getAsBoolean()).isTrue();
+  }
+
+  @Nested
+  @DisplayName("체결 데이터 파싱")
+  class ParseTests {
+
+    @Test
+    @DisplayName("여러 건이 이어 붙은 메시지를 건수만큼 나눠 파싱한다")
+    void shouldParseMultipleRecords() throws IOException {
+      String message =
+          loadTicks().stream().filter(line -> line.startsWith("0|H0STCNT0|002|")).findFirst().get();
+
+      List<LiveQuote> quotes = KisRealtimeClient.parseExecutions(message);
+
+      assertThat(quotes).extracting(LiveQuote::price).containsExactly(72100L, 72200L);
+      assertThat(quotes.get(1).tradeTime()).isEqualTo("090003");
+      assertThat(quotes.get(1).accumulatedVolume()).isEqualTo(1500L);
+    }
+
+    @Test
+    @DisplayName("하락 부호면 전일 대비를 음수로 변환한다")
+    void shouldApplyFallingSign() throws IOException {
+      String message =
+          loadTicks().stream().filter(line -> line.contains("|000660^")).findFirst().get();
+
+      LiveQuote quote = KisRealtimeClient.parseExecutions(message).get(0);
+
+      assertThat(quote.change()).isEqualTo(-1500L);
+      assertThat(quote.changeRate()).isEqualTo(-0.83);
+    }
+
+    @Test
+    @DisplayName("체결 데이터가 아니면 빈 목록을 반환한다")
+    void shouldIgnoreOtherMessages() {
+      assertThat(KisRealtimeClient.parseExecutions("0|H0STASP0|001|005930^090000")).isEmpty();
+      assertThat(KisRealtimeClient.parseExecutions("{\"header\":{}}")).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("stub 서버 재생")
+  class ReplayTests {
+
+    @Test
+    @DisplayName("구독 등록 후 재생된 틱을 종목별로 병합해 스냅샷에 반영한다")
+    void shouldCoalesceReplayedTicks() throws Exception {
+      client.subscribe("005930");
+      client.subscribe("000660");
+
+      try (StubWebSocketServer server = new StubWebSocketServer(List.of(loadTicks()))) {
+        client.connect(server.uri(), "test-approval-key").get(5, TimeUnit.SECONDS);
+
+        await(() -> liveQuoteService.stats().ticksReceived() == 4);
+        await(() -> server.received().stream().anyMatch(m -> m.contains("PINGPONG")));
+        liveQuoteService.flush();
+
+        assertThat(server.received().get(0))
+            .contains("\"approval_key\":\"test-approval-key\"")
+            .contains("\"tr_id\":\"H0STCNT0\"");
+        assertThat(liveQuoteService.getQuote("005930").price()).isEqualTo(72200L);
+        assertThat(liveQuoteService.getQuote("000660").price()).isEqualTo(180000L);
+        assertThat(liveQuoteService.stats().quotesApplied()).isEqualTo(2);
+
+        ArgumentCaptor<LiveQuotesUpdatedEvent> event =
+            ArgumentCaptor.forClass(LiveQuotesUpdatedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().quotes()).hasSize(2);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("접속키 재발급")
+  class ApprovalKeyTests {
+
+    private static final String REJECTED =
+        "{\"header\":{\"tr_id\":\"H0STCNT0\",\"tr_key\":\"005930\",\"encrypt\":\"N\"},"
+            + "\"body\":{\"rt_cd\":\"1\",\"msg_cd\":\"OPSP0011\","
+            + "\"msg1\":\"invalid approval : NOT FOUND\"}}";
+
+    @Test
+    @DisplayName("종목 등록이 거절되면 접속키를 새로 발급받아 다시 연결하고 등록한다")
+    void shouldReissueApprovalKeyWhenRegistrationRejected() throws Exception {
+      RestClient.Builder builder = RestClient.builder().baseUrl("https://kis.test");
+      MockRestServiceServer approval = MockRestServiceServer.bindTo(builder).build();
+      for (String key : List.of("expired-key", "fresh-key")) {
+        approval
+            .expect(requestTo("https://kis.test/oauth2/Approval"))
+            .andRespond(
+                withSuccess("{\"approval_key\":\"" + key + "\"}", MediaType.APPLICATION_JSON));
+      }
+
+      try (StubWebSocketServer server =
+          new StubWebSocketServer(List.of(List.of(REJECTED), List.of()))) {
+        KisRestClientProperties properties = new KisRestClientProperties();
+        properties.setAppKey("app-key");
+        properties.setAppSecret("app-secret");
+        properties.getWebsocket().setEnabled(true);
+        properties.getWebsocket().setUrl(server.uri().toString());
+        properties.getWebsocket().setCodes(List.of("005930"));
+        properties.getWebsocket().setReconnectDelay(Duration.ofMillis(50));
+        KisRealtimeClient renewing =
+            new KisRealtimeClient(builder.build(), properties, liveQuoteService);
+        try {
+          renewing.start();
+
+          await(() -> server.received().stream().anyMatch(m -> m.contains("fresh-key")));
+          approval.verify();
+          assertThat(server.received().get(0)).contains("expired-key");
+        } finally {
+          renewing.stop();
+        }
+      }
+    }
+  }
+}
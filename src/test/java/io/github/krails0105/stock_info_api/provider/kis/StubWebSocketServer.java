@@ -0,0 +1,178 @@
+package io.github.krails0105.stock_info_api.provider.kis;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트용 최소 웹소켓 서버 (RFC 6455, 텍스트 프레임만 지원).
+ *
+ * <p>클라이언트 연결을 차례로 받아, 첫 메시지(구독 등록)를 수신하면 녹화된 메시지를 순서대로 재생한다. 연결마다 다른 메시지를 재생할 수
+ * 있으며(재연결 시험용), 연결 수가 스크립트보다 많으면 마지막 스크립트를 재생한다. 클라이언트가 보낸 메시지는 {@link #received()}로 확인할
+ * 수 있다.
+ */
+class StubWebSocketServer implements Closeable {
+
+  private static final String ACCEPT_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+  private final ServerSocket serverSocket;
+  private final List<List<String>> scripts;
+  private final List<String> received = new CopyOnWriteArrayList<>();
+
+  /**
+   * 테스트 서버 시작.
+   *
+   * @param scripts 연결 순서별 재생 메시지
+   */
+  StubWebSocketServer(List<List<String>> scripts) throws IOException {
+    this.serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+    this.scripts = scripts;
+    Thread thread = new Thread(this::serve, "stub-websocket");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  URI uri() {
+    return URI.create("ws://127.0.0.1:" + serverSocket.getLocalPort() + "/");
+  }
+
+  /** 클라이언트가 보낸 텍스트 메시지. */
+  List<String> received() {
+    return received;
+  }
+
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+  }
+
+  private void serve() {
+    for (int connection = 0; !serverSocket.isClosed(); connection++) {
+      try (Socket socket = serverSocket.accept()) {
+        serveConnection(socket, scripts.get(Math.min(connection, scripts.size() - 1)));
+      } catch (IOException e) {
+        // 서버 종료 또는 클라이언트 연결 끊김
+      }
+    }
+  }
+
+  private void serveConnection(Socket socket, List<String> script) throws IOException {
+    DataInputStream in = new DataInputStream(socket.getInputStream());
+    OutputStream out = socket.getOutputStream();
+    handshake(in, out);
+
+    String first = readFrame(in);
+    if (first == null) {
+      return;
+    }
+    received.add(first);
+    for (String message : script) {
+      writeFrame(out, message);
+    }
+
+    String message;
+    while ((message = readFrame(in)) != null) {
+      received.add(message);
+    }
+  }
+
+  private static void handshake(InputStream in, OutputStream out) throws IOException {
+    String key = null;
+    String line;
+    while (!(line = readLine(in)).isEmpty()) {
+      if (line.toLowerCase().startsWith("sec-websocket-key:")) {
+        key = line.substring(line.indexOf(':') + 1).trim();
+      }
+    }
+
+    String response =
+        "HTTP/1.1 101 Switching Protocols\r\n"
+            + "Upgrade: websocket\r\n"
+            + "Connection: Upgrade\r\n"
+            + "Sec-WebSocket-Accept: "
+            + acceptKey(key)
+            + "\r\n\r\n";
+    out.write(response.getBytes(StandardCharsets.US_ASCII));
+    out.flush();
+  }
+
+  /** 클라이언트 프레임 읽기 (마스킹 해제). close 프레임이나 연결 종료 시 null. */
+  private static String readFrame(DataInputStream in) throws IOException {
+    int first = in.read();
+    if (first < 0 || (first & 0x0F) == 0x8) {
+      return null;
+    }
+    int second = in.readUnsignedByte();
+    long length = second & 0x7F;
+    if (length == 126) {
+      length = in.readUnsignedShort();
+    } else if (length == 127) {
+      length = in.readLong();
+    }
+    byte[] mask = (second & 0x80) != 0 ? in.readNBytes(4) : null;
+    byte[] payload = in.readNBytes((int) length);
+    if (mask != null) {
+      for (int i = 0; i < payload.length; i++) {
+        payload[i] ^= mask[i % 4];
+      }
+    }
+    return new String(payload, StandardCharsets.UTF_8);
+  }
+
+  /** 서버 텍스트 프레임 쓰기 (마스킹 없음). */
+  private static void writeFrame(OutputStream out, String message) throws IOException {
+    byte[] payload = message.getBytes(StandardCharsets.UTF_8);
+    ByteArrayOutputStream frame = new ByteArrayOutputStream();
+    frame.write(0x81);
+    if (payload.length < 126) {
+      frame.write(payload.length);
+    } else if (payload.length < 65536) {
+      frame.write(126);
+      frame.write(payload.length >>> 8);
+      frame.write(payload.length & 0xFF);
+    } else {
+      frame.write(127);
+      for (int shift = 56; shift >= 0; shift -= 8) {
+        frame.write((int) ((long) payload.length >>> shift) & 0xFF);
+      }
+    }
+    frame.write(payload);
+    out.write(frame.toByteArray());
+    out.flush();
+  }
+
+  private static String readLine(InputStream in) throws IOException {
+    ByteArrayOutputStream line = new ByteArrayOutputStream();
+    int b;
+    while ((b = in.read()) >= 0 && b != '\n') {
+      if (b != '\r') {
+        line.write(b);
+      }
+    }
+    return line.toString(StandardCharsets.US_ASCII);
+  }
+
+  private static String acceptKey(String key) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-1")
+              .digest((key + ACCEPT_GUID).getBytes(StandardCharsets.US_ASCII));
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
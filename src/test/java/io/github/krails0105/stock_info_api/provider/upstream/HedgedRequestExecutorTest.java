@@ -0,0 +1,167 @@
+package io.github.krails0105.stock_info_api.provider.upstream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.krails0105.stock_info_api.config.UpstreamProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** HedgedRequestExecutor 테스트. */
+class HedgedRequestExecutorTest {
+
+  private UpstreamProperties.Hedge hedge;
+  private MeterRegistry meterRegistry;
+  private HedgedRequestExecutor executor;
+
+  /** 풀려날 때까지 첫 호출만 멈춰 있는 호출 */
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @BeforeEach
+  void setUp() {
+    hedge = new UpstreamProperties.Hedge();
+    hedge.setEnabled(true);
+    hedge.setBudgetRatio(1.0);
+    hedge.setBurst(1);
+    hedge.setDefaultDelay(Duration.ofMillis(20));
+
+    UpstreamProperties properties = new UpstreamProperties();
+    properties.getHedge().put("naver", hedge);
+
+    meterRegistry = new SimpleMeterRegistry();
+    executor = new HedgedRequestExecutor(properties, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    executor.shutdown();
+  }
+
+  /** 첫 호출은 release까지 대기 후 "slow", 이후 호출은 즉시 "fast". */
+  private Supplier<String> slowFirstCall(AtomicInteger attempts) {
+    return () -> {
+      if (attempts.incrementAndGet() == 1) {
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return "slow";
+      }
+      return "fast";
+    };
+  }
+
+  private double count(String name) {
+    return meterRegistry.get(name).tag("upstream", "naver").counter().count();
+  }
+
+  @Nested
+  @DisplayName("헤지 실행")
+  class HedgeTests {
+
+    @Test
+    @DisplayName("첫 요청이 늦으면 헤지 요청의 응답을 사용한다")
+    void shouldUseHedgedResponse() {
+      AtomicInteger attempts = new AtomicInteger();
+
+      String result = executor.execute(Upstream.NAVER, "siseJson", slowFirstCall(attempts));
+
+      assertThat(result).isEqualTo("fast");
+      assertThat(attempts).hasValue(2);
+      assertThat(count("upstream.hedge.fired")).isEqualTo(1);
+      assertThat(count("upstream.hedge.won")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("첫 요청이 대기 시간 안에 응답하면 헤지하지 않는다")
+    void shouldNotHedgeFastResponse() {
+      AtomicInteger attempts = new AtomicInteger();
+
+      String result =
+          executor.execute(
+              Upstream.NAVER,
+              "siseJson",
+              () -> {
+                attempts.incrementAndGet();
+                return "ok";
+              });
+
+      assertThat(result).isEqualTo("ok");
+      assertThat(attempts).hasValue(1);
+      assertThat(meterRegistry.find("upstream.hedge.fired").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("첫 요청이 실패하면 헤지 없이 예외를 던진다")
+    void shouldPropagateFailure() {
+      assertThatThrownBy(
+              () ->
+                  executor.execute(
+                      Upstream.NAVER,
+                      "siseJson",
+                      () -> {
+                        throw new IllegalStateException("down");
+                      }))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("down");
+    }
+  }
+
+  @Nested
+  @DisplayName("헤지 예산")
+  class BudgetTests {
+
+    @Test
+    @DisplayName("예산이 없으면 헤지하지 않고 첫 요청을 기다린다")
+    void shouldSkipWhenBudgetExhausted() throws Exception {
+      hedge.setBudgetRatio(0);
+      AtomicInteger attempts = new AtomicInteger();
+
+      Thread releaser =
+          new Thread(
+              () -> {
+                try {
+                  Thread.sleep(100);
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+                release.countDown();
+              });
+      releaser.start();
+      String result = executor.execute(Upstream.NAVER, "siseJson", slowFirstCall(attempts));
+      releaser.join();
+
+      assertThat(result).isEqualTo("slow");
+      assertThat(attempts).hasValue(1);
+      assertThat(
+              meterRegistry
+                  .get("upstream.hedge.skipped")
+                  .tag("reason", "budget")
+                  .counter()
+                  .count())
+          .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("헤지 설정이 없는 업스트림은 호출 스레드에서 그대로 실행한다")
+    void shouldRunDirectlyWhenDisabled() {
+      Thread caller = Thread.currentThread();
+
+      Thread executed = executor.execute(Upstream.KIS, "inquire-price", Thread::currentThread);
+
+      assertThat(executed).isSameAs(caller);
+    }
+  }
+}
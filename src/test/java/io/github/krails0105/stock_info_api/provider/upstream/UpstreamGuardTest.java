@@ -0,0 +1,176 @@
+package io.github.krails0105.stock_info_api.provider.upstream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** UpstreamGuard 테스트. */
+class UpstreamGuardTest {
+
+  private MeterRegistry meterRegistry;
+  private UpstreamGuard guard;
+
+  @BeforeEach
+  void setUp() {
+    CircuitBreakerConfig circuitBreakerConfig =
+        CircuitBreakerConfig.custom()
+            .slidingWindowSize(4)
+            .minimumNumberOfCalls(4)
+            .failureRateThreshold(50)
+            .waitDurationInOpenState(Duration.ofMinutes(1))
+            .build();
+    BulkheadConfig bulkheadConfig =
+        BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build();
+
+    meterRegistry = new SimpleMeterRegistry();
+    guard =
+        new UpstreamGuard(
+            CircuitBreakerRegistry.of(circuitBreakerConfig),
+            BulkheadRegistry.of(bulkheadConfig),
+            meterRegistry);
+  }
+
+  private static String fail() {
+    throw new IllegalStateException("upstream down");
+  }
+
+  private void openCircuit(Upstream upstream) {
+    for (int i = 0; i < 4; i++) {
+      try {
+        guard.execute(upstream, UpstreamGuardTest::fail);
+      } catch (IllegalStateException e) {
+        // 실패 누적
+      }
+    }
+  }
+
+  private double fallbacks(Upstream upstream) {
+    return meterRegistry
+        .get("upstream.fallback")
+        .tag("upstream", upstream.getInstanceName())
+        .counter()
+        .count();
+  }
+
+  @Nested
+  @DisplayName("서킷 브레이커")
+  class CircuitBreakerTests {
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 서킷이 열리고 호출하지 않는다")
+    void shouldOpenCircuitOnFailures() {
+      openCircuit(Upstream.KRX);
+      AtomicInteger calls = new AtomicInteger();
+
+      assertThat(guard.state(Upstream.KRX)).isEqualTo(CircuitBreaker.State.OPEN);
+      assertThatThrownBy(() -> guard.execute(Upstream.KRX, calls::incrementAndGet))
+          .isInstanceOf(CallNotPermittedException.class);
+      assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("업스트림마다 서킷이 분리되어 있다")
+    void shouldIsolateUpstreams() {
+      openCircuit(Upstream.KRX);
+
+      assertThat(guard.execute(Upstream.NAVER, () -> "ok")).isEqualTo("ok");
+      assertThat(guard.state(Upstream.NAVER)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+  }
+
+  @Nested
+  @DisplayName("마지막 정상값 대체")
+  class FallbackTests {
+
+    @Test
+    @DisplayName("서킷이 열려 있으면 같은 키의 마지막 정상값을 반환한다")
+    void shouldServeLastGoodWhenOpen() {
+      guard.call(Upstream.KRX, "stocks", () -> "snapshot-v1");
+      openCircuit(Upstream.KRX);
+
+      String result = guard.call(Upstream.KRX, "stocks", () -> "snapshot-v2");
+
+      assertThat(result).isEqualTo("snapshot-v1");
+      assertThat(fallbacks(Upstream.KRX)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정상 응답과 마지막 정상값 대체를 구분해 알려준다")
+    void shouldFlagFallback() {
+      UpstreamGuard.Guarded<String> fresh =
+          guard.callGuarded(Upstream.KRX, "stocks", () -> "snapshot-v1");
+      openCircuit(Upstream.KRX);
+
+      UpstreamGuard.Guarded<String> fallback =
+          guard.callGuarded(Upstream.KRX, "stocks", () -> "snapshot-v2");
+
+      assertThat(fresh).isEqualTo(new UpstreamGuard.Guarded<>("snapshot-v1", false));
+      assertThat(fallback).isEqualTo(new UpstreamGuard.Guarded<>("snapshot-v1", true));
+    }
+
+    @Test
+    @DisplayName("마지막 정상값이 없으면 예외를 그대로 던진다")
+    void shouldRethrowWithoutLastGood() {
+      assertThatThrownBy(() -> guard.call(Upstream.KIS, "005930", UpstreamGuardTest::fail))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("upstream down");
+    }
+
+    @Test
+    @DisplayName("벌크헤드가 가득 차면 마지막 정상값을 반환한다")
+    void shouldServeLastGoodWhenBulkheadFull() throws Exception {
+      guard.call(Upstream.NAVER, "005930_1M", () -> "chart-v1");
+
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      ExecutorService executor = Executors.newSingleThreadExecutor();
+      try {
+        executor.submit(
+            () ->
+                guard.execute(
+                    Upstream.NAVER,
+                    () -> {
+                      started.countDown();
+                      awaitQuietly(release);
+                      return "slow";
+                    }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> guard.execute(Upstream.NAVER, () -> "chart-v2"))
+            .isInstanceOf(BulkheadFullException.class);
+        assertThat(guard.call(Upstream.NAVER, "005930_1M", () -> "chart-v2"))
+            .isEqualTo("chart-v1");
+      } finally {
+        release.countDown();
+        executor.shutdown();
+      }
+    }
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package io.github.krails0105.stock_info_api.provider.upstream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+/** UpstreamMetrics 테스트. */
+class UpstreamMetricsTest {
+
+  private static final byte[] CSV = "a,b\n1,2\n3,4\n".getBytes();
+
+  private HttpServer server;
+  private MeterRegistry meterRegistry;
+  private UpstreamMetrics upstreamMetrics;
+  private RestClient restClient;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext(
+        "/csv",
+        exchange -> {
+          exchange.sendResponseHeaders(200, CSV.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(CSV);
+          }
+        });
+    server.createContext(
+        "/fail",
+        exchange -> {
+          exchange.sendResponseHeaders(503, -1);
+          exchange.close();
+        });
+    server.start();
+
+    meterRegistry = new SimpleMeterRegistry();
+    upstreamMetrics = new UpstreamMetrics(meterRegistry);
+    restClient =
+        RestClient.builder()
+            .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+            .requestFactory(new SimpleClientHttpRequestFactory())
+            .requestInterceptor(upstreamMetrics.interceptor(Upstream.KRX))
+            .build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  private Timer timer(String name, String endpoint, String tag, String value) {
+    return meterRegistry
+        .get(name)
+        .tag("upstream", "krx")
+        .tag("endpoint", endpoint)
+        .tag(tag, value)
+        .timer();
+  }
+
+  @Nested
+  @DisplayName("요청 계측")
+  class CallTests {
+
+    @Test
+    @DisplayName("TTFB, 전체 시간, 응답 크기를 엔드포인트 속성별로 기록한다")
+    void shouldRecordCall() {
+      restClient
+          .get()
+          .uri("/csv")
+          .attribute(UpstreamMetrics.ENDPOINT_ATTRIBUTE, "stock-sector")
+          .retrieve()
+          .body(byte[].class);
+
+      Timer ttfb = timer(UpstreamMetrics.CALL_TTFB, "stock-sector", "outcome", "success");
+      Timer total = timer(UpstreamMetrics.CALL_DURATION, "stock-sector", "outcome", "success");
+      DistributionSummary bytes =
+          meterRegistry
+              .get(UpstreamMetrics.RESPONSE_BYTES)
+              .tag("endpoint", "stock-sector")
+              .summary();
+
+      assertThat(ttfb.count()).isEqualTo(1);
+      assertThat(total.count()).isEqualTo(1);
+      assertThat(total.totalTime(TimeUnit.NANOSECONDS))
+          .isGreaterThanOrEqualTo(ttfb.totalTime(TimeUnit.NANOSECONDS));
+      assertThat(bytes.totalAmount()).isEqualTo(CSV.length);
+    }
+
+    @Test
+    @DisplayName("엔드포인트 속성이 없으면 URL 경로를 태그로 사용한다")
+    void shouldFallBackToPath() {
+      restClient.get().uri("/csv").retrieve().body(String.class);
+
+      assertThat(timer(UpstreamMetrics.CALL_DURATION, "/csv", "outcome", "success").count())
+          .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("오류 응답은 error outcome으로 기록한다")
+    void shouldRecordErrorOutcome() {
+      assertThatThrownBy(() -> restClient.get().uri("/fail").retrieve().body(String.class))
+          .isInstanceOf(HttpServerErrorException.class);
+
+      assertThat(timer(UpstreamMetrics.CALL_TTFB, "/fail", "outcome", "error").count())
+          .isEqualTo(1);
+    }
+  }
+
+  @Nested
+  @DisplayName("파싱 계측")
+  class ParseTests {
+
+    @Test
+    @DisplayName("단계별 소요 시간과 행 수를 기록한다")
+    void shouldRecordParse() {
+      List<String> rows =
+          upstreamMetrics.parse(
+              Upstream.KRX, "stock-sector", "parse", () -> List.of("a", "b", "c"), List::size);
+
+      assertThat(rows).hasSize(3);
+      assertThat(timer(UpstreamMetrics.PARSE_DURATION, "stock-sector", "stage", "parse").count())
+          .isEqualTo(1);
+      assertThat(
+              meterRegistry
+                  .get(UpstreamMetrics.PARSE_ROWS)
+                  .tag("endpoint", "stock-sector")
+                  .summary()
+                  .totalAmount())
+          .isEqualTo(3);
+    }
+  }
+
+  @Nested
+  @DisplayName("upstreams 엔드포인트")
+  class EndpointTests {
+
+    @Test
+    @DisplayName("업스트림/엔드포인트별 백분위와 서킷 상태를 보여준다")
+    @SuppressWarnings("unchecked")
+    void shouldExposePercentiles() {
+      restClient
+          .get()
+          .uri("/csv")
+          .attribute(UpstreamMetrics.ENDPOINT_ATTRIBUTE, "stock-sector")
+          .retrieve()
+          .body(byte[].class);
+      UpstreamGuard guard =
+          new UpstreamGuard(
+              CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(), meterRegistry);
+
+      Map<String, Object> result = new UpstreamEndpoint(meterRegistry, guard).upstreams();
+
+      Map<String, Object> krx = (Map<String, Object>) result.get("krx");
+      Map<String, Map<String, Object>> endpoints =
+          (Map<String, Map<String, Object>>) krx.get("endpoints");
+      Map<String, Object> total =
+          (Map<String, Object>) endpoints.get("stock-sector").get("total.success");
+      assertThat(krx.get("circuit")).isEqualTo("CLOSED");
+      assertThat(total).containsKeys("count", "p50", "p95", "p99", "max");
+      assertThat(endpoints.get("stock-sector")).containsKeys("ttfb.success", "bytes");
+    }
+  }
+}
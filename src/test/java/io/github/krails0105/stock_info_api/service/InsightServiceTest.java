@@ -0,0 +1,113 @@
+package io.github.krails0105.stock_info_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.github.krails0105.stock_info_api.dto.domain.StockInfo;
+import io.github.krails0105.stock_info_api.dto.insight.StockInsight;
+import io.github.krails0105.stock_info_api.service.indicator.IndicatorEngineService;
+import io.github.krails0105.stock_info_api.service.indicator.IndicatorSnapshot;
+import io.github.krails0105.stock_info_api.service.rule.RuleEngineService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** InsightService 테스트. */
+class InsightServiceTest {
+
+  private static final String SECTOR = "전기전자";
+  private static final List<String> SECTOR_CODES =
+      List.of("005930", "000660", "009150", "066570", "011070");
+
+  private StockService stockService;
+  private SectorService sectorService;
+  private IndicatorEngineService indicatorEngineService;
+  private InsightService insightService;
+
+  @BeforeEach
+  void setUp() {
+    stockService = mock(StockService.class);
+    sectorService = mock(SectorService.class);
+    indicatorEngineService = mock(IndicatorEngineService.class);
+    insightService =
+        new InsightService(
+            stockService,
+            sectorService,
+            new RuleEngineService(),
+            mock(NewsAggregatorService.class),
+            indicatorEngineService);
+
+    when(stockService.getStockById("005930"))
+        .thenReturn(
+            StockInfo.builder()
+                .code("005930")
+                .name("삼성전자")
+                .sectorName(SECTOR)
+                .price(70_000)
+                .changeRate(0.5)
+                .build());
+    when(sectorService.getStockCodesBySectorName(SECTOR)).thenReturn(SECTOR_CODES);
+  }
+
+  private static IndicatorSnapshot snapshot(String code, Double volatility, Double return5d) {
+    return new IndicatorSnapshot(
+        code, "2026-10-16", 60, null, null, null, null, volatility, 1.0, return5d);
+  }
+
+  /** 섹터 종목 지표 (삼성전자 + 나머지 4종목) */
+  private void givenSector(IndicatorSnapshot own, double peerVolatility, double... peerReturns) {
+    List<IndicatorSnapshot> sector =
+        List.of(
+            own,
+            snapshot(SECTOR_CODES.get(1), peerVolatility, peerReturns[0]),
+            snapshot(SECTOR_CODES.get(2), peerVolatility, peerReturns[1]),
+            snapshot(SECTOR_CODES.get(3), peerVolatility, peerReturns[2]),
+            snapshot(SECTOR_CODES.get(4), peerVolatility, peerReturns[3]));
+    when(indicatorEngineService.getSnapshot("005930")).thenReturn(own);
+    when(indicatorEngineService.getSnapshots(anyCollection())).thenReturn(sector);
+  }
+
+  @Nested
+  @DisplayName("섹터 5일 수익률 백분위")
+  class Return5dPercentileTests {
+
+    @Test
+    @DisplayName("섹터 내 5일 수익률 상위 20%면 M-02가 발동한다")
+    void shouldTriggerTopReturnRule() {
+      givenSector(snapshot("005930", 2.0, 8.0), 2.0, 3.0, 1.0, -1.0, 0.5);
+
+      StockInsight insight = insightService.getStockInsight("005930");
+
+      assertThat(insight.getReasons().getTriggeredRules()).contains("M-02");
+    }
+
+    @Test
+    @DisplayName("섹터 중간 순위면 M-02가 발동하지 않는다")
+    void shouldNotTriggerTopReturnRuleForMiddleRank() {
+      givenSector(snapshot("005930", 2.0, 1.5), 2.0, 3.0, 1.0, -1.0, 5.0);
+
+      StockInsight insight = insightService.getStockInsight("005930");
+
+      assertThat(insight.getReasons().getTriggeredRules()).doesNotContain("M-02");
+    }
+  }
+
+  @Nested
+  @DisplayName("섹터 변동성 중앙값")
+  class SectorVolatilityTests {
+
+    @Test
+    @DisplayName("섹터 종목 변동성 중앙값 대비 낮으면 S-01 (고정값 2.0 기준이면 S-02)")
+    void shouldCompareAgainstSectorMedianVolatility() {
+      givenSector(snapshot("005930", 3.0, 1.0), 4.0, 0.0, 0.0, 0.0, 0.0);
+
+      StockInsight insight = insightService.getStockInsight("005930");
+
+      assertThat(insight.getReasons().getTriggeredRules()).contains("S-01").doesNotContain("S-02");
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package io.github.krails0105.stock_info_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import io.github.krails0105.stock_info_api.config.KisRestClientProperties;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+/** KisTokenService 테스트. */
+class KisTokenServiceTest {
+
+  private static final DateTimeFormatter EXPIRE_TIME_FORMAT =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+  @TempDir Path tempDir;
+
+  private KisRestClientProperties properties;
+  private Path tokenFile;
+
+  @BeforeEach
+  void setUp() {
+    tokenFile = tempDir.resolve("kis-token.json");
+    properties = new KisRestClientProperties();
+    properties.setAppKey("test-app-key");
+    properties.setAppSecret("test-app-secret");
+    properties.setTokenCacheFile(tokenFile.toString());
+  }
+
+  /** 토큰 발급 응답을 기대하는 서비스 (expectedIssues번 발급) */
+  private Fixture service(int expectedIssues, String accessToken, LocalDateTime expiresAt) {
+    RestClient.Builder builder = RestClient.builder().baseUrl("https://kis.test");
+    MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+    if (expectedIssues > 0) {
+      String body =
+          """
+          {"access_token":"%s","access_token_token_expired":"%s",
+           "token_type":"Bearer","expires_in":86400}
+          """
+              .formatted(accessToken, expiresAt.format(EXPIRE_TIME_FORMAT));
+      server
+          .expect(ExpectedCount.times(expectedIssues), requestTo("https://kis.test/oauth2/tokenP"))
+          .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+    }
+    return new Fixture(new KisTokenService(builder.build(), properties), server);
+  }
+
+  @Nested
+  @DisplayName("토큰 파일 저장")
+  class PersistTests {
+
+    @Test
+    @DisplayName("발급한 토큰을 저장하고 재시작 시 같은 토큰으로 복원한다")
+    void shouldRoundTripPersistedToken() throws IOException {
+      Fixture first = service(1, "token-1", LocalDateTime.now().plusHours(23));
+      first.service().loadPersistedToken();
+      assertThat(first.service().getAccessToken()).isEqualTo("token-1");
+      first.server().verify();
+
+      assertThat(tokenFile).exists();
+      assertThat(tokenFile.resolveSibling("kis-token.json.tmp")).doesNotExist();
+      assertThat(Files.readString(tokenFile))
+          .contains("token-1")
+          .doesNotContain("test-app-key");
+
+      Fixture restarted = service(0, null, null);
+      restarted.service().loadPersistedToken();
+      assertThat(restarted.service().getAccessToken()).isEqualTo("token-1");
+      restarted.server().verify();
+    }
+
+    @Test
+    @DisplayName("토큰 파일은 소유자만 읽고 쓸 수 있다")
+    void shouldWriteOwnerOnlyFile() throws IOException {
+      assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+      Fixture fixture = service(1, "token-1", LocalDateTime.now().plusHours(23));
+
+      fixture.service().getAccessToken();
+
+      assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(tokenFile)))
+          .isEqualTo("rw-------");
+    }
+  }
+
+  @Nested
+  @DisplayName("저장된 토큰 복원")
+  class LoadTests {
+
+    @Test
+    @DisplayName("만료되지 않은 저장 토큰은 발급 요청 없이 재사용한다")
+    void shouldReuseUnexpiredToken() {
+      service(1, "persisted", LocalDateTime.now().plusHours(12)).service().getAccessToken();
+
+      Fixture restarted = service(0, null, null);
+      restarted.service().loadPersistedToken();
+
+      assertThat(restarted.service().getAccessToken()).isEqualTo("persisted");
+      restarted.server().verify();
+    }
+
+    @Test
+    @DisplayName("만료된 저장 토큰은 버리고 새로 발급해 파일도 교체한다")
+    void shouldRefreshExpiredToken() throws IOException {
+      service(1, "expired", LocalDateTime.now().minusMinutes(5)).service().getAccessToken();
+
+      Fixture restarted = service(1, "fresh", LocalDateTime.now().plusHours(23));
+      restarted.service().loadPersistedToken();
+
+      assertThat(restarted.service().getAccessToken()).isEqualTo("fresh");
+      restarted.server().verify();
+      assertThat(Files.readString(tokenFile)).contains("fresh").doesNotContain("expired");
+    }
+
+    @Test
+    @DisplayName("앱키가 다르면 저장된 토큰을 쓰지 않는다")
+    void shouldIgnoreTokenOfOtherAppKey() {
+      service(1, "other-key-token", LocalDateTime.now().plusHours(12)).service().getAccessToken();
+      properties.setAppKey("rotated-app-key");
+
+      Fixture restarted = service(1, "rotated", LocalDateTime.now().plusHours(23));
+      restarted.service().loadPersistedToken();
+
+      assertThat(restarted.service().getAccessToken()).isEqualTo("rotated");
+      restarted.server().verify();
+    }
+  }
+
+  private record Fixture(KisTokenService service, MockRestServiceServer server) {}
+}
@@ -0,0 +1,139 @@
+package io.github.krails0105.stock_info_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.github.krails0105.stock_info_api.config.NewsProperties;
+import io.github.krails0105.stock_info_api.dto.insight.NewsItem;
+import io.github.krails0105.stock_info_api.repository.ProcessedNewsArticleRepository;
+import io.github.krails0105.stock_info_api.service.news.NewsArticleIndex;
+import io.github.krails0105.stock_info_api.service.news.NewsDeduplicatorService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 헤드라인 클러스터링 성능 비교 (./gradlew benchmark).
+ *
+ * <p>기존 방식은 헤드라인마다 모든 클러스터의 모든 기사와 비교(O(n²))하고, 새 방식은 MinHash LSH band가 겹치는 후보하고만 비교한다. 1만
+ * 건 전체는 기존 방식으로 돌리기에 너무 느려, 시간 비교는 1천 건으로 한다. 합성 헤드라인은 기사 하나당 단어 하나를 바꾼 변형 3개를 붙여 만든다
+ * (원본과 Jaccard 약 0.71).
+ */
+@Tag("benchmark")
+class NewsAggregatorBenchmarkTest {
+
+  private static final int HEADLINES = 10_000;
+  private static final int BASELINE_HEADLINES = 1_000;
+  private static final int VARIANTS_PER_STORY = 4;
+  private static final int WORDS_PER_HEADLINE = 6;
+
+  private static final String SYLLABLES = "가나다라마바사아자차카타파하강남동서북중";
+
+  private final NewsDeduplicatorService deduplicatorService =
+      new NewsDeduplicatorService(mock(ProcessedNewsArticleRepository.class), new NewsProperties());
+  private final NewsAggregatorService aggregatorService =
+      new NewsAggregatorService(
+          mock(NewsArticleIndex.class), new NewsProperties(), deduplicatorService);
+
+  @Test
+  @DisplayName("1만 건 헤드라인을 LSH 후보 비교로 묶고, 기존 전체 비교보다 빠르다")
+  void compareClustering() {
+    List<NewsItem> headlines = headlines(new Random(42), HEADLINES);
+    int stories = HEADLINES / VARIANTS_PER_STORY;
+
+    long start = System.nanoTime();
+    List<NewsItem> clustered = aggregatorService.aggregate(headlines);
+    long lshNanos = System.nanoTime() - start;
+
+    List<NewsItem> baselineInput = headlines(new Random(7), BASELINE_HEADLINES);
+    start = System.nanoTime();
+    int baselineClusters = bruteForceClusterCount(baselineInput);
+    long baselineNanos = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    int lshClusters = aggregatorService.aggregate(baselineInput).size();
+    long lshSubsetNanos = System.nanoTime() - start;
+
+    System.out.printf(
+        "Headline clustering: LSH %d headlines %.1f ms (%d clusters); "
+            + "%d headlines brute-force %.1f ms vs LSH %.1f ms (%.1fx)%n",
+        HEADLINES,
+        lshNanos / 1e6,
+        clustered.size(),
+        BASELINE_HEADLINES,
+        baselineNanos / 1e6,
+        lshSubsetNanos / 1e6,
+        (double) baselineNanos / lshSubsetNanos);
+
+    // 변형은 원본과 같은 클러스터 (LSH 재현율 99% 이상이라 놓치는 변형은 1% 미만)
+    assertThat(clustered.size()).isBetween(stories, stories + stories / 100);
+    assertThat(lshClusters).isEqualTo(baselineClusters);
+    assertThat(lshSubsetNanos).isLessThan(baselineNanos);
+  }
+
+  /** 기존 방식: 모든 클러스터의 모든 기사와 비교 */
+  private int bruteForceClusterCount(List<NewsItem> headlines) {
+    List<List<String>> clusters = new ArrayList<>();
+    for (NewsItem item : headlines) {
+      List<String> matched = null;
+      for (List<String> cluster : clusters) {
+        for (String title : cluster) {
+          if (deduplicatorService.calculateJaccardSimilarity(item.getTitle(), title) >= 0.6) {
+            matched = cluster;
+            break;
+          }
+        }
+        if (matched != null) {
+          break;
+        }
+      }
+      if (matched == null) {
+        matched = new ArrayList<>();
+        clusters.add(matched);
+      }
+      matched.add(item.getTitle());
+    }
+    return clusters.size();
+  }
+
+  /** 기사마다 원본 + 단어 하나를 바꾼 변형 (원본을 모두 먼저 내고 변형은 뒤에) */
+  private static List<NewsItem> headlines(Random random, int count) {
+    List<String> vocabulary = new ArrayList<>();
+    for (char first : SYLLABLES.toCharArray()) {
+      for (char second : SYLLABLES.toCharArray()) {
+        vocabulary.add("" + first + second);
+      }
+    }
+
+    List<List<String>> stories = new ArrayList<>();
+    for (int i = 0; i < count / VARIANTS_PER_STORY; i++) {
+      Collections.shuffle(vocabulary, random);
+      stories.add(List.copyOf(vocabulary.subList(0, WORDS_PER_HEADLINE)));
+    }
+
+    List<NewsItem> headlines = new ArrayList<>(count);
+    LocalDateTime now = LocalDateTime.now();
+    for (int v = 0; v < VARIANTS_PER_STORY; v++) {
+      for (List<String> story : stories) {
+        List<String> words = new ArrayList<>(story);
+        if (v > 0) {
+          words.set(random.nextInt(words.size()), vocabulary.get(random.nextInt(100) + 200));
+        }
+        headlines.add(
+            NewsItem.builder()
+                .title(String.join(" ", words))
+                .publisher("합성")
+                .publishedAt(now.minusMinutes(headlines.size()))
+                .url("https://example.com/" + headlines.size())
+                .tags(List.of(NewsItem.Tag.INDUSTRY))
+                .build());
+      }
+    }
+    return headlines;
+  }
+}
@@ -1,15 +1,23 @@
 package io.github.krails0105.stock_info_api.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 import io.github.krails0105.stock_info_api.config.NewsProperties;
 import io.github.krails0105.stock_info_api.dto.insight.NewsItem;
 import io.github.krails0105.stock_info_api.dto.insight.NewsItem.Importance;
 import io.github.krails0105.stock_info_api.dto.insight.NewsItem.Tag;
+import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle;
+import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle.NewsImportance;
+import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle.NewsTag;
 import io.github.krails0105.stock_info_api.repository.ProcessedNewsArticleRepository;
+import io.github.krails0105.stock_info_api.service.news.NewsArticleIndex;
 import io.github.krails0105.stock_info_api.service.news.NewsDeduplicatorService;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -30,7 +38,10 @@ class NewsAggregatorServiceTest {
     newsProperties = mock(NewsProperties.class);
     deduplicatorService = new NewsDeduplicatorService(processedNewsRepository, newsProperties);
     newsAggregatorService =
-        new NewsAggregatorService(processedNewsRepository, newsProperties, deduplicatorService);
+        new NewsAggregatorService(
+            new NewsArticleIndex(processedNewsRepository, newsProperties),
+            newsProperties,
+            deduplicatorService);
   }
 
   @Nested
@@ -148,6 +159,35 @@ class NewsAggregatorServiceTest {
 
       assertThat(result).hasSize(2);
     }
+    @Test
+    @DisplayName("여러 묶음이 섞여 들어와도 묶음마다 하나씩 남는다")
+    void testInterleavedClusters() {
+      List<String> titles =
+          List.of(
+              "삼성전자 분기 실적 호조",
+              "현대차 전기차 신모델 공개",
+              "삼성전자 분기 실적 개선",
+              "현대차 전기차 신모델 출시",
+              "삼성전자 분기 실적 호조 지속",
+              "");
+      List<NewsItem> items = new ArrayList<>();
+      for (int i = 0; i < titles.size(); i++) {
+        items.add(
+            NewsItem.builder()
+                .title(titles.get(i))
+                .publisher("한경")
+                .publishedAt(LocalDateTime.now().minusMinutes(i))
+                .url("https://example.com/" + i)
+                .tags(List.of(Tag.EARNINGS))
+                .build());
+      }
+
+      List<NewsItem> result = newsAggregatorService.aggregate(items);
+
+      // 삼성전자 묶음, 현대차 묶음, 토큰 없는 제목 (어느 것과도 묶이지 않음)
+      assertThat(result).hasSize(3);
+      assertThat(result).extracting(NewsItem::getClusterId).doesNotHaveDuplicates();
+    }
   }
 
   @Nested
@@ -266,4 +306,75 @@ class NewsAggregatorServiceTest {
       assertThat(result.get(0).getTags()).contains(Tag.EARNINGS);
     }
   }
+
+  @Nested
+  @DisplayName("색인 조회 테스트")
+  class IndexLookupTests {
+
+    private ProcessedNewsArticleRepository repository;
+    private NewsArticleIndex articleIndex;
+    private NewsAggregatorService aggregator;
+
+    @BeforeEach
+    void setUp() {
+      repository = mock(ProcessedNewsArticleRepository.class);
+      NewsProperties properties = new NewsProperties();
+      properties.getClustering().setWindowHours(72);
+      articleIndex = new NewsArticleIndex(repository, properties);
+      aggregator = new NewsAggregatorService(articleIndex, properties, deduplicatorService);
+    }
+
+    private ProcessedNewsArticle representative(
+        String title, String stockCode, NewsImportance importance, int hoursAgo) {
+      return ProcessedNewsArticle.builder()
+          .title(title)
+          .publisher("한경")
+          .url("https://example.com/" + title.hashCode())
+          .publishedAt(LocalDateTime.now().minusHours(hoursAgo))
+          .tags(List.of(NewsTag.EARNINGS))
+          .importance(importance)
+          .stockCode(stockCode)
+          .sectorName("반도체")
+          .clusterId("cluster-" + title.hashCode())
+          .isClusterRepresentative(true)
+          .build();
+    }
+
+    @Test
+    @DisplayName("종목 뉴스는 기동 시 만든 색인과 새로 등록한 기사에서 DB 조회 없이 읽는다")
+    void testStockNewsFromIndex() {
+      when(repository.findRepresentativesSince(any()))
+          .thenReturn(List.of(representative("삼성전자 실적 발표", "005930", NewsImportance.MEDIUM, 5)));
+      articleIndex.rebuild();
+      articleIndex.register(representative("삼성전자 대규모 수주", "005930", NewsImportance.HIGH, 1));
+      articleIndex.register(representative("SK하이닉스 실적", "000660", NewsImportance.HIGH, 1));
+
+      List<NewsItem> result = aggregator.getNewsByStockCode("005930");
+
+      assertThat(result)
+          .extracting(NewsItem::getTitle)
+          .containsExactly("삼성전자 대규모 수주", "삼성전자 실적 발표");
+      assertThat(aggregator.getNewsBySectorName("반도체")).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 기사는 조회하지 않는다")
+    void testExpiredArticlesExcluded() {
+      articleIndex.register(representative("삼성전자 옛 뉴스", "005930", NewsImportance.HIGH, 100));
+
+      assertThat(aggregator.getNewsByStockCode("005930")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대표 기사가 아니면 색인에 등록하지 않는다")
+    void testNonRepresentativeIgnored() {
+      articleIndex.register(
+          representative("삼성전자 실적 발표", "005930", NewsImportance.HIGH, 1).toBuilder()
+              .isClusterRepresentative(false)
+              .build());
+
+      assertThat(aggregator.getNewsByStockCode("005930")).isEmpty();
+      verifyNoInteractions(repository);
+    }
+  }
 }
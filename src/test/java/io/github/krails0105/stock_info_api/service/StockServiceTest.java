@@ -0,0 +1,100 @@
+package io.github.krails0105.stock_info_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.github.krails0105.stock_info_api.config.KisRestClientProperties;
+import io.github.krails0105.stock_info_api.dto.StockScoreDto;
+import io.github.krails0105.stock_info_api.provider.ChartDataProvider;
+import io.github.krails0105.stock_info_api.provider.SectorDataProvider;
+import io.github.krails0105.stock_info_api.provider.StockDataProvider;
+import io.github.krails0105.stock_info_api.service.live.LiveQuote;
+import io.github.krails0105.stock_info_api.service.live.LiveQuoteService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+/** StockService 테스트. */
+class StockServiceTest {
+
+  private StockDataProvider stockDataProvider;
+  private LiveQuoteService liveQuoteService;
+  private StockService stockService;
+
+  @BeforeEach
+  void setUp() {
+    stockDataProvider = mock(StockDataProvider.class);
+    KisRestClientProperties properties = new KisRestClientProperties();
+    liveQuoteService = new LiveQuoteService(mock(ApplicationEventPublisher.class), properties);
+    stockService =
+        new StockService(
+            stockDataProvider,
+            mock(SectorDataProvider.class),
+            mock(ChartDataProvider.class),
+            liveQuoteService,
+            properties);
+  }
+
+  private static StockScoreDto stock(String code, long price) {
+    return StockScoreDto.builder().code(code).name(code).score(70).price(price).build();
+  }
+
+  private void receive(long price, double changeRate, Instant receivedAt) {
+    liveQuoteService.onTick(
+        new LiveQuote("005930", "093001", price, 1_500, changeRate, 1_000_000, receivedAt));
+    liveQuoteService.flush();
+  }
+
+  @Test
+  @DisplayName("최근 받은 실시간 체결가로 현재가와 등락률을 덮어쓴다")
+  void shouldOverlayFreshLiveQuote() {
+    when(stockDataProvider.getStockByCode("005930")).thenReturn(stock("005930", 70_000));
+    when(stockDataProvider.searchStocks("삼성"))
+        .thenReturn(List.of(stock("005930", 70_000), stock("000660", 120_000)));
+
+    receive(71_500, 2.14, Instant.now());
+
+    StockScoreDto live = stockService.getStockByCode("005930");
+    assertThat(live.getPrice()).isEqualTo(71_500);
+    assertThat(live.getPriceChange()).isEqualTo("+2.14%");
+    assertThat(live.getScore()).isEqualTo(70);
+    assertThat(stockService.searchStocks("삼성"))
+        .extracting(StockScoreDto::getPrice)
+        .containsExactly(71_500L, 120_000L);
+  }
+
+  @Test
+  @DisplayName("최대 경과 시간이 지난 체결가(연결 끊김, 구독 해제, 전 거래일)는 쓰지 않는다")
+  void shouldIgnoreStaleLiveQuote() {
+    StockScoreDto original = stock("005930", 70_000);
+    when(stockDataProvider.getStockByCode("005930")).thenReturn(original);
+
+    receive(71_500, 2.14, Instant.now().minus(Duration.ofMinutes(6)));
+
+    assertThat(stockService.getStockByCode("005930")).isSameAs(original);
+  }
+
+  @Test
+  @DisplayName("최대 경과 시간 안이어도 거래일(한국 시간)이 바뀌면 신선하지 않다")
+  void shouldExpireQuoteOnNextTradingDay() {
+    Instant receivedAt = Instant.parse("2026-01-05T14:58:00Z"); // 23:58 KST
+    LiveQuote quote = new LiveQuote("005930", "235800", 71_500, 0, 0.0, 0, receivedAt);
+
+    assertThat(quote.isFresh(receivedAt.plusSeconds(60), Duration.ofMinutes(5))).isTrue();
+    assertThat(quote.isFresh(receivedAt.plusSeconds(180), Duration.ofMinutes(5))).isFalse();
+  }
+
+  @Test
+  @DisplayName("실시간 체결가가 없으면 원본 시세를 그대로 반환한다")
+  void shouldKeepProviderQuoteWithoutLiveQuote() {
+    StockScoreDto original = stock("005930", 70_000);
+    when(stockDataProvider.getStockByCode("005930")).thenReturn(original);
+
+    assertThat(stockService.getStockByCode("005930")).isSameAs(original);
+  }
+}
@@ -0,0 +1,154 @@
+package io.github.krails0105.stock_info_api.service.indicator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.krails0105.stock_info_api.dto.response.ChartResponse;
+import io.github.krails0105.stock_info_api.dto.response.ChartResponse.ChartDataPoint;
+import io.github.krails0105.stock_info_api.provider.ChartDataProvider;
+import io.github.krails0105.stock_info_api.service.live.LiveQuote;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** IndicatorEngineService 테스트. */
+class IndicatorEngineServiceTest {
+
+  private static final String CODE = "005930";
+
+  private ChartDataProvider chartDataProvider;
+  private IndicatorEngineService engine;
+
+  @BeforeEach
+  void setUp() {
+    chartDataProvider = mock(ChartDataProvider.class);
+    engine = new IndicatorEngineService(chartDataProvider);
+  }
+
+  @AfterEach
+  void tearDown() {
+    engine.shutdown();
+  }
+
+  /** 2026-01-02부터 하루 간격 일봉 (고가/저가는 종가 ±2%) */
+  private static ChartResponse chart(int days) {
+    List<ChartDataPoint> points = new ArrayList<>();
+    LocalDate date = LocalDate.of(2026, 1, 2);
+    for (int i = 0; i < days; i++) {
+      long close = 70_000 + i * 100L;
+      points.add(
+          ChartDataPoint.builder()
+              .date(date.plusDays(i).toString())
+              .price(close)
+              .high(close * 102 / 100)
+              .low(close * 98 / 100)
+              .volume(1_000_000)
+              .build());
+    }
+    return ChartResponse.builder().stockCode(CODE).dataPoints(points).build();
+  }
+
+  private static LiveQuote quote(long price, long accumulatedVolume) {
+    return new LiveQuote(CODE, "093000", price, 0, 0.0, accumulatedVolume, Instant.now());
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(condition.getAsBoolean()).isTrue();
+  }
+
+  @Nested
+  @DisplayName("최초 계산")
+  class SeedTests {
+
+    @Test
+    @DisplayName("상태가 없으면 빈 스냅샷을 바로 반환하고 차트 계산은 비동기로 한다")
+    void shouldSeedAsynchronously() throws InterruptedException {
+      when(chartDataProvider.getChartData(CODE, IndicatorEngineService.SERIES_RANGE))
+          .thenReturn(chart(30));
+
+      assertThat(engine.getSnapshot(CODE).barCount()).isZero();
+
+      await(() -> engine.getSnapshot(CODE).barCount() == 30);
+      assertThat(engine.getSnapshot(CODE).lastDate()).isEqualTo("2026-01-31");
+    }
+
+    @Test
+    @DisplayName("차트의 고가/저가로 ATR을 계산한다")
+    void shouldUseChartHighLow() {
+      when(chartDataProvider.getChartData(CODE, IndicatorEngineService.SERIES_RANGE))
+          .thenReturn(chart(30));
+
+      IndicatorSnapshot snapshot = engine.recompute(CODE).snapshot();
+
+      // 하루 변동폭(고가 - 저가, 종가의 4%)이 종가 간 변동폭(100원)보다 크다
+      assertThat(snapshot.atr()).isGreaterThan(2_000);
+    }
+
+    @Test
+    @DisplayName("상태가 없는 종목의 봉은 반영하지 않고 차트로 최초 계산한다")
+    void shouldSeedInsteadOfAppendingUnknownCode() throws InterruptedException {
+      when(chartDataProvider.getChartData(CODE, IndicatorEngineService.SERIES_RANGE))
+          .thenReturn(chart(30));
+
+      boolean appended = engine.append(CODE, new Candle("2026-02-01", 1, 1, 1, 1));
+
+      assertThat(appended).isFalse();
+      verify(chartDataProvider, timeout(5_000))
+          .getChartData(CODE, IndicatorEngineService.SERIES_RANGE);
+      await(() -> engine.getSnapshot(CODE).barCount() == 30);
+    }
+  }
+
+  @Nested
+  @DisplayName("실시간 체결가")
+  class LiveQuoteTests {
+
+    @Test
+    @DisplayName("일자가 바뀌면 전날 체결가로 만든 봉(고가/저가/종가/누적 거래량)을 반영한다")
+    void shouldAppendFormedBarOnDayRollover() {
+      when(chartDataProvider.getChartData(CODE, IndicatorEngineService.SERIES_RANGE))
+          .thenReturn(chart(30));
+      engine.recompute(CODE);
+
+      engine.applyLiveQuote(quote(73_000, 100), "2026-02-01");
+      engine.applyLiveQuote(quote(74_500, 500), "2026-02-01");
+      engine.applyLiveQuote(quote(72_000, 900), "2026-02-01");
+      engine.applyLiveQuote(quote(73_500, 1_200), "2026-02-01");
+      assertThat(engine.getSnapshot(CODE).barCount()).isEqualTo(30);
+
+      engine.applyLiveQuote(quote(73_600, 10), "2026-02-02");
+
+      IndicatorSnapshot snapshot = engine.getSnapshot(CODE);
+      assertThat(snapshot.barCount()).isEqualTo(31);
+      assertThat(snapshot.lastDate()).isEqualTo("2026-02-01");
+    }
+
+    @Test
+    @DisplayName("차트 재계산으로 이미 반영된 일자의 봉은 다시 반영하지 않는다")
+    void shouldSkipBarAlreadyInChart() {
+      when(chartDataProvider.getChartData(CODE, IndicatorEngineService.SERIES_RANGE))
+          .thenReturn(chart(30));
+      engine.applyLiveQuote(quote(73_000, 100), "2026-01-31");
+      engine.recompute(CODE);
+
+      engine.applyLiveQuote(quote(73_100, 10), "2026-02-01");
+
+      assertThat(engine.getSnapshot(CODE).barCount()).isEqualTo(30);
+    }
+  }
+}
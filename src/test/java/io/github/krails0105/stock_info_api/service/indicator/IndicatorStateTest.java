@@ -0,0 +1,180 @@
+package io.github.krails0105.stock_info_api.service.indicator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * IndicatorState 테스트.
+ *
+ * <p>증분 계산 결과가 전체 시계열을 다시 계산한 값과 일치하는지 검증한다.
+ */
+class IndicatorStateTest {
+
+  private static final double TOLERANCE = 1e-9;
+
+  private static List<Candle> randomCandles(int count, long seed) {
+    Random random = new Random(seed);
+    List<Candle> candles = new ArrayList<>();
+    LocalDate date = LocalDate.of(2026, 1, 2);
+    double close = 70_000;
+    for (int i = 0; i < count; i++) {
+      close = close * (1 + (random.nextDouble() - 0.5) * 0.06);
+      double high = close * (1 + random.nextDouble() * 0.02);
+      double low = close * (1 - random.nextDouble() * 0.02);
+      long volume = 1_000_000L + random.nextInt(5_000_000);
+      candles.add(new Candle(date.plusDays(i).toString(), high, low, close, volume));
+    }
+    return candles;
+  }
+
+  private static IndicatorState feed(List<Candle> candles) {
+    IndicatorState state = IndicatorState.withDefaults("005930");
+    candles.forEach(state::append);
+    return state;
+  }
+
+  @Nested
+  @DisplayName("이동평균/수익률")
+  class MovingAverageTests {
+
+    @Test
+    @DisplayName("SMA는 최근 20봉 종가 평균과 같다")
+    void smaMatchesNaiveAverage() {
+      List<Candle> candles = randomCandles(60, 1L);
+
+      IndicatorSnapshot snapshot = feed(candles).snapshot();
+
+      double expected =
+          candles.subList(40, 60).stream().mapToDouble(Candle::close).average().orElseThrow();
+      assertThat(snapshot.sma()).isCloseTo(expected, within(TOLERANCE));
+    }
+
+    @Test
+    @DisplayName("EMA는 SMA 시드 후 지수 평활한 값과 같다")
+    void emaMatchesNaiveSmoothing() {
+      List<Candle> candles = randomCandles(60, 2L);
+
+      IndicatorSnapshot snapshot = feed(candles).snapshot();
+
+      double ema =
+          candles.subList(0, 20).stream().mapToDouble(Candle::close).average().orElseThrow();
+      double alpha = 2.0 / 21;
+      for (int i = 20; i < candles.size(); i++) {
+        ema = ema + alpha * (candles.get(i).close() - ema);
+      }
+      assertThat(snapshot.ema()).isCloseTo(ema, within(TOLERANCE));
+    }
+
+    @Test
+    @DisplayName("5일 수익률은 5봉 전 종가 대비 변화율이다")
+    void return5dUsesCloseFiveBarsAgo() {
+      List<Candle> candles = randomCandles(30, 3L);
+
+      IndicatorSnapshot snapshot = feed(candles).snapshot();
+
+      double expected = (candles.get(29).close() / candles.get(24).close() - 1) * 100;
+      assertThat(snapshot.return5d()).isCloseTo(expected, within(TOLERANCE));
+    }
+  }
+
+  @Nested
+  @DisplayName("변동성/모멘텀 지표")
+  class OscillatorTests {
+
+    @Test
+    @DisplayName("실현 변동성은 최근 20개 로그수익률의 표본 표준편차(%)다")
+    void volatilityMatchesSampleStdDev() {
+      List<Candle> candles = randomCandles(50, 4L);
+
+      IndicatorSnapshot snapshot = feed(candles).snapshot();
+
+      double[] returns = new double[20];
+      for (int i = 0; i < 20; i++) {
+        int idx = 30 + i;
+        returns[i] = Math.log(candles.get(idx).close() / candles.get(idx - 1).close());
+      }
+      double mean = 0;
+      for (double r : returns) {
+        mean += r / returns.length;
+      }
+      double variance = 0;
+      for (double r : returns) {
+        variance += (r - mean) * (r - mean) / (returns.length - 1);
+      }
+      assertThat(snapshot.volatility()).isCloseTo(Math.sqrt(variance) * 100, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("RSI는 Wilder 평활 결과와 같고 0~100 범위다")
+    void rsiMatchesWilderSmoothing() {
+      List<Candle> candles = randomCandles(40, 5L);
+
+      IndicatorSnapshot snapshot = feed(candles).snapshot();
+
+      double avgGain = 0;
+      double avgLoss = 0;
+      for (int i = 1; i <= 14; i++) {
+        double change = candles.get(i).close() - candles.get(i - 1).close();
+        avgGain += Math.max(change, 0) / 14;
+        avgLoss += Math.max(-change, 0) / 14;
+      }
+      for (int i = 15; i < candles.size(); i++) {
+        double change = candles.get(i).close() - candles.get(i - 1).close();
+        avgGain = (avgGain * 13 + Math.max(change, 0)) / 14;
+        avgLoss = (avgLoss * 13 + Math.max(-change, 0)) / 14;
+      }
+      double expected = 100 - 100 / (1 + avgGain / avgLoss);
+
+      assertThat(snapshot.rsi()).isCloseTo(expected, within(1e-6)).isBetween(0.0, 100.0);
+    }
+
+    @Test
+    @DisplayName("거래량 비율은 현재 거래량 / 직전 20봉 평균 거래량이다")
+    void volumeRatioUsesPreviousWindow() {
+      List<Candle> candles = randomCandles(30, 6L);
+
+      IndicatorSnapshot snapshot = feed(candles).snapshot();
+
+      double avg =
+          candles.subList(9, 29).stream().mapToLong(Candle::volume).average().orElseThrow();
+      assertThat(snapshot.volumeRatio()).isCloseTo(candles.get(29).volume() / avg, within(1e-9));
+    }
+  }
+
+  @Nested
+  @DisplayName("증분 반영")
+  class AppendTests {
+
+    @Test
+    @DisplayName("워밍업 기간이 부족하면 지표는 null이다")
+    void returnsNullBeforeWarmup() {
+      IndicatorSnapshot snapshot = feed(randomCandles(5, 7L)).snapshot();
+
+      assertThat(snapshot.sma()).isNull();
+      assertThat(snapshot.rsi()).isNull();
+      assertThat(snapshot.volatility()).isNull();
+      assertThat(snapshot.return5d()).isNull();
+      assertThat(snapshot.barCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("이미 반영된 일자의 봉은 무시한다")
+    void ignoresStaleCandle() {
+      List<Candle> candles = randomCandles(25, 8L);
+      IndicatorState state = feed(candles);
+
+      boolean appended = state.append(candles.get(10));
+
+      assertThat(appended).isFalse();
+      assertThat(state.getBarCount()).isEqualTo(25);
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package io.github.krails0105.stock_info_api.service.news;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.github.krails0105.stock_info_api.config.NewsProperties;
+import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle;
+import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle.NewsTag;
+import io.github.krails0105.stock_info_api.repository.ProcessedNewsArticleRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** NewsArticleIndex 테스트. */
+class NewsArticleIndexTest {
+
+  private final LocalDateTime now = LocalDateTime.now();
+  private NewsArticleIndex index;
+
+  @BeforeEach
+  void setUp() {
+    NewsProperties properties = new NewsProperties();
+    properties.getClustering().setWindowHours(72);
+    index = new NewsArticleIndex(mock(ProcessedNewsArticleRepository.class), properties);
+  }
+
+  private static ProcessedNewsArticle article(
+      String title, String stockCode, List<NewsTag> tags, LocalDateTime publishedAt) {
+    return ProcessedNewsArticle.builder()
+        .title(title)
+        .stockCode(stockCode)
+        .tags(tags)
+        .publishedAt(publishedAt)
+        .isClusterRepresentative(true)
+        .build();
+  }
+
+  @Test
+  @DisplayName("기사는 종목 코드와 모든 태그로 조회된다")
+  void shouldIndexByStockCodeAndTags() {
+    index.register(
+        article(
+            "삼성전자 실적 및 배당",
+            "005930",
+            List.of(NewsTag.EARNINGS, NewsTag.BUYBACK_DIVIDEND),
+            now));
+    index.register(article("업황 개선", null, List.of(NewsTag.INDUSTRY), now));
+
+    assertThat(index.findByStockCode("005930", now.minusHours(1))).hasSize(1);
+    assertThat(index.findByTag(NewsTag.BUYBACK_DIVIDEND, now.minusHours(1))).hasSize(1);
+    assertThat(index.findByTag(NewsTag.INDUSTRY, now.minusHours(1)))
+        .extracting(ProcessedNewsArticle::getTitle)
+        .containsExactly("업황 개선");
+    assertThat(index.findBySectorName("반도체", now.minusHours(1))).isEmpty();
+    assertThat(index.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("같은 시간 버킷 안에서도 기준 시각 이전 기사는 뺀다")
+  void shouldFilterWithinBoundaryBucket() {
+    LocalDateTime hour = now.minusHours(3).withMinute(0).withSecond(0).withNano(0);
+    index.register(article("이른 기사", "005930", List.of(), hour.plusMinutes(10)));
+    index.register(article("늦은 기사", "005930", List.of(), hour.plusMinutes(50)));
+
+    assertThat(index.findByStockCode("005930", hour.plusMinutes(30)))
+        .extracting(ProcessedNewsArticle::getTitle)
+        .containsExactly("늦은 기사");
+  }
+
+  @Test
+  @DisplayName("새 기사를 추가할 때 윈도우를 벗어난 버킷을 버린다")
+  void shouldEvictExpiredBuckets() {
+    index.register(article("옛 기사", "005930", List.of(), now.minusHours(100)));
+    index.register(article("새 기사", "005930", List.of(), now.minusHours(1)));
+
+    assertThat(index.size()).isEqualTo(1);
+    assertThat(index.findByStockCode("005930", now.minusDays(30)))
+        .extracting(ProcessedNewsArticle::getTitle)
+        .containsExactly("새 기사");
+  }
+}
@@ -0,0 +1,106 @@
+package io.github.krails0105.stock_info_api.service.news;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.krails0105.stock_info_api.util.TokenDictionary;
+import java.time.LocalDateTime;
+import java.util.OptionalLong;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** NewsClusterIndex 테스트. */
+class NewsClusterIndexTest {
+
+  private static final Set<String> SAMSUNG = Set.of("삼성전자", "분기", "실적", "발표");
+
+  private final LocalDateTime now = LocalDateTime.of(2025, 1, 10, 12, 0);
+  private NewsClusterIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new NewsClusterIndex(20, 3);
+  }
+
+  @Test
+  @DisplayName("윈도우가 밀려나면 오래된 대표 기사부터 제거한다")
+  void shouldEvictOldestFirst() {
+    index.add("cluster-new", SAMSUNG, OptionalLong.empty(), now.minusHours(1));
+    index.add("cluster-old", SAMSUNG, OptionalLong.empty(), now.minusHours(80));
+    index.add("cluster-mid", SAMSUNG, OptionalLong.empty(), now.minusHours(50));
+
+    int evicted = index.evictUpTo(now.minusHours(72));
+
+    assertThat(evicted).isEqualTo(1);
+    assertThat(index.candidates(SAMSUNG, now.minusDays(30)))
+        .extracting(NewsClusterIndex.Representative::clusterId)
+        .containsExactlyInAnyOrder("cluster-new", "cluster-mid");
+  }
+
+  @Test
+  @DisplayName("같은 클러스터를 다시 추가하면 교체한다")
+  void shouldReplaceSameCluster() {
+    index.add("cluster-1", SAMSUNG, OptionalLong.empty(), now.minusHours(80));
+    index.add("cluster-1", SAMSUNG, OptionalLong.empty(), now.minusHours(1));
+
+    index.evictUpTo(now.minusHours(72));
+
+    assertThat(index.size()).isEqualTo(1);
+    assertThat(index.candidates(SAMSUNG, now.minusHours(72))).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("기준 시각 이전에 발행된 대표 기사는 후보에서 뺀다")
+  void shouldFilterCandidatesByPublishedAt() {
+    index.add("cluster-1", SAMSUNG, OptionalLong.empty(), now.minusHours(10));
+
+    assertThat(index.candidates(SAMSUNG, now.minusHours(5))).isEmpty();
+    assertThat(index.candidates(SAMSUNG, now.minusHours(20))).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("SimHash가 없는 대표 기사는 SimHash 조회에 나오지 않는다")
+  void shouldSkipMissingSimHash() {
+    index.add("cluster-1", SAMSUNG, OptionalLong.empty(), now.minusHours(1));
+    index.add("cluster-2", SAMSUNG, OptionalLong.of(0L), now.minusHours(1));
+
+    assertThat(index.nearest(0L, 3, now.minusHours(5)))
+        .hasValueSatisfying(hit -> assertThat(hit.key()).isEqualTo("cluster-2"));
+
+    index.evictUpTo(now);
+    assertThat(index.nearest(0L, 3, now.minusHours(5))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("조회 토큰은 사전에 등록하지 않는다")
+  void shouldNotInternQueryTokens() {
+    index.add("cluster-1", SAMSUNG, OptionalLong.empty(), now.minusHours(1));
+
+    for (int i = 0; i < 100; i++) {
+      index.tokenIds(Set.of("질의" + i, "삼성전자"));
+    }
+
+    assertThat(index.dictionarySize()).isEqualTo(SAMSUNG.size());
+  }
+
+  @Test
+  @DisplayName("만료로 사전이 성기면 남은 대표 기사 기준으로 압축한다")
+  void shouldCompactDictionaryAfterEviction() {
+    for (int i = 0; i < 5000; i++) {
+      index.add("cluster-old-" + i, Set.of("토큰" + i), OptionalLong.empty(), now.minusHours(80));
+    }
+    index.add("cluster-new", SAMSUNG, OptionalLong.empty(), now.minusHours(1));
+
+    index.evictUpTo(now.minusHours(72));
+
+    assertThat(index.dictionarySize()).isEqualTo(SAMSUNG.size());
+    int[] queryIds = index.tokenIds(Set.of("삼성전자", "분기", "실적", "호조"));
+    assertThat(index.candidates(SAMSUNG, now.minusHours(72)))
+        .singleElement()
+        .satisfies(
+            representative ->
+                assertThat(TokenDictionary.jaccard(queryIds, representative.tokenIds()))
+                    .isEqualTo(0.6));
+  }
+}
@@ -1,26 +1,90 @@
 package io.github.krails0105.stock_info_api.service.news;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.sun.net.httpserver.HttpServer;
+import io.github.krails0105.stock_info_api.config.NewsProperties;
+import io.github.krails0105.stock_info_api.entity.RawNewsArticle;
+import io.github.krails0105.stock_info_api.entity.RssFeedState;
+import io.github.krails0105.stock_info_api.provider.upstream.UpstreamGuard;
+import io.github.krails0105.stock_info_api.provider.upstream.UpstreamMetrics;
 import io.github.krails0105.stock_info_api.repository.RawNewsArticleRepository;
+import io.github.krails0105.stock_info_api.repository.RssFeedStateRepository;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.transaction.PlatformTransactionManager;
 
 /** NewsCollectorService 테스트. */
 class NewsCollectorServiceTest {
 
   private NewsCollectorService collectorService;
   private RawNewsArticleRepository rawNewsRepository;
+  private RssFeedStateRepository feedStateRepository;
+  private NewsUrlFilter urlFilter;
+  private NewsPipeline newsPipeline;
 
   @BeforeEach
   void setUp() {
     rawNewsRepository = mock(RawNewsArticleRepository.class);
-    collectorService = new NewsCollectorService(rawNewsRepository);
+    feedStateRepository = mock(RssFeedStateRepository.class);
+    urlFilter = new NewsUrlFilter(rawNewsRepository);
+    newsPipeline = mock(NewsPipeline.class);
+    UpstreamGuard upstreamGuard =
+        new UpstreamGuard(
+            CircuitBreakerRegistry.ofDefaults(),
+            BulkheadRegistry.ofDefaults(),
+            new SimpleMeterRegistry());
+    collectorService =
+        new NewsCollectorService(
+            rawNewsRepository,
+            feedStateRepository,
+            urlFilter,
+            newsPipeline,
+            upstreamGuard,
+            new UpstreamMetrics(new SimpleMeterRegistry()),
+            new SimpleClientHttpRequestFactory(),
+            mock(PlatformTransactionManager.class),
+            new NewsProperties());
+  }
+
+  @AfterEach
+  void tearDown() {
+    collectorService.shutdown();
+  }
+
+  /** 피드 단위로 한 번에 저장된 기사 목록 */
+  @SuppressWarnings("unchecked")
+  private List<RawNewsArticle> savedArticles() {
+    ArgumentCaptor<List<RawNewsArticle>> captor = ArgumentCaptor.forClass(List.class);
+    verify(rawNewsRepository).saveAll(captor.capture());
+    return captor.getValue();
   }
 
   @Nested
@@ -63,4 +127,120 @@ class NewsCollectorServiceTest {
       assertThat(rawNewsRepository.existsByUrl("https://example.com/news")).isTrue();
     }
   }
+
+  @Nested
+  @DisplayName("조건부 요청 테스트")
+  class ConditionalGetTests {
+
+    private static final String ETAG = "\"v1\"";
+
+    private HttpServer server;
+    private final List<String> ifNoneMatch = new CopyOnWriteArrayList<>();
+    private NewsCollectorService.RssFeedConfig feed;
+
+    @BeforeEach
+    void startServer() throws IOException {
+      String rss = rss(ZonedDateTime.now().minusHours(1), ZonedDateTime.now().minusDays(3));
+      server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+      server.createContext(
+          "/rss",
+          exchange -> {
+            String validator = exchange.getRequestHeaders().getFirst("If-None-Match");
+            ifNoneMatch.add(String.valueOf(validator));
+            if (ETAG.equals(validator)) {
+              exchange.sendResponseHeaders(304, -1);
+              exchange.close();
+              return;
+            }
+            byte[] body = rss.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/rss+xml");
+            exchange.getResponseHeaders().add("ETag", ETAG);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+              out.write(body);
+            }
+          });
+      server.start();
+      feed =
+          new NewsCollectorService.RssFeedConfig(
+              "test-feed", "http://127.0.0.1:" + server.getAddress().getPort() + "/rss");
+    }
+
+    @AfterEach
+    void stopServer() {
+      server.stop(0);
+    }
+
+    private static String rss(ZonedDateTime recent, ZonedDateTime old) {
+      DateTimeFormatter format = DateTimeFormatter.RFC_1123_DATE_TIME;
+      return """
+          <?xml version="1.0" encoding="UTF-8"?>
+          <rss version="2.0"><channel><title>t</title><link>https://example.com</link>
+          <description>d</description>
+          <item><title>최근 기사 - 한국경제</title><link>https://example.com/recent</link>
+          <pubDate>%s</pubDate></item>
+          <item><title>지난 기사 - 매일경제</title><link>https://example.com/old</link>
+          <pubDate>%s</pubDate></item>
+          </channel></rss>
+          """
+          .formatted(recent.format(format), old.format(format));
+    }
+
+    @Test
+    @DisplayName("저장된 ETag로 요청해 304를 받으면 파싱/저장하지 않는다")
+    void shouldSkipNotModifiedFeed() throws Exception {
+      NewsCollectorService.CollectionResult first = collectorService.collectFromFeed(feed);
+
+      ArgumentCaptor<RssFeedState> state = ArgumentCaptor.forClass(RssFeedState.class);
+      verify(feedStateRepository).save(state.capture());
+      assertThat(state.getValue().getEtag()).isEqualTo(ETAG);
+      assertThat(state.getValue().getWatermark()).isNotNull();
+
+      when(feedStateRepository.findById("test-feed")).thenReturn(Optional.of(state.getValue()));
+      NewsCollectorService.CollectionResult second = collectorService.collectFromFeed(feed);
+
+      assertThat(first.collected()).isEqualTo(2);
+      assertThat(second.collected()).isZero();
+      assertThat(ifNoneMatch).containsExactly("null", ETAG);
+      assertThat(savedArticles()).hasSize(2);
+      verify(newsPipeline).submit(savedArticles());
+      verify(feedStateRepository).save(any(RssFeedState.class));
+    }
+
+    @Test
+    @DisplayName("워터마크보다 오래된 항목은 DB 조회 없이 건너뛴다")
+    void shouldSkipEntriesOlderThanWatermark() throws Exception {
+      RssFeedState state =
+          RssFeedState.builder()
+              .feedName("test-feed")
+              .watermark(LocalDateTime.now().minusHours(2))
+              .build();
+      when(feedStateRepository.findById("test-feed")).thenReturn(Optional.of(state));
+
+      NewsCollectorService.CollectionResult result = collectorService.collectFromFeed(feed);
+
+      assertThat(result.collected()).isEqualTo(1);
+      assertThat(result.duplicates()).isEqualTo(1);
+      assertThat(savedArticles())
+          .extracting(RawNewsArticle::getUrl)
+          .containsExactly("https://example.com/recent");
+      // 필터가 비어 있으므로 DB 중복 조회도 없음
+      verify(rawNewsRepository, never()).findExistingUrls(anyCollection());
+    }
+
+    @Test
+    @DisplayName("URL 필터에 있을 수 있는 URL만 한 번에 DB에서 확인한다")
+    void shouldQueryOnlyPossibleHits() throws Exception {
+      urlFilter.put("https://example.com/recent");
+      when(rawNewsRepository.findExistingUrls(anyCollection()))
+          .thenReturn(Set.of("https://example.com/recent"));
+
+      NewsCollectorService.CollectionResult result = collectorService.collectFromFeed(feed);
+
+      assertThat(result.collected()).isEqualTo(1);
+      assertThat(result.duplicates()).isEqualTo(1);
+      verify(rawNewsRepository).findExistingUrls(List.of("https://example.com/recent"));
+      assertThat(urlFilter.mightContain("https://example.com/old")).isTrue();
+    }
+  }
 }
@@ -0,0 +1,139 @@
+package io.github.krails0105.stock_info_api.service.news;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import io.github.krails0105.stock_info_api.util.TokenDictionary;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 제목 Jaccard 비교 성능 비교 (./gradlew benchmark).
+ *
+ * <p>기존 방식은 비교마다 두 제목을 정규식으로 정규화/토큰화하고 교집합/합집합 HashSet을 새로 만든다 (최적화 전 구현을 그대로 옮긴
+ * {@link #baselineJaccard}). 새 방식은 대표 기사 토큰을 정렬된 ID 배열로 한 번만 만들어 두고 병합 방식으로 비교한다.
+ */
+@Tag("benchmark")
+class NewsDeduplicatorBenchmarkTest {
+
+  private static final int REPRESENTATIVES = 500;
+  private static final int QUERIES = 200;
+  private static final int ROUNDS = 5;
+
+  private static final List<String> WORDS =
+      List.of(
+          "삼성전자", "SK하이닉스", "현대차", "실적", "분기", "영업이익", "발표", "호조", "부진", "전망", "수주", "계약", "반도체",
+          "배터리", "전기차", "금리", "환율", "코스피", "외국인", "순매수", "급등", "급락", "신고가", "목표가", "상향");
+
+  @Test
+  @DisplayName("토큰 ID 캐시 비교가 비교마다 토큰화하는 방식보다 빠르다")
+  void compareJaccardImplementations() {
+    Random random = new Random(42);
+    List<String> representatives = titles(random, REPRESENTATIVES);
+    List<String> queries = titles(random, QUERIES);
+
+    TokenDictionary dictionary = new TokenDictionary();
+    List<int[]> representativeIds = new ArrayList<>();
+    for (String title : representatives) {
+      representativeIds.add(dictionary.toSortedIds(Arrays.asList(title.split(" "))));
+    }
+
+    double stringSum = 0;
+    double idSum = 0;
+    long stringNanos = Long.MAX_VALUE;
+    long idNanos = Long.MAX_VALUE;
+    for (int round = 0; round < ROUNDS; round++) {
+      long start = System.nanoTime();
+      stringSum = 0;
+      for (String query : queries) {
+        for (String representative : representatives) {
+          stringSum += baselineJaccard(query, representative);
+        }
+      }
+      stringNanos = Math.min(stringNanos, System.nanoTime() - start);
+
+      start = System.nanoTime();
+      idSum = 0;
+      for (String query : queries) {
+        int[] queryIds = dictionary.toSortedIds(Arrays.asList(query.split(" ")));
+        for (int[] ids : representativeIds) {
+          idSum += TokenDictionary.jaccard(queryIds, ids);
+        }
+      }
+      idNanos = Math.min(idNanos, System.nanoTime() - start);
+    }
+
+    long comparisons = (long) REPRESENTATIVES * QUERIES;
+    System.out.printf(
+        "Jaccard x%d: string %.1f ns/op, token-id %.1f ns/op (%.1fx)%n",
+        comparisons,
+        (double) stringNanos / comparisons,
+        (double) idNanos / comparisons,
+        (double) stringNanos / idNanos);
+
+    assertThat(idSum).isCloseTo(stringSum, within(1e-6));
+    assertThat(idNanos).isLessThan(stringNanos);
+  }
+
+  /** 최적화 전 NewsDeduplicatorService.calculateJaccardSimilarity (비교 기준) */
+  private static double baselineJaccard(String text1, String text2) {
+    if (text1 == null || text2 == null) {
+      return 0.0;
+    }
+
+    Set<String> tokens1 = baselineTokenize(text1);
+    Set<String> tokens2 = baselineTokenize(text2);
+
+    if (tokens1.isEmpty() || tokens2.isEmpty()) {
+      return 0.0;
+    }
+
+    Set<String> intersection = new HashSet<>(tokens1);
+    intersection.retainAll(tokens2);
+
+    Set<String> union = new HashSet<>(tokens1);
+    union.addAll(tokens2);
+
+    return (double) intersection.size() / union.size();
+  }
+
+  /** 최적화 전 토큰화 (호출마다 정규식 컴파일 + 불용어 Set 생성) */
+  private static Set<String> baselineTokenize(String text) {
+    String normalized =
+        text.toLowerCase().replaceAll("[^가-힣a-zA-Z0-9\\s]", " ").replaceAll("\\s+", " ").trim();
+
+    if (normalized.isEmpty()) {
+      return Set.of();
+    }
+
+    Set<String> stopwords =
+        Set.of(
+            "의", "를", "이", "가", "은", "는", "에", "도", "와", "과", "로", "a", "the", "is", "are", "and",
+            "or");
+
+    Set<String> tokens = new HashSet<>(Arrays.asList(normalized.split("\\s+")));
+    tokens.removeAll(stopwords);
+    tokens.removeIf(t -> t.length() < 2);
+
+    return tokens;
+  }
+
+  /** 서로 다른 단어 4~7개로 된 제목 */
+  private static List<String> titles(Random random, int count) {
+    List<String> titles = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      List<String> words = new ArrayList<>(WORDS);
+      Collections.shuffle(words, random);
+      titles.add(String.join(" ", words.subList(0, 4 + random.nextInt(4))));
+    }
+    return titles;
+  }
+}
@@ -7,14 +7,16 @@ import static org.mockito.Mockito.when;
 
 import io.github.krails0105.stock_info_api.config.NewsProperties;
 import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle;
+import io.github.krails0105.stock_info_api.entity.RawNewsArticle;
 import io.github.krails0105.stock_info_api.repository.ProcessedNewsArticleRepository;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.OptionalLong;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.springframework.data.domain.Pageable;
 
 /** NewsDeduplicatorService 테스트. */
 class NewsDeduplicatorServiceTest {
@@ -80,9 +82,6 @@ class NewsDeduplicatorServiceTest {
     @Test
     @DisplayName("유사한 기사 없으면 새 클러스터 생성")
     void testNewClusterCreation() {
-      when(processedNewsRepository.findRecentNews(any(), any(Pageable.class)))
-          .thenReturn(List.of());
-
       NewsDeduplicatorService.ClusterAssignment assignment =
           deduplicatorService.assignCluster("새로운 뉴스 제목", LocalDateTime.now());
 
@@ -98,10 +97,12 @@ class NewsDeduplicatorServiceTest {
               .title("삼성전자 분기 실적 발표")
               .clusterId("cluster-existing")
               .isClusterRepresentative(true)
+              .publishedAt(LocalDateTime.now().minusHours(1))
               .build();
 
-      when(processedNewsRepository.findRecentNews(any(), any(Pageable.class)))
+      when(processedNewsRepository.findRepresentativesSince(any()))
           .thenReturn(List.of(existingArticle));
+      deduplicatorService.rebuildIndex();
 
       NewsDeduplicatorService.ClusterAssignment assignment =
           deduplicatorService.assignCluster("삼성전자 분기 실적 호조", LocalDateTime.now());
@@ -118,10 +119,12 @@ class NewsDeduplicatorServiceTest {
               .title("현대차 신차 출시")
               .clusterId("cluster-hyundai")
               .isClusterRepresentative(true)
+              .publishedAt(LocalDateTime.now().minusHours(1))
               .build();
 
-      when(processedNewsRepository.findRecentNews(any(), any(Pageable.class)))
+      when(processedNewsRepository.findRepresentativesSince(any()))
           .thenReturn(List.of(existingArticle));
+      deduplicatorService.rebuildIndex();
 
       NewsDeduplicatorService.ClusterAssignment assignment =
           deduplicatorService.assignCluster("삼성전자 실적 발표", LocalDateTime.now());
@@ -130,4 +133,142 @@ class NewsDeduplicatorServiceTest {
       assertThat(assignment.isNewCluster()).isTrue();
     }
   }
+
+  @Nested
+  @DisplayName("클러스터 인덱스 테스트")
+  class ClusterIndexTests {
+
+    private ProcessedNewsArticle representative(String clusterId, String title, int hoursAgo) {
+      return ProcessedNewsArticle.builder()
+          .title(title)
+          .clusterId(clusterId)
+          .isClusterRepresentative(true)
+          .publishedAt(LocalDateTime.now().minusHours(hoursAgo))
+          .build();
+    }
+
+    @Test
+    @DisplayName("최근 100건 밖의 오래된 클러스터도 찾는다")
+    void testOlderClusterBeyondRecentPage() {
+      List<ProcessedNewsArticle> representatives = new ArrayList<>();
+      representatives.add(representative("cluster-old", "삼성전자 분기 실적 발표", 60));
+      for (int i = 0; i < 500; i++) {
+        representatives.add(representative("cluster-" + i, "기타 뉴스 " + i + " 속보", 1));
+      }
+      when(processedNewsRepository.findRepresentativesSince(any())).thenReturn(representatives);
+      deduplicatorService.rebuildIndex();
+
+      NewsDeduplicatorService.ClusterAssignment assignment =
+          deduplicatorService.assignCluster("삼성전자 분기 실적 호조", LocalDateTime.now());
+
+      assertThat(assignment.isNewCluster()).isFalse();
+      assertThat(assignment.clusterId()).isEqualTo("cluster-old");
+    }
+
+    @Test
+    @DisplayName("새로 만든 클러스터는 다음 기사부터 바로 후보가 된다")
+    void testNewClusterIndexed() {
+      NewsDeduplicatorService.ClusterAssignment first =
+          deduplicatorService.assignCluster("현대차 전기차 신모델 공개", LocalDateTime.now());
+      NewsDeduplicatorService.ClusterAssignment second =
+          deduplicatorService.assignCluster("현대차 전기차 신모델 출시", LocalDateTime.now());
+
+      assertThat(first.isNewCluster()).isTrue();
+      assertThat(second.isNewCluster()).isFalse();
+      assertThat(second.clusterId()).isEqualTo(first.clusterId());
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 대표 기사와는 묶지 않는다")
+    void testExpiredRepresentativeIgnored() {
+      when(processedNewsRepository.findRepresentativesSince(any()))
+          .thenReturn(List.of(representative("cluster-expired", "삼성전자 분기 실적 발표", 100)));
+      deduplicatorService.rebuildIndex();
+
+      NewsDeduplicatorService.ClusterAssignment assignment =
+          deduplicatorService.assignCluster("삼성전자 분기 실적 발표", LocalDateTime.now());
+
+      assertThat(assignment.isNewCluster()).isTrue();
+    }
+  }
+
+  @Nested
+  @DisplayName("제목 SimHash 테스트")
+  class TitleSimHashTests {
+
+    @Test
+    @DisplayName("언론사 접미사와 말머리만 다른 제목은 같은 지문")
+    void testFingerprintIgnoresPublisherAndTags() {
+      OptionalLong original = NewsTitleFingerprint.of("[속보] 삼성전자, 3분기 영업익 9조 - 한국경제");
+      OptionalLong resent = NewsTitleFingerprint.of("삼성전자, 3분기 영업익 9조 | 연합뉴스");
+
+      assertThat(original).isPresent();
+      assertThat(resent).isEqualTo(original);
+      assertThat(NewsTitleFingerprint.of("현대차 전기차 신모델 공개")).isNotEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("접미사만 다른 재전송 기사는 SimHash로 기존 클러스터에 할당")
+    void testNearDuplicateAssignedBySimHash() {
+      String title = "[속보] 삼성전자, 3분기 영업익 9조…시장 예상 상회 - 한국경제";
+      ProcessedNewsArticle existingArticle =
+          ProcessedNewsArticle.builder()
+              .title(title)
+              .titleSimHash(NewsTitleFingerprint.of(title).getAsLong())
+              .clusterId("cluster-existing")
+              .isClusterRepresentative(true)
+              .publishedAt(LocalDateTime.now().minusHours(1))
+              .build();
+      when(processedNewsRepository.findRepresentativesSince(any()))
+          .thenReturn(List.of(existingArticle));
+      deduplicatorService.rebuildIndex();
+
+      String resentTitle = "삼성전자, 3분기 영업익 9조…시장 예상 상회 | 연합뉴스";
+      RawNewsArticle resent =
+          RawNewsArticle.builder()
+              .title(resentTitle)
+              .titleSimHash(NewsTitleFingerprint.of(resentTitle).getAsLong())
+              .publishedAt(LocalDateTime.now())
+              .build();
+
+      NewsDeduplicatorService.ClusterAssignment assignment =
+          deduplicatorService.assignCluster(resent);
+
+      // Jaccard 경로였다면 0.7 (언론사/말머리 토큰 차이), SimHash 거리 0 → 1.0
+      assertThat(assignment.isNewCluster()).isFalse();
+      assertThat(assignment.clusterId()).isEqualTo("cluster-existing");
+      assertThat(assignment.similarityScore()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("말머리나 기호뿐인 제목은 지문이 없다")
+    void testNoFingerprintForContentlessTitle() {
+      assertThat(NewsTitleFingerprint.of("[속보]")).isEmpty();
+      assertThat(NewsTitleFingerprint.of("★★★ !!!")).isEmpty();
+      assertThat(NewsTitleFingerprint.of("(종합) 속보")).isEmpty();
+      assertThat(NewsTitleFingerprint.of(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("말머리/기호뿐인 서로 다른 제목은 SimHash로 묶지 않는다")
+    void testContentlessTitlesNotMatchedBySimHash() {
+      RawNewsArticle breaking =
+          RawNewsArticle.builder().title("[속보]").publishedAt(LocalDateTime.now()).build();
+      // 지문 버그가 있던 버전에서 저장된 0 (빈 제목의 지문)
+      RawNewsArticle exclusive =
+          RawNewsArticle.builder()
+              .title("【단독】 ★★★")
+              .titleSimHash(0L)
+              .publishedAt(LocalDateTime.now())
+              .build();
+
+      NewsDeduplicatorService.ClusterAssignment first = deduplicatorService.assignCluster(breaking);
+      NewsDeduplicatorService.ClusterAssignment second =
+          deduplicatorService.assignCluster(exclusive);
+
+      assertThat(first.isNewCluster()).isTrue();
+      assertThat(second.isNewCluster()).isTrue();
+      assertThat(second.clusterId()).isNotEqualTo(first.clusterId());
+    }
+  }
 }
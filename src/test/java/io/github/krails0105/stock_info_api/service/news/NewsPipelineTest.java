@@ -0,0 +1,108 @@
+package io.github.krails0105.stock_info_api.service.news;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.krails0105.stock_info_api.config.NewsProperties;
+import io.github.krails0105.stock_info_api.entity.RawNewsArticle;
+import io.github.krails0105.stock_info_api.repository.RawNewsArticleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+/** NewsPipeline 테스트. */
+class NewsPipelineTest {
+
+  private NewsProcessorService processorService;
+  private RawNewsArticleRepository rawNewsRepository;
+  private NewsProperties newsProperties;
+  private NewsPipeline pipeline;
+
+  /** 처리된 기사 ID (처리 순서대로) */
+  private final List<Long> processedIds = new CopyOnWriteArrayList<>();
+
+  /** 기사 2건 처리 완료 대기 */
+  private final CountDownLatch processedTwo = new CountDownLatch(2);
+
+  @BeforeEach
+  void setUp() {
+    processorService = mock(NewsProcessorService.class);
+    rawNewsRepository = mock(RawNewsArticleRepository.class);
+    newsProperties = new NewsProperties();
+    when(processorService.processArticles(anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<RawNewsArticle> batch = invocation.getArgument(0);
+              for (RawNewsArticle article : batch) {
+                processedIds.add(article.getId());
+                processedTwo.countDown();
+              }
+              return new NewsProcessorService.ProcessingResult(batch.size(), 0, 0);
+            });
+  }
+
+  @AfterEach
+  void tearDown() {
+    pipeline.shutdown();
+  }
+
+  private void startPipeline() {
+    pipeline =
+        new NewsPipeline(
+            processorService, rawNewsRepository, newsProperties, new SimpleMeterRegistry());
+    pipeline.start();
+  }
+
+  private static RawNewsArticle article(long id) {
+    return RawNewsArticle.builder().id(id).title("기사 " + id).build();
+  }
+
+  @Test
+  @DisplayName("제출한 기사는 작업 스레드가 바로 처리한다")
+  void shouldProcessSubmittedArticles() throws Exception {
+    startPipeline();
+
+    pipeline.submit(List.of(article(1), article(2)));
+
+    assertThat(processedTwo.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(processedIds).containsExactly(1L, 2L);
+  }
+
+  @Test
+  @DisplayName("기동 시 남아 있던 PENDING 기사를 다시 처리한다")
+  void shouldReplayPendingArticles() throws Exception {
+    when(rawNewsRepository.findMaxPendingId()).thenReturn(3L);
+    when(rawNewsRepository.findPendingArticles(eq(0L), eq(3L), any(Pageable.class)))
+        .thenReturn(List.of(article(1), article(3)));
+
+    startPipeline();
+
+    assertThat(processedTwo.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(processedIds).containsExactly(1L, 3L);
+  }
+
+  @Test
+  @DisplayName("수집이 꺼져 있으면 복구하지 않는다")
+  void shouldNotStartWhenDisabled() {
+    newsProperties.getCollection().setEnabled(false);
+
+    startPipeline();
+
+    verify(rawNewsRepository, never()).findMaxPendingId();
+    verify(rawNewsRepository, never()).findPendingArticles(anyLong(), anyLong(), any());
+  }
+}
@@ -0,0 +1,182 @@
+package io.github.krails0105.stock_info_api.service.news;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.krails0105.stock_info_api.config.NewsProperties;
+import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle;
+import io.github.krails0105.stock_info_api.entity.RawNewsArticle;
+import io.github.krails0105.stock_info_api.entity.RawNewsArticle.ProcessingStatus;
+import io.github.krails0105.stock_info_api.repository.ProcessedNewsArticleRepository;
+import io.github.krails0105.stock_info_api.repository.RawNewsArticleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/** NewsProcessorService 테스트. */
+class NewsProcessorServiceTest {
+
+  private RawNewsArticleRepository rawNewsRepository;
+  private ProcessedNewsArticleRepository processedNewsRepository;
+  private NewsDeduplicatorService deduplicatorService;
+  private NewsArticleIndex articleIndex;
+  private MeterRegistry meterRegistry;
+  private NewsProcessorService processorService;
+
+  @BeforeEach
+  void setUp() {
+    rawNewsRepository = mock(RawNewsArticleRepository.class);
+    processedNewsRepository = mock(ProcessedNewsArticleRepository.class);
+    deduplicatorService = mock(NewsDeduplicatorService.class);
+    articleIndex = mock(NewsArticleIndex.class);
+    meterRegistry = new SimpleMeterRegistry();
+
+    when(processedNewsRepository.findProcessedRawArticleIds(anyCollection())).thenReturn(Set.of());
+    when(processedNewsRepository.save(any(ProcessedNewsArticle.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(deduplicatorService.assignCluster(any(RawNewsArticle.class)))
+        .thenReturn(new NewsDeduplicatorService.ClusterAssignment("cluster-1", true, 0.0));
+
+    processorService =
+        new NewsProcessorService(
+            rawNewsRepository,
+            processedNewsRepository,
+            new NewsTaggerService(new NewsEntityDictionary(new NewsProperties())),
+            deduplicatorService,
+            articleIndex,
+            mock(PlatformTransactionManager.class),
+            meterRegistry);
+  }
+
+  private static RawNewsArticle article(long id, String title) {
+    return RawNewsArticle.builder()
+        .id(id)
+        .title(title)
+        .publisher("한국경제")
+        .url("https://example.com/" + id)
+        .publishedAt(LocalDateTime.now())
+        .build();
+  }
+
+  @Nested
+  @DisplayName("기사별 처리")
+  class PerArticleTests {
+
+    @Test
+    @DisplayName("한 기사의 저장이 실패해도 나머지 기사는 처리된다")
+    void shouldIsolateFailures() {
+      when(processedNewsRepository.save(any(ProcessedNewsArticle.class)))
+          .thenAnswer(
+              invocation -> {
+                ProcessedNewsArticle article = invocation.getArgument(0);
+                if (article.getRawArticleId() == 2L) {
+                  throw new IllegalStateException("save failed");
+                }
+                return article;
+              });
+
+      NewsProcessorService.ProcessingResult result =
+          processorService.processArticles(
+              List.of(article(1, "삼성전자 실적 발표"), article(2, "현대차 신차 출시")));
+
+      assertThat(result.processed()).isEqualTo(1);
+      assertThat(result.failed()).isEqualTo(1);
+      verify(rawNewsRepository).updateStatus(List.of(1L), ProcessingStatus.PROCESSED);
+      verify(rawNewsRepository).updateStatus(List.of(2L), ProcessingStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("저장한 기사를 조회 색인에 등록한다")
+    void shouldRegisterSavedArticle() {
+      processorService.processArticles(List.of(article(1, "삼성전자 실적 발표")));
+
+      verify(articleIndex)
+          .register(
+              argThat(saved -> saved.getRawArticleId() == 1L && saved.getClusterId() != null));
+    }
+
+    @Test
+    @DisplayName("처리 건수를 작업 스레드별로 기록한다")
+    void shouldRecordPerWorkerThroughput() {
+      processorService.processArticles(List.of(article(1, "삼성전자 실적 발표")));
+
+      String worker = Thread.currentThread().getName();
+      assertThat(
+              meterRegistry
+                  .get("news.processing.articles")
+                  .tags("worker", worker, "outcome", "processed")
+                  .counter()
+                  .count())
+          .isEqualTo(1);
+      assertThat(
+              meterRegistry
+                  .get("news.processing.throughput")
+                  .tag("worker", worker)
+                  .summary()
+                  .count())
+          .isEqualTo(1);
+    }
+  }
+
+  @Nested
+  @DisplayName("동시 처리")
+  class ConcurrencyTests {
+
+    @Test
+    @DisplayName("여러 작업 스레드가 동시에 호출해도 클러스터 할당은 한 번에 하나씩 수행된다")
+    void shouldSerializeClusterAssignment() throws Exception {
+      AtomicInteger inFlight = new AtomicInteger();
+      AtomicInteger maxInFlight = new AtomicInteger();
+      when(deduplicatorService.assignCluster(any(RawNewsArticle.class)))
+          .thenAnswer(
+              invocation -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                Thread.sleep(2);
+                inFlight.decrementAndGet();
+                return new NewsDeduplicatorService.ClusterAssignment("cluster-1", false, 1.0);
+              });
+
+      ExecutorService workers = Executors.newFixedThreadPool(4);
+      try {
+        List<CompletableFuture<NewsProcessorService.ProcessingResult>> futures =
+            new ArrayList<>();
+        for (int w = 0; w < 4; w++) {
+          List<RawNewsArticle> batch = new ArrayList<>();
+          for (int i = 0; i < 10; i++) {
+            batch.add(article(w * 100L + i, "삼성전자 실적 발표 " + i));
+          }
+          futures.add(
+              CompletableFuture.supplyAsync(
+                  () -> processorService.processArticles(batch), workers));
+        }
+
+        int processed = 0;
+        for (CompletableFuture<NewsProcessorService.ProcessingResult> future : futures) {
+          processed += future.get().processed();
+        }
+
+        assertThat(processed).isEqualTo(40);
+        assertThat(maxInFlight).hasValue(1);
+      } finally {
+        workers.shutdownNow();
+      }
+    }
+  }
+}
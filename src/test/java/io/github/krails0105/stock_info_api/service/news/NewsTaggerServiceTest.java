@@ -1,7 +1,10 @@
 package io.github.krails0105.stock_info_api.service.news;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
+import io.github.krails0105.stock_info_api.config.NewsProperties;
+import io.github.krails0105.stock_info_api.dto.domain.StockInfo;
 import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle.NewsImportance;
 import io.github.krails0105.stock_info_api.entity.ProcessedNewsArticle.NewsTag;
 import io.github.krails0105.stock_info_api.entity.RawNewsArticle;
@@ -15,11 +18,15 @@ import org.junit.jupiter.api.Test;
 /** NewsTaggerService 테스트. */
 class NewsTaggerServiceTest {
 
+  private NewsProperties newsProperties;
+  private NewsEntityDictionary entityDictionary;
   private NewsTaggerService taggerService;
 
   @BeforeEach
   void setUp() {
-    taggerService = new NewsTaggerService();
+    newsProperties = new NewsProperties();
+    entityDictionary = new NewsEntityDictionary(newsProperties);
+    taggerService = new NewsTaggerService(entityDictionary);
   }
 
   @Nested
@@ -223,6 +230,28 @@ class NewsTaggerServiceTest {
       assertThat(sector).isEqualTo("운송장비·부품");
     }
 
+    @Test
+    @DisplayName("종목명에 포함된 섹터 키워드도 섹터로 잡는다 (삼성전자 → 전기·전자)")
+    void testSectorInsideStockName() {
+      RawNewsArticle article =
+          RawNewsArticle.builder().title("삼성전자 실적 발표").publishedAt(LocalDateTime.now()).build();
+
+      assertThat(taggerService.extractStockCode(article)).isEqualTo("005930");
+      assertThat(taggerService.extractSectorName(article)).isEqualTo("전기·전자");
+    }
+
+    @Test
+    @DisplayName("한국전력 → 전기·가스, LG화학 → 화학")
+    void testSectorInsideOtherStockNames() {
+      RawNewsArticle kepco =
+          RawNewsArticle.builder().title("한국전력 요금 인상").publishedAt(LocalDateTime.now()).build();
+      RawNewsArticle lgChem =
+          RawNewsArticle.builder().title("LG화학 신규 공장").publishedAt(LocalDateTime.now()).build();
+
+      assertThat(taggerService.extractSectorName(kepco)).isEqualTo("전기·가스");
+      assertThat(taggerService.extractSectorName(lgChem)).isEqualTo("화학");
+    }
+
     @Test
     @DisplayName("섹터 매칭 없으면 null")
     void testNoSector() {
@@ -238,4 +267,168 @@ class NewsTaggerServiceTest {
       assertThat(sector).isNull();
     }
   }
+
+  @Nested
+  @DisplayName("개체 추출 테스트")
+  class EntityExtractionTests {
+
+    @Test
+    @DisplayName("겹치는 종목명은 가장 긴 이름을 고른다")
+    void testLongestStockName() {
+      RawNewsArticle article =
+          RawNewsArticle.builder()
+              .title("삼성바이오로직스 4공장 가동")
+              .publishedAt(LocalDateTime.now())
+              .build();
+
+      String stockCode = taggerService.extractStockCode(article);
+
+      assertThat(stockCode).isEqualTo("207940");
+    }
+
+    @Test
+    @DisplayName("모든 종목/섹터를 등장 위치와 함께 돌려준다")
+    void testAllEntitiesWithOffsets() {
+      RawNewsArticle article =
+          RawNewsArticle.builder()
+              .title("SK하이닉스 HBM 공급 확대")
+              .content("현대차 협력")
+              .publishedAt(LocalDateTime.now())
+              .build();
+
+      List<NewsTaggerService.EntityMatch> entities = taggerService.extractEntities(article);
+
+      assertThat(entities)
+          .extracting(
+              NewsTaggerService.EntityMatch::type,
+              NewsTaggerService.EntityMatch::value,
+              NewsTaggerService.EntityMatch::start,
+              NewsTaggerService.EntityMatch::end)
+          .containsExactly(
+              tuple(NewsTaggerService.EntityType.STOCK, "000660", 0, 6),
+              tuple(NewsTaggerService.EntityType.SECTOR, "전기·전자", 7, 10),
+              tuple(NewsTaggerService.EntityType.STOCK, "005380", 17, 20),
+              tuple(NewsTaggerService.EntityType.SECTOR, "운송장비·부품", 17, 20));
+    }
+  }
+  @Nested
+  @DisplayName("통합 태깅 테스트")
+  class TagArticleTests {
+
+    @Test
+    @DisplayName("한 번의 호출로 태그, 중요도, 종목, 섹터를 모두 돌려준다")
+    void testTagArticle() {
+      RawNewsArticle article =
+          RawNewsArticle.builder()
+              .title("삼성전자 3분기 실적 발표")
+              .content("반도체 부문 영업이익 증가, 자사주 매입 병행")
+              .publisher("연합뉴스")
+              .publishedAt(LocalDateTime.now())
+              .build();
+
+      NewsTaggerService.TaggingResult result = taggerService.tagArticle(article);
+
+      assertThat(result.tags()).containsExactly(NewsTag.EARNINGS, NewsTag.BUYBACK_DIVIDEND);
+      assertThat(result.importance()).isEqualTo(NewsImportance.HIGH);
+      assertThat(result.stockCode()).isEqualTo("005930");
+      assertThat(result.sectorName()).isEqualTo("전기·전자");
+      assertThat(result.entities()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("대소문자와 공백이 달라도 태그 키워드를 찾는다")
+    void testCaseAndWhitespaceInsensitiveTags() {
+      RawNewsArticle article =
+          RawNewsArticle.builder()
+              .title("Q3 EARNINGS 서프라이즈")
+              .content("해외 업체와  m  &  a 협상")
+              .publishedAt(LocalDateTime.now())
+              .build();
+
+      List<NewsTag> tags = taggerService.assignTags(article);
+
+      assertThat(tags).contains(NewsTag.EARNINGS, NewsTag.MA);
+    }
+  }
+
+  @Nested
+  @DisplayName("종목 사전 테스트")
+  class EntityDictionaryTests {
+
+    private RawNewsArticle article(String title) {
+      return RawNewsArticle.builder().title(title).publishedAt(LocalDateTime.now()).build();
+    }
+
+    private StockInfo stock(String code, String name) {
+      return StockInfo.builder().code(code).name(name).build();
+    }
+
+    @Test
+    @DisplayName("KRX 스냅샷으로 재구성하면 기본 사전에 없던 종목도 찾는다")
+    void testListedNameAfterRebuild() {
+      RawNewsArticle article = article("펄어비스 신작 출시 임박");
+      assertThat(taggerService.extractStockCode(article)).isNull();
+
+      entityDictionary.rebuild(List.of(stock("263750", "펄어비스")));
+
+      assertThat(taggerService.extractStockCode(article)).isEqualTo("263750");
+    }
+
+    @Test
+    @DisplayName("설정 별칭은 추가되고 제외 종목명은 사전에 넣지 않는다")
+    void testAliasesAndExcludedNames() {
+      newsProperties.getEntityDictionary().getAliases().put("263750", List.of("펄어"));
+      newsProperties.getEntityDictionary().getExcludedNames().add("대상");
+
+      entityDictionary.rebuild(List.of(stock("001680", "대상")));
+
+      assertThat(taggerService.extractStockCode(article("펄어 주가 급등"))).isEqualTo("263750");
+      assertThat(taggerService.extractStockCode(article("지원 대상 확대"))).isNull();
+    }
+
+    @Test
+    @DisplayName("재구성해도 기본 별칭은 유지된다")
+    void testBuiltInAliasesKept() {
+      entityDictionary.rebuild(List.of(stock("000660", "SK하이닉스")));
+
+      assertThat(taggerService.extractStockCode(article("하이닉스 HBM 증설"))).isEqualTo("000660");
+    }
+
+    @Test
+    @DisplayName("다른 단어의 일부인 종목명은 매칭하지 않는다")
+    void testStockNameInsideCommonNoun() {
+      entityDictionary.rebuild(List.of(stock("000950", "전방")));
+
+      assertThat(taggerService.extractStockCode(article("전방위 압박 속 수출 둔화"))).isNull();
+      assertThat(taggerService.extractStockCode(article("전방, 2분기 흑자 전환"))).isEqualTo("000950");
+    }
+
+    @Test
+    @DisplayName("일반 명사에 걸린 짧은 종목명이 뒤의 진짜 종목명을 가리지 않는다")
+    void testSpuriousShortNameDoesNotWin() {
+      entityDictionary.rebuild(List.of(stock("000950", "전방")));
+
+      assertThat(taggerService.extractStockCode(article("전방위 압박에도 현대차 수출 호조")))
+          .isEqualTo("005380");
+    }
+
+    @Test
+    @DisplayName("조사/접미사가 붙은 종목명은 매칭한다")
+    void testStockNameWithParticles() {
+      assertThat(taggerService.extractStockCode(article("삼성전자가 HBM 공급 확대"))).isEqualTo("005930");
+      assertThat(taggerService.extractStockCode(article("SK하이닉스에서도 감산 검토")))
+          .isEqualTo("000660");
+      assertThat(taggerService.extractStockCode(article("현대차그룹의 전동화 전략"))).isEqualTo("005380");
+      assertThat(taggerService.extractStockCode(article("KTX 증편 발표"))).isNull();
+    }
+
+    @Test
+    @DisplayName("경계가 맞지 않는 종목명 겸 섹터 키워드는 섹터로만 쓴다")
+    void testSectorKeptWhenStockNameUnbounded() {
+      RawNewsArticle article = article("포스코퓨처엠, 양극재 증설");
+
+      assertThat(taggerService.extractStockCode(article)).isNull();
+      assertThat(taggerService.extractSectorName(article)).isEqualTo("금속");
+    }
+  }
 }
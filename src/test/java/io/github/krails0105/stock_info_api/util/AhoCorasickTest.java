@@ -0,0 +1,104 @@
+package io.github.krails0105.stock_info_api.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** AhoCorasick 테스트. */
+class AhoCorasickTest {
+
+  @Test
+  @DisplayName("같은 위치에서 시작하면 가장 긴 키워드를 고른다")
+  void shouldPreferLongestMatch() {
+    Map<String, String> dictionary = new LinkedHashMap<>();
+    dictionary.put("삼성", "005930");
+    dictionary.put("삼성바이오", "207940");
+    dictionary.put("삼성바이오로직스", "207940");
+
+    List<AhoCorasick.Match<String>> matches =
+        AhoCorasick.compile(dictionary).findAll("삼성바이오로직스와 삼성 동반 상승");
+
+    assertThat(matches)
+        .extracting(AhoCorasick.Match::keyword, AhoCorasick.Match::start, AhoCorasick.Match::end)
+        .containsExactly(tuple("삼성바이오로직스", 0, 8), tuple("삼성", 10, 12));
+  }
+
+  @Test
+  @DisplayName("겹치는 매칭 중 가장 왼쪽에서 시작하는 것을 고른다")
+  void shouldPreferLeftmostMatch() {
+    AhoCorasick<Integer> matcher =
+        AhoCorasick.compile(Map.of("he", 1, "she", 2, "hers", 3, "his", 4));
+
+    List<AhoCorasick.Match<Integer>> matches = matcher.findAll("ushers this");
+
+    assertThat(matches)
+        .extracting(AhoCorasick.Match::keyword)
+        .containsExactly("she", "his");
+  }
+
+  @Test
+  @DisplayName("실패 링크를 따라가며 다른 키워드 안의 키워드도 찾는다")
+  void shouldFollowFailureLinks() {
+    AhoCorasick<String> matcher = AhoCorasick.compile(Map.of("SKT", "017670", "KT", "030200"));
+
+    List<AhoCorasick.Match<String>> matches = matcher.findAll("SKKT와 SKT");
+
+    assertThat(matches)
+        .extracting(AhoCorasick.Match::value)
+        .containsExactly("030200", "017670");
+  }
+
+  @Test
+  @DisplayName("매칭이 없거나 빈 본문이면 빈 목록")
+  void shouldReturnEmptyWhenNoMatch() {
+    AhoCorasick<String> matcher = AhoCorasick.compile(Map.of("반도체", "전기·전자"));
+
+    assertThat(matcher.findAll("일반 경제 뉴스")).isEmpty();
+    assertThat(matcher.findAll("")).isEmpty();
+    assertThat(matcher.findAll(null)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("겹치는 매칭까지 모두 찾는다")
+  void shouldFindOverlappingMatches() {
+    AhoCorasick<Integer> matcher =
+        AhoCorasick.compile(Map.of("he", 1, "she", 2, "hers", 3, "his", 4));
+
+    List<AhoCorasick.Match<Integer>> matches = matcher.findOverlapping("ushers");
+
+    assertThat(matches)
+        .extracting(AhoCorasick.Match::keyword)
+        .containsExactlyInAnyOrder("she", "he", "hers");
+  }
+
+  @Test
+  @DisplayName("대소문자 무시 사전은 원문 위치 그대로 매칭한다")
+  void shouldIgnoreCase() {
+    AhoCorasick<String> matcher = AhoCorasick.compileIgnoreCase(Map.of("Earnings", "EARNINGS"));
+
+    List<AhoCorasick.Match<String>> matches = matcher.findAll("Q3 EARNINGS beat");
+
+    assertThat(matches)
+        .extracting(AhoCorasick.Match::keyword, AhoCorasick.Match::start, AhoCorasick.Match::end)
+        .containsExactly(tuple("Earnings", 3, 11));
+    assertThat(AhoCorasick.compile(Map.of("Earnings", "EARNINGS")).findAll("EARNINGS")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("조건에서 걸러진 긴 키워드 대신 같은 위치의 짧은 키워드를 고른다")
+  void shouldSelectAmongAcceptedMatches() {
+    AhoCorasick<String> matcher = AhoCorasick.compile(Map.of("삼성", "A", "삼성카드", "B"));
+
+    List<AhoCorasick.Match<String>> matches =
+        matcher.findAll("삼성카드 실적", match -> !match.keyword().endsWith("카드"));
+
+    assertThat(matches)
+        .extracting(AhoCorasick.Match::keyword, AhoCorasick.Match::start, AhoCorasick.Match::end)
+        .containsExactly(tuple("삼성", 0, 2));
+  }
+}
@@ -0,0 +1,69 @@
+package io.github.krails0105.stock_info_api.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** BloomFilter 테스트. */
+class BloomFilterTest {
+
+  @Nested
+  @DisplayName("포함 여부")
+  class MembershipTests {
+
+    @Test
+    @DisplayName("넣은 값은 항상 있을 수 있다고 답한다")
+    void shouldHaveNoFalseNegatives() {
+      BloomFilter filter = BloomFilter.create(10_000, 0.01);
+      for (int i = 0; i < 10_000; i++) {
+        filter.put("https://example.com/news/" + i);
+      }
+
+      for (int i = 0; i < 10_000; i++) {
+        assertThat(filter.mightContain("https://example.com/news/" + i)).isTrue();
+      }
+    }
+
+    @Test
+    @DisplayName("예상 개수까지 넣었을 때 오탐률이 목표 근처다")
+    void shouldKeepFalsePositiveRateNearTarget() {
+      BloomFilter filter = BloomFilter.create(10_000, 0.01);
+      for (int i = 0; i < 10_000; i++) {
+        filter.put("https://example.com/news/" + i);
+      }
+
+      int falsePositives = 0;
+      for (int i = 0; i < 100_000; i++) {
+        if (filter.mightContain("https://other.example.com/article?id=" + i)) {
+          falsePositives++;
+        }
+      }
+
+      assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+      assertThat(filter.isSaturated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("예상 개수를 넘으면 포화 상태가 된다")
+    void shouldReportSaturation() {
+      BloomFilter filter = BloomFilter.create(2, 0.01);
+      filter.put("a");
+      filter.put("b");
+      filter.put("c");
+
+      assertThat(filter.isSaturated()).isTrue();
+    }
+  }
+
+  @Test
+  @DisplayName("잘못된 인자는 거부한다")
+  void shouldRejectInvalidArguments() {
+    assertThatThrownBy(() -> BloomFilter.create(0, 0.01))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> BloomFilter.create(100, 1.0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
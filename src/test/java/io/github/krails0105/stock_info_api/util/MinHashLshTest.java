@@ -0,0 +1,60 @@
+package io.github.krails0105.stock_info_api.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** MinHashLsh 테스트. */
+class MinHashLshTest {
+
+  @Test
+  @DisplayName("유사한 집합은 후보로, 공통 토큰이 없는 집합은 후보에서 빠진다")
+  void shouldReturnSimilarItemsOnly() {
+    MinHashLsh<String> index = new MinHashLsh<>(20, 3);
+    index.put("samsung", List.of("삼성전자", "분기", "실적", "발표"));
+    index.put("hyundai", List.of("현대차", "전기차", "신모델", "공개"));
+
+    Set<String> candidates = index.candidates(List.of("삼성전자", "분기", "실적", "호조"));
+
+    assertThat(candidates).containsExactly("samsung");
+  }
+
+  @Test
+  @DisplayName("Jaccard 0.6 이상인 집합은 대부분 후보가 된다")
+  void shouldFindMostSimilarSets() {
+    int found = 0;
+    for (int i = 0; i < 500; i++) {
+      MinHashLsh<Integer> index = new MinHashLsh<>(20, 3);
+      List<String> shared = List.of("a" + i, "b" + i, "c" + i);
+      Set<String> stored = new HashSet<>(shared);
+      stored.add("x" + i);
+      Set<String> query = new HashSet<>(shared);
+      query.add("y" + i);
+
+      index.put(i, stored);
+      if (index.candidates(query).contains(i)) {
+        found++;
+      }
+    }
+
+    // 이론값 1 - (1 - 0.6^3)^20 ≈ 0.99
+    assertThat(found).isGreaterThan(475);
+  }
+
+  @Test
+  @DisplayName("삭제한 항목은 더 이상 후보가 아니다")
+  void shouldRemoveItems() {
+    MinHashLsh<String> index = new MinHashLsh<>(20, 3);
+    List<String> tokens = List.of("삼성전자", "실적");
+    index.put("samsung", tokens);
+
+    index.remove("samsung");
+
+    assertThat(index.candidates(tokens)).isEmpty();
+    assertThat(index.size()).isZero();
+  }
+}
@@ -0,0 +1,68 @@
+package io.github.krails0105.stock_info_api.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** SimHashIndex 테스트. */
+class SimHashIndexTest {
+
+  private static final long BASE = 0x0123_4567_89ab_cdefL;
+
+  @Test
+  @DisplayName("해밍 거리 3 이하는 모든 블록이 달라도 찾고, 4는 찾지 않는다")
+  void shouldFindWithinMaxDistance() {
+    SimHashIndex<String> index = new SimHashIndex<>();
+    // 16비트 블록 네 개 중 세 개에 한 비트씩 뒤집음
+    long threeBits = BASE ^ (1L | 1L << 16 | 1L << 32);
+    long fourBits = BASE ^ (1L | 1L << 16 | 1L << 32 | 1L << 48);
+    index.put("near", threeBits);
+    index.put("far", fourBits);
+
+    List<SimHashIndex.Hit<String>> hits = index.within(BASE, SimHashIndex.MAX_DISTANCE);
+
+    assertThat(hits).containsExactly(new SimHashIndex.Hit<>("near", 3));
+  }
+
+  @Test
+  @DisplayName("가까운 순으로 정렬하고, 삭제/교체를 반영한다")
+  void shouldSortByDistanceAndHandleRemoval() {
+    SimHashIndex<String> index = new SimHashIndex<>();
+    index.put("two", BASE ^ 0b11L);
+    index.put("zero", BASE);
+    index.put("one", BASE ^ 1L);
+
+    assertThat(index.within(BASE, 3))
+        .extracting(SimHashIndex.Hit::key)
+        .containsExactly("zero", "one", "two");
+
+    index.remove("zero");
+    index.put("one", ~BASE);
+
+    assertThat(index.within(BASE, 3)).extracting(SimHashIndex.Hit::key).containsExactly("two");
+    assertThat(index.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("표 조회로 보장되지 않는 거리는 거부한다")
+  void shouldRejectUnsupportedDistance() {
+    SimHashIndex<String> index = new SimHashIndex<>();
+
+    assertThatThrownBy(() -> index.within(BASE, SimHashIndex.MAX_DISTANCE + 1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("같은 특징의 SimHash는 같고, 거리는 다른 비트 수")
+  void shouldComputeFingerprintAndDistance() {
+    long a = SimHash.fingerprint(List.of("삼성", "성전", "전자"));
+    long b = SimHash.fingerprint(List.of("삼성", "성전", "전자"));
+
+    assertThat(a).isEqualTo(b);
+    assertThat(SimHash.fingerprint(List.of())).isZero();
+    assertThat(SimHash.distance(0L, 0b1011L)).isEqualTo(3);
+  }
+}
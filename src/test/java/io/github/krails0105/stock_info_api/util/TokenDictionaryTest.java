@@ -0,0 +1,66 @@
+package io.github.krails0105.stock_info_api.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** TokenDictionary 테스트. */
+class TokenDictionaryTest {
+
+  @Test
+  @DisplayName("같은 토큰은 같은 ID, 결과는 중복 없이 오름차순")
+  void shouldInternTokens() {
+    TokenDictionary dictionary = new TokenDictionary();
+
+    int[] first = dictionary.toSortedIds(List.of("실적", "삼성전자", "실적"));
+    int[] second = dictionary.toSortedIds(List.of("삼성전자", "발표"));
+
+    assertThat(first).containsExactly(0, 1);
+    assertThat(second).containsExactly(1, 2);
+    assertThat(dictionary.size()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("정렬된 ID 배열의 Jaccard 유사도")
+  void shouldComputeJaccard() {
+    assertThat(TokenDictionary.jaccard(new int[] {1, 2, 3, 4}, new int[] {1, 2, 3, 5}))
+        .isEqualTo(0.6);
+    assertThat(TokenDictionary.jaccard(new int[] {1, 2}, new int[] {1, 2})).isEqualTo(1.0);
+    assertThat(TokenDictionary.jaccard(new int[] {1, 2}, new int[] {3, 4})).isZero();
+    assertThat(TokenDictionary.jaccard(new int[0], new int[] {1})).isZero();
+  }
+
+  @Test
+  @DisplayName("조회 변환은 사전을 키우지 않고, 없는 토큰은 합집합에만 들어간다")
+  void shouldLookupWithoutInterning() {
+    TokenDictionary dictionary = new TokenDictionary();
+    int[] stored = dictionary.toSortedIds(List.of("삼성전자", "실적", "발표"));
+
+    int[] query = dictionary.lookupSortedIds(List.of("삼성전자", "실적", "호조", "전망", "호조"));
+
+    assertThat(dictionary.size()).isEqualTo(3);
+    assertThat(query).containsExactly(-2, -1, 0, 1);
+    // 교집합 2 / 합집합 5
+    assertThat(TokenDictionary.jaccard(query, stored)).isEqualTo(0.4);
+  }
+
+  @Test
+  @DisplayName("압축하면 사용 중인 토큰만 남고 ID 배열은 제자리에서 다시 매겨진다")
+  void shouldCompactToLiveTokens() {
+    TokenDictionary dictionary = new TokenDictionary();
+    dictionary.toSortedIds(List.of("만료1", "만료2"));
+    int[] first = dictionary.toSortedIds(List.of("삼성전자", "실적"));
+    dictionary.toSortedIds(List.of("만료3"));
+    int[] second = dictionary.toSortedIds(List.of("실적", "발표"));
+
+    dictionary.compact(List.of(first, second));
+
+    assertThat(dictionary.size()).isEqualTo(3);
+    assertThat(first).containsExactly(0, 1);
+    assertThat(second).containsExactly(1, 2);
+    assertThat(dictionary.toSortedIds(List.of("삼성전자", "발표"))).containsExactly(0, 2);
+    assertThat(dictionary.toSortedIds(List.of("새 토큰"))).containsExactly(3);
+  }
+}